@@ -0,0 +1,110 @@
+package com.superbomberman.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Cartes générées pour les benchmarks, de taille et de population réglables.
+ * <p>
+ * Même forme que les cartes du jeu : bordure et piliers indestructibles (cases de
+ * coordonnées paires), murs destructibles tirés au hasard, un joueur par coin avec deux
+ * cases libres autour de lui, ennemis posés sur des cases de sol loin des joueurs. Une
+ * même graine donne toujours la même carte, d'une version du jeu à l'autre.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class BenchmarkArena {
+
+    /** Graine des cartes et des parties de benchmark. */
+    public static final long SEED = 2026L;
+
+    private BenchmarkArena() {
+    }
+
+    /**
+     * Génère une carte carrée.
+     *
+     * @param size côté de la carte (impair, au moins 7)
+     * @param players nombre de joueurs (1 à 4, un par coin)
+     * @param enemies nombre d'ennemis
+     * @param breakableRatio proportion des cases libres occupées par un mur destructible
+     * @return lignes de la carte, au format de {@link com.superbomberman.model.MapLoader}
+     * @throws IllegalArgumentException si la taille ou le nombre de joueurs est invalide
+     */
+    public static List<String> create(int size, int players, int enemies, double breakableRatio) {
+        if (size < 7 || size % 2 == 0) {
+            throw new IllegalArgumentException("Taille de carte invalide : " + size);
+        }
+        if (players < 1 || players > 4) {
+            throw new IllegalArgumentException("Nombre de joueurs invalide : " + players);
+        }
+        SplittableRandom random = new SplittableRandom(SEED);
+        char[][] cells = new char[size][size];
+        int last = size - 2;
+        int[][] corners = {{1, 1}, {last, 1}, {1, last}, {last, last}};
+
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                boolean wall = x == 0 || y == 0 || x == size - 1 || y == size - 1 || (x % 2 == 0 && y % 2 == 0);
+                if (wall) {
+                    cells[y][x] = '#';
+                } else if (distanceToCorner(corners, x, y) > 2 && random.nextDouble() < breakableRatio) {
+                    cells[y][x] = '0';
+                } else {
+                    cells[y][x] = ' ';
+                }
+            }
+        }
+        for (int i = 0; i < players; i++) {
+            cells[corners[i][1]][corners[i][0]] = (char) ('1' + i);
+        }
+
+        List<int[]> floor = new ArrayList<>();
+        for (int y = 1; y < size - 1; y++) {
+            for (int x = 1; x < size - 1; x++) {
+                if (cells[y][x] == ' ' && distanceToCorner(corners, x, y) > 3) {
+                    floor.add(new int[]{x, y});
+                }
+            }
+        }
+        for (int i = 0; i < enemies && !floor.isEmpty(); i++) {
+            int[] cell = floor.remove(random.nextInt(floor.size()));
+            cells[cell[1]][cell[0]] = 'E';
+        }
+
+        List<String> lines = new ArrayList<>(size);
+        for (char[] row : cells) {
+            lines.add(new String(row));
+        }
+        return lines;
+    }
+
+    /**
+     * Crée une partie headless sur une carte générée.
+     *
+     * @param size côté de la carte
+     * @param players nombre de joueurs
+     * @param enemies nombre d'ennemis
+     * @param breakableRatio proportion de murs destructibles
+     * @return simulation prête à avancer tick par tick
+     */
+    public static GameSimulation simulation(int size, int players, int enemies, double breakableRatio) {
+        MatchSession session = MatchSession.create(create(size, players, enemies, breakableRatio),
+                MatchSettings.of(players == 1, "bench"), new GameStateManager(null, null), SEED);
+        GameSimulation simulation = new GameSimulation(session);
+        simulation.runHeadless();
+        return simulation;
+    }
+
+    private static int distanceToCorner(int[][] corners, int x, int y) {
+        int best = Integer.MAX_VALUE;
+        for (int[] corner : corners) {
+            best = Math.min(best, Math.abs(corner[0] - x) + Math.abs(corner[1] - y));
+        }
+        return best;
+    }
+}
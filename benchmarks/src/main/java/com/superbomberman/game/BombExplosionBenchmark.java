@@ -0,0 +1,101 @@
+package com.superbomberman.game;
+
+import com.superbomberman.model.EnemyRegistry;
+import com.superbomberman.model.MapLoader;
+import com.superbomberman.model.Player;
+import com.superbomberman.model.TileGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Propagation d'une explosion en chaîne dans le {@link BombManager}.
+ * <p>
+ * Les bombes sont posées sur les cases libres de la carte, deux à deux à portée : la
+ * première qui explose fait sauter toutes les autres. L'état des bombes est sauvegardé un
+ * tick avant l'explosion ; chaque appel le restaure puis avance d'un tick. Le coût de
+ * la propagation est l'écart entre {@link #explode()} et {@link #restoreOnly()}.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Dsuperbomberman.log.level=WARN")
+public class BombExplosionBenchmark {
+
+    /** Côté de la carte. */
+    @Param({"15", "31", "63"})
+    public int size;
+
+    /** Nombre de bombes de la réaction en chaîne. */
+    @Param({"1", "16", "48"})
+    public int bombs;
+
+    /** Portée des bombes (au moins 2 pour que la chaîne se propage). */
+    @Param({"2", "6"})
+    public int range;
+
+    private BombManager bombManager;
+    private final BombManager.State beforeBlast = new BombManager.State();
+
+    @Setup(Level.Trial)
+    public void placeBombs() {
+        TileGrid grid = MapLoader.parseGrid(BenchmarkArena.create(size, 1, 0, 0.0),
+                new Player[MapLoader.MAX_PLAYERS], new EnemyRegistry());
+        bombManager = new BombManager(grid);
+
+        Player bomber = new Player("Bench");
+        for (int i = 1; i < bombs; i++) {
+            bomber.increaseMaxBombs();
+        }
+        for (int i = 1; i < range; i++) {
+            bomber.increaseExplosionRange();
+        }
+        // Cases de coordonnées impaires : toujours libres, à deux cases l'une de l'autre
+        int placed = 0;
+        for (int y = 1; y < size - 1 && placed < bombs; y += 2) {
+            for (int x = 1; x < size - 1 && placed < bombs; x += 2) {
+                bomber.setPosition(x, y);
+                bombManager.placeBomb(bomber, 1);
+                placed++;
+            }
+        }
+        if (bombManager.getActiveBombsView().size() != bombs) {
+            throw new IllegalStateException(bombs + " bombes ne tiennent pas sur une carte de " + size);
+        }
+        for (int tick = 1; tick < BombManager.FUSE_TICKS; tick++) {
+            bombManager.updateBombs();
+        }
+        bombManager.save(beforeBlast);
+    }
+
+    @Benchmark
+    public int explode() {
+        bombManager.restore(beforeBlast);
+        bombManager.updateBombs();
+        return bombManager.getActiveBombsView().size();
+    }
+
+    @Benchmark
+    public int restoreOnly() {
+        bombManager.restore(beforeBlast);
+        return bombManager.getActiveBombsView().size();
+    }
+}
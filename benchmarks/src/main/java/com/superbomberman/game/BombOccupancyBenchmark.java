@@ -0,0 +1,95 @@
+package com.superbomberman.game;
+
+import com.superbomberman.model.Bomb;
+import com.superbomberman.model.Player;
+import com.superbomberman.model.TileGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Index d'occupation des bombes : test de collision de chaque case d'une carte vide par
+ * {@link BombManager#hasBombAt(int, int)}, comparé à l'ancien parcours linéaire d'une
+ * copie de {@link BombManager#getActiveBombs()}. Le premier doit rester constant quand
+ * le nombre de bombes croît, le second croît avec lui. Le résultat est donné par case.
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Dsuperbomberman.log.level=WARN")
+public class BombOccupancyBenchmark {
+
+    private static final int SIZE = 41;
+
+    /** Nombre de bombes posées, ligne par ligne depuis le coin. */
+    @Param({"1", "16", "64", "256", "1024"})
+    public int bombs;
+
+    private BombManager bombManager;
+
+    @Setup(Level.Trial)
+    public void createBoard() {
+        bombManager = new BombManager(new TileGrid(SIZE, SIZE));
+        Player player = new Player("Bench");
+        for (int i = 1; i < bombs; i++) {
+            player.increaseMaxBombs();
+        }
+        for (int i = 0; i < bombs; i++) {
+            player.setPosition(i % SIZE, i / SIZE);
+            bombManager.placeBomb(player, 1);
+        }
+    }
+
+    /** Teste toutes les cases via l'index d'occupation. */
+    @Benchmark
+    @OperationsPerInvocation(SIZE * SIZE)
+    public int indexed() {
+        int hits = 0;
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                if (bombManager.hasBombAt(x, y)) {
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    /** Teste toutes les cases par l'ancien parcours de la liste copiée. */
+    @Benchmark
+    @OperationsPerInvocation(SIZE * SIZE)
+    public int scanned() {
+        int hits = 0;
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                List<Bomb> active = bombManager.getActiveBombs();
+                for (Bomb bomb : active) {
+                    if (bomb.getX() == x && bomb.getY() == y) {
+                        hits++;
+                        break;
+                    }
+                }
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,83 @@
+package com.superbomberman.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tick complet d'une partie headless ({@link GameSimulation#step(int[])}) : actions,
+ * déplacements des joueurs et des ennemis, bombes, malus, collisions et fin de partie.
+ * <p>
+ * Les joueurs suivent un script fixe (déplacements et bombes réguliers). Chaque épisode
+ * de {@value #EPISODE_TICKS} ticks repart de l'instantané pris au début, ou plus tôt si
+ * la partie se termine : le coût de la restauration est amorti sur l'épisode.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Dsuperbomberman.log.level=WARN")
+public class GameTickBenchmark {
+
+    private static final int EPISODE_TICKS = 600;
+
+    /** Côté de la carte. */
+    @Param({"15", "31", "63"})
+    public int size;
+
+    /** Nombre de joueurs. */
+    @Param({"2", "4"})
+    public int players;
+
+    /** Nombre d'ennemis. */
+    @Param({"0", "8", "32"})
+    public int enemies;
+
+    private GameSimulation simulation;
+    private SimulationSnapshot start;
+    private long startTick;
+    private final int[] inputs = new int[PlayerSlots.MAX_PLAYERS];
+
+    @Setup(Level.Trial)
+    public void createMatch() {
+        simulation = BenchmarkArena.simulation(size, players, enemies, 0.5);
+        start = new SimulationSnapshot(simulation);
+        simulation.save(start);
+        startTick = simulation.getTick();
+    }
+
+    @Benchmark
+    public long tick() {
+        long tick = simulation.getTick();
+        if (simulation.isFinished() || tick - startTick >= EPISODE_TICKS) {
+            simulation.restore(start);
+            tick = startTick;
+        }
+        for (int player = 0; player < players; player++) {
+            int direction = (tick / 20 + player) % 4 < 2 ? PlayerInput.RIGHT : PlayerInput.DOWN;
+            if (player % 2 == 1) {
+                direction = direction == PlayerInput.RIGHT ? PlayerInput.LEFT : PlayerInput.UP;
+            }
+            inputs[player] = tick % 100 == 10L * player ? direction | PlayerInput.BOMB : direction;
+        }
+        simulation.step(inputs);
+        return simulation.getTick();
+    }
+}
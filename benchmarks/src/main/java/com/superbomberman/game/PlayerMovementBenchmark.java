@@ -0,0 +1,115 @@
+package com.superbomberman.game;
+
+import com.superbomberman.model.Player;
+import com.superbomberman.model.TileType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Déplacement d'un joueur
+ * ({@link GameLogic#handlePlayerMovement(Player, int, long, int)}) depuis des cases de sol
+ * tirées au hasard, dans une direction tirée au hasard : la case visée peut être un mur,
+ * un mur destructible, une bombe ou du sol.
+ * <p>
+ * Le joueur n'a pas le Kick et la carte n'a ni ennemi ni power-up : seul un déplacement
+ * réussi change l'état (la position, remise à chaque appel). Le résultat est donné par
+ * tentative.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Dsuperbomberman.log.level=WARN")
+public class PlayerMovementBenchmark {
+
+    private static final int ATTEMPTS = 1024;
+    private static final int[] DIRECTIONS = {PlayerInput.LEFT, PlayerInput.RIGHT, PlayerInput.UP, PlayerInput.DOWN};
+    /** Écart entre deux tentatives, bien au-delà du délai de déplacement. */
+    private static final long STEP_NANOS = 1_000_000_000L;
+
+    /** Côté de la carte. */
+    @Param({"15", "31", "63"})
+    public int size;
+
+    /** Nombre de bombes posées sur la carte (au plus une par case de sol). */
+    @Param({"0", "16", "256"})
+    public int bombs;
+
+    private GameLogic gameLogic;
+    private Player player;
+    private final int[] startX = new int[ATTEMPTS];
+    private final int[] startY = new int[ATTEMPTS];
+    private final int[] input = new int[ATTEMPTS];
+    private long now;
+
+    @Setup(Level.Trial)
+    public void createBoard() {
+        GameSimulation simulation = BenchmarkArena.simulation(size, 4, 0, 0.5);
+        gameLogic = simulation.getGameLogic();
+        player = simulation.getPlayerSlots().get(1).getPlayer();
+
+        // Les mèches ne brûlent pas : la simulation n'avance jamais
+        BombManager bombManager = simulation.getBombManager();
+        Player bomber = new Player("Bench");
+        for (int i = 1; i < bombs; i++) {
+            bomber.increaseMaxBombs();
+        }
+        SplittableRandom random = new SplittableRandom(BenchmarkArena.SEED);
+        List<int[]> floor = new ArrayList<>();
+        for (int y = 1; y < size - 1; y++) {
+            for (int x = 1; x < size - 1; x++) {
+                if (simulation.getMap().is(x, y, TileType.FLOOR)) {
+                    floor.add(new int[]{x, y});
+                }
+            }
+        }
+        for (int attempts = 0; bombManager.getActiveBombsView().size() < bombs && attempts < 100 * size * size; attempts++) {
+            int[] cell = floor.get(random.nextInt(floor.size()));
+            bomber.setPosition(cell[0], cell[1]);
+            bombManager.placeBomb(bomber, 2);
+        }
+        for (int i = 0; i < ATTEMPTS; i++) {
+            int[] cell = floor.get(random.nextInt(floor.size()));
+            startX[i] = cell[0];
+            startY[i] = cell[1];
+            input[i] = DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ATTEMPTS)
+    public int move() {
+        int moved = 0;
+        for (int i = 0; i < ATTEMPTS; i++) {
+            player.setPosition(startX[i], startY[i]);
+            now += STEP_NANOS;
+            gameLogic.handlePlayerMovement(player, 1, now, input[i]);
+            if (player.getX() != startX[i] || player.getY() != startY[i]) {
+                moved++;
+            }
+        }
+        return moved;
+    }
+}
@@ -0,0 +1,120 @@
+package com.superbomberman.game;
+
+import com.superbomberman.model.Player;
+import com.superbomberman.model.TileType;
+import com.superbomberman.model.powerup.PowerUpFactory;
+import com.superbomberman.model.powerup.PowerUpType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collisions des joueurs avec les power-ups
+ * ({@link PowerUpManager#checkPlayerCollisions(Player, Player, GameStateManager, GameListener)}).
+ * <p>
+ * Deux joueurs parcourent les cases de sol dans un ordre tiré au hasard et ramassent les
+ * power-ups rencontrés ; quand il n'en reste plus, la carte est remise dans son état de
+ * départ (coût amorti sur tous les appels).
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Dsuperbomberman.log.level=WARN")
+public class PowerUpCollisionBenchmark {
+
+    private static final PowerUpType[] TYPES = {PowerUpType.RANGE_UP, PowerUpType.BOMB_UP};
+
+    /** Côté de la carte. */
+    @Param({"15", "31", "63"})
+    public int size;
+
+    /** Nombre de power-ups posés (au plus un par case de sol). */
+    @Param({"16", "256"})
+    public int powerUps;
+
+    private PowerUpManager powerUpManager;
+    private final PowerUpManager.State placed = new PowerUpManager.State();
+    private Player player1;
+    private Player player2;
+    private int[] walkX;
+    private int[] walkY;
+    private int step;
+
+    @Setup(Level.Trial)
+    public void placePowerUps() {
+        GameSimulation simulation = BenchmarkArena.simulation(size, 2, 0, 0.0);
+        powerUpManager = simulation.getPowerUpManager();
+        player1 = simulation.getPlayerSlots().get(1).getPlayer();
+        player2 = simulation.getPlayerSlots().get(2).getPlayer();
+
+        List<int[]> floor = new ArrayList<>();
+        for (int y = 1; y < size - 1; y++) {
+            for (int x = 1; x < size - 1; x++) {
+                if (simulation.getMap().is(x, y, TileType.FLOOR)) {
+                    floor.add(new int[]{x, y});
+                }
+            }
+        }
+        SplittableRandom random = new SplittableRandom(BenchmarkArena.SEED);
+        shuffle(floor, random);
+        for (int i = 0; i < powerUps && i < floor.size(); i++) {
+            int[] cell = floor.get(i);
+            powerUpManager.addPowerUp(PowerUpFactory.create(TYPES[i % TYPES.length], cell[0], cell[1]));
+        }
+        powerUpManager.save(placed);
+
+        // Parcours : toutes les cases de sol, dans un autre ordre (tout est ramassé à chaque tour)
+        shuffle(floor, random);
+        walkX = new int[floor.size()];
+        walkY = new int[floor.size()];
+        for (int i = 0; i < floor.size(); i++) {
+            walkX[i] = floor.get(i)[0];
+            walkY[i] = floor.get(i)[1];
+        }
+    }
+
+    private static void shuffle(List<int[]> cells, SplittableRandom random) {
+        for (int i = cells.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int[] swap = cells.get(i);
+            cells.set(i, cells.get(j));
+            cells.set(j, swap);
+        }
+    }
+
+    @Benchmark
+    public int checkPlayerCollisions() {
+        int length = walkX.length;
+        player1.setPosition(walkX[step], walkY[step]);
+        int other = length - 1 - step;
+        player2.setPosition(walkX[other], walkY[other]);
+        step = step + 1 == length ? 0 : step + 1;
+
+        powerUpManager.checkPlayerCollisions(player1, player2, null, GameListener.NONE);
+        if (powerUpManager.getActivePowerUpCount() == 0) {
+            powerUpManager.restore(placed);
+        }
+        return powerUpManager.getActivePowerUpCount();
+    }
+}
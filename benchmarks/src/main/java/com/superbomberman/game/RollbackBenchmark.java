@@ -0,0 +1,85 @@
+package com.superbomberman.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instantanés d'une partie à quatre joueurs en cours (bombes posées, ennemis, murs
+ * détruits) : {@link GameSimulation#save(SimulationSnapshot)},
+ * {@link GameSimulation#restore(SimulationSnapshot)} et un retour en arrière complet de
+ * {@value #RESIMULATED_TICKS} ticks (restauration puis resimulation), le cas le plus
+ * défavorable de {@link com.superbomberman.net.RollbackSession} avec ses réglages par
+ * défaut. Tous doivent se compter en microsecondes, bien en deçà des 16,7 ms d'un tick.
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Dsuperbomberman.log.level=WARN")
+public class RollbackBenchmark {
+
+    private static final int RESIMULATED_TICKS = 8;
+    private static final int WARMUP_TICKS = 100;
+
+    private GameSimulation simulation;
+    private SimulationSnapshot snapshot;
+    private final int[] inputs = new int[PlayerSlots.MAX_PLAYERS];
+
+    @Setup(Level.Trial)
+    public void startMatch() {
+        simulation = BenchmarkArena.simulation(15, 4, 4, 0.5);
+        for (int i = 0; i < WARMUP_TICKS && !simulation.isFinished(); i++) {
+            script(simulation.getTick(), inputs);
+            simulation.step(inputs);
+        }
+        snapshot = new SimulationSnapshot(simulation);
+        simulation.save(snapshot);
+    }
+
+    @Benchmark
+    public SimulationSnapshot save() {
+        simulation.save(snapshot);
+        return snapshot;
+    }
+
+    @Benchmark
+    public long restore() {
+        simulation.restore(snapshot);
+        return simulation.getTick();
+    }
+
+    /** Restaure l'instantané puis resimule les ticks d'un retour en arrière maximal. */
+    @Benchmark
+    public long rollback() {
+        simulation.restore(snapshot);
+        for (int i = 0; i < RESIMULATED_TICKS; i++) {
+            script(simulation.getTick(), inputs);
+            simulation.step(inputs);
+        }
+        return simulation.getTick();
+    }
+
+    /** Entrées scriptées des quatre joueurs : déplacements et bombes réguliers. */
+    private static void script(long tick, int[] inputs) {
+        for (int player = 0; player < 4; player++) {
+            int direction = (tick / 30 + player) % 2 == 0 ? PlayerInput.RIGHT : PlayerInput.DOWN;
+            inputs[player] = tick % 90 == 15L * player ? direction | PlayerInput.BOMB : direction;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.superbomberman.model;
+
+import com.superbomberman.game.BenchmarkArena;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chargement d'une carte depuis un fichier ({@link MapLoader#loadMap(String)}) : lecture,
+ * analyse des caractères et création des joueurs et des ennemis.
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Dsuperbomberman.log.level=WARN")
+public class MapLoaderBenchmark {
+
+    /** Côté de la carte. */
+    @Param({"15", "31", "63"})
+    public int size;
+
+    /** Nombre d'ennemis sur la carte. */
+    @Param({"0", "32"})
+    public int enemies;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void writeMap() throws IOException {
+        file = Files.createTempFile("bench-map-", ".txt");
+        Files.write(file, BenchmarkArena.create(size, 4, enemies, 0.5));
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteMap() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public Tile[][] loadMap() throws IOException {
+        return MapLoader.loadMap(file.toString());
+    }
+}
@@ -1,5 +1,7 @@
 package com.superbomberman;
 
+import com.superbomberman.metrics.GameMetrics;
+import com.superbomberman.metrics.MetricsEndpoint;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
@@ -12,12 +14,21 @@ import javafx.scene.Parent;
  * Cette classe initialise l'interface graphique JavaFX, charge la page d'accueil (welcome.fxml)
  * et lance la fenêtre principale de l'application.
  * </p>
+ * <p>
+ * Avec {@code -Dsuperbomberman.metrics.port=9464}, les mesures des parties sont
+ * publiées au format Prometheus sur {@code http://localhost:9464/metrics}
+ * ({@link MetricsEndpoint}).
+ * </p>
  *
  * @author Jules Fuselier
- * @version 1.0
+ * @version 1.1 - Endpoint local des mesures (optionnel)
  * @since 2025-06-08
  */
 public class Main extends Application {
+
+    /** Endpoint des mesures (null s'il n'est pas demandé). */
+    private MetricsEndpoint metricsEndpoint;
+
     /**
      * Démarre l'application JavaFX et affiche la page d'accueil.
      *
@@ -26,6 +37,8 @@ public class Main extends Application {
      */
     @Override
     public void start(Stage primaryStage) throws Exception {
+        metricsEndpoint = MetricsEndpoint.startFromProperty(GameMetrics.shared());
+
         // Charger la page d'accueil avec les 4 boutons
         FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/welcome.fxml"));
         Parent root = loader.load();
@@ -36,6 +49,16 @@ public class Main extends Application {
         primaryStage.show();
     }
 
+    /**
+     * Ferme l'endpoint des mesures à l'arrêt de l'application.
+     */
+    @Override
+    public void stop() {
+        if (metricsEndpoint != null) {
+            metricsEndpoint.close();
+        }
+    }
+
     /**
      * Méthode main : point d'entrée standard Java.
      *
@@ -4,6 +4,7 @@ import com.superbomberman.game.GameStateManager;
 import com.superbomberman.model.GameResult;
 import com.superbomberman.model.GameEndType;
 import javafx.animation.*;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -13,6 +14,7 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.VBox;
 import javafx.scene.layout.HBox;
 import javafx.stage.Stage;
+import javafx.stage.Window;
 import javafx.util.Duration;
 
 /**
@@ -21,9 +23,14 @@ import javafx.util.Duration;
  * Gère l'affichage des scores, du temps, des messages et des animations pour
  * le mode solo et multijoueur, ainsi que l'action du bouton quitter.
  * </p>
+ * <p>
+ * Porte aussi la navigation de fin de partie (écran de fin, restart, retour au menu) :
+ * le {@link GameStateManager} n'en connaît que l'action injectée par le
+ * {@link GameViewController}, sans dépendre de JavaFX.
+ * </p>
  *
  * @author Jules Fuselier
- * @version 1.0
+ * @version 1.1 - Affichage de l'écran de fin, restart et menu repris du GameStateManager
  * @since 2025-06-12
  */
 public class EndGameController {
@@ -52,6 +59,111 @@ public class EndGameController {
     private GameResult gameResult;
     private GameStateManager gameStateManager;
 
+    /**
+     * Affiche l'écran de fin adaptatif dans la fenêtre principale, avec résumé de partie.
+     * À appeler sur le thread JavaFX ; en cas d'échec, retour au menu.
+     * @param gameStateManager gestionnaire de la partie terminée
+     */
+    public static void show(GameStateManager gameStateManager) {
+        try {
+            GameResult result = gameStateManager.createGameResult();
+
+            FXMLLoader loader = new FXMLLoader(EndGameController.class.getResource("/fxml/endgame.fxml"));
+            Parent root = loader.load();
+
+            EndGameController controller = loader.getController();
+            controller.initializeEndScreen(result);
+            controller.setGameStateManager(gameStateManager);
+
+            Stage stage = getCurrentStage();
+            if (stage != null) {
+                stage.setScene(new Scene(root));
+                stage.setTitle("Super Bomberman - Fin de Partie");
+                stage.sizeToScene();
+            } else {
+                System.err.println("❌ Impossible de trouver la fenêtre principale");
+            }
+
+        } catch (Exception e) {
+            System.err.println("❌ Erreur lors de l'affichage de l'écran de fin:");
+            e.printStackTrace();
+            returnToMenu();
+        }
+    }
+
+    /**
+     * Relance une nouvelle partie (restart) en réinitialisant tout et rechargeant la vue de jeu.
+     * @param gameStateManager gestionnaire de la partie terminée
+     */
+    public static void restartGame(GameStateManager gameStateManager) {
+        Platform.runLater(() -> {
+            try {
+                System.out.println("🔄 DÉBUT DU RESTART...");
+
+                gameStateManager.resetGameState();
+                gameStateManager.resetGameEntities();
+
+                FXMLLoader loader = new FXMLLoader(EndGameController.class.getResource("/fxml/game-view.fxml"));
+                Parent gameRoot = loader.load();
+
+                GameViewController gameController = loader.getController();
+                if (gameStateManager.getCurrentUser() != null) {
+                    gameController.setCurrentUser(gameStateManager.getCurrentUser());
+                }
+
+                Stage stage = getCurrentStage();
+                if (stage != null) {
+                    stage.setScene(new Scene(gameRoot));
+                    stage.setTitle("Super Bomberman - " + (MenuController.isOnePlayer ? "1 Joueur" : "2 Joueurs"));
+                    stage.sizeToScene();
+                    stage.centerOnScreen();
+                    System.out.println("✅ RESTART TERMINÉ AVEC SUCCÈS !");
+                }
+            } catch (Exception e) {
+                System.err.println("❌ ERREUR DURANT LE RESTART:");
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Retourne au menu principal.
+     */
+    public static void returnToMenu() {
+        Platform.runLater(() -> {
+            try {
+                FXMLLoader loader = new FXMLLoader(EndGameController.class.getResource("/fxml/menu.fxml"));
+                Parent menuRoot = loader.load();
+
+                Stage stage = getCurrentStage();
+                if (stage != null) {
+                    stage.setScene(new Scene(menuRoot));
+                    stage.setTitle("Super Bomberman - Menu");
+                    stage.sizeToScene();
+                }
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Récupère la fenêtre principale JavaFX courante.
+     * @return la Stage courante ou null
+     */
+    private static Stage getCurrentStage() {
+        try {
+            for (Window window : Window.getWindows()) {
+                if (window instanceof Stage && window.isShowing()) {
+                    return (Stage) window;
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("⚠️ Erreur lors de la récupération de la fenêtre: " + e.getMessage());
+        }
+        return null;
+    }
+
     /**
      * Initialise l'écran de fin avec les résultats du jeu.
      * Affiche soit la vue solo, soit la vue multi selon le résultat.
@@ -220,6 +332,6 @@ public class EndGameController {
      */
     @FXML
     private void handleQuit() {
-        javafx.application.Platform.exit();
+        Platform.exit();
     }
 }
\ No newline at end of file
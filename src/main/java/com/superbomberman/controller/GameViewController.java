@@ -2,23 +2,38 @@ package com.superbomberman.controller;
 
 import com.superbomberman.model.*;
 import com.superbomberman.game.*;
+import com.superbomberman.jfr.FrameEvent;
+import com.superbomberman.jfr.GameEvents;
+import com.superbomberman.logging.GameLog;
+import com.superbomberman.metrics.GameMetrics;
+import com.superbomberman.net.LockstepLink;
+import com.superbomberman.net.LockstepSession;
+import com.superbomberman.net.PeerSession;
+import com.superbomberman.net.RollbackSession;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
 import javafx.scene.control.Button;
+import javafx.scene.input.KeyCode;
 import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
 import javafx.animation.AnimationTimer;
 import javafx.stage.Stage;
 
 import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
-import static com.superbomberman.model.MapLoader.enemy;
+import static com.superbomberman.model.MapLoader.enemies;
 import static com.superbomberman.model.MapLoader.player1;
 import static com.superbomberman.model.MapLoader.player2;
 import static com.superbomberman.controller.MenuController.isOnePlayer;
@@ -29,7 +44,7 @@ import static com.superbomberman.controller.MenuController.isOnePlayer;
  * Chaque aspect du jeu est maintenant géré par une classe spécialisée :
  * <ul>
  *     <li>GameStateManager : État du jeu et statistiques</li>
- *     <li>VisualRenderer : Rendu visuel</li>
+ *     <li>VisualRenderer ou CanvasRenderer : Rendu visuel (choisi au démarrage)</li>
  *     <li>InputHandler : Gestion des entrées clavier</li>
  *     <li>BombManager : Logique des bombes</li>
  *     <li>PowerUpManager : Gestion des power-ups</li>
@@ -40,13 +55,32 @@ import static com.superbomberman.controller.MenuController.isOnePlayer;
  * <ul>
  *     <li>Initialisation des gestionnaires et de la carte</li>
  *     <li>Placement et suivi des entités</li>
- *     <li>Boucle de jeu (AnimationTimer)</li>
+ *     <li>Boucle de jeu (AnimationTimer cadençant une GameSimulation à pas fixe)</li>
  *     <li>Affichage et mise à jour du score, de la durée, des power-ups</li>
  *     <li>Gestion de la pause, debug et fonctionnalités de test</li>
  * </ul>
  *
+ * <b>Multijoueur en lockstep</b> (une machine par joueur, chacun aux flèches) :
+ * <ul>
+ *     <li>{@code -Dsuperbomberman.lockstep.host=7778} : ouvre la partie sur ce port et attend
+ *     les autres joueurs ({@code superbomberman.lockstep.players}, 2 par défaut)</li>
+ *     <li>{@code -Dsuperbomberman.lockstep.join=hôte:7778} : rejoint la partie (carte et graine de l'hôte)</li>
+ *     <li>{@code -Dsuperbomberman.netcode=rollback} : prédit les entrées des pairs au lieu de les
+ *     attendre ({@link RollbackSession}) ; le replay n'est alors pas enregistré et le rendu
+ *     Canvas est imposé</li>
+ * </ul>
+ *
+ * <b>Profileur</b> : {@code F3} affiche la durée des phases de la boucle (p50/p99/max),
+ * les images par seconde et les pulses perdues ; le rapport est écrit dans
+ * {@code logs/profiles/} en fin de partie. Pendant un enregistrement Java Flight Recorder,
+ * chaque frame émet un {@link FrameEvent}.
+ *
+ * <b>Mesures</b> : si l'endpoint Prometheus est ouvert
+ * ({@code -Dsuperbomberman.metrics.port}), l'état de la partie est recopié chaque
+ * seconde dans les {@link GameMetrics}.
+ *
  * @author Jules Fuselier
- * @version 3.4 - Ajout affichage des power-ups par joueur
+ * @version 4.8 - Panneau latéral et sprites construits à partir des places de joueurs
  * @since 2025-06-11
  */
 public class GameViewController extends OptionsController {
@@ -84,23 +118,57 @@ public class GameViewController extends OptionsController {
     @FXML
     private Label powerupsPlayer2;
 
+    // Étiquettes du panneau latéral par joueur (index = numéro - 1) : celles des joueurs 1 et 2
+    // viennent du FXML, celles des joueurs suivants sont créées à leur première mise à jour
+    private final Label[] scoreLabels = new Label[PlayerSlots.MAX_PLAYERS];
+    private final Label[] bombsLabels = new Label[PlayerSlots.MAX_PLAYERS];
+    private final Label[] powerupsLabels = new Label[PlayerSlots.MAX_PLAYERS];
+    private final Label[] livesLabels = new Label[PlayerSlots.MAX_PLAYERS];
+    private int extraPlayerPanels = 0;
+
+    /** Overlay du profileur (masqué par défaut). */
+    @FXML
+    private Label profilerOverlay;
+
+    /** Dossier des replays enregistrés. */
+    private static final String REPLAYS_DIR = "data/replays/";
+    /** Attente maximale des autres joueurs d'une partie en lockstep. */
+    private static final int LOCKSTEP_TIMEOUT_MILLIS = 60_000;
+    /** Dossier des rapports du profileur. */
+    private static final String PROFILES_DIR = "logs/profiles/";
+    /** Touche affichant ou masquant l'overlay du profileur. */
+    private static final KeyCode PROFILER_KEY = KeyCode.F3;
+
     // Gestionnaires délégués - Chacun a sa responsabilité
     private GameStateManager gameStateManager;
     private VisualRenderer visualRenderer;
+    private CanvasRenderer canvasRenderer;
     private InputHandler inputHandler;
     private BombManager bombManager;
     private PowerUpManager powerUpManager;
     private GameLogic gameLogic;
+    private GameSimulation simulation;
 
     // Données de base
-    private Tile[][] map;
+    private TileGrid map;
+    private String mapName;
+    private ReplayRecorder replayRecorder;
     private User currentUser;
 
+    // Multijoueur en lockstep ou rollback (null en partie locale)
+    private LockstepLink lockstepLink;
+    private PeerSession peerSession;
+
     // Timer pour la boucle de jeu et gestion du temps
     private AnimationTimer gameLoop;
     private long gameStartTime;
     private boolean gamePaused = false;
 
+    // Profileur de la boucle de jeu
+    private final FrameProfiler profiler = new FrameProfiler();
+    private boolean profileWritten = false;
+    private final GameMetrics metrics = GameMetrics.shared();
+
     /**
      * Initialise tous les composants du jeu.
      * <ul>
@@ -164,58 +232,18 @@ public class GameViewController extends OptionsController {
     }
 
     /**
-     * Met à jour l'affichage des scores dans le panneau latéral.
+     * Met à jour l'affichage des scores dans le panneau latéral : un panneau par place
+     * active de la simulation.
      */
     private void updateScoreDisplay() {
         if (gameStateManager == null) return;
 
         Platform.runLater(() -> {
             try {
-                // Mise à jour du score du joueur 1
-                if (scorePlayer1 != null && player1 != null) {
-                    int score1 = gameStateManager.getScoreSystem().getPlayerScore(player1);
-                    scorePlayer1.setText("Score: " + score1);
-                }
-
-                if (bombsPlayer1 != null && player1 != null && bombManager != null) {
-                    int currentBombs = bombManager.getCurrentBombCountPlayer1();
-                    int maxBombs = player1.getMaxBombs();
-                    bombsPlayer1.setText("💣 Bombes: " + currentBombs + "/" + maxBombs);
-                }
-
-                // 🆕 MISE À JOUR DES POWER-UPS JOUEUR 1 AVEC TOUCHES
-                if (powerupsPlayer1 != null && player1 != null) {
-                    powerupsPlayer1.setText(getPlayerPowerupsText(player1, 1));
-                }
-
-                // TODO: Enlever la logique des vies
-                if (livesPlayer1 != null && player1 != null) {
-                    int lives1 = player1.isAlive() ? 3 : 0;
-                    livesPlayer1.setText("❤️ Vies: " + lives1);
-                }
-
-                // Mise à jour du score du joueur 2 (si mode 2 joueurs)
-                if (!isOnePlayer && player2 != null) {
-                    if (scorePlayer2 != null) {
-                        int score2 = gameStateManager.getScoreSystem().getPlayerScore(player2);
-                        scorePlayer2.setText("Score: " + score2);
-                    }
-
-                    if (bombsPlayer2 != null && bombManager != null) {
-                        int currentBombs2 = bombManager.getCurrentBombCountPlayer2();
-                        int maxBombs2 = player2.getMaxBombs();
-                        bombsPlayer2.setText("💣 Bombes: " + currentBombs2 + "/" + maxBombs2);
-                    }
-
-                    // 🆕 MISE À JOUR DES POWER-UPS JOUEUR 2 AVEC TOUCHES
-                    if (powerupsPlayer2 != null) {
-                        powerupsPlayer2.setText(getPlayerPowerupsText(player2, 2));
-                    }
-
-                    if (livesPlayer2 != null) {
-                        int lives2 = player2.isAlive() ? 3 : 0;
-                        livesPlayer2.setText("❤️ Vies: " + lives2);
-                    }
+                PlayerSlots slots = simulation != null ? simulation.getPlayerSlots() : null;
+                for (int i = 0; slots != null && i < slots.activeCount(); i++) {
+                    PlayerSlot slot = slots.active(i);
+                    updatePlayerPanel(slot.getNumber(), slot.getPlayer());
                 }
 
                 // Mise à jour du temps de jeu
@@ -244,11 +272,97 @@ public class GameViewController extends OptionsController {
         });
     }
 
+    /**
+     * Met à jour le panneau d'un joueur (créé à la première mise à jour au-delà du joueur 2).
+     *
+     * @param number numéro du joueur
+     * @param player joueur de la place
+     */
+    private void updatePlayerPanel(int number, Player player) {
+        int index = number - 1;
+        if (scoreLabels[index] == null && !bindPlayerPanel(number)) {
+            return;
+        }
+        if (scoreLabels[index] != null) {
+            scoreLabels[index].setText("Score: " + gameStateManager.getScoreSystem().getPlayerScore(player));
+        }
+        if (bombsLabels[index] != null && bombManager != null) {
+            bombsLabels[index].setText("💣 Bombes: " + bombManager.getCurrentBombCount(number) + "/" + player.getMaxBombs());
+        }
+        // 🆕 MISE À JOUR DES POWER-UPS AVEC TOUCHES
+        if (powerupsLabels[index] != null) {
+            powerupsLabels[index].setText(getPlayerPowerupsText(player, number));
+        }
+        // TODO: Enlever la logique des vies
+        if (livesLabels[index] != null) {
+            livesLabels[index].setText("❤️ Vies: " + (player.isAlive() ? 3 : 0));
+        }
+    }
+
+    /**
+     * Associe un joueur à ses étiquettes : celles du FXML pour les joueurs 1 et 2, un nouveau
+     * panneau inséré sous celui du joueur 2 pour les suivants.
+     *
+     * @param number numéro du joueur
+     * @return true si le joueur a des étiquettes à mettre à jour
+     */
+    private boolean bindPlayerPanel(int number) {
+        int index = number - 1;
+        if (number <= 2) {
+            scoreLabels[index] = number == 1 ? scorePlayer1 : scorePlayer2;
+            bombsLabels[index] = number == 1 ? bombsPlayer1 : bombsPlayer2;
+            powerupsLabels[index] = number == 1 ? powerupsPlayer1 : powerupsPlayer2;
+            livesLabels[index] = number == 1 ? livesPlayer1 : livesPlayer2;
+            if (number == 2 && player2Panel != null) {
+                player2Panel.setVisible(true); // Place occupée, même en mode solo (partie en ligne)
+                player2Panel.setManaged(true);
+            }
+            return true;
+        }
+        if (player2Panel == null || !(player2Panel.getParent() instanceof Pane sidebar)) {
+            return false;
+        }
+        Label title = new Label("👤 JOUEUR " + number);
+        title.setStyle("-fx-text-fill: #ecf0f1; -fx-font-size: 14px; -fx-font-weight: bold;");
+        scoreLabels[index] = new Label("Score: 0");
+        scoreLabels[index].setStyle("-fx-text-fill: white; -fx-font-size: 16px; -fx-font-weight: bold;");
+        bombsLabels[index] = new Label();
+        bombsLabels[index].setStyle("-fx-text-fill: #bdc3c7; -fx-font-size: 12px;");
+        Label powerupsTitle = new Label("⚡ Power-ups:");
+        powerupsTitle.setStyle("-fx-text-fill: #f39c12; -fx-font-size: 11px; -fx-font-weight: bold;");
+        powerupsLabels[index] = new Label("Aucun");
+        powerupsLabels[index].setStyle("-fx-text-fill: #ecf0f1; -fx-font-size: 10px; -fx-wrap-text: true; -fx-pref-width: 150;");
+
+        VBox panel = new VBox(5, title, scoreLabels[index], bombsLabels[index], powerupsTitle, powerupsLabels[index]);
+        panel.setStyle("-fx-background-color: rgba(149, 165, 166, 0.2); -fx-padding: 10; -fx-border-radius: 5; -fx-background-radius: 5;");
+        // Les places actives sont parcourues par numéro croissant : les panneaux restent dans l'ordre
+        int position = sidebar.getChildren().indexOf(player2Panel) + 1 + extraPlayerPanels;
+        sidebar.getChildren().add(position, panel);
+        extraPlayerPanels++;
+        return true;
+    }
+
+    /**
+     * Touche d'une action entre parenthèses, pour les joueurs qui ont des touches locales.
+     *
+     * @param playerNumber numéro du joueur
+     * @param player1Key touche du joueur 1
+     * @param player2Key touche du joueur 2
+     * @return « (touche) » précédé d'une espace, ou une chaîne vide au-delà du joueur 2
+     */
+    private static String keyHint(int playerNumber, String player1Key, String player2Key) {
+        return switch (playerNumber) {
+            case 1 -> " (" + player1Key + ")";
+            case 2 -> " (" + player2Key + ")";
+            default -> "";
+        };
+    }
+
     /**
      * Génère le texte d'affichage des power-ups d'un joueur avec les touches.
      *
      * @param player Le joueur dont on veut afficher les power-ups
-     * @param playerNumber Le numéro du joueur (1 ou 2) pour déterminer les touches
+     * @param playerNumber Le numéro du joueur pour déterminer les touches (aucune au-delà du joueur 2)
      * @return Texte formaté avec les power-ups actifs et leurs touches
      */
 
@@ -263,18 +377,15 @@ public class GameViewController extends OptionsController {
         }
 
         if (player.canThrowBombs()) {
-            String key = (playerNumber == 1) ? "SHIFT" : "CTRL";
-            powerups.add("🧤 Glove (" + key + ")");
+            powerups.add("🧤 Glove" + keyHint(playerNumber, "SHIFT", "CTRL"));
         }
 
         if (player.hasRemoteDetonation()) {
-            String key = (playerNumber == 1) ? "R" : "O";
-            powerups.add("📡 Remote (" + key + ")");
+            powerups.add("📡 Remote" + keyHint(playerNumber, "R", "O"));
         }
 
         if (player.hasLineBombs()) {
-            String key = (playerNumber == 1) ? "L" : "K";
-            powerups.add("➡️ LineBomb (" + key + ")");
+            powerups.add("➡️ LineBomb" + keyHint(playerNumber, "L", "K"));
         }
 
         // Power-ups passifs (sans touches)
@@ -288,8 +399,7 @@ public class GameViewController extends OptionsController {
 
         // Améliorations numériques
         if (player.getMaxBombs() > 1) {
-            String key = (playerNumber == 1) ? "ESPACE" : "ENTRÉE";
-            powerups.add("💥 Bombs + " + (player.getMaxBombs() - 1) + " (" + key + ")");
+            powerups.add("💥 Bombs + " + (player.getMaxBombs() - 1) + keyHint(playerNumber, "ESPACE", "ENTRÉE"));
         }
 
         if (player.getExplosionRange() > 2) {
@@ -346,19 +456,69 @@ public class GameViewController extends OptionsController {
 
     private void initializeMap() throws IOException {
         System.out.println("Mode un joueur: " + isOnePlayer);
-        String mapName = OptionsController.getSelectedMap();
+        mapName = OptionsController.getSelectedMap();
         if (mapName == null || mapName.isEmpty())
             mapName = isOnePlayer ? "level1.txt" : "level2.txt";
+        if (!isOnePlayer) {
+            openLockstepLink();
+        }
         String mapPath = "src/main/resources/maps/" + mapName;
-        map = MapLoader.loadMap(mapPath);
+        map = MapLoader.loadGrid(mapPath);
 
         // Toujours appliquer le filtrage, même si ce n'est pas passé par le bouton map
         filterMapForGameMode();
 
         if (isOnePlayer) player2 = null;
-        if (!isOnePlayer) enemy = null;
+        if (!isOnePlayer) MapLoader.clearEnemies();
+
+        System.out.println("Carte chargée: " + map.getHeight() + "x" + map.getWidth());
+    }
 
-        System.out.println("Carte chargée: " + map.length + "x" + map[0].length);
+    /**
+     * Ouvre ou rejoint une partie en lockstep si les propriétés système le demandent.
+     * L'hôte impose sa carte et sa graine aux autres joueurs.
+     */
+    private void openLockstepLink() throws IOException {
+        String hostPort = System.getProperty("superbomberman.lockstep.host");
+        String join = System.getProperty("superbomberman.lockstep.join");
+        if (hostPort != null) {
+            int players = Integer.getInteger("superbomberman.lockstep.players", 2);
+            GameLog.info("🌐 Attente de {} joueur(s) sur le port {}...", players - 1, hostPort);
+            int inputDelay = isRollback() ? RollbackSession.DEFAULT_INPUT_DELAY : LockstepSession.DEFAULT_INPUT_DELAY;
+            lockstepLink = LockstepLink.host(Integer.parseInt(hostPort), players, mapName,
+                    new SplittableRandom().nextLong(), inputDelay, LOCKSTEP_TIMEOUT_MILLIS);
+        } else if (join != null) {
+            int colon = join.lastIndexOf(':');
+            lockstepLink = LockstepLink.join(join.substring(0, colon), Integer.parseInt(join.substring(colon + 1)),
+                    LOCKSTEP_TIMEOUT_MILLIS);
+            mapName = lockstepLink.getMapName();
+        } else {
+            return;
+        }
+        GameLog.info("🌐 Partie {} : joueur {}/{}", isRollback() ? "rollback" : "lockstep",
+                lockstepLink.getLocalNumber(), lockstepLink.getPlayerCount());
+    }
+
+    /** @return true si les entrées des pairs sont prédites (propriété {@code superbomberman.netcode}) */
+    private static boolean isRollback() {
+        return "rollback".equalsIgnoreCase(System.getProperty("superbomberman.netcode"));
+    }
+
+    /**
+     * Le {@link VisualRenderer} ne suit que les événements de la simulation : un retour en
+     * arrière n'en émet pas et la resimulation les rejoue, il garderait des sprites fantômes.
+     * Le {@link CanvasRenderer} relit l'état à chaque image et est donc imposé en rollback.
+     *
+     * @return true si le plateau est dessiné par le {@link CanvasRenderer}
+     */
+    private boolean useCanvasRenderer() {
+        if (lockstepLink != null && isRollback()) {
+            if (!isCanvasRenderer()) {
+                GameLog.info("Rendu Canvas imposé par le rollback");
+            }
+            return true;
+        }
+        return isCanvasRenderer();
     }
 
     /**
@@ -366,13 +526,13 @@ public class GameViewController extends OptionsController {
      * On remplace simplement par du sol (FLOOR) pour la logique.
      */
     private void filterMapForGameMode() {
-        for (int y = 0; y < map.length; y++) {
-            for (int x = 0; x < map[y].length; x++) {
-                TileType type = map[y][x].getType();
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int x = 0; x < map.getWidth(); x++) {
+                TileType type = map.get(x, y);
                 if (isOnePlayer && type == TileType.ENEMY) {
-                    map[y][x] = new Tile(TileType.FLOOR); // enlève le bot en 1 joueur
+                    map.set(x, y, TileType.FLOOR); // enlève le bot en 1 joueur
                 } else if (!isOnePlayer && type == TileType.PLAYER2) {
-                    map[y][x] = new Tile(TileType.FLOOR); // enlève le joueur 2 en solo bot
+                    map.set(x, y, TileType.FLOOR); // enlève le joueur 2 en solo bot
                 }
             }
         }
@@ -389,37 +549,173 @@ public class GameViewController extends OptionsController {
 
         // 2. GameStateManager - Gère l'état du jeu
         gameStateManager = new GameStateManager(currentUser, null);
+        gameStateManager.setOnGameEnded(() -> Platform.runLater(() -> EndGameController.show(gameStateManager)));
 
-        // 3. VisualRenderer - Gère l'affichage
-        visualRenderer = new VisualRenderer(gameGrid, map);
-
+        // 3. VisualRenderer - Gère l'affichage (sauf rendu Canvas, créé avec la simulation)
         // 4. Initialiser l'affichage visuel
-        Platform.runLater(() -> {
-            visualRenderer.setupGridConstraints();
-            visualRenderer.drawMap();
-            System.out.println("Rendu visuel initialisé");
-        });
+        boolean canvas = useCanvasRenderer();
+        if (!canvas) {
+            visualRenderer = new VisualRenderer(gameGrid, map);
+            Platform.runLater(() -> {
+                visualRenderer.setupGridConstraints();
+                visualRenderer.drawMap();
+                System.out.println("Rendu visuel initialisé");
+            });
+        }
 
         // 5. InputHandler - Gère les entrées
         inputHandler = new InputHandler();
 
-        // 6. BombManager - Gère les bombes
-        bombManager = new BombManager(map);
+        // 6. GameSimulation - Bombes, power-ups et logique à pas fixe
+        simulation = lockstepLink != null
+                ? new GameSimulation(map, gameStateManager, lockstepLink.getSeed())
+                : new GameSimulation(map, gameStateManager);
+        bombManager = simulation.getBombManager();
+        powerUpManager = simulation.getPowerUpManager();
+        gameLogic = simulation.getGameLogic();
+        simulation.setProfiler(profiler);
+        metrics.matchStarted();
+
+        startReplayRecording();
+        startLockstep();
+
+        // 7. Le rendu écoute les changements de la simulation
+        if (canvas) {
+            canvasRenderer = new CanvasRenderer(simulation);
+            simulation.setListener(canvasRenderer);
+            Platform.runLater(() -> {
+                canvasRenderer.attachTo(gameGrid);
+                canvasRenderer.render();
+                System.out.println("Rendu Canvas initialisé");
+            });
+        } else {
+            simulation.setListener(visualRenderer);
+        }
+
+        System.out.println("Tous les gestionnaires initialisés!");
+    }
+
+    /**
+     * Branche la simulation sur la liaison lockstep : les places des autres joueurs
+     * reçoivent leurs entrées du réseau, celles au-delà du nombre de joueurs sont libérées.
+     */
+    private void startLockstep() {
+        if (lockstepLink == null) {
+            return;
+        }
+        PlayerSlots slots = simulation.getPlayerSlots();
+        for (int number = 1; number <= PlayerSlots.MAX_PLAYERS; number++) {
+            PlayerSlot slot = slots.get(number);
+            if (!slot.isActive() || number == lockstepLink.getLocalNumber()) {
+                continue;
+            }
+            slots.assign(number, number <= lockstepLink.getPlayerCount() ? slot.getPlayer() : null,
+                    PlayerSlot.Control.REMOTE);
+        }
+        if (isRollback()) {
+            peerSession = new RollbackSession(simulation, lockstepLink.getLocalNumber(), lockstepLink.getInputDelay(),
+                    RollbackSession.DEFAULT_BATCH_TICKS, RollbackSession.DEFAULT_MAX_ROLLBACK, lockstepLink);
+        } else {
+            peerSession = new LockstepSession(simulation, lockstepLink.getLocalNumber(), lockstepLink.getInputDelay(),
+                    LockstepSession.DEFAULT_BATCH_TICKS, lockstepLink);
+        }
+        peerSession.setDesyncListener((tick, player, local, remote) ->
+                GameLog.error("Partie désynchronisée avec le joueur {} au tick {}", player, tick));
+        lockstepLink.start(peerSession);
+    }
+
+    /**
+     * Démarre l'enregistrement du replay de la partie dans {@code data/replays/}.
+     */
+    private void startReplayRecording() {
+        if (!OptionsController.isReplayRecording()) {
+            return;
+        }
+        if (lockstepLink != null && isRollback()) {
+            GameLog.info("🎞️ Replay non enregistré : les retours en arrière du rollback y seraient inscrits");
+            return;
+        }
+        String fileName = "replay-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".sbr";
+        try {
+            replayRecorder = ReplayRecorder.create(Paths.get(REPLAYS_DIR, fileName),
+                    simulation.getSeed(), Math.max(1, simulation.getPlayerSlots().highestNumber()), mapName);
+            simulation.setRecorder(replayRecorder);
+            System.out.println("🎞️ Enregistrement du replay : " + REPLAYS_DIR + fileName);
+        } catch (IOException e) {
+            System.err.println("Impossible d'enregistrer le replay : " + e.getMessage());
+        }
+    }
 
-        // 7. PowerUpManager - Gère les power-ups
-        powerUpManager = new PowerUpManager();
+    /**
+     * Termine l'enregistrement du replay en cours.
+     */
+    private void stopReplayRecording() {
+        if (replayRecorder != null) {
+            simulation.setRecorder(null);
+            replayRecorder.close();
+            replayRecorder = null;
+        }
+    }
 
-        // 8. GameLogic - Logique principale (dépend de tous les autres)
-        gameLogic = new GameLogic(map, bombManager, powerUpManager, gameStateManager);
+    /**
+     * Affiche ou masque l'overlay du profileur.
+     */
+    private void toggleProfilerOverlay() {
+        if (profilerOverlay != null) {
+            profilerOverlay.setVisible(!profilerOverlay.isVisible());
+            refreshProfilerOverlay();
+        }
+    }
 
-        // 9. Configurer les références croisées
+    /**
+     * Met à jour le texte de l'overlay du profileur s'il est affiché.
+     */
+    private void refreshProfilerOverlay() {
+        if (profilerOverlay != null && profilerOverlay.isVisible()) {
+            profilerOverlay.setText(profiler.formatOverlay());
+        }
+    }
 
-        bombManager.setManagers(visualRenderer, powerUpManager, gameStateManager);
+    /**
+     * Recopie l'état de la partie dans les mesures publiées.
+     * @param now instant de la pulse, en nanosecondes
+     */
+    private void publishMetrics(long now) {
+        Scene scene = gameGrid != null ? gameGrid.getScene() : null;
+        int sceneNodes = scene != null && scene.getRoot() != null ? countNodes(scene.getRoot()) : 0;
+        metrics.update(simulation, profiler, sceneNodes, now);
+    }
 
-        // 🆕 AJOUTER LA RÉFÉRENCE GAMELOGIC MANQUANTE
-        bombManager.setGameLogic(gameLogic);
+    /**
+     * Compte un nœud et tous ses descendants.
+     * @param node racine du sous-arbre
+     * @return nombre de nœuds
+     */
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
 
-        System.out.println("Tous les gestionnaires initialisés!");
+    /**
+     * Écrit le rapport du profileur de la partie (une seule fois).
+     */
+    private void writeProfileReport() {
+        if (profileWritten) {
+            return;
+        }
+        profileWritten = true;
+        String fileName = "profile-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".txt";
+        try {
+            profiler.writeReport(Paths.get(PROFILES_DIR, fileName));
+            GameLog.info("Rapport du profileur : {}{}", PROFILES_DIR, fileName);
+        } catch (IOException e) {
+            GameLog.warn("Impossible d'écrire le rapport du profileur : {}", e.getMessage());
+        }
     }
 
     /**
@@ -430,8 +726,8 @@ public class GameViewController extends OptionsController {
             System.out.println("Configuration de la grille de jeu...");
 
             // Calculer les dimensions basées sur la carte
-            int mapWidth = map[0].length;
-            int mapHeight = map.length;
+            int mapWidth = map.getWidth();
+            int mapHeight = map.getHeight();
 
             // Taille de cellule optimale pour la lisibilité
             double cellSize = 40.0;
@@ -471,26 +767,45 @@ public class GameViewController extends OptionsController {
         Platform.runLater(() -> {
             try {
                 // Initialiser le joueur 1
-                if (map[player1.getY()][player1.getX()].getType() == TileType.FLOOR) {
-                    map[player1.getY()][player1.getX()] = new Tile(TileType.PLAYER1);
-                    visualRenderer.addEntityToGrid(player1.getX(), player1.getY(), visualRenderer.getPlayerPattern());
+                if (map.is(player1.getX(), player1.getY(), TileType.FLOOR)) {
+                    map.set(player1.getX(), player1.getY(), TileType.PLAYER1);
+                    if (visualRenderer != null) {
+                        visualRenderer.addEntityToGrid(player1.getX(), player1.getY(), visualRenderer.getPlayerPattern());
+                    }
                     System.out.println("Joueur 1 placé à (" + player1.getX() + ", " + player1.getY() + ")");
                 }
 
                 // Initialiser le joueur 2 (mode 2 joueurs uniquement)
-                if (!isOnePlayer && player2 != null && map[player2.getY()][player2.getX()].getType() == TileType.FLOOR) {
-                    map[player2.getY()][player2.getX()] = new Tile(TileType.PLAYER2);
-                    visualRenderer.addEntityToGrid(player2.getX(), player2.getY(), visualRenderer.getPlayer2Pattern());
+                if (!isOnePlayer && player2 != null && map.is(player2.getX(), player2.getY(), TileType.FLOOR)) {
+                    map.set(player2.getX(), player2.getY(), TileType.PLAYER2);
+                    if (visualRenderer != null) {
+                        visualRenderer.addEntityToGrid(player2.getX(), player2.getY(), visualRenderer.getPlayer2Pattern());
+                    }
                     System.out.println("Joueur 2 placé à (" + player2.getX() + ", " + player2.getY() + ")");
                 }
 
-                // Initialiser l'ennemi
-                if (enemy != null && map[enemy.getY()][enemy.getX()].getType() == TileType.FLOOR) {
-                    map[enemy.getY()][enemy.getX()] = new Tile(TileType.ENEMY);
-                    visualRenderer.addEntityToGrid(enemy.getX(), enemy.getY(), visualRenderer.getEnemyPattern());
-                    System.out.println("Ennemi placé à (" + enemy.getX() + ", " + enemy.getY() + ")");
+                // Joueurs 3 à 8 (parties en ligne), chacun avec son sprite
+                PlayerSlots slots = simulation.getPlayerSlots();
+                for (int i = 0; visualRenderer != null && i < slots.activeCount(); i++) {
+                    PlayerSlot slot = slots.active(i);
+                    if (slot.getNumber() > 2) {
+                        Player player = slot.getPlayer();
+                        visualRenderer.addEntityToGrid(player.getX(), player.getY(),
+                                visualRenderer.getPlayerPattern(slot.getNumber()));
+                    }
                 }
 
+                // Initialiser les ennemis
+                for (Enemy enemy : enemies.getEnemies()) {
+                    if (map.is(enemy.getX(), enemy.getY(), TileType.FLOOR)) {
+                        map.set(enemy.getX(), enemy.getY(), TileType.ENEMY);
+                    }
+                    if (visualRenderer != null) {
+                        visualRenderer.addEntityToGrid(enemy.getX(), enemy.getY(), visualRenderer.getEnemyPattern());
+                    }
+                }
+                System.out.println(enemies.size() + " ennemi(s) placé(s)");
+
                 // Configurer les entrées clavier
                 inputHandler.setupKeyboardHandling(gameGrid);
 
@@ -511,67 +826,116 @@ public class GameViewController extends OptionsController {
         System.out.println("Démarrage de la boucle de jeu...");
 
         gameLoop = new AnimationTimer() {
-            private long lastAutoBombTimePlayer1 = 0;
-            private long lastAutoBombTimePlayer2 = 0;
-            private long lastScoreUpdate = 0;
-            private final long AUTO_BOMB_INTERVAL = 2_000_000_000L; // 2 secondes
+            private final int MAX_STEPS_PER_FRAME = 5;
             private final long SCORE_UPDATE_INTERVAL = 100_000_000L; // 0.1 seconde
+            private final long OVERLAY_UPDATE_INTERVAL = 250_000_000L; // 0.25 seconde
+            private final long METRICS_UPDATE_INTERVAL = 1_000_000_000L; // 1 seconde
+            private final int[] inputs = new int[PlayerSlots.MAX_PLAYERS];
+            private long lastFrame = -1;
+            private long accumulator = 0;
+            private long lastScoreUpdate = 0;
+            private long lastOverlayUpdate = 0;
+            private long lastMetricsUpdate = 0;
 
             @Override
             public void handle(long now) {
+                long frameStart = System.nanoTime();
                 try {
-
-                    // Ignorer si le jeu est en pause
-                    if (gamePaused) return;
-
-
-                    // === PHASE 1 : ACTIONS IMMÉDIATES ===
-                    // Traiter les actions instantanées (bombes, pouvoirs)
-                    inputHandler.processImmediateActions(player1, player2, bombManager, gameLogic);
-
-                    // === PHASE 2 : MOUVEMENT DES ENTITÉS ===
-                    // Mouvement du joueur 1
-                    gameLogic.handlePlayerMovement(player1, 1, now, inputHandler.getPressedKeys(), visualRenderer);
-
-                    // Mouvement du joueur 2 (si mode 2 joueurs)
-                    if (!isOnePlayer && player2 != null) {
-                        gameLogic.handlePlayerMovement(player2, 2, now, inputHandler.getPressedKeys(), visualRenderer);
+                    if (inputHandler.consumePress(PROFILER_KEY)) {
+                        toggleProfilerOverlay();
+                    }
+                    // Mesures recopiées même en pause : les ticks par seconde y tombent à zéro
+                    if (metrics.isEnabled() && now - lastMetricsUpdate >= METRICS_UPDATE_INTERVAL) {
+                        publishMetrics(now);
+                        lastMetricsUpdate = now;
+                    }
+                    // Fin prédite en rollback : les dernières entrées des pairs peuvent encore l'annuler
+                    if (simulation.isFinished() && peerSession instanceof RollbackSession rollback
+                            && !rollback.isEndConfirmed()) {
+                        rollback.tryStep();
+                    }
+                    // Ignorer si le jeu est en pause (la simulation reste figée)
+                    if (gamePaused || simulation.isFinished()) {
+                        if (simulation.isFinished()) {
+                            stopReplayRecording();
+                            writeProfileReport();
+                        }
+                        lastFrame = -1;
+                        profiler.resetPulseClock();
+                        return;
+                    }
+                    profiler.onPulse(now);
+                    FrameEvent frameEvent = null;
+                    if (GameEvents.isRecording()) {
+                        frameEvent = new FrameEvent();
+                        frameEvent.begin();
+                    }
+                    if (lastFrame < 0) {
+                        lastFrame = now;
+                    }
+                    accumulator += now - lastFrame;
+                    lastFrame = now;
+
+                    // === ENTRÉES : relevé une fois par frame ===
+                    // En ligne, le joueur local joue aux commandes du joueur 1 quel que soit son numéro
+                    int localInput = peerSession != null ? inputHandler.pollInputMask(1) : PlayerInput.NONE;
+                    PlayerSlots slots = simulation.getPlayerSlots();
+                    for (int i = 0; peerSession == null && i < slots.activeCount(); i++) {
+                        PlayerSlot slot = slots.active(i);
+                        if (slot.getControl() == PlayerSlot.Control.LOCAL) {
+                            inputs[slot.getIndex()] = inputHandler.pollInputMask(slot.getNumber());
+                        }
                     }
 
-                    // Mouvement de l'ennemi
-                    gameLogic.handleEnemyMovement(now, visualRenderer);
-
-                    // === PHASE 3 : GESTION DES BOMBES ===
-                    // Mettre à jour les bombes volantes et qui roulent
-                    bombManager.updateBombs();
-
-                    // === PHASE 4 : GESTION DES MALUS AUTO_BOMB ===
-                    if (player1.hasMalus(com.superbomberman.model.powerup.MalusType.AUTO_BOMB) &&
-                            now - lastAutoBombTimePlayer1 >= AUTO_BOMB_INTERVAL) {
-                        bombManager.placeBomb(player1, 1);
-                        lastAutoBombTimePlayer1 = now;
+                    // === SIMULATION : ticks fixes, rattrapage borné ===
+                    int steps = 0;
+                    while (accumulator >= GameSimulation.NANOS_PER_TICK && steps < MAX_STEPS_PER_FRAME) {
+                        if (peerSession != null) {
+                            // Tick retenu tant qu'un pair n'a pas envoyé ses entrées (ou hors fenêtre de prédiction)
+                            peerSession.submitLocalInput(localInput);
+                            if (!peerSession.tryStep()) {
+                                break;
+                            }
+                        } else {
+                            simulation.step(inputs);
+                        }
+                        accumulator -= GameSimulation.NANOS_PER_TICK;
+                        steps++;
+                    }
+                    if (peerSession != null && accumulator > MAX_STEPS_PER_FRAME * GameSimulation.NANOS_PER_TICK) {
+                        accumulator = MAX_STEPS_PER_FRAME * GameSimulation.NANOS_PER_TICK; // Attente d'un pair
+                    }
+                    if (steps == MAX_STEPS_PER_FRAME) {
+                        accumulator = 0; // Abandonner le retard plutôt que de spiraler
                     }
 
-                    if (!isOnePlayer && player2 != null &&
-                            player2.hasMalus(com.superbomberman.model.powerup.MalusType.AUTO_BOMB) &&
-                            now - lastAutoBombTimePlayer2 >= AUTO_BOMB_INTERVAL) {
-                        bombManager.placeBomb(player2, 2);
-                        lastAutoBombTimePlayer2 = now;
+                    // === RENDU CANVAS : une seule passe de dessin par pulse ===
+                    if (canvasRenderer != null && steps > 0) {
+                        long renderStart = System.nanoTime();
+                        canvasRenderer.render();
+                        profiler.lap(FrameProfiler.Phase.RENDER, renderStart);
                     }
 
-                    // === PHASE 5 : MISE À JOUR DE L'AFFICHAGE DES SCORES ===
+                    // === AFFICHAGE DES SCORES ===
                     if (now - lastScoreUpdate >= SCORE_UPDATE_INTERVAL) {
+                        long scoreStart = System.nanoTime();
                         updateScoreDisplay();
+                        profiler.lap(FrameProfiler.Phase.SCORE_DISPLAY, scoreStart);
                         lastScoreUpdate = now;
                     }
 
-                    // === PHASE 6 : VÉRIFICATIONS FINALES ===
-                    // Mettre à jour toutes les entités
-                    gameLogic.updateEntities(visualRenderer);
-
-                    // Vérifier les conditions de victoire/défaite
-                    gameStateManager.checkGameConditions();
-
+                    // === PROFILEUR : frame complète, overlay rafraîchi 4 fois par seconde ===
+                    profiler.lap(FrameProfiler.Phase.FRAME, frameStart);
+                    if (frameEvent != null && frameEvent.shouldCommit()) {
+                        frameEvent.tick = simulation.getTick();
+                        frameEvent.steps = steps;
+                        frameEvent.rendered = canvasRenderer != null && steps > 0;
+                        frameEvent.commit();
+                    }
+                    if (now - lastOverlayUpdate >= OVERLAY_UPDATE_INTERVAL) {
+                        refreshProfilerOverlay();
+                        lastOverlayUpdate = now;
+                    }
                 } catch (Exception e) {
                     System.err.println("Erreur dans la boucle de jeu: " + e.getMessage());
                     e.printStackTrace();
@@ -612,6 +976,10 @@ public class GameViewController extends OptionsController {
             gameLoop.stop();
             System.out.println("Boucle de jeu arrêtée");
         }
+        stopReplayRecording();
+        if (lockstepLink != null) {
+            lockstepLink.close();
+        }
     }
 
     /**
@@ -619,6 +987,9 @@ public class GameViewController extends OptionsController {
      */
     public void pauseGame() {
         gamePaused = true;
+        if (bombManager != null) {
+            bombManager.pauseTimers();
+        }
         if (inputHandler != null) {
             inputHandler.clearPressedKeys();
         }
@@ -633,6 +1004,9 @@ public class GameViewController extends OptionsController {
      */
     public void resumeGame() {
         gamePaused = false;
+        if (bombManager != null) {
+            bombManager.resumeTimers();
+        }
         if (pauseButton != null) {
             pauseButton.setText("⏸️ Pause");
         }
@@ -689,9 +1063,9 @@ public class GameViewController extends OptionsController {
 
     /**
      * Retourne la carte de jeu courante.
-     * @return Grille de tuiles (Tile[][])
+     * @return Carte compacte (TileGrid)
      */
-    public Tile[][] getMap() { return map; }
+    public TileGrid getMap() { return map; }
 
     /**
      * Affiche des statistiques de debug sur la console.
@@ -705,32 +1079,22 @@ public class GameViewController extends OptionsController {
         if (!isOnePlayer && player2 != null) {
             System.out.println("Joueur 2 - Position: (" + player2.getX() + ", " + player2.getY() + ")");
         }
-        if (enemy != null) {
-            System.out.println("Ennemi - Position: (" + enemy.getX() + ", " + enemy.getY() + ")");
-        }
-
-        // Stats des bombes par joueur
-        System.out.println("Bombes J1: " + bombManager.getCurrentBombCountPlayer1() + "/" + player1.getMaxBombs());
-        if (!isOnePlayer && player2 != null) {
-            System.out.println("Bombes J2: " + bombManager.getCurrentBombCountPlayer2() + "/" + player2.getMaxBombs());
-        }
-
-        // Stats des malus actifs
-        if (player1.hasActiveMalus()) {
-            System.out.println("Joueur 1 - Malus actif: " + player1.getCurrentMalus() +
-                    " (reste " + (player1.getMalusTimeRemaining()/1000) + "s)");
-        }
-        if (!isOnePlayer && player2 != null && player2.hasActiveMalus()) {
-            System.out.println("Joueur 2 - Malus actif: " + player2.getCurrentMalus() +
-                    " (reste " + (player2.getMalusTimeRemaining()/1000) + "s)");
+        if (!enemies.isEmpty()) {
+            System.out.println("Ennemis vivants: " + enemies.getAliveCount() + "/" + enemies.size());
         }
 
-        // 🆕 AFFICHAGE DES POWER-UPS AVEC TOUCHES
-        System.out.println("Power-ups Joueur 1:");
-        System.out.println(getPlayerPowerupsText(player1, 1).replace("\n", ", "));
-        if (!isOnePlayer && player2 != null) {
-            System.out.println("Power-ups Joueur 2:");
-            System.out.println(getPlayerPowerupsText(player2, 2).replace("\n", ", "));
+        // Stats des bombes, malus et power-ups (avec touches) de chaque joueur
+        PlayerSlots slots = simulation.getPlayerSlots();
+        for (int i = 0; i < slots.activeCount(); i++) {
+            int number = slots.active(i).getNumber();
+            Player player = slots.active(i).getPlayer();
+            System.out.println("Bombes J" + number + ": " + bombManager.getCurrentBombCount(number) + "/" + player.getMaxBombs());
+            if (player.hasActiveMalus()) {
+                System.out.println("Joueur " + number + " - Malus actif: " + player.getCurrentMalus() +
+                        " (reste " + (player.getMalusTimeRemaining()/1000) + "s)");
+            }
+            System.out.println("Power-ups Joueur " + number + ":");
+            System.out.println(getPlayerPowerupsText(player, number).replace("\n", ", "));
         }
 
         System.out.println("==============================");
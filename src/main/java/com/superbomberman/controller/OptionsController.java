@@ -14,7 +14,7 @@
  * </ul>
  *
  * @author Hugo Brest Lestrade
- * @version 1.4
+ * @version 1.7 - Enregistrement des replays désactivé par défaut
  */
 package com.superbomberman.controller;
 
@@ -86,6 +86,25 @@ public class OptionsController {
     public static String getSelectedMap() { return selectedMap; }
     public static void setSelectedMap(String map) { selectedMap = map; }
 
+    /** Rendu par grille de nœuds JavaFX (historique). */
+    public static final String RENDERER_GRID = "grille";
+    /** Rendu sur un Canvas unique à partir d'un atlas de textures. */
+    public static final String RENDERER_CANVAS = "canvas";
+    /** Moteur de rendu choisi au démarrage (propriété système {@code superbomberman.renderer}). */
+    private static String rendererType = System.getProperty("superbomberman.renderer", RENDERER_GRID);
+    public static String getRendererType() { return rendererType; }
+    public static void setRendererType(String type) { rendererType = type; }
+    public static boolean isCanvasRenderer() { return RENDERER_CANVAS.equalsIgnoreCase(rendererType); }
+
+    /**
+     * Enregistrement des replays de chaque partie, désactivé par défaut : chaque partie ajoute
+     * un fichier à {@code data/replays/}, jamais purgé (propriété système
+     * {@code superbomberman.replays=true} pour l'activer).
+     */
+    private static boolean replayRecording = Boolean.parseBoolean(System.getProperty("superbomberman.replays", "false"));
+    public static boolean isReplayRecording() { return replayRecording; }
+    public static void setReplayRecording(boolean enabled) { replayRecording = enabled; }
+
     /** ComboBox pour choisir le thème d'images. */
     @FXML
     private ComboBox<String> imageTheme;
@@ -1,18 +1,19 @@
 package com.superbomberman.game;
 
+import com.superbomberman.jfr.BombPlacedEvent;
+import com.superbomberman.jfr.ExplosionEvent;
+import com.superbomberman.jfr.GameEvents;
+import com.superbomberman.logging.GameLog;
 import com.superbomberman.model.*;
 import com.superbomberman.model.powerup.MalusType;
 import com.superbomberman.model.powerup.PowerUp;
-import javafx.animation.PauseTransition;
-import javafx.util.Duration;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
-import static com.superbomberman.model.MapLoader.player1;
-import static com.superbomberman.model.MapLoader.player2;
-import static com.superbomberman.model.MapLoader.enemy;
-import static com.superbomberman.controller.MenuController.isOnePlayer;
 
 /**
  * Gestionnaire des bombes du jeu Super Bomberman.
@@ -21,23 +22,191 @@ import static com.superbomberman.controller.MenuController.isOnePlayer;
  * pour les joueurs et l'ennemi. Elle intègre aussi l'interaction avec les autres managers du jeu (rendu visuel, power-ups,
  * gestion d'état, score, et logique de jeu).
  * </p>
+ * <p>
+ * Toutes les échéances (mèche, vol, glissement, apparition des power-ups) sont
+ * comptées en ticks par un {@link TimerWheel} avancé par {@link #updateBombs()}.
+ * Le rendu est notifié via un {@link GameListener}, sans dépendance à JavaFX.
+ * </p>
+ * <p>
+ * Un index d'occupation par case ({@link #getBombAt(int, int)}) est tenu à jour à
+ * chaque pose, déplacement, explosion et ramassage : les tests de collision sont
+ * une simple lecture de tableau, quel que soit le nombre de bombes.
+ * </p>
+ * <p>
+ * Les réactions en chaîne sont résolues dans le même tick : les bombes atteintes
+ * par un rayon sont mises en file et explosent en largeur d'abord, chaque bombe et
+ * chaque case n'étant traitée qu'une fois. L'ensemble des cases soufflées est
+ * ensuite transmis en un seul bloc au rendu ({@link GameListener#onBlast}) et au
+ * calcul des combos ({@link ScoreSystem#processExplosionCombo(Player)}).
+ * </p>
+ * <p>
+ * Une {@link DangerMap} (tick d'explosion prévu de chaque case) est tenue à jour
+ * à chaque pose, kick, lancer, ramassage et explosion, pour l'IA des ennemis.
+ * </p>
+ * <p>
+ * Joueurs et ennemis sont ceux de la {@link MatchSession} reçue à la construction.
+ * </p>
+ * <p>
+ * L'état complet des bombes (listes, index, compteurs, minuteries, champs de chaque
+ * bombe) se sauvegarde et se restaure sans allocation via {@link State}, pour le
+ * retour en arrière d'une partie en ligne.
+ * </p>
+ * <p>
+ * Les bombes explosées sont réutilisées par les poses suivantes, avec leurs actions
+ * de minuterie créées une seule fois : en régime établi, poses, vols, glissements et
+ * explosions n'allouent rien.
+ * </p>
+ * <p>
+ * Pendant un enregistrement JFR, poses et explosions émettent un {@link BombPlacedEvent}
+ * et un {@link ExplosionEvent} (voir {@link GameEvents}).
+ * </p>
  *
  * @author Jules Fuselier
- * @version 1.1 - Fix affichage et explosion
+ * @version 2.5 - setManagers prend un GameListener (plus de type JavaFX dans la simulation)
  * @since 2025-06-08
  */
 public class BombManager {
-    /** Carte du jeu sous forme de matrice de tuiles. */
-    private Tile[][] map;
+
+    /**
+     * Instantané des bombes. Les bombes elles-mêmes sont gardées par référence ; l'état
+     * de chaque bombe posée ou tenue est recopié dans une bombe « ombre » réutilisée.
+     */
+    public static final class State {
+        private Bomb[] active = new Bomb[16];
+        private int activeCount = -1;
+        private Bomb[] flying = new Bomb[4];
+        private int flyingCount;
+        private Bomb[] kicking = new Bomb[4];
+        private int kickingCount;
+        /** Bombes suivies (posées et tenues) et leurs copies, au même indice. */
+        private Bomb[] tracked = new Bomb[16];
+        private Bomb[] shadows = new Bomb[16];
+        private int trackedCount;
+        private Bomb[] bombGrid;
+        private int[] bombCountGrid;
+        private Bomb[] pool = new Bomb[16];
+        private int poolCount;
+        private final int[] bombCounts = new int[MapLoader.MAX_PLAYERS];
+        private final TimerWheel.State timers = new TimerWheel.State();
+
+        private void track(Bomb bomb) {
+            if (trackedCount == tracked.length) {
+                tracked = Arrays.copyOf(tracked, trackedCount * 2);
+                shadows = Arrays.copyOf(shadows, trackedCount * 2);
+            }
+            if (shadows[trackedCount] == null) {
+                shadows[trackedCount] = new Bomb(0, 0, 0, 0);
+            }
+            tracked[trackedCount] = bomb;
+            shadows[trackedCount].copyStateFrom(bomb);
+            trackedCount++;
+        }
+
+        private static Bomb[] copy(List<Bomb> bombs, Bomb[] target, int previousCount) {
+            if (target.length < bombs.size()) {
+                target = new Bomb[Math.max(bombs.size(), target.length * 2)];
+            }
+            for (int i = 0; i < bombs.size(); i++) {
+                target[i] = bombs.get(i);
+            }
+            if (previousCount > bombs.size()) {
+                Arrays.fill(target, bombs.size(), previousCount, null);
+            }
+            return target;
+        }
+
+        private static void restore(List<Bomb> bombs, Bomb[] source, int count) {
+            bombs.clear();
+            for (int i = 0; i < count; i++) {
+                bombs.add(source[i]);
+            }
+        }
+    }
+
+    /**
+     * Bombe créée par ce gestionnaire : ses actions de minuterie (mèche, pas de vol et
+     * de glissement) sont créées une seule fois et la suivent d'une pose à l'autre.
+     */
+    private final class ManagedBomb extends Bomb {
+        private final Runnable explode = () -> explodeBomb(this);
+        private final Runnable detonate = this::detonate;
+        private final Runnable flyStep = () -> stepFlyingBomb(this);
+        private final Runnable kickStep = () -> stepKickedBomb(this);
+
+        private ManagedBomb(int x, int y, int damage, int range) {
+            super(x, y, damage, range);
+        }
+    }
+
+    /** Session de la partie (joueurs, ennemis, carte). */
+    private final MatchSession session;
+    /** Carte du jeu (tableau d'octets à plat). */
+    private final TileGrid grid;
+    /** Ennemis de la partie. */
+    private final EnemyRegistry enemies;
     /** Liste des bombes actives posées sur la carte. */
     private List<Bomb> activeBombs = new ArrayList<>();
     /** Liste des bombes en vol (lancées). */
     private List<Bomb> flyingBombs = new ArrayList<>();
     /** Liste des bombes qui roulent (kick). */
     private List<Bomb> kickingBombs = new ArrayList<>();
+    /** Vue en lecture seule des bombes actives (sans copie). */
+    private final List<Bomb> activeBombsView = Collections.unmodifiableList(activeBombs);
+
+    /** Index d'occupation : une bombe présente par case (index y * largeur + x). */
+    private final Bomb[] bombGrid;
+    /** Nombre de bombes par case (plusieurs bombes peuvent se croiser en vol). */
+    private final int[] bombCountGrid;
+    /** Largeur de la carte, pour le calcul des index. */
+    private final int width;
+
+    /** Durée de la mèche : 1,5 s à 60 ticks/s. */
+    public static final int FUSE_TICKS = 90;
+    /** Intervalle entre deux cases d'une bombe lancée : 200 ms. */
+    public static final int FLY_STEP_TICKS = 12;
+    /** Intervalle entre deux cases d'une bombe qui glisse : 300 ms. */
+    public static final int KICK_STEP_TICKS = 18;
+    /** Délai d'apparition d'un power-up après destruction d'un mur : 0,6 s. */
+    public static final int POWER_UP_SPAWN_DELAY_TICKS = 36;
+
+    /** Directions de propagation des rayons (droite, gauche, bas, haut). */
+    private static final int[] RAY_DX = {1, -1, 0, 0};
+    private static final int[] RAY_DY = {0, 0, 1, -1};
+
+    // Tampons de résolution des réactions en chaîne, réutilisés d'une explosion à l'autre
+    /** Numéro de la dernière résolution ayant soufflé chaque case (déduplication sans effacement). */
+    private final int[] blastStamp;
+    /** Numéro de la dernière résolution ayant détruit un mur sur chaque case. */
+    private final int[] wallStamp;
+    /** Cases soufflées par la résolution en cours (index y * largeur + x). */
+    private final int[] blastCells;
+    /** Propriétaire de la première bombe ayant atteint chaque case soufflée. */
+    private final Player[] blastOwners;
+    /** Nombre de cases soufflées par la résolution en cours. */
+    private int blastCount;
+    /** Numéro de la résolution en cours. */
+    private int blastEpoch;
+    /** File des bombes en attente d'explosion (parcours en largeur). */
+    private final ArrayDeque<Bomb> chainQueue = new ArrayDeque<>();
+    /** Propriétaires des bombes de la résolution en cours (un combo chacun). */
+    private final List<Player> chainOwners = new ArrayList<>();
+    /** Bombes déclenchant la prochaine résolution (mèche consumée ou Remote). */
+    private final List<Bomb> chainSeeds = new ArrayList<>();
+    /** Apparition différée d'un power-up sur chaque case, créée une fois pour toutes. */
+    private final Runnable[] powerUpSpawns;
+    /** Bombes explosées, prêtes à être reposées. */
+    private Bomb[] bombPool = new Bomb[16];
+    private int bombPoolSize;
+
+    /** Roue de minuteries unique pour toutes les échéances des bombes. */
+    private final TimerWheel timerWheel = new TimerWheel();
+    /** Carte des dangers déduite des bombes actives. */
+    private final DangerMap dangerMap;
+
+    /** Observateur des changements (rendu), jamais null. */
+    private GameListener listener = GameListener.NONE;
 
     // Références vers les autres managers pour l'intégration
-    private VisualRenderer visualRenderer;
     private PowerUpManager powerUpManager;
     private GameStateManager gameStateManager;
     private ScoreSystem scoreSystem;
@@ -45,27 +214,57 @@ public class BombManager {
     /** Référence vers la logique principale du jeu (pour notifier morts et explosions). */
     private GameLogic gameLogic;
 
-    /** Nombre de bombes actuellement posées par le joueur 1. */
-    private int currentBombCountPlayer1 = 0;
-    /** Nombre de bombes actuellement posées par le joueur 2. */
-    private int currentBombCountPlayer2 = 0;
+    /** Nombre de bombes actuellement posées par chaque joueur (indice = numéro - 1). */
+    private final int[] bombCounts = new int[MapLoader.MAX_PLAYERS];
 
     /**
-     * Constructeur du BombManager.
+     * Constructeur du BombManager pour une session de partie.
+     * @param session Session de la partie (carte, joueurs, ennemis)
+     */
+    public BombManager(MatchSession session) {
+        this.session = session;
+        this.grid = session.getMap();
+        this.enemies = session.getEnemies();
+        this.width = grid.getWidth();
+        this.bombGrid = new Bomb[grid.size()];
+        this.bombCountGrid = new int[grid.size()];
+        this.blastStamp = new int[grid.size()];
+        this.wallStamp = new int[grid.size()];
+        this.blastCells = new int[grid.size()];
+        this.blastOwners = new Player[grid.size()];
+        this.powerUpSpawns = new Runnable[grid.size()];
+        for (int i = 0; i < powerUpSpawns.length; i++) {
+            int x = i % width;
+            int y = i / width;
+            powerUpSpawns[i] = () -> spawnPowerUpAt(x, y);
+        }
+        this.dangerMap = new DangerMap(this);
+    }
+
+    /**
+     * Constructeur du BombManager seul, sur les entités chargées par {@link MapLoader}.
+     * @param grid La carte du jeu
+     */
+    public BombManager(TileGrid grid) {
+        this(MatchSession.detached(grid));
+    }
+
+    /**
+     * Constructeur à partir d'une matrice de tuiles (copiée dans une {@link TileGrid}).
      * @param map La carte du jeu
      */
     public BombManager(Tile[][] map) {
-        this.map = map;
+        this(TileGrid.fromTiles(map));
     }
 
     /**
      * Configure les références vers les autres managers.
-     * @param visualRenderer Gestionnaire de rendu visuel.
+     * @param listener Observateur des changements (rendu), null pour aucun.
      * @param powerUpManager Gestionnaire de power-ups.
      * @param gameStateManager Gestionnaire d'état de partie.
      */
-    public void setManagers(VisualRenderer visualRenderer, PowerUpManager powerUpManager, GameStateManager gameStateManager) {
-        this.visualRenderer = visualRenderer;
+    public void setManagers(GameListener listener, PowerUpManager powerUpManager, GameStateManager gameStateManager) {
+        setListener(listener);
         this.powerUpManager = powerUpManager;
         this.gameStateManager = gameStateManager;
         if (gameStateManager != null) {
@@ -73,6 +272,14 @@ public class BombManager {
         }
     }
 
+    /**
+     * Définit l'observateur notifié des changements de bombes et de tuiles.
+     * @param listener observateur (null pour n'en utiliser aucun)
+     */
+    public void setListener(GameListener listener) {
+        this.listener = listener != null ? listener : GameListener.NONE;
+    }
+
     /**
      * Configure la référence vers la logique de jeu.
      * @param gameLogic Logique principale du jeu
@@ -89,78 +296,140 @@ public class BombManager {
     public void placeBomb(Player player, int playerNumber) {
         // Vérifier le malus NO_BOMB
         if (player.hasMalus(MalusType.NO_BOMB)) {
-            System.out.println("Joueur " + playerNumber + ": Impossible de poser une bombe à cause du malus!");
+            GameLog.info("Joueur {}: Impossible de poser une bombe à cause du malus!", playerNumber);
             return;
         }
 
         // Vérifier qu'on n'est pas dans un mur destructible
-        if (map[player.getY()][player.getX()].getType() == TileType.WALL_BREAKABLE) {
-            System.out.println("Joueur " + playerNumber + ": Impossible de poser une bombe à l'intérieur d'un mur destructible!");
+        if (grid.is(player.getX(), player.getY(), TileType.WALL_BREAKABLE)) {
+            GameLog.info("Joueur {}: Impossible de poser une bombe à l'intérieur d'un mur destructible!", playerNumber);
+            return;
+        }
+
+        // Une seule bombe par case
+        if (hasBombAt(player.getX(), player.getY())) {
+            GameLog.info("Joueur {}: Une bombe occupe déjà cette case !", playerNumber);
             return;
         }
 
-        int currentBombCount = (playerNumber == 1) ? currentBombCountPlayer1 : currentBombCountPlayer2;
+        int currentBombCount = bombCounts[slotIndex(playerNumber)];
 
         if (currentBombCount < player.getMaxBombs()) {
-            System.out.println("Joueur " + playerNumber + ": Pose d'une bombe (" + (currentBombCount + 1) + "/" + player.getMaxBombs() + ")");
+            GameLog.info("Joueur {}: Pose d'une bombe ({}/{})", playerNumber, (currentBombCount + 1), player.getMaxBombs());
 
-            Bomb bomb = new Bomb(player.getX(), player.getY(), 10, player.getExplosionRange());
+            Bomb bomb = obtainBomb(player.getX(), player.getY(), player.getExplosionRange());
             bomb.setOwner(player);
+            bomb.setPlayerNumber(playerNumber);
 
-            if (visualRenderer != null) {
-                visualRenderer.placeBombVisual(bomb);
-            }
+            listener.onBombPlaced(bomb);
 
             activeBombs.add(bomb);
+            occupy(bomb);
 
-            // Incrémenter le bon compteur
-            if (playerNumber == 1) {
-                currentBombCountPlayer1++;
-            } else {
-                currentBombCountPlayer2++;
-            }
+            bombCounts[slotIndex(playerNumber)]++;
 
             // Gérer Remote Power
             if (player.hasRemoteDetonation()) {
-                System.out.println("Joueur " + playerNumber + ": Remote Power activé ! Bombe en attente de détonation manuelle.");
+                GameLog.info("Joueur {}: Remote Power activé ! Bombe en attente de détonation manuelle.", playerNumber);
             } else {
-                bomb.startCountdown(() -> {
-                    explodeBomb(bomb, playerNumber);
-                });
+                startFuse(bomb, playerNumber);
+            }
+            dangerMap.onBombPlaced(bomb);
+            if (GameEvents.isRecording()) {
+                emitBombPlaced(bomb, playerNumber, player.hasRemoteDetonation());
             }
         } else {
-            System.out.println("Joueur " + playerNumber + ": Limite de bombes atteinte (" + player.getMaxBombs() + ")");
+            GameLog.info("Joueur {}: Limite de bombes atteinte ({})", playerNumber, player.getMaxBombs());
         }
     }
 
     /**
-     * Gère l'explosion complète d'une bombe.
-     * @param bomb La bombe à faire exploser
+     * Émet l'événement JFR de pose d'une bombe.
+     * @param bomb La bombe posée
+     * @param playerNumber Le numéro du joueur
+     * @param remote true si la bombe attend une détonation manuelle
+     */
+    private static void emitBombPlaced(Bomb bomb, int playerNumber, boolean remote) {
+        BombPlacedEvent event = new BombPlacedEvent();
+        if (event.shouldCommit()) {
+            event.playerNumber = playerNumber;
+            event.x = bomb.getX();
+            event.y = bomb.getY();
+            event.range = bomb.getRange();
+            event.remote = remote;
+            event.commit();
+        }
+    }
+
+    /**
+     * Arme la mèche d'une bombe : l'explosion aura lieu dans {@link #FUSE_TICKS} ticks.
+     * @param bomb La bombe à armer
      * @param playerNumber Le numéro du joueur propriétaire
      */
-    private void explodeBomb(Bomb bomb, int playerNumber) {
-        // Supprimer la bombe visuellement
-        if (visualRenderer != null) {
-            visualRenderer.removeBombVisual(bomb);
+    private void startFuse(Bomb bomb, int playerNumber) {
+        bomb.setPlayerNumber(playerNumber);
+        if (bomb instanceof ManagedBomb managed) {
+            bomb.startCountdown(managed.explode);
+            bomb.setFuseTimerId(timerWheel.schedule(FUSE_TICKS, managed.detonate));
+        } else {
+            bomb.startCountdown(() -> explodeBomb(bomb));
+            bomb.setFuseTimerId(timerWheel.schedule(FUSE_TICKS, bomb::detonate));
         }
+        bomb.setDetonationTick(timerWheel.getCurrentTick() + FUSE_TICKS);
+    }
 
-        // Gérer l'explosion avec le GameLogic si disponible
-        handleExplosion(bomb);
+    /**
+     * Désarme la mèche d'une bombe et annule son échéance.
+     * @param bomb La bombe à désarmer
+     */
+    private void stopFuse(Bomb bomb) {
+        bomb.stopCountdown();
+        timerWheel.cancel(bomb.getFuseTimerId());
+        bomb.setFuseTimerId(-1);
+        bomb.setDetonationTick(-1);
+    }
 
-        // Nettoyer les listes
-        activeBombs.remove(bomb);
-        flyingBombs.remove(bomb);
-        kickingBombs.remove(bomb);
+    /**
+     * Gère l'explosion complète d'une bombe, réactions en chaîne comprises.
+     * @param bomb La bombe à faire exploser
+     */
+    private void explodeBomb(Bomb bomb) {
+        if (!isActive(bomb)) {
+            return; // Déjà explosée ou ramassée
+        }
+        chainSeeds.add(bomb);
+        resolveChain();
+    }
 
-        // Décrémenter le bon compteur
-        if (playerNumber == 1) {
-            currentBombCountPlayer1--;
-        } else {
-            currentBombCountPlayer2--;
+    /**
+     * Fournit une bombe neuve, réutilisée si possible parmi les bombes explosées.
+     * @param x Abscisse de la pose
+     * @param y Ordonnée de la pose
+     * @param range Portée d'explosion
+     * @return bombe prête à être posée
+     */
+    private Bomb obtainBomb(int x, int y, int range) {
+        if (bombPoolSize == 0) {
+            return new ManagedBomb(x, y, 10, range);
         }
+        Bomb bomb = bombPool[--bombPoolSize];
+        bombPool[bombPoolSize] = null;
+        bomb.reset(x, y, 10, range);
+        return bomb;
+    }
 
-        System.out.println("Joueur " + playerNumber + ": Bombe explosée. Bombes restantes : " +
-                ((playerNumber == 1) ? currentBombCountPlayer1 : currentBombCountPlayer2) + "/" + bomb.getOwner().getMaxBombs());
+    /**
+     * Met de côté une bombe explosée pour une prochaine pose.
+     * @param bomb La bombe retirée de la carte
+     */
+    private void recycle(Bomb bomb) {
+        if (!(bomb instanceof ManagedBomb)) {
+            return;
+        }
+        if (bombPoolSize == bombPool.length) {
+            bombPool = Arrays.copyOf(bombPool, bombPoolSize * 2);
+        }
+        bombPool[bombPoolSize++] = bomb;
     }
 
     /**
@@ -170,7 +439,7 @@ public class BombManager {
      */
     public void handleBombPickupOrThrow(Player player, int playerNumber) {
         if (!player.canThrowBombs()) {
-            System.out.println("Joueur " + playerNumber + ": Pas le pouvoir Glove !");
+            GameLog.info("Joueur {}: Pas le pouvoir Glove !", playerNumber);
             return;
         }
 
@@ -189,38 +458,30 @@ public class BombManager {
     private void tryPickupBomb(Player player, int playerNumber) {
         Bomb bombToPickup = null;
 
-        // Chercher une bombe à ramasser
-        for (Bomb bomb : activeBombs) {
-            if (bomb.getX() == player.getX() && bomb.getY() == player.getY() &&
-                    bomb.getOwner() == player && !bomb.isFlying() && !bomb.isMoving()) {
-                bombToPickup = bomb;
-                break;
-            }
+        // Chercher une bombe à ramasser sous le joueur
+        Bomb bomb = getBombAt(player.getX(), player.getY());
+        if (bomb != null && bomb.getOwner() == player && !bomb.isFlying() && !bomb.isMoving()) {
+            bombToPickup = bomb;
         }
 
         if (bombToPickup != null) {
-            bombToPickup.stopCountdown();
+            stopFuse(bombToPickup);
 
             if (player.pickUpBomb(bombToPickup)) {
                 // Supprimer visuellement
-                if (visualRenderer != null) {
-                    visualRenderer.removeBombVisual(bombToPickup);
-                }
+                listener.onBombRemoved(bombToPickup);
 
+                vacate(bombToPickup);
                 activeBombs.remove(bombToPickup);
                 kickingBombs.remove(bombToPickup);
+                dangerMap.invalidate();
 
-                // Décrémenter le bon compteur
-                if (playerNumber == 1) {
-                    currentBombCountPlayer1--;
-                } else {
-                    currentBombCountPlayer2--;
-                }
+                bombCounts[slotIndex(playerNumber)]--;
 
-                System.out.println("Joueur " + playerNumber + ": Bombe ramassée !");
+                GameLog.info("Joueur {}: Bombe ramassée !", playerNumber);
             }
         } else {
-            System.out.println("Joueur " + playerNumber + ": Aucune bombe à ramasser !");
+            GameLog.info("Joueur {}: Aucune bombe à ramasser !", playerNumber);
         }
     }
 
@@ -230,38 +491,32 @@ public class BombManager {
      * @param playerNumber Le numéro du joueur
      */
     private void throwHeldBomb(Player player, int playerNumber) {
-        // Direction par défaut - à améliorer avec GameLogic
-        int[] direction = {0, 1}; // Direction par défaut vers le bas
+        // Direction par défaut vers le bas - à améliorer avec GameLogic
+        int directionX = 0;
+        int directionY = 1;
 
-        Bomb thrownBomb = player.throwHeldBomb(direction[0], direction[1]);
+        Bomb thrownBomb = player.throwHeldBomb(directionX, directionY);
 
         if (thrownBomb != null) {
             thrownBomb.setPosition(player.getX(), player.getY());
 
             // Afficher visuellement
-            if (visualRenderer != null) {
-                visualRenderer.placeBombVisual(thrownBomb);
-            }
+            listener.onBombPlaced(thrownBomb);
 
             activeBombs.add(thrownBomb);
+            occupy(thrownBomb);
             flyingBombs.add(thrownBomb);
 
-            // Incrémenter le bon compteur
-            if (playerNumber == 1) {
-                currentBombCountPlayer1++;
-            } else {
-                currentBombCountPlayer2++;
-            }
+            bombCounts[slotIndex(playerNumber)]++;
 
-            thrownBomb.throwBomb(direction[0], direction[1], () -> {
-                // Logique gérée dans handleFlyingBombs()
-            });
+            Runnable step = thrownBomb instanceof ManagedBomb managed ? managed.flyStep : () -> stepFlyingBomb(thrownBomb);
+            thrownBomb.throwBomb(directionX, directionY, step);
+            thrownBomb.setStepTimerId(timerWheel.schedule(FLY_STEP_TICKS, step));
 
-            thrownBomb.startCountdown(() -> {
-                explodeBomb(thrownBomb, playerNumber);
-            });
+            startFuse(thrownBomb, playerNumber);
+            dangerMap.invalidate();
 
-            System.out.println("Joueur " + playerNumber + ": Bombe lancée !");
+            GameLog.info("Joueur {}: Bombe lancée !", playerNumber);
         }
     }
 
@@ -272,20 +527,20 @@ public class BombManager {
      */
     public void placeLineBombs(Player player, int playerNumber) {
         if (!player.hasLineBombs()) {
-            System.out.println("Joueur " + playerNumber + ": Pas le pouvoir LineBomb !");
+            GameLog.info("Joueur {}: Pas le pouvoir LineBomb !", playerNumber);
             return;
         }
 
         if (player.hasMalus(MalusType.NO_BOMB)) {
-            System.out.println("Joueur " + playerNumber + ": Impossible de poser des bombes à cause du malus !");
+            GameLog.info("Joueur {}: Impossible de poser des bombes à cause du malus !", playerNumber);
             return;
         }
 
-        int currentBombCount = (playerNumber == 1) ? currentBombCountPlayer1 : currentBombCountPlayer2;
+        int currentBombCount = bombCounts[slotIndex(playerNumber)];
         int bombsToPlace = player.getMaxBombs() - currentBombCount;
 
         if (bombsToPlace <= 0) {
-            System.out.println("Joueur " + playerNumber + ": Limite de bombes atteinte !");
+            GameLog.info("Joueur {}: Limite de bombes atteinte !", playerNumber);
             return;
         }
 
@@ -293,7 +548,7 @@ public class BombManager {
         int dirX = 0;
         int dirY = 1; // Vers le bas par défaut
 
-        System.out.println("Joueur " + playerNumber + ": LineBomb activé ! Pose de " + bombsToPlace + " bombes...");
+        GameLog.info("Joueur {}: LineBomb activé ! Pose de {} bombes...", playerNumber, bombsToPlace);
 
         int bombsPlaced = 0;
         for (int i = 1; i <= bombsToPlace; i++) {
@@ -304,34 +559,31 @@ public class BombManager {
                 break;
             }
 
-            Bomb bomb = new Bomb(bombX, bombY, 10, player.getExplosionRange());
+            Bomb bomb = obtainBomb(bombX, bombY, player.getExplosionRange());
             bomb.setOwner(player);
+            bomb.setPlayerNumber(playerNumber);
 
             // Afficher visuellement
-            if (visualRenderer != null) {
-                visualRenderer.placeBombVisual(bomb);
-            }
+            listener.onBombPlaced(bomb);
 
             activeBombs.add(bomb);
+            occupy(bomb);
 
-            // Incrémenter le bon compteur
-            if (playerNumber == 1) {
-                currentBombCountPlayer1++;
-            } else {
-                currentBombCountPlayer2++;
-            }
+            bombCounts[slotIndex(playerNumber)]++;
             bombsPlaced++;
 
             if (player.hasRemoteDetonation()) {
-                System.out.println("Joueur " + playerNumber + ": Bombe LineBomb en attente de détonation manuelle.");
+                GameLog.info("Joueur {}: Bombe LineBomb en attente de détonation manuelle.", playerNumber);
             } else {
-                bomb.startCountdown(() -> {
-                    explodeBomb(bomb, playerNumber);
-                });
+                startFuse(bomb, playerNumber);
+            }
+            dangerMap.onBombPlaced(bomb);
+            if (GameEvents.isRecording()) {
+                emitBombPlaced(bomb, playerNumber, player.hasRemoteDetonation());
             }
         }
 
-        System.out.println("Joueur " + playerNumber + ": LineBomb terminé ! " + bombsPlaced + " bombes posées.");
+        GameLog.info("Joueur {}: LineBomb terminé ! {} bombes posées.", playerNumber, bombsPlaced);
     }
 
     /**
@@ -341,75 +593,150 @@ public class BombManager {
      */
     public void detonateRemoteBombs(Player player, int playerNumber) {
         if (!player.hasRemoteDetonation()) {
-            System.out.println("Joueur " + playerNumber + ": Pas le pouvoir Remote !");
+            GameLog.info("Joueur {}: Pas le pouvoir Remote !", playerNumber);
             return;
         }
 
-        List<Bomb> bombsToDetonate = new ArrayList<>();
-        for (Bomb bomb : activeBombs) {
+        for (int i = 0; i < activeBombs.size(); i++) {
+            Bomb bomb = activeBombs.get(i);
             if (bomb.getOwner() == player && !bomb.isFlying() && !bomb.isMoving()) {
-                bombsToDetonate.add(bomb);
+                chainSeeds.add(bomb);
             }
         }
 
-        if (bombsToDetonate.isEmpty()) {
-            System.out.println("Joueur " + playerNumber + ": Aucune bombe à faire exploser !");
+        if (chainSeeds.isEmpty()) {
+            GameLog.info("Joueur {}: Aucune bombe à faire exploser !", playerNumber);
             return;
         }
 
-        System.out.println("Joueur " + playerNumber + ": Remote Power activé ! Explosion de " + bombsToDetonate.size() + " bombe(s) !");
+        GameLog.info("Joueur {}: Remote Power activé ! Explosion de {} bombe(s) !", playerNumber, chainSeeds.size());
 
-        for (Bomb bomb : bombsToDetonate) {
-            explodeBomb(bomb, playerNumber);
-        }
+        resolveChain();
     }
 
 
     /**
-     * Gère l'explosion d'une bombe (centre + propagation dans les 4 directions).
-     * @param bomb La bombe à faire exploser
+     * Résout une explosion et toutes les réactions en chaîne qu'elle provoque.
+     * <p>
+     * Les bombes atteintes par un rayon sont mises en file (parcours en largeur) et
+     * marquées comme explosées dès leur découverte, ce qui sert d'ensemble des bombes
+     * visitées. Chaque case n'est soufflée qu'une fois par résolution ; les effets sur
+     * les entités, le rendu et les combos sont appliqués une seule fois à la fin.
+     * </p>
+     * <p>
+     * Les bombes déclenchant l'explosion sont lues puis retirées de {@link #chainSeeds}.
+     * </p>
+     */
+    private void resolveChain() {
+        ExplosionEvent event = null;
+        if (GameEvents.isRecording()) {
+            event = new ExplosionEvent();
+            event.begin();
+        }
+        if (++blastEpoch == 0) {
+            // Débordement du compteur : repartir de tampons vierges
+            Arrays.fill(blastStamp, 0);
+            Arrays.fill(wallStamp, 0);
+            blastEpoch = 1;
+        }
+        blastCount = 0;
+        chainOwners.clear();
+
+        for (int i = 0; i < chainSeeds.size(); i++) {
+            Bomb seed = chainSeeds.get(i);
+            if (isActive(seed)) {
+                enqueueExplosion(seed);
+            }
+        }
+        int seeds = chainSeeds.size();
+        chainSeeds.clear();
+
+        int detonated = 0;
+        while (!chainQueue.isEmpty()) {
+            Bomb bomb = chainQueue.poll();
+            propagateBlast(bomb);
+            removeExplodedBomb(bomb);
+            detonated++;
+        }
+
+        applyBlast();
+
+        GameLog.info("💥 Explosion : {} bombe(s), {} case(s) soufflée(s)", detonated, blastCount);
+        if (event != null && event.shouldCommit()) {
+            event.seeds = seeds;
+            event.chainLength = detonated;
+            event.cellsTouched = blastCount;
+            event.commit();
+        }
+    }
+
+    /**
+     * Met une bombe en file d'explosion et la marque comme visitée.
+     * @param bomb La bombe atteinte
      */
+    private void enqueueExplosion(Bomb bomb) {
+        stopFuse(bomb);
+        bomb.setExploded(true);
+        chainQueue.add(bomb);
+        Player owner = bomb.getOwner();
+        if (owner != null && !chainOwners.contains(owner)) {
+            chainOwners.add(owner);
+        }
+    }
 
-    private void handleExplosion(Bomb bomb) {
+    /**
+     * Propage les rayons d'une bombe (centre + 4 directions).
+     * @param bomb La bombe qui explose
+     */
+    private void propagateBlast(Bomb bomb) {
         int x = bomb.getX();
         int y = bomb.getY();
         int range = bomb.getRange();
         Player owner = bomb.getOwner();
 
-        // Afficher l'explosion au centre (se supprime auto en 0.5s)
-        if (visualRenderer != null) {
-            visualRenderer.showExplosion(x, y);
+        if (isInBounds(x, y)) {
+            markBlast(x, y, owner);
         }
 
-        // Gérer l'explosion au centre via gameLogic
-        if (gameLogic != null) {
-            gameLogic.handleExplosionAt(x, y); // Centre
-        }
-
-        // Explosion dans les 4 directions
-        int[][] directions = {{1,0}, {-1,0}, {0,1}, {0,-1}};
-        for (int[] direction : directions) {
+        for (int d = 0; d < RAY_DX.length; d++) {
             for (int rangeStep = 1; rangeStep <= range; rangeStep++) {
-                int nx = x + direction[0] * rangeStep;
-                int ny = y + direction[1] * rangeStep;
+                int nx = x + RAY_DX[d] * rangeStep;
+                int ny = y + RAY_DY[d] * rangeStep;
                 if (!isInBounds(nx, ny)) break;
-                boolean continueExplosion = destroyTile(nx, ny, owner);
-                if (gameLogic != null) {
-                    gameLogic.handleExplosionAt(nx, ny);
-                }
-                if (!continueExplosion) break;
+                if (!destroyTile(nx, ny, owner)) break;
             }
         }
+    }
 
-        // Tuer l'ennemi si touché par l'explosion au centre
-        if (enemy != null && enemy.isAlive() && enemy.getX() == x && enemy.getY() == y) {
-            enemy.kill();
-            if (scoreSystem != null && owner != null) {
-                scoreSystem.addEnemyKilled(owner);
-                scoreSystem.processExplosionCombo(owner);
+    /**
+     * Ajoute une case à l'ensemble soufflé (une seule fois par résolution) et met
+     * en file les bombes qui s'y trouvent.
+     * @param x Abscisse de la case
+     * @param y Ordonnée de la case
+     * @param owner Propriétaire de la bombe dont le rayon atteint la case
+     */
+    private void markBlast(int x, int y, Player owner) {
+        int index = y * width + x;
+        if (blastStamp[index] == blastEpoch) {
+            return; // Case déjà soufflée : ses bombes sont déjà en file
+        }
+        blastStamp[index] = blastEpoch;
+        blastCells[blastCount] = index;
+        blastOwners[blastCount] = owner;
+        blastCount++;
+
+        int count = bombCountGrid[index];
+        if (count == 1) {
+            Bomb other = bombGrid[index];
+            if (!other.hasExploded() && !other.isFlying()) {
+                enqueueExplosion(other);
             }
-            if (gameLogic != null) {
-                gameLogic.checkAndEndGame();
+        } else if (count > 1) {
+            for (int i = 0; i < activeBombs.size(); i++) {
+                Bomb other = activeBombs.get(i);
+                if (other.getX() == x && other.getY() == y && !other.hasExploded() && !other.isFlying()) {
+                    enqueueExplosion(other);
+                }
             }
         }
     }
@@ -422,118 +749,165 @@ public class BombManager {
      * @return true si l'explosion doit continuer, false sinon
      */
     private boolean destroyTile(int x, int y, Player owner) {
-        Tile tile = map[y][x];
+        TileType type = grid.get(x, y);
 
-        if (tile.getType() == TileType.WALL) {
+        if (type == TileType.WALL) {
             return false; // Arrêter l'explosion
         }
+        if (wallStamp[y * width + x] == blastEpoch) {
+            return false; // Mur détruit par cette même réaction : il arrête aussi les autres rayons
+        }
 
-        if (visualRenderer != null) {
-            visualRenderer.showExplosion(x, y);
-
-            if (tile.getType() == TileType.WALL_BREAKABLE) {
-                map[y][x] = new Tile(TileType.FLOOR);
-
-                if (scoreSystem != null && owner != null) {
-                    scoreSystem.addWallDestroyed(owner);
-                }
+        markBlast(x, y, owner);
 
-                PauseTransition delay = new PauseTransition(Duration.seconds(0.6));
-                delay.setOnFinished(event -> {
-                    if (powerUpManager != null) {
-                        PowerUp powerUp = powerUpManager.generateRandomPowerUp(x, y);
-                        if (powerUp != null) {
-                            visualRenderer.placePowerUpVisual(powerUp);
-                        }
-                    }
-                    visualRenderer.redrawTile(x, y, powerUpManager != null ? powerUpManager.getActivePowerUps() : new ArrayList<>());
-                });
-                delay.play();
-                return false; // Arrêter l'explosion
-            }
-        }
+        if (type == TileType.WALL_BREAKABLE) {
+            grid.set(x, y, TileType.FLOOR);
+            wallStamp[y * width + x] = blastEpoch;
 
-        // Gérer la mort de l'ennemi si touché par l'explosion
-        if (enemy != null && enemy.isAlive() && enemy.getX() == x && enemy.getY() == y) {
-            enemy.kill();
             if (scoreSystem != null && owner != null) {
-                scoreSystem.addEnemyKilled(owner);
-                scoreSystem.processExplosionCombo(owner);
-            }
-            if (gameLogic != null) {
-                gameLogic.checkAndEndGame();
+                scoreSystem.addWallDestroyed(owner);
             }
+
+            timerWheel.schedule(POWER_UP_SPAWN_DELAY_TICKS, powerUpSpawns[y * width + x]);
+            return false; // Arrêter l'explosion
         }
 
         return true; // Continuer l'explosion
     }
 
     /**
-     * Met à jour les bombes volantes et qui roulent.
+     * Retire une bombe explosée de la carte et libère l'emplacement de son propriétaire.
+     * @param bomb La bombe explosée
      */
-    public void updateBombs() {
-        handleFlyingBombs();
-        handleKickingBombs();
+    private void removeExplodedBomb(Bomb bomb) {
+        listener.onBombRemoved(bomb);
+
+        vacate(bomb);
+        activeBombs.remove(bomb);
+        flyingBombs.remove(bomb);
+        kickingBombs.remove(bomb);
+        dangerMap.invalidate();
+
+        bombCounts[slotIndex(bomb.getPlayerNumber())]--;
+
+        // Pas de vol ou de glissement encore programmé : il ne doit pas toucher la bombe réutilisée
+        timerWheel.cancel(bomb.getStepTimerId());
+        bomb.setStepTimerId(-1);
+        recycle(bomb);
     }
 
     /**
-     * Gère les bombes volantes (Glove Power).
+     * Applique l'ensemble des cases soufflées : rendu, entités touchées puis combos.
      */
-    private void handleFlyingBombs() {
-        List<Bomb> bombsToStop = new ArrayList<>();
-
-        for (Bomb bomb : flyingBombs) {
-            if (!bomb.isFlying()) continue;
-
-            int[] nextPos = bomb.getNextPosition();
-            int newX = nextPos[0];
-            int newY = nextPos[1];
+    private void applyBlast() {
+        listener.onBlast(blastCells, blastCount, width);
 
-            // Vérifier collision
-            if (newX < 0 || newX >= map[0].length || newY < 0 || newY >= map.length ||
-                    map[newY][newX].getType() == TileType.WALL ||
-                    map[newY][newX].getType() == TileType.WALL_BREAKABLE) {
+        for (int i = 0; i < blastCount; i++) {
+            int x = blastCells[i] % width;
+            int y = blastCells[i] / width;
 
-                bomb.stopFlying();
-                bombsToStop.add(bomb);
-            } else {
-                bomb.moveToNextPosition();
-                // Mettre à jour la position visuelle
-                if (visualRenderer != null) {
-                    visualRenderer.updateBombVisual(bomb);
+            Player owner = blastOwners[i];
+            Enemy victim = enemies.firstAt(x, y);
+            while (victim != null) {
+                Enemy next = enemies.nextAt(victim);
+                if (scoreSystem != null && owner != null) {
+                    scoreSystem.addEnemyKilled(owner);
+                }
+                if (gameLogic == null) {
+                    enemies.kill(victim);
                 }
+                victim = next;
+            }
+            if (gameLogic != null) {
+                gameLogic.handleExplosionAt(x, y);
             }
         }
+        Arrays.fill(blastOwners, 0, blastCount, null);
 
-        flyingBombs.removeAll(bombsToStop);
+        if (scoreSystem != null) {
+            for (int i = 0; i < chainOwners.size(); i++) {
+                scoreSystem.processExplosionCombo(chainOwners.get(i));
+            }
+        }
     }
 
     /**
-     * Gère les bombes qui roulent (Kick Power).
+     * Fait apparaître (éventuellement) un power-up sur un mur détruit.
+     * @param x Abscisse de la tuile
+     * @param y Ordonnée de la tuile
      */
-    private void handleKickingBombs() {
-        List<Bomb> bombsToStop = new ArrayList<>();
+    private void spawnPowerUpAt(int x, int y) {
+        PowerUp powerUp = powerUpManager != null ? powerUpManager.generateRandomPowerUp(x, y) : null;
+        listener.onTileChanged(x, y);
+        if (powerUp != null) {
+            listener.onPowerUpSpawned(powerUp);
+        }
+    }
 
-        for (Bomb bomb : kickingBombs) {
-            if (!bomb.isMoving()) continue;
+    /**
+     * Avance les bombes d'un tick : mèches, vols et glissements arrivés à échéance.
+     */
+    public void updateBombs() {
+        timerWheel.advance();
+    }
 
-            int[] nextPos = bomb.getNextKickPosition();
-            int newX = nextPos[0];
-            int newY = nextPos[1];
+    /**
+     * Fait avancer d'une case une bombe volante (Glove Power) puis reprogramme le pas suivant.
+     * @param bomb La bombe en vol
+     */
+    private void stepFlyingBomb(Bomb bomb) {
+        bomb.setStepTimerId(-1);
+        if (!bomb.isFlying() || !isActive(bomb)) {
+            flyingBombs.remove(bomb);
+            return;
+        }
 
-            if (!canBombMoveTo(newX, newY)) {
-                bomb.stopMoving();
-                bombsToStop.add(bomb);
-            } else {
-                bomb.moveToNextKickPosition();
-                // Mettre à jour la position visuelle
-                if (visualRenderer != null) {
-                    visualRenderer.updateBombVisual(bomb);
-                }
-            }
+        int newX = bomb.getX() + bomb.getFlyDirectionX();
+        int newY = bomb.getY() + bomb.getFlyDirectionY();
+
+        // Vérifier collision
+        if (!isInBounds(newX, newY) ||
+                grid.is(newX, newY, TileType.WALL) ||
+                grid.is(newX, newY, TileType.WALL_BREAKABLE)) {
+            bomb.stopFlying();
+            flyingBombs.remove(bomb);
+        } else {
+            vacate(bomb);
+            bomb.moveToNextPosition();
+            occupy(bomb);
+            dangerMap.invalidate();
+            // Mettre à jour la position visuelle
+            listener.onBombMoved(bomb);
+            bomb.setStepTimerId(timerWheel.schedule(FLY_STEP_TICKS, bomb.getMoveCallback()));
+        }
+    }
+
+    /**
+     * Fait glisser d'une case une bombe (Kick Power) puis reprogramme le pas suivant.
+     * @param bomb La bombe qui glisse
+     */
+    private void stepKickedBomb(Bomb bomb) {
+        bomb.setStepTimerId(-1);
+        if (!bomb.isMoving() || !isActive(bomb)) {
+            kickingBombs.remove(bomb);
+            return;
         }
 
-        kickingBombs.removeAll(bombsToStop);
+        int newX = bomb.getX() + bomb.getKickDirectionX();
+        int newY = bomb.getY() + bomb.getKickDirectionY();
+
+        if (!canBombMoveTo(newX, newY)) {
+            bomb.stopMoving();
+            kickingBombs.remove(bomb);
+        } else {
+            vacate(bomb);
+            bomb.moveToNextKickPosition();
+            occupy(bomb);
+            dangerMap.invalidate();
+            // Mettre à jour la position visuelle
+            listener.onBombMoved(bomb);
+            bomb.setStepTimerId(timerWheel.schedule(KICK_STEP_TICKS, bomb.getMoveCallback()));
+        }
     }
 
     /**
@@ -543,27 +917,22 @@ public class BombManager {
      * @return true si le déplacement est possible, false sinon
      */
     private boolean canBombMoveTo(int x, int y) {
-        if (x < 0 || y < 0 || y >= map.length || x >= map[0].length) {
+        if (!isInBounds(x, y)) {
             return false;
         }
 
-        Tile tile = map[y][x];
-        if (tile.getType() == TileType.WALL || tile.getType() == TileType.WALL_BREAKABLE) {
+        TileType type = grid.get(x, y);
+        if (type == TileType.WALL || type == TileType.WALL_BREAKABLE) {
             return false;
         }
 
         // Vérifier les autres bombes immobiles
-        for (Bomb otherBomb : activeBombs) {
-            if (otherBomb.getX() == x && otherBomb.getY() == y &&
-                    !otherBomb.isFlying() && !otherBomb.isMoving()) {
-                return false;
-            }
+        if (hasStaticBombAt(x, y)) {
+            return false;
         }
 
-        // Vérifier les joueurs et l'ennemi
-        if ((player1.getX() == x && player1.getY() == y) ||
-                (!isOnePlayer && player2 != null && player2.getX() == x && player2.getY() == y) ||
-                (enemy != null && enemy.getX() == x && enemy.getY() == y)) {
+        // Vérifier les joueurs et les ennemis
+        if (hasPlayerAt(x, y) || enemies.hasEnemyAt(x, y)) {
             return false;
         }
 
@@ -577,32 +946,155 @@ public class BombManager {
      * @return true si possible, false sinon
      */
     private boolean canPlaceBombAt(int x, int y) {
-        if (x < 0 || y < 0 || y >= map.length || x >= map[0].length) {
+        if (!isInBounds(x, y)) {
             return false;
         }
 
-        Tile tile = map[y][x];
-        if (tile.getType() == TileType.WALL || tile.getType() == TileType.WALL_BREAKABLE) {
+        TileType type = grid.get(x, y);
+        if (type == TileType.WALL || type == TileType.WALL_BREAKABLE) {
             return false;
         }
 
         // Vérifier s'il y a déjà une bombe
-        for (Bomb existingBomb : activeBombs) {
-            if (existingBomb.getX() == x && existingBomb.getY() == y) {
-                return false;
-            }
+        if (bombCountGrid[y * width + x] > 0) {
+            return false;
         }
 
         // Vérifier s'il y a des entités
-        if ((player1.getX() == x && player1.getY() == y) ||
-                (!isOnePlayer && player2 != null && player2.getX() == x && player2.getY() == y) ||
-                (enemy != null && enemy.getX() == x && enemy.getY() == y)) {
+        if (hasPlayerAt(x, y) || enemies.hasEnemyAt(x, y)) {
             return false;
         }
 
         return true;
     }
 
+    /**
+     * Vérifie si un joueur de la partie occupe une case.
+     * @param x Abscisse
+     * @param y Ordonnée
+     * @return true si un joueur de la session est sur la case
+     */
+    private boolean hasPlayerAt(int x, int y) {
+        PlayerSlots players = session.getPlayers();
+        for (int i = 0; i < players.activeCount(); i++) {
+            Player player = players.active(i).getPlayer();
+            if (player.getX() == x && player.getY() == y) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // --- Index d'occupation ---
+
+    /**
+     * Enregistre une bombe sur sa case courante.
+     * @param bomb La bombe posée ou arrivée sur la case
+     */
+    private void occupy(Bomb bomb) {
+        if (!isInBounds(bomb.getX(), bomb.getY())) {
+            return;
+        }
+        int index = bomb.getY() * width + bomb.getX();
+        bombGrid[index] = bomb;
+        bombCountGrid[index]++;
+    }
+
+    /**
+     * Retire une bombe de sa case courante.
+     * @param bomb La bombe qui quitte la case
+     */
+    private void vacate(Bomb bomb) {
+        if (!isInBounds(bomb.getX(), bomb.getY())) {
+            return;
+        }
+        int index = bomb.getY() * width + bomb.getX();
+        if (bombCountGrid[index] == 0) {
+            return;
+        }
+        bombCountGrid[index]--;
+        if (bombCountGrid[index] == 0) {
+            bombGrid[index] = null;
+        } else if (bombGrid[index] == bomb) {
+            // Cas rare : deux bombes se croisent, retrouver celle qui reste
+            bombGrid[index] = findOtherBombAt(bomb.getX(), bomb.getY(), bomb);
+        }
+    }
+
+    /**
+     * Recherche linéaire d'une bombe sur une case, hors bombe exclue (cases partagées uniquement).
+     */
+    private Bomb findOtherBombAt(int x, int y, Bomb excluded) {
+        for (int i = 0; i < activeBombs.size(); i++) {
+            Bomb other = activeBombs.get(i);
+            if (other != excluded && other.getX() == x && other.getY() == y) {
+                return other;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Vérifie qu'une bombe est toujours sur la carte (ni explosée, ni ramassée).
+     * @param bomb La bombe à vérifier
+     * @return true si la bombe est active
+     */
+    private boolean isActive(Bomb bomb) {
+        if (!isInBounds(bomb.getX(), bomb.getY())) {
+            return activeBombs.contains(bomb);
+        }
+        int index = bomb.getY() * width + bomb.getX();
+        if (bombGrid[index] == bomb) {
+            return true;
+        }
+        return bombCountGrid[index] > 1 && activeBombs.contains(bomb);
+    }
+
+    /**
+     * Vérifie la présence d'une bombe immobile (ni en vol, ni en glissement) sur une case.
+     */
+    private boolean hasStaticBombAt(int x, int y) {
+        int index = y * width + x;
+        int count = bombCountGrid[index];
+        if (count == 0) {
+            return false;
+        }
+        if (count == 1) {
+            Bomb bomb = bombGrid[index];
+            return !bomb.isFlying() && !bomb.isMoving();
+        }
+        for (int i = 0; i < activeBombs.size(); i++) {
+            Bomb other = activeBombs.get(i);
+            if (other.getX() == x && other.getY() == y && !other.isFlying() && !other.isMoving()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retourne la bombe présente sur une case, en temps constant.
+     * @param x Abscisse
+     * @param y Ordonnée
+     * @return la bombe présente, ou null si la case est libre ou hors carte
+     */
+    public Bomb getBombAt(int x, int y) {
+        if (!isInBounds(x, y)) {
+            return null;
+        }
+        return bombGrid[y * width + x];
+    }
+
+    /**
+     * Indique si une case contient au moins une bombe, en temps constant.
+     * @param x Abscisse
+     * @param y Ordonnée
+     * @return true si une bombe occupe la case
+     */
+    public boolean hasBombAt(int x, int y) {
+        return isInBounds(x, y) && bombCountGrid[y * width + x] > 0;
+    }
+
     /**
      * Vérifie si les coordonnées sont dans les limites de la carte.
      * @param x Abscisse
@@ -610,7 +1102,7 @@ public class BombManager {
      * @return true si dans les limites, false sinon
      */
     private boolean isInBounds(int x, int y) {
-        return x >= 0 && y >= 0 && y < map.length && x < map[0].length;
+        return grid.isInBounds(x, y);
     }
 
     /**
@@ -633,9 +1125,11 @@ public class BombManager {
         }
 
         kickingBombs.add(bomb);
-        bomb.kickBomb(directionX, directionY, () -> {
-            // Logique gérée dans handleKickingBombs()
-        });
+        bomb.kickBomb(directionX, directionY,
+                bomb instanceof ManagedBomb managed ? managed.kickStep : () -> stepKickedBomb(bomb));
+
+        // Premier pas immédiat pour libérer la case devant le joueur
+        stepKickedBomb(bomb);
 
         return true;
     }
@@ -647,6 +1141,14 @@ public class BombManager {
         return new ArrayList<>(activeBombs);
     }
 
+    /**
+     * Vue en lecture seule des bombes actives, sans copie (pour le rendu et les parcours fréquents).
+     * @return vue non modifiable de la liste des bombes actives
+     */
+    public List<Bomb> getActiveBombsView() {
+        return activeBombsView;
+    }
+
     /** @return Liste des bombes volantes */
     public List<Bomb> getFlyingBombs() {
         return new ArrayList<>(flyingBombs);
@@ -657,25 +1159,165 @@ public class BombManager {
         return new ArrayList<>(kickingBombs);
     }
 
+    /** @return Session de la partie */
+    public MatchSession getSession() {
+        return session;
+    }
+
+    /** @return Carte du jeu */
+    public TileGrid getGrid() {
+        return grid;
+    }
+
     /** @return Nombre de bombes du joueur 1 */
     public int getCurrentBombCountPlayer1() {
-        return currentBombCountPlayer1;
+        return bombCounts[0];
     }
 
     /** @return Nombre de bombes du joueur 2 */
     public int getCurrentBombCountPlayer2() {
-        return currentBombCountPlayer2;
+        return bombCounts[1];
+    }
+
+    /**
+     * @param playerNumber numéro du joueur (1 à 8)
+     * @return nombre de bombes actuellement posées par ce joueur
+     */
+    public int getCurrentBombCount(int playerNumber) {
+        return bombCounts[slotIndex(playerNumber)];
+    }
+
+    /**
+     * Indice du compteur d'un joueur.
+     * @param playerNumber numéro du joueur (1 à 8)
+     * @return indice dans {@link #bombCounts}
+     */
+    private static int slotIndex(int playerNumber) {
+        if (playerNumber < 1 || playerNumber > MapLoader.MAX_PLAYERS) {
+            throw new IllegalArgumentException("Numéro de joueur invalide : " + playerNumber);
+        }
+        return playerNumber - 1;
+    }
+
+    /**
+     * Suspend toutes les minuteries (mèches, vols, glissements) en une seule opération.
+     */
+    public void pauseTimers() {
+        timerWheel.setPaused(true);
+    }
+
+    /**
+     * Reprend toutes les minuteries là où elles s'étaient arrêtées.
+     */
+    public void resumeTimers() {
+        timerWheel.setPaused(false);
+    }
+
+    /** @return Carte des dangers (ticks avant explosion de chaque case) */
+    public DangerMap getDangerMap() {
+        return dangerMap;
+    }
+
+    /** @return Roue de minuteries (partagée avec la logique de jeu) */
+    public TimerWheel getTimerWheel() {
+        return timerWheel;
+    }
+
+    /**
+     * Sauvegarde l'état de toutes les bombes (à appeler entre deux ticks).
+     * @param state instantané à remplir
+     */
+    public void save(State state) {
+        state.active = State.copy(activeBombs, state.active, state.activeCount);
+        state.activeCount = activeBombs.size();
+        state.flying = State.copy(flyingBombs, state.flying, state.flyingCount);
+        state.flyingCount = flyingBombs.size();
+        state.kicking = State.copy(kickingBombs, state.kicking, state.kickingCount);
+        state.kickingCount = kickingBombs.size();
+
+        int previousTracked = state.trackedCount;
+        state.trackedCount = 0;
+        for (int i = 0; i < activeBombs.size(); i++) {
+            state.track(activeBombs.get(i));
+        }
+        PlayerSlots slots = session.getPlayers();
+        for (int i = 0; i < slots.activeCount(); i++) {
+            Player player = slots.active(i).getPlayer();
+            if (player.isHoldingBomb() && player.getHeldBomb() != null) {
+                state.track(player.getHeldBomb());
+            }
+        }
+        if (previousTracked > state.trackedCount) {
+            Arrays.fill(state.tracked, state.trackedCount, previousTracked, null);
+        }
+
+        if (state.bombGrid == null) {
+            state.bombGrid = new Bomb[bombGrid.length];
+            state.bombCountGrid = new int[bombCountGrid.length];
+        }
+        System.arraycopy(bombGrid, 0, state.bombGrid, 0, bombGrid.length);
+        System.arraycopy(bombCountGrid, 0, state.bombCountGrid, 0, bombCountGrid.length);
+        System.arraycopy(bombCounts, 0, state.bombCounts, 0, bombCounts.length);
+        if (state.pool.length < bombPoolSize) {
+            state.pool = new Bomb[bombPool.length];
+        }
+        System.arraycopy(bombPool, 0, state.pool, 0, bombPoolSize);
+        if (state.poolCount > bombPoolSize) {
+            Arrays.fill(state.pool, bombPoolSize, state.poolCount, null);
+        }
+        state.poolCount = bombPoolSize;
+        timerWheel.save(state.timers);
+    }
+
+    /**
+     * Remet les bombes dans l'état d'une sauvegarde : les bombes posées depuis disparaissent,
+     * celles qui ont explosé, glissé ou été ramassées depuis reviennent telles qu'elles étaient.
+     * Le rendu n'est pas notifié : seul le {@link CanvasRenderer}, qui relit l'état à chaque
+     * image, reste juste après une restauration.
+     * @param state instantané rempli par {@link #save(State)} sur ce gestionnaire
+     * @throws IllegalArgumentException si l'instantané est vide
+     */
+    public void restore(State state) {
+        if (state.activeCount < 0) {
+            throw new IllegalArgumentException("Instantané de bombes vide");
+        }
+        for (int i = 0; i < state.trackedCount; i++) {
+            state.tracked[i].copyStateFrom(state.shadows[i]);
+        }
+        State.restore(activeBombs, state.active, state.activeCount);
+        State.restore(flyingBombs, state.flying, state.flyingCount);
+        State.restore(kickingBombs, state.kicking, state.kickingCount);
+        System.arraycopy(state.bombGrid, 0, bombGrid, 0, bombGrid.length);
+        System.arraycopy(state.bombCountGrid, 0, bombCountGrid, 0, bombCountGrid.length);
+        System.arraycopy(state.bombCounts, 0, bombCounts, 0, bombCounts.length);
+        // Les bombes réutilisées depuis la sauvegarde retournent en réserve
+        if (bombPool.length < state.poolCount) {
+            bombPool = new Bomb[state.pool.length];
+        }
+        System.arraycopy(state.pool, 0, bombPool, 0, state.poolCount);
+        if (bombPoolSize > state.poolCount) {
+            Arrays.fill(bombPool, state.poolCount, bombPoolSize, null);
+        }
+        bombPoolSize = state.poolCount;
+        timerWheel.restore(state.timers);
+        dangerMap.invalidate();
     }
 
     /**
      * Nettoie toutes les bombes (utile pour reset).
      */
     public void clearAllBombs() {
+        for (Bomb bomb : activeBombs) {
+            bomb.stopCountdown();
+        }
+        timerWheel.clear();
+        Arrays.fill(bombGrid, null);
+        Arrays.fill(bombCountGrid, 0);
         activeBombs.clear();
         flyingBombs.clear();
         kickingBombs.clear();
-        currentBombCountPlayer1 = 0;
-        currentBombCountPlayer2 = 0;
-        System.out.println("Toutes les bombes ont été supprimées");
+        dangerMap.invalidate();
+        Arrays.fill(bombCounts, 0);
+        GameLog.info("Toutes les bombes ont été supprimées");
     }
 }
\ No newline at end of file
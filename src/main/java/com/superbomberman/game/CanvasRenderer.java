@@ -0,0 +1,257 @@
+package com.superbomberman.game;
+
+import com.superbomberman.controller.OptionsController;
+import com.superbomberman.logging.GameLog;
+import com.superbomberman.model.*;
+import com.superbomberman.model.powerup.PowerUp;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.GridPane;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Rendu du plateau sur un unique {@link Canvas}, alternative au {@link VisualRenderer}.
+ * <p>
+ * Au lieu d'un {@code StackPane} et de plusieurs {@code Rectangle} par case, tout le
+ * plateau est redessiné à chaque pulse par des appels {@link GraphicsContext#drawImage}
+ * puisant dans une seule texture (atlas) construite au chargement du thème. Le graphe
+ * de scène ne contient qu'un nœud : aucune passe de layout ni de CSS n'est déclenchée
+ * par les déplacements ou les explosions.
+ * </p>
+ *
+ * <ul>
+ *     <li>L'état est relu directement dans la {@link GameSimulation} (carte, bombes, power-ups, entités)</li>
+ *     <li>Seules les explosions, éphémères, sont mémorisées via {@link #onExplosion(int, int)}</li>
+ *     <li>Sélection au démarrage via {@link OptionsController#getRendererType()}</li>
+ * </ul>
+ *
+ * @author Jules Fuselier
+ * @version 1.5 - Un sprite par joueur (joueurs 3 à 8 teintés, en fin d'atlas)
+ * @since 2026-10-17
+ */
+public class CanvasRenderer implements GameListener {
+
+    /** Taille d'une case en pixels (identique au rendu par grille). */
+    public static final int CELL_SIZE = 50;
+    /** Durée d'affichage d'une explosion : 0,5 s. */
+    private static final int EXPLOSION_TICKS = GameSimulation.TICKS_PER_SECOND / 2;
+
+    // Index des sprites dans l'atlas
+    private static final int FLOOR = 0;
+    private static final int WALL = 1;
+    private static final int WALL_BREAKABLE = 2;
+    private static final int PLAYER1 = 3;
+    private static final int PLAYER2 = 4;
+    private static final int ENEMY = 5;
+    private static final int BOMB = 6;
+    private static final int EXPLOSION = 7;
+    private static final int POWER_UP = 8;
+    private static final int RANGE_UP = 9;
+    private static final int BOMB_PASS = 10;
+    private static final int SKULL = 11;
+    /** Sprite du joueur 3, suivi de ceux des joueurs 4 à 8 (après les fichiers du thème). */
+    private static final int PLAYER3 = 12;
+
+    /** Fichiers des sprites, dans l'ordre des index ci-dessus. */
+    private static final String[] SPRITE_FILES = {
+            "grass.png", "wall.png", "wall_breakable.png", "player.png", "player2.png", "enemy.png",
+            "bomb.png", "explosion.png", "powerup.png", "Range.png", "BombPass.png", "Skull.png"
+    };
+
+    private final Canvas canvas;
+    private final GraphicsContext gc;
+    private final GameSimulation simulation;
+    private final TileGrid map;
+    private final int rows;
+    private final int cols;
+
+    /** Tick jusqu'auquel chaque case affiche une explosion (index y * cols + x). */
+    private final long[] explosionUntil;
+    private WritableImage atlas;
+
+    /**
+     * Crée le rendu et charge l'atlas du thème courant.
+     *
+     * @param simulation simulation dont l'état est dessiné
+     */
+    public CanvasRenderer(GameSimulation simulation) {
+        this.simulation = simulation;
+        this.map = simulation.getMap();
+        this.rows = map.getHeight();
+        this.cols = map.getWidth();
+        this.canvas = new Canvas(cols * CELL_SIZE, rows * CELL_SIZE);
+        this.gc = canvas.getGraphicsContext2D();
+        this.explosionUntil = new long[rows * cols];
+        gc.setImageSmoothing(false);
+        loadAtlas();
+        OptionsController.addThemeChangeListener(newTheme -> loadAtlas());
+    }
+
+    /**
+     * Remplace le contenu de la grille de jeu par le canvas.
+     *
+     * @param gameGrid conteneur de la vue de jeu
+     */
+    public void attachTo(GridPane gameGrid) {
+        gameGrid.getChildren().clear();
+        gameGrid.getColumnConstraints().clear();
+        gameGrid.getRowConstraints().clear();
+        gameGrid.add(canvas, 0, 0);
+        gameGrid.setMinSize(canvas.getWidth(), canvas.getHeight());
+        gameGrid.setPrefSize(canvas.getWidth(), canvas.getHeight());
+        gameGrid.setMaxSize(canvas.getWidth(), canvas.getHeight());
+    }
+
+    /**
+     * Construit l'atlas : tous les sprites du thème côte à côte dans une seule image.
+     * Les sprites absents du thème sont cherchés dans {@code /images/}. Les sprites teintés
+     * des joueurs 3 à 8 sont ajoutés à la suite.
+     */
+    private void loadAtlas() {
+        String basePath = "/images/" + OptionsController.getImageTheme() + "/";
+        WritableImage image = new WritableImage((PLAYER3 + PlayerSlots.MAX_PLAYERS - 2) * CELL_SIZE, CELL_SIZE);
+        PixelWriter writer = image.getPixelWriter();
+
+        Image[] sprites = new Image[SPRITE_FILES.length];
+        for (int i = 0; i < SPRITE_FILES.length; i++) {
+            Image sprite = loadSprite(basePath + SPRITE_FILES[i]);
+            if (sprite == null) {
+                sprite = loadSprite("/images/" + SPRITE_FILES[i]);
+            }
+            if (sprite == null || sprite.isError()) {
+                GameLog.error("❌ Sprite introuvable pour l'atlas: {}", SPRITE_FILES[i]);
+                continue;
+            }
+            sprites[i] = sprite;
+            writer.setPixels(i * CELL_SIZE, 0, CELL_SIZE, CELL_SIZE, sprite.getPixelReader(), 0, 0);
+        }
+        if (sprites[PLAYER1] != null) {
+            for (int number = 3; number <= PlayerSlots.MAX_PLAYERS; number++) {
+                Image sprite = PlayerSprites.forPlayer(number, sprites[PLAYER1], sprites[PLAYER2]);
+                writer.setPixels(playerSprite(number) * CELL_SIZE, 0, CELL_SIZE, CELL_SIZE, sprite.getPixelReader(), 0, 0);
+            }
+        }
+        atlas = image;
+        GameLog.info("✅ Atlas de {} sprites chargé (thème {})", SPRITE_FILES.length, OptionsController.getImageTheme());
+    }
+
+    private Image loadSprite(String path) {
+        try (InputStream in = getClass().getResourceAsStream(path)) {
+            return in == null ? null : new Image(in, CELL_SIZE, CELL_SIZE, false, true);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Redessine tout le plateau. Appelé une fois par pulse par la boucle de jeu.
+     */
+    public void render() {
+        long tick = simulation.getTick();
+
+        // 1. Décor
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < cols; x++) {
+                int sprite = switch (map.get(x, y)) {
+                    case WALL -> WALL;
+                    case WALL_BREAKABLE -> WALL_BREAKABLE;
+                    default -> FLOOR;
+                };
+                draw(sprite, x, y);
+            }
+        }
+
+        // 2. Power-ups
+        for (PowerUp powerUp : simulation.getPowerUpManager().getActivePowerUpsView()) {
+            draw(powerUpSprite(powerUp), powerUp.getX(), powerUp.getY());
+        }
+
+        // 3. Bombes
+        for (Bomb bomb : simulation.getBombManager().getActiveBombsView()) {
+            draw(BOMB, bomb.getX(), bomb.getY());
+        }
+
+        // 4. Entités
+        PlayerSlots slots = simulation.getPlayerSlots();
+        for (int i = 0; i < slots.activeCount(); i++) {
+            PlayerSlot slot = slots.active(i);
+            Player player = slot.getPlayer();
+            if (player.isAlive()) {
+                draw(playerSprite(slot.getNumber()), player.getX(), player.getY());
+            }
+        }
+        List<Enemy> all = simulation.getSession().getEnemies().getEnemies();
+        for (int i = 0; i < all.size(); i++) {
+            Enemy enemy = all.get(i);
+            if (enemy.isAlive()) {
+                draw(ENEMY, enemy.getX(), enemy.getY());
+            }
+        }
+
+        // 5. Explosions
+        for (int i = 0; i < explosionUntil.length; i++) {
+            if (explosionUntil[i] > tick) {
+                draw(EXPLOSION, i % cols, i / cols);
+            }
+        }
+    }
+
+    private void draw(int sprite, int x, int y) {
+        gc.drawImage(atlas, sprite * CELL_SIZE, 0, CELL_SIZE, CELL_SIZE,
+                x * CELL_SIZE, y * CELL_SIZE, CELL_SIZE, CELL_SIZE);
+    }
+
+    private static int playerSprite(int number) {
+        return switch (number) {
+            case 1 -> PLAYER1;
+            case 2 -> PLAYER2;
+            default -> PLAYER3 + number - 3;
+        };
+    }
+
+    private static int powerUpSprite(PowerUp powerUp) {
+        return switch (powerUp.getType()) {
+            case SKULL -> SKULL;
+            case BOMB_PASS -> BOMB_PASS;
+            case RANGE_UP -> RANGE_UP;
+            default -> POWER_UP;
+        };
+    }
+
+    @Override
+    public void onExplosion(int x, int y) {
+        if (y >= 0 && y < rows && x >= 0 && x < cols) {
+            explosionUntil[y * cols + x] = simulation.getTick() + EXPLOSION_TICKS;
+        }
+    }
+
+    @Override
+    public void onBlast(int[] cells, int count, int width) {
+        if (width != cols) {
+            GameListener.super.onBlast(cells, count, width);
+            return;
+        }
+        long until = simulation.getTick() + EXPLOSION_TICKS;
+        for (int i = 0; i < count; i++) {
+            explosionUntil[cells[i]] = until;
+        }
+    }
+
+    /**
+     * Efface les explosions en cours (nouvelle partie).
+     */
+    public void clear() {
+        Arrays.fill(explosionUntil, 0);
+    }
+
+    /** @return le canvas de rendu */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+}
@@ -0,0 +1,315 @@
+package com.superbomberman.game;
+
+import com.superbomberman.model.Bomb;
+import com.superbomberman.model.TileGrid;
+import com.superbomberman.model.TileType;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Carte des dangers : pour chaque case, le tick auquel la première explosion l'atteindra.
+ * <p>
+ * La carte est déduite des bombes actives (position, portée, échéance de la mèche) en
+ * suivant exactement les règles de {@link BombManager} : les rayons s'arrêtent sur les
+ * murs, soufflent le premier mur cassable et font exploser par anticipation les bombes
+ * qu'ils atteignent. Une bombe Remote, qui peut partir à tout moment, est considérée
+ * comme imminente.
+ * </p>
+ * <p>
+ * Le {@link BombManager} la tient à jour : une bombe posée loin de toute autre est
+ * peinte directement (croix de la bombe seulement) ; un kick, un lancer, un ramassage
+ * ou une explosion marquent la carte à recalculer, ce qui est fait au plus une fois
+ * par tick, à la première lecture. Le recalcul est linéaire : un remplissage de la
+ * grille plus les croix des bombes, les réactions en chaîne étant ordonnées par un tas
+ * binaire (aucune allocation une fois les tableaux dimensionnés).
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class DangerMap {
+
+    /** Valeur d'une case qu'aucune bombe n'atteint. */
+    public static final int SAFE = Integer.MAX_VALUE;
+
+    private static final long NO_BLAST = Long.MAX_VALUE;
+    private static final int[] RAY_DX = {1, -1, 0, 0};
+    private static final int[] RAY_DY = {0, 0, 1, -1};
+
+    private final BombManager bombManager;
+    private final TileGrid grid;
+    private final int width;
+    /** Tick de la première explosion atteignant chaque case (NO_BLAST si aucune). */
+    private final long[] blastTick;
+    private boolean dirty = true;
+
+    // Tampons réutilisés du recalcul complet
+    private Bomb[] bombs = new Bomb[16];
+    private long[] effectiveTick = new long[16];
+    private boolean[] done = new boolean[16];
+    private int[] nextInCell = new int[16];
+    /** Première bombe de chaque case (indice + 1), valable si cellStamp == epoch. */
+    private final int[] cellHead;
+    private final int[] cellStamp;
+    private int epoch = 0;
+    private long[] heapTicks = new long[32];
+    private int[] heapBombs = new int[32];
+    private int heapSize;
+
+    private long rebuilds = 0;
+
+    /**
+     * Crée la carte des dangers d'un gestionnaire de bombes.
+     *
+     * @param bombManager gestionnaire dont les bombes actives sont suivies
+     */
+    public DangerMap(BombManager bombManager) {
+        this.bombManager = bombManager;
+        this.grid = bombManager.getGrid();
+        this.width = grid.getWidth();
+        int cells = width * grid.getHeight();
+        this.blastTick = new long[cells];
+        this.cellHead = new int[cells];
+        this.cellStamp = new int[cells];
+        Arrays.fill(blastTick, NO_BLAST);
+    }
+
+    /**
+     * Nombre de ticks avant que la case ne soit soufflée.
+     *
+     * @param x abscisse
+     * @param y ordonnée
+     * @return ticks restants (0 si imminent), ou {@link #SAFE} si aucune bombe n'atteint la case
+     */
+    public int ticksUntilBlast(int x, int y) {
+        if (!grid.isInBounds(x, y)) {
+            return SAFE;
+        }
+        refresh();
+        long tick = blastTick[y * width + x];
+        if (tick == NO_BLAST) {
+            return SAFE;
+        }
+        return (int) Math.max(0, Math.min(tick - currentTick(), SAFE - 1));
+    }
+
+    /**
+     * Indique si une case sera soufflée dans un délai donné.
+     *
+     * @param x abscisse
+     * @param y ordonnée
+     * @param withinTicks horizon en ticks
+     * @return true si une explosion atteint la case d'ici {@code withinTicks} ticks
+     */
+    public boolean isLethal(int x, int y, int withinTicks) {
+        return ticksUntilBlast(x, y) <= withinTicks;
+    }
+
+    /**
+     * Peint la croix d'une bombe fraîchement posée. Si la bombe peut déclencher ou être
+     * déclenchée par une autre, la carte est simplement marquée à recalculer.
+     *
+     * @param bomb bombe posée (déjà enregistrée par le {@link BombManager})
+     */
+    public void onBombPlaced(Bomb bomb) {
+        if (dirty) {
+            return;
+        }
+        int x = bomb.getX();
+        int y = bomb.getY();
+        if (!grid.isInBounds(x, y) || blastTick[y * width + x] != NO_BLAST) {
+            dirty = true; // Déjà dans le souffle d'une autre bombe : réaction en chaîne
+            return;
+        }
+        long tick = deadlineOf(bomb, currentTick());
+        for (int d = 0; d < RAY_DX.length; d++) {
+            for (int step = 1; step <= bomb.getRange(); step++) {
+                int nx = x + RAY_DX[d] * step;
+                int ny = y + RAY_DY[d] * step;
+                if (!grid.isInBounds(nx, ny) || grid.is(nx, ny, TileType.WALL)) break;
+                if (bombManager.hasBombAt(nx, ny)) {
+                    dirty = true; // Atteint une autre bombe : réaction en chaîne
+                    return;
+                }
+                if (grid.is(nx, ny, TileType.WALL_BREAKABLE)) break;
+            }
+        }
+        paintCross(x, y, bomb.getRange(), tick);
+    }
+
+    /**
+     * Marque la carte à recalculer (bombe déplacée, ramassée ou explosée, mur détruit).
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    /** @return nombre de recalculs complets effectués */
+    public long getRebuildCount() {
+        return rebuilds;
+    }
+
+    private long currentTick() {
+        return bombManager.getTimerWheel().getCurrentTick();
+    }
+
+    private static long deadlineOf(Bomb bomb, long now) {
+        long tick = bomb.getDetonationTick();
+        return tick < 0 ? now : tick; // Remote : peut exploser à tout moment
+    }
+
+    private void refresh() {
+        if (dirty) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Recalcule toute la carte : les bombes sont traitées par échéance croissante et
+     * chaque croix peinte avance l'échéance des bombes qu'elle atteint.
+     */
+    private void rebuild() {
+        dirty = false;
+        rebuilds++;
+        Arrays.fill(blastTick, NO_BLAST);
+        if (++epoch == 0) {
+            Arrays.fill(cellStamp, 0);
+            epoch = 1;
+        }
+
+        List<Bomb> active = bombManager.getActiveBombsView();
+        int count = active.size();
+        ensureCapacity(count);
+        long now = currentTick();
+        heapSize = 0;
+        for (int i = 0; i < count; i++) {
+            Bomb bomb = active.get(i);
+            bombs[i] = bomb;
+            effectiveTick[i] = deadlineOf(bomb, now);
+            done[i] = false;
+            nextInCell[i] = 0;
+            if (grid.isInBounds(bomb.getX(), bomb.getY())) {
+                int cell = bomb.getY() * width + bomb.getX();
+                if (cellStamp[cell] == epoch) {
+                    nextInCell[i] = cellHead[cell];
+                }
+                cellStamp[cell] = epoch;
+                cellHead[cell] = i + 1;
+            }
+            push(effectiveTick[i], i);
+        }
+
+        while (heapSize > 0) {
+            long tick = heapTicks[0];
+            int index = heapBombs[0];
+            pop();
+            if (done[index] || tick != effectiveTick[index]) {
+                continue; // Entrée périmée : la bombe a été avancée par une autre
+            }
+            done[index] = true;
+            Bomb bomb = bombs[index];
+            if (grid.isInBounds(bomb.getX(), bomb.getY())) {
+                paintCross(bomb.getX(), bomb.getY(), bomb.getRange(), tick);
+                chainFrom(bomb.getX(), bomb.getY(), bomb.getRange(), tick);
+            }
+        }
+        Arrays.fill(bombs, 0, count, null);
+    }
+
+    /**
+     * Avance l'échéance des bombes situées dans la croix d'une explosion.
+     */
+    private void chainFrom(int x, int y, int range, long tick) {
+        chainCell(y * width + x, tick);
+        for (int d = 0; d < RAY_DX.length; d++) {
+            for (int step = 1; step <= range; step++) {
+                int nx = x + RAY_DX[d] * step;
+                int ny = y + RAY_DY[d] * step;
+                if (!grid.isInBounds(nx, ny) || grid.is(nx, ny, TileType.WALL)) break;
+                chainCell(ny * width + nx, tick);
+                if (grid.is(nx, ny, TileType.WALL_BREAKABLE)) break;
+            }
+        }
+    }
+
+    private void chainCell(int cell, long tick) {
+        if (cellStamp[cell] != epoch) {
+            return;
+        }
+        for (int i = cellHead[cell] - 1; i >= 0; i = nextInCell[i] - 1) {
+            if (!done[i] && tick < effectiveTick[i]) {
+                effectiveTick[i] = tick;
+                push(tick, i);
+            }
+        }
+    }
+
+    private void paintCross(int x, int y, int range, long tick) {
+        paint(y * width + x, tick);
+        for (int d = 0; d < RAY_DX.length; d++) {
+            for (int step = 1; step <= range; step++) {
+                int nx = x + RAY_DX[d] * step;
+                int ny = y + RAY_DY[d] * step;
+                if (!grid.isInBounds(nx, ny) || grid.is(nx, ny, TileType.WALL)) break;
+                paint(ny * width + nx, tick);
+                if (grid.is(nx, ny, TileType.WALL_BREAKABLE)) break;
+            }
+        }
+    }
+
+    private void paint(int cell, long tick) {
+        if (tick < blastTick[cell]) {
+            blastTick[cell] = tick;
+        }
+    }
+
+    private void ensureCapacity(int count) {
+        if (bombs.length < count) {
+            int size = Math.max(count, bombs.length * 2);
+            bombs = new Bomb[size];
+            effectiveTick = new long[size];
+            done = new boolean[size];
+            nextInCell = new int[size];
+        }
+    }
+
+    // --- Tas binaire (échéance, indice de bombe) ---
+
+    private void push(long tick, int index) {
+        if (heapSize == heapTicks.length) {
+            heapTicks = Arrays.copyOf(heapTicks, heapSize * 2);
+            heapBombs = Arrays.copyOf(heapBombs, heapSize * 2);
+        }
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heapTicks[parent] <= tick) break;
+            heapTicks[i] = heapTicks[parent];
+            heapBombs[i] = heapBombs[parent];
+            i = parent;
+        }
+        heapTicks[i] = tick;
+        heapBombs[i] = index;
+    }
+
+    private void pop() {
+        long tick = heapTicks[--heapSize];
+        int index = heapBombs[heapSize];
+        int i = 0;
+        int half = heapSize >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < heapSize && heapTicks[child + 1] < heapTicks[child]) {
+                child++;
+            }
+            if (tick <= heapTicks[child]) break;
+            heapTicks[i] = heapTicks[child];
+            heapBombs[i] = heapBombs[child];
+            i = child;
+        }
+        heapTicks[i] = tick;
+        heapBombs[i] = index;
+    }
+}
@@ -0,0 +1,263 @@
+package com.superbomberman.game;
+
+import com.superbomberman.model.Player;
+import com.superbomberman.model.TileGrid;
+import com.superbomberman.model.TileType;
+
+import java.util.Arrays;
+
+/**
+ * Champ de flux pour l'IA des ennemis : distance de chaque case au joueur vivant le plus proche.
+ * <p>
+ * La carte des distances est calculée par un parcours en largeur multi-sources partant de
+ * tous les joueurs vivants, sur les cases praticables par un ennemi (ni mur, ni mur cassable,
+ * ni bombe). Elle est partagée par tous les ennemis : chacun se contente de lire la distance
+ * de ses quatre voisins et de descendre le gradient, quel que soit leur nombre.
+ * </p>
+ * <p>
+ * {@link #update} est appelé au plus une fois par tick. Tant que les joueurs n'ont pas bougé,
+ * la carte est conservée : une case libérée (mur détruit, bombe explosée) ne fait que
+ * raccourcir des chemins et est propagée localement à partir de cette case. Seuls un
+ * déplacement de joueur ou une nouvelle case bloquée (bombe posée ou poussée) imposent un
+ * parcours complet, en O(largeur × hauteur).
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class FlowField {
+
+    /** Distance d'une case qu'aucun joueur ne peut atteindre. */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+    /** Déplacements horizontaux des quatre directions (droite, gauche, bas, haut). */
+    public static final int[] DX = {1, -1, 0, 0};
+    /** Déplacements verticaux des quatre directions (droite, gauche, bas, haut). */
+    public static final int[] DY = {0, 0, 1, -1};
+
+    private final int width;
+    private final int height;
+    /** Distance au joueur le plus proche, indexée par y * largeur + x. */
+    private final int[] distance;
+    /** 1 si la case est infranchissable pour un ennemi lors du dernier calcul. */
+    private final byte[] blocked;
+    /** File circulaire du parcours (chaque case y figure au plus une fois). */
+    private final int[] queue;
+    private final boolean[] queued;
+    private int head;
+    private int size;
+
+    /** Cases des joueurs vivants lors du dernier calcul. */
+    private int[] sources = new int[2];
+    private int sourceCount = -1;
+    private int[] newSources = new int[2];
+
+    private long fullRebuilds = 0;
+    private long incrementalUpdates = 0;
+
+    /**
+     * Crée un champ de flux vide (aucune case atteignable avant le premier {@link #update}).
+     *
+     * @param width largeur de la carte
+     * @param height hauteur de la carte
+     */
+    public FlowField(int width, int height) {
+        this.width = width;
+        this.height = height;
+        int cells = width * height;
+        this.distance = new int[cells];
+        this.blocked = new byte[cells];
+        this.queue = new int[cells];
+        this.queued = new boolean[cells];
+        Arrays.fill(distance, UNREACHABLE);
+    }
+
+    /**
+     * Met à jour la carte des distances pour le tick courant.
+     *
+     * @param grid carte de la partie
+     * @param bombs gestionnaire des bombes (cases occupées), null si aucune bombe
+     * @param players joueurs de la partie (les morts et les null sont ignorés)
+     */
+    public void update(TileGrid grid, BombManager bombs, Player... players) {
+        int count = collectSources(grid, players);
+        boolean rebuild = !sameSources(count);
+
+        // Différences de praticabilité depuis le calcul précédent
+        int opened = 0;
+        for (int y = 0, i = 0; y < height; y++) {
+            for (int x = 0; x < width; x++, i++) {
+                byte now = isBlocked(grid, bombs, x, y) ? (byte) 1 : (byte) 0;
+                if (now == blocked[i]) {
+                    continue;
+                }
+                blocked[i] = now;
+                if (now == 1) {
+                    rebuild = true;
+                } else if (!rebuild) {
+                    // Case libérée : on la relâche depuis ses voisins, sans tout recalculer
+                    relaxOpenedCell(i);
+                    opened++;
+                }
+            }
+        }
+
+        if (rebuild) {
+            int[] swap = sources;
+            sources = newSources;
+            newSources = swap;
+            sourceCount = count;
+            rebuild();
+        } else if (opened > 0) {
+            propagate();
+            incrementalUpdates++;
+        }
+    }
+
+    /**
+     * @param x abscisse
+     * @param y ordonnée
+     * @return distance (en cases) au joueur vivant le plus proche, ou {@link #UNREACHABLE}
+     */
+    public int distanceAt(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return UNREACHABLE;
+        }
+        return distance[y * width + x];
+    }
+
+    /**
+     * Choisit la direction qui rapproche le plus d'un joueur depuis une case.
+     *
+     * @param x abscisse de l'ennemi
+     * @param y ordonnée de l'ennemi
+     * @param preferred direction préférée en cas d'égalité (indice dans {@link #DX}), -1 pour aucune
+     * @return indice de la direction dans {@link #DX}/{@link #DY}, ou -1 si aucun joueur n'est atteignable
+     */
+    public int nextDirection(int x, int y, int preferred) {
+        int best = -1;
+        int bestDistance = UNREACHABLE;
+        for (int dir = 0; dir < 4; dir++) {
+            int d = distanceAt(x + DX[dir], y + DY[dir]);
+            if (d < bestDistance || (d == bestDistance && d != UNREACHABLE && dir == preferred)) {
+                bestDistance = d;
+                best = dir;
+            }
+        }
+        return best;
+    }
+
+    /** @return nombre de parcours complets effectués */
+    public long getFullRebuilds() { return fullRebuilds; }
+    /** @return nombre de mises à jour locales après libération de cases */
+    public long getIncrementalUpdates() { return incrementalUpdates; }
+
+    private static boolean isBlocked(TileGrid grid, BombManager bombs, int x, int y) {
+        TileType type = grid.get(x, y);
+        return type == TileType.WALL || type == TileType.WALL_BREAKABLE
+                || (bombs != null && bombs.hasBombAt(x, y));
+    }
+
+    private int collectSources(TileGrid grid, Player[] players) {
+        if (newSources.length < players.length) {
+            newSources = new int[players.length];
+        }
+        int count = 0;
+        for (Player player : players) {
+            if (player != null && player.isAlive() && grid.isInBounds(player.getX(), player.getY())) {
+                newSources[count++] = player.getY() * width + player.getX();
+            }
+        }
+        return count;
+    }
+
+    private boolean sameSources(int count) {
+        if (count != sourceCount) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            if (sources[i] != newSources[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rebuild() {
+        Arrays.fill(distance, UNREACHABLE);
+        head = 0;
+        size = 0;
+        for (int i = 0; i < sourceCount; i++) {
+            int cell = sources[i];
+            if (distance[cell] != 0) {
+                distance[cell] = 0;
+                enqueue(cell);
+            }
+        }
+        propagate();
+        fullRebuilds++;
+    }
+
+    /**
+     * Donne à une case nouvellement libre la meilleure distance de ses voisins, plus un.
+     */
+    private void relaxOpenedCell(int cell) {
+        int x = cell % width;
+        int y = cell / width;
+        int best = UNREACHABLE;
+        for (int dir = 0; dir < 4; dir++) {
+            int nx = x + DX[dir];
+            int ny = y + DY[dir];
+            if (nx < 0 || ny < 0 || nx >= width || ny >= height) {
+                continue;
+            }
+            int d = distance[ny * width + nx];
+            if (d < best) {
+                best = d;
+            }
+        }
+        if (best != UNREACHABLE && best + 1 < distance[cell]) {
+            distance[cell] = best + 1;
+            enqueue(cell);
+        }
+    }
+
+    /**
+     * Propage les distances depuis les cases en file : une case n'est réécrite que si
+     * son chemin raccourcit, ce qui rend le même code valable pour le parcours complet
+     * et pour la mise à jour locale.
+     */
+    private void propagate() {
+        while (size > 0) {
+            int cell = queue[head];
+            head = (head + 1) % queue.length;
+            size--;
+            queued[cell] = false;
+
+            int next = distance[cell] + 1;
+            int x = cell % width;
+            int y = cell / width;
+            for (int dir = 0; dir < 4; dir++) {
+                int nx = x + DX[dir];
+                int ny = y + DY[dir];
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height) {
+                    continue;
+                }
+                int neighbor = ny * width + nx;
+                if (blocked[neighbor] == 0 && next < distance[neighbor]) {
+                    distance[neighbor] = next;
+                    enqueue(neighbor);
+                }
+            }
+        }
+    }
+
+    private void enqueue(int cell) {
+        if (queued[cell]) {
+            return;
+        }
+        queued[cell] = true;
+        queue[(head + size) % queue.length] = cell;
+        size++;
+    }
+}
@@ -0,0 +1,235 @@
+package com.superbomberman.game;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Profileur de la boucle de jeu : durée de chaque phase d'un tick et de chaque frame.
+ * <p>
+ * La {@link GameSimulation} chronomètre ses phases ({@link #lap(Phase, long)}) et la vue
+ * y ajoute le rendu, l'affichage des scores et la frame complète. Chaque phase a son
+ * {@link LatencyHistogram} : l'enregistrement n'alloue rien, le profileur peut donc rester
+ * actif pendant toute la partie. Les pulses JavaFX ({@link #onPulse(long)}) donnent en plus
+ * le nombre d'images par seconde et les pulses perdues (écart de plus d'une
+ * période et demie entre deux pulses).
+ * </p>
+ * <p>
+ * {@link #formatOverlay()} produit le tableau affiché en jeu (p50/p99/max par phase),
+ * {@link #writeReport(Path)} le rapport écrit en fin de partie.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class FrameProfiler {
+
+    /**
+     * Phases chronométrées, dans l'ordre d'une frame.
+     */
+    public enum Phase {
+        ACTIONS("Actions immédiates"),
+        MOVEMENT("Déplacements"),
+        BOMBS("Bombes"),
+        AUTO_BOMB("Malus AUTO_BOMB"),
+        FINAL_CHECKS("Vérifications finales"),
+        RENDER("Rendu"),
+        SCORE_DISPLAY("Affichage des scores"),
+        FRAME("Frame complète");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        /** @return nom affiché de la phase */
+        public String getLabel() { return label; }
+    }
+
+    /** Budget d'une frame à 60 images par seconde. */
+    public static final long FRAME_BUDGET_NANOS = GameSimulation.NANOS_PER_TICK;
+    /** Fenêtre de calcul des images par seconde. */
+    private static final long FPS_WINDOW_NANOS = 1_000_000_000L;
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+    private final long pulseNanos;
+
+    private long lastPulse = -1;
+    private long windowStart = -1;
+    private int windowFrames;
+    private double fps;
+    private long pulses;
+    private long droppedPulses;
+    private long overBudgetFrames;
+
+    /**
+     * Crée un profileur pour des pulses à 60 Hz.
+     */
+    public FrameProfiler() {
+        this(FRAME_BUDGET_NANOS);
+    }
+
+    /**
+     * Crée un profileur pour une période de pulse donnée.
+     *
+     * @param pulseNanos période attendue entre deux pulses, en nanosecondes
+     * @throws IllegalArgumentException si la période n'est pas positive
+     */
+    public FrameProfiler(long pulseNanos) {
+        if (pulseNanos <= 0) {
+            throw new IllegalArgumentException("Période de pulse invalide : " + pulseNanos);
+        }
+        this.pulseNanos = pulseNanos;
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Enregistre la durée d'une phase.
+     *
+     * @param phase phase chronométrée
+     * @param nanos durée en nanosecondes
+     */
+    public void record(Phase phase, long nanos) {
+        histograms[phase.ordinal()].record(nanos);
+        if (phase == Phase.FRAME && nanos > pulseNanos) {
+            overBudgetFrames++;
+        }
+    }
+
+    /**
+     * Termine une phase commencée à {@code start} et renvoie le début de la suivante.
+     *
+     * @param phase phase qui se termine
+     * @param start instant de début ({@link System#nanoTime()})
+     * @return instant de fin, début de la phase suivante
+     */
+    public long lap(Phase phase, long start) {
+        long end = System.nanoTime();
+        record(phase, end - start);
+        return end;
+    }
+
+    /**
+     * Compte une pulse d'animation : images par seconde et pulses perdues.
+     *
+     * @param now instant de la pulse, en nanosecondes
+     */
+    public void onPulse(long now) {
+        pulses++;
+        if (lastPulse >= 0) {
+            long interval = now - lastPulse;
+            if (interval * 2 > pulseNanos * 3) {
+                droppedPulses += (interval + pulseNanos / 2) / pulseNanos - 1;
+            }
+        }
+        lastPulse = now;
+
+        if (windowStart < 0) {
+            windowStart = now;
+        }
+        windowFrames++;
+        long elapsed = now - windowStart;
+        if (elapsed >= FPS_WINDOW_NANOS) {
+            fps = windowFrames * 1e9 / elapsed;
+            windowStart = now;
+            windowFrames = 0;
+        }
+    }
+
+    /**
+     * Oublie la dernière pulse (pause) : la reprise ne compte pas de pulses perdues.
+     */
+    public void resetPulseClock() {
+        lastPulse = -1;
+        windowStart = -1;
+        windowFrames = 0;
+    }
+
+    /**
+     * Vide toutes les mesures.
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+        resetPulseClock();
+        fps = 0.0;
+        pulses = 0;
+        droppedPulses = 0;
+        overBudgetFrames = 0;
+    }
+
+    /**
+     * @param phase phase chronométrée
+     * @return histogramme des durées de la phase
+     */
+    public LatencyHistogram getHistogram(Phase phase) { return histograms[phase.ordinal()]; }
+
+    /** @return images par seconde sur la dernière fenêtre d'une seconde */
+    public double getFps() { return fps; }
+
+    /** @return nombre de pulses comptées */
+    public long getPulses() { return pulses; }
+
+    /** @return nombre de pulses perdues */
+    public long getDroppedPulses() { return droppedPulses; }
+
+    /** @return nombre de frames ayant dépassé le budget d'une pulse */
+    public long getOverBudgetFrames() { return overBudgetFrames; }
+
+    /**
+     * Tableau affiché en jeu : images par seconde, pulses perdues et p50/p99/max
+     * de chaque phase, en microsecondes.
+     *
+     * @return texte multiligne (police à chasse fixe)
+     */
+    public String formatOverlay() {
+        StringBuilder text = new StringBuilder(512);
+        text.append(String.format(Locale.ROOT, "FPS %5.1f   pulses perdues %d%n", fps, droppedPulses));
+        appendTable(text);
+        return text.toString();
+    }
+
+    /**
+     * Écrit le rapport complet des mesures (crée les dossiers parents).
+     *
+     * @param file fichier du rapport
+     * @throws IOException si l'écriture échoue
+     */
+    public void writeReport(Path file) throws IOException {
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        StringBuilder text = new StringBuilder(1024);
+        text.append("=== Profil de la boucle de jeu ===").append(System.lineSeparator());
+        text.append(String.format(Locale.ROOT, "Pulses : %d, perdues : %d, frames hors budget (%.2f ms) : %d%n",
+                pulses, droppedPulses, pulseNanos / 1e6, overBudgetFrames));
+        text.append(System.lineSeparator());
+        appendTable(text);
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(text.toString());
+        }
+    }
+
+    private void appendTable(StringBuilder text) {
+        text.append(String.format(Locale.ROOT, "%-22s %9s %9s %9s %9s%n", "Phase (µs)", "n", "p50", "p99", "max"));
+        for (Phase phase : PHASES) {
+            LatencyHistogram histogram = histograms[phase.ordinal()];
+            text.append(String.format(Locale.ROOT, "%-22s %9d %9.1f %9.1f %9.1f%n",
+                    phase.getLabel(), histogram.getTotalCount(),
+                    histogram.getValueAtPercentile(50.0) / 1e3,
+                    histogram.getValueAtPercentile(99.0) / 1e3,
+                    histogram.getMaxValue() / 1e3));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.superbomberman.game;
+
+import com.superbomberman.model.Bomb;
+import com.superbomberman.model.Enemy;
+import com.superbomberman.model.Player;
+import com.superbomberman.model.powerup.PowerUp;
+
+/**
+ * Observateur des changements d'état de la simulation.
+ * <p>
+ * La logique de jeu ne connaît plus le rendu : elle signale ce qui a changé
+ * (bombe posée, explosion, tuile détruite...) et le rendu consomme ces
+ * notifications ou relit directement l'état de la {@link GameSimulation}.
+ * Toutes les méthodes ont une implémentation vide par défaut, ce qui permet
+ * à une simulation sans interface d'utiliser {@link #NONE}.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface GameListener {
+
+    /** Observateur qui ignore tous les événements (mode sans interface). */
+    GameListener NONE = new GameListener() {
+    };
+
+    /**
+     * Une bombe vient d'être posée ou lancée.
+     * @param bomb la bombe concernée
+     */
+    default void onBombPlaced(Bomb bomb) {
+    }
+
+    /**
+     * Une bombe s'est déplacée d'une case (vol ou glissement).
+     * @param bomb la bombe concernée (position précédente disponible)
+     */
+    default void onBombMoved(Bomb bomb) {
+    }
+
+    /**
+     * Une bombe a quitté la carte (explosion ou ramassage).
+     * @param bomb la bombe concernée
+     */
+    default void onBombRemoved(Bomb bomb) {
+    }
+
+    /**
+     * Une case est touchée par une explosion.
+     * @param x abscisse de la case
+     * @param y ordonnée de la case
+     */
+    default void onExplosion(int x, int y) {
+    }
+
+    /**
+     * Une explosion complète vient d'être résolue, réactions en chaîne comprises.
+     * Chaque case soufflée n'y figure qu'une seule fois. Par défaut, chaque case
+     * est relayée à {@link #onExplosion(int, int)}.
+     * @param cells index des cases (y * largeur + x), valides de 0 à count - 1
+     * @param count nombre de cases soufflées
+     * @param width largeur de la carte
+     */
+    default void onBlast(int[] cells, int count, int width) {
+        for (int i = 0; i < count; i++) {
+            onExplosion(cells[i] % width, cells[i] / width);
+        }
+    }
+
+    /**
+     * Le type d'une tuile a changé (mur détruit).
+     * @param x abscisse de la tuile
+     * @param y ordonnée de la tuile
+     */
+    default void onTileChanged(int x, int y) {
+    }
+
+    /**
+     * Un power-up est apparu sur la carte.
+     * @param powerUp le power-up généré
+     */
+    default void onPowerUpSpawned(PowerUp powerUp) {
+    }
+
+    /**
+     * Un power-up a été ramassé et retiré de la carte.
+     * @param powerUp le power-up collecté
+     */
+    default void onPowerUpCollected(PowerUp powerUp) {
+    }
+
+    /**
+     * Un joueur s'est déplacé.
+     * @param player le joueur (position précédente disponible)
+     * @param playerNumber numéro du joueur (1 ou 2)
+     */
+    default void onPlayerMoved(Player player, int playerNumber) {
+    }
+
+    /**
+     * L'ennemi s'est déplacé.
+     * @param enemy l'ennemi (position précédente disponible)
+     */
+    default void onEnemyMoved(Enemy enemy) {
+    }
+}
@@ -3,42 +3,64 @@
  * <p>
  * Gère les mouvements des joueurs et de l'ennemi, la gestion des bombes, des power-ups, du score,
  * des collisions, des malus, et la détection des conditions de fin de partie (victoire/défaite).
- * Ce contrôleur centralise toute la logique du gameplay, indépendante de l'interface graphique.
+ * Ce contrôleur centralise toute la logique du gameplay, indépendante de l'interface graphique :
+ * les déplacements sont pilotés par des masques {@link PlayerInput} et le rendu est notifié
+ * via un {@link GameListener}.
  * </p>
  *
  * <ul>
- *     <li>Mouvements des joueurs et de l'ennemi (IA simple)</li>
+ *     <li>Mouvements des joueurs et des ennemis (poursuite via un {@link FlowField}, esquive via la {@link DangerMap})</li>
  *     <li>Gestion des bombes et explosions</li>
  *     <li>Gestion des power-ups et malus</li>
  *     <li>Détection et gestion des collisions entre entités</li>
  *     <li>Détermination des conditions de victoire et défaite</li>
  *     <li>Gestion du score et des événements de jeu</li>
+ *     <li>Sauvegarde/restauration des ennemis et de l'issue de la partie ({@link State})</li>
+ *     <li>Durée de chaque décision d'ennemi pendant un enregistrement JFR ({@link EnemyDecisionEvent})</li>
  * </ul>
  *
  * @author Jules Fuselier
- * @version 1.0
+ * @version 2.3 - Entrées par masque {@link PlayerInput} uniquement (plus de touches JavaFX)
  * @since 2025-06-08
  */
 package com.superbomberman.game;
 
+import com.superbomberman.jfr.EnemyDecisionEvent;
+import com.superbomberman.jfr.GameEvents;
+import com.superbomberman.logging.GameLog;
 import com.superbomberman.model.*;
 import com.superbomberman.model.powerup.MalusType;
 import com.superbomberman.model.powerup.PowerUp;
-import javafx.scene.input.KeyCode;
-import java.util.Set;
-
-import static com.superbomberman.model.MapLoader.enemy;
-import static com.superbomberman.model.MapLoader.player1;
-import static com.superbomberman.model.MapLoader.player2;
-import static com.superbomberman.controller.MenuController.isOnePlayer;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Classe principale de logique du jeu.
  * Centralise la gestion des entités, du score, des conditions de victoire/défaite et des événements principaux.
  */
 public class GameLogic {
+
+    /**
+     * Instantané de la logique : état de chaque ennemi (copié dans des ennemis « ombres »),
+     * ordre de la file de déplacement et issue de la partie.
+     */
+    public static final class State {
+        private Enemy[] enemies = new Enemy[0];
+        private Enemy[] moveQueue = new Enemy[0];
+        private int queueCount = -1;
+        private boolean enemyDead;
+        private Player winner;
+    }
+
+    /** Session de la partie. */
+    private final MatchSession session;
+    /** Mode solo (joueur 1 contre les ennemis). */
+    private final boolean isOnePlayer;
+    /** Ennemis de la partie. */
+    private final EnemyRegistry enemies;
     /** Carte actuelle du niveau. */
-    private Tile[][] map;
+    private final TileGrid grid;
     /** Gestionnaire des bombes. */
     private BombManager bombManager;
     /** Gestionnaire des power-ups. */
@@ -47,66 +69,119 @@ public class GameLogic {
     private GameStateManager gameStateManager;
     /** Système de score. */
     private ScoreSystem scoreSystem;
+    /** Observateur notifié des déplacements (rendu), jamais null. */
+    private GameListener listener = GameListener.NONE;
 
-    // Gestion du mouvement
-    private long lastPlayer1MoveTime = 0;
-    private long lastPlayer2MoveTime = 0;
-    private long lastEnemyMoveTime = 0;
-    private int[] enemyCurrDirection = {1, 0};
-
-    // Directions des joueurs pour le lancer de bombes
-    private int lastPlayer1DirectionX = 0;
-    private int lastPlayer1DirectionY = 1;
-    private int lastPlayer2DirectionX = 0;
-    private int lastPlayer2DirectionY = 1;
-
-    // États de mort
-    private boolean player1Dead = false;
-    private boolean player2Dead = false;
+    /** Places des joueurs : directions, horodatages et états de mort, par numéro de joueur. */
+    private final PlayerSlots slots;
+    /**
+     * Ennemis vivants par échéance de déplacement croissante : le délai étant le même
+     * pour tous, un ennemi qui bouge repart en queue et l'ordre est conservé.
+     */
+    private final ArrayDeque<Enemy> enemyMoveQueue = new ArrayDeque<>();
+    /** Distances aux joueurs, recalculées au plus une fois par tick et partagées par les ennemis. */
+    private final FlowField flowField;
+    /** Générateur aléatoire de la partie (changements de direction de l'ennemi). */
+    private RandomGenerator random;
+
+    // États de fin de partie
     private boolean enemyDead = false;
     private Player winner = null;
 
     // Délais de mouvement
     private static final long BASE_MOVE_DELAY = 200_000_000L; // 200ms de base
     private static final long ENEMY_MOVE_DELAY = 500_000_000L; // 500ms pour l'ennemi
+    /** Horizon de danger de l'ennemi : le temps d'entrer sur une case puis d'en sortir. */
+    private static final int ENEMY_DANGER_HORIZON_TICKS = (int) (2 * ENEMY_MOVE_DELAY / GameSimulation.NANOS_PER_TICK);
+    private static final long AUTO_BOMB_INTERVAL = 2_000_000_000L; // 2 secondes
+    /** Délai avant remplacement d'un mur détruit par {@link #handleExplosion} : 2 s. */
+    private static final int WALL_CLEAR_DELAY_TICKS = 120;
+
+    /**
+     * Construit la logique du jeu d'une session (carte, entités et gestionnaires de la session).
+     * @param session Session de la partie
+     */
+    public GameLogic(MatchSession session) {
+        this.session = session;
+        this.isOnePlayer = session.isOnePlayer();
+        this.enemies = session.getEnemies();
+        this.grid = session.getMap();
+        this.bombManager = session.getBombManager();
+        this.powerUpManager = session.getPowerUpManager();
+        this.gameStateManager = session.getGameStateManager();
+        this.scoreSystem = gameStateManager.getScoreSystem();
+        this.random = session.getRandom();
+        this.flowField = new FlowField(grid.getWidth(), grid.getHeight());
+        this.slots = session.getPlayers();
+        initEnemies();
+        // Enregistrer les joueurs dans le système de score
+        for (int i = 0; i < slots.activeCount(); i++) {
+            scoreSystem.registerPlayer(slots.active(i).getPlayer());
+        }
+    }
+
+    /**
+     * Construit la logique du jeu à partir des gestionnaires et de la carte, sur les
+     * entités chargées par {@link MapLoader}.
+     * @param grid Carte actuelle du niveau
+     * @param bombManager Gestionnaire de bombes
+     * @param powerUpManager Gestionnaire de power-ups
+     * @param gameStateManager Gestionnaire d'état de partie
+     */
+    public GameLogic(TileGrid grid, BombManager bombManager, PowerUpManager powerUpManager, GameStateManager gameStateManager) {
+        this(detachedSession(grid, bombManager, powerUpManager, gameStateManager));
+    }
 
     /**
-     * Construit la logique du jeu à partir des gestionnaires et de la carte.
+     * Construit la logique du jeu à partir d'une matrice de tuiles (copiée dans une {@link TileGrid}).
      * @param map Carte actuelle du niveau
      * @param bombManager Gestionnaire de bombes
      * @param powerUpManager Gestionnaire de power-ups
      * @param gameStateManager Gestionnaire d'état de partie
      */
     public GameLogic(Tile[][] map, BombManager bombManager, PowerUpManager powerUpManager, GameStateManager gameStateManager) {
-        this.map = map;
-        this.bombManager = bombManager;
-        this.powerUpManager = powerUpManager;
-        this.gameStateManager = gameStateManager;
-        this.scoreSystem = gameStateManager.getScoreSystem();
-        // Enregistrer les joueurs dans le système de score
-        scoreSystem.registerPlayer(player1);
-        if (!isOnePlayer && player2 != null) {
-            scoreSystem.registerPlayer(player2);
-        }
+        this(TileGrid.fromTiles(map), bombManager, powerUpManager, gameStateManager);
+    }
+
+    private static MatchSession detachedSession(TileGrid grid, BombManager bombManager,
+                                                PowerUpManager powerUpManager, GameStateManager gameStateManager) {
+        MatchSession session = MatchSession.detached(grid);
+        session.bindManagers(gameStateManager, bombManager, powerUpManager);
+        return session;
+    }
+
+    /**
+     * Définit l'observateur notifié des déplacements des entités.
+     * @param listener observateur (null pour n'en utiliser aucun)
+     */
+    public void setListener(GameListener listener) {
+        this.listener = listener != null ? listener : GameListener.NONE;
+    }
+
+    /**
+     * Injecte le générateur aléatoire de la partie.
+     * @param random générateur partagé par la session de jeu
+     */
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
     }
 
     /**
      * Gère le mouvement d'un joueur (vitesse, contrôles, collisions, malus).
      * @param player Le joueur à déplacer
-     * @param playerNumber Numéro du joueur (1 ou 2)
+     * @param playerNumber Numéro du joueur (1 à 8)
      * @param currentTime Horodatage courant (nanosecondes)
-     * @param pressedKeys Ensemble des touches appuyées
-     * @param visualRenderer Gestionnaire graphique pour MAJ visuelle
+     * @param input Masque {@link PlayerInput} des touches maintenues
      */
-    public void handlePlayerMovement(Player player, int playerNumber, long currentTime, Set<KeyCode> pressedKeys, VisualRenderer visualRenderer) {
-        if ((playerNumber == 1 && player1Dead) || (playerNumber == 2 && player2Dead)) {
+    public void handlePlayerMovement(Player player, int playerNumber, long currentTime, int input) {
+        PlayerSlot slot = slots.get(playerNumber);
+        if (slot.isDead()) {
             return;
         }
 
         player.updateMalus();
         long moveDelay = (long) (BASE_MOVE_DELAY / player.getSpeed());
-        long lastMoveTime = (playerNumber == 1) ? lastPlayer1MoveTime : lastPlayer2MoveTime;
-        if (currentTime - lastMoveTime < moveDelay) {
+        if (currentTime - slot.getLastMoveTime() < moveDelay) {
             return;
         }
 
@@ -115,103 +190,194 @@ public class GameLogic {
         boolean moved = false;
         boolean reversed = player.hasMalus(MalusType.REVERSED_CONTROLS);
 
-        KeyCode leftKey, rightKey, upKey, downKey;
-        if (playerNumber == 1) {
-            leftKey = KeyCode.LEFT;
-            rightKey = KeyCode.RIGHT;
-            upKey = KeyCode.UP;
-            downKey = KeyCode.DOWN;
-        } else {
-            leftKey = KeyCode.Q;
-            rightKey = KeyCode.D;
-            upKey = KeyCode.Z;
-            downKey = KeyCode.S;
-        }
-
-        if (pressedKeys.contains(leftKey)) {
+        if (PlayerInput.has(input, PlayerInput.LEFT)) {
             newX += reversed ? 1 : -1;
-            setLastDirection(playerNumber, reversed ? 1 : -1, 0);
+            slot.setLastDirection(reversed ? 1 : -1, 0);
             moved = true;
-        } else if (pressedKeys.contains(rightKey)) {
+        } else if (PlayerInput.has(input, PlayerInput.RIGHT)) {
             newX += reversed ? -1 : 1;
-            setLastDirection(playerNumber, reversed ? -1 : 1, 0);
+            slot.setLastDirection(reversed ? -1 : 1, 0);
             moved = true;
-        } else if (pressedKeys.contains(upKey)) {
+        } else if (PlayerInput.has(input, PlayerInput.UP)) {
             newY += reversed ? 1 : -1;
-            setLastDirection(playerNumber, 0, reversed ? 1 : -1);
+            slot.setLastDirection(0, reversed ? 1 : -1);
             moved = true;
-        } else if (pressedKeys.contains(downKey)) {
+        } else if (PlayerInput.has(input, PlayerInput.DOWN)) {
             newY += reversed ? -1 : 1;
-            setLastDirection(playerNumber, 0, reversed ? -1 : 1);
+            slot.setLastDirection(0, reversed ? -1 : 1);
             moved = true;
         }
 
         if (moved && canMoveTo(newX, newY, player)) {
             player.setPosition(newX, newY);
-            updatePlayerVisualPosition(player, playerNumber, visualRenderer);
-            powerUpManager.checkPlayerCollisions(player1, player2, gameStateManager, visualRenderer);
+            listener.onPlayerMoved(player, playerNumber);
+            powerUpManager.checkPlayerCollision(player, playerNumber, gameStateManager, listener);
             checkPlayerEnemyCollisions();
+            slot.setLastMoveTime(currentTime);
+        }
+    }
 
-            if (playerNumber == 1) {
-                lastPlayer1MoveTime = currentTime;
-            } else {
-                lastPlayer2MoveTime = currentTime;
+    /**
+     * Rattache le registre des ennemis à la carte et échelonne leurs premiers déplacements
+     * sur un intervalle, pour qu'une horde ne bouge pas entièrement dans le même tick.
+     */
+    private void initEnemies() {
+        enemies.attach(grid.getWidth(), grid.getHeight());
+        List<Enemy> all = enemies.getEnemies();
+        for (int i = 0; i < all.size(); i++) {
+            Enemy loaded = all.get(i);
+            if (loaded.isAlive()) {
+                loaded.setNextMoveTime(ENEMY_MOVE_DELAY + i * ENEMY_MOVE_DELAY / all.size());
+                enemyMoveQueue.addLast(loaded);
             }
         }
     }
 
     /**
-     * Gère le mouvement de l'ennemi à intervalle régulier, puis vérifie les collisions.
+     * Déplace les ennemis dont la minuterie est échue, puis vérifie leurs collisions.
+     * Seuls les ennemis à déplacer sont parcourus, en tête de file.
      * @param currentTime Horodatage actuel
-     * @param visualRenderer Gestionnaire graphique
      */
-    public void handleEnemyMovement(long currentTime, VisualRenderer visualRenderer) {
-        if (currentTime - lastEnemyMoveTime < ENEMY_MOVE_DELAY) {
-            return;
-        }
-        if (enemy != null && enemy.isAlive()) {
-            moveEnemy(enemy, visualRenderer);
-            checkPlayerEnemyCollisions();
-            lastEnemyMoveTime = currentTime;
+    public void handleEnemyMovement(long currentTime) {
+        boolean fieldUpdated = false;
+        while (!enemyMoveQueue.isEmpty() && enemyMoveQueue.peekFirst().getNextMoveTime() <= currentTime) {
+            Enemy mover = enemyMoveQueue.pollFirst();
+            if (!mover.isAlive()) {
+                continue; // Tué depuis son dernier déplacement : retiré de la file
+            }
+            EnemyDecisionEvent event = null;
+            if (GameEvents.isRecording()) {
+                event = new EnemyDecisionEvent();
+                event.x = mover.getX();
+                event.y = mover.getY();
+                event.flowFieldUpdated = !fieldUpdated;
+                event.begin();
+            }
+            if (!fieldUpdated) {
+                updateFlowField();
+                fieldUpdated = true;
+            }
+            moveEnemy(mover);
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.moved = mover.getX() != event.x || mover.getY() != event.y;
+                    event.commit();
+                }
+            }
+            checkEnemyCollision(mover);
+            mover.setNextMoveTime(currentTime + ENEMY_MOVE_DELAY);
+            enemyMoveQueue.addLast(mover);
         }
     }
 
     /**
-     * IA simple pour déplacer l'ennemi (change de direction si bloqué).
+     * Recalcule le champ de flux vers les joueurs vivants (au plus une fois par tick).
+     */
+    private void updateFlowField() {
+        flowField.update(grid, bombManager, slots.activePlayers());
+    }
+
+    /** @return le champ de flux partagé par les ennemis */
+    public FlowField getFlowField() {
+        return flowField;
+    }
+
+    /**
+     * IA de l'ennemi : fuit d'abord une case sur le point d'être soufflée, sinon descend
+     * le champ de flux vers le joueur le plus proche sans entrer dans un souffle imminent
+     * (il attend plutôt que la voie se libère) ; si aucun joueur n'est atteignable, avance
+     * tout droit et change de direction si bloqué.
      * @param enemy L'ennemi à déplacer
-     * @param visualRenderer Gestionnaire graphique
      */
-    private void moveEnemy(Enemy enemy, VisualRenderer visualRenderer) {
+    private void moveEnemy(Enemy enemy) {
         int currentX = enemy.getX();
         int currentY = enemy.getY();
+        DangerMap danger = bombManager.getDangerMap();
 
-        int newX = currentX + enemyCurrDirection[0];
-        int newY = currentY + enemyCurrDirection[1];
+        if (danger.isLethal(currentX, currentY, ENEMY_DANGER_HORIZON_TICKS)) {
+            int flee = findEscapeDirection(enemy, danger);
+            if (flee >= 0) {
+                stepEnemy(enemy, flee);
+            }
+            return;
+        }
 
-        if (canMoveTo(newX, newY, enemy)) {
-            enemy.setPosition(newX, newY);
-            visualRenderer.updateEnemyPosition(enemy, bombManager.getActiveBombs());
+        int chase = flowField.nextDirection(currentX, currentY, directionIndex(enemy.getDirectionX(), enemy.getDirectionY()));
+        if (chase >= 0 && canMoveTo(currentX + FlowField.DX[chase], currentY + FlowField.DY[chase], enemy)) {
+            if (danger.isLethal(currentX + FlowField.DX[chase], currentY + FlowField.DY[chase], ENEMY_DANGER_HORIZON_TICKS)) {
+                return; // Attendre la fin de l'explosion plutôt que d'y entrer
+            }
+            stepEnemy(enemy, chase);
+            return;
+        }
+
+        int ahead = directionIndex(enemy.getDirectionX(), enemy.getDirectionY());
+        if (canEnemyEnter(enemy, currentX + FlowField.DX[ahead], currentY + FlowField.DY[ahead], danger)) {
+            stepEnemy(enemy, ahead);
         } else {
             // Changer de direction aléatoirement (hors direction actuelle)
-            int[][] directions = {{1,0}, {-1,0}, {0,1}, {0,-1}};
-            int[][] possibleDirections = new int[3][2];
-            int idx = 0;
-            for (int[] dir : directions) {
-                if (!(dir[0] == enemyCurrDirection[0] && dir[1] == enemyCurrDirection[1])) {
-                    possibleDirections[idx++] = dir;
-                }
+            int turn = random.nextInt(3);
+            int dir = turn >= ahead ? turn + 1 : turn;
+            enemy.setDirection(FlowField.DX[dir], FlowField.DY[dir]);
+
+            if (canEnemyEnter(enemy, currentX + FlowField.DX[dir], currentY + FlowField.DY[dir], danger)) {
+                stepEnemy(enemy, dir);
             }
-            int randomIndex = (int) (Math.random() * possibleDirections.length);
-            enemyCurrDirection = possibleDirections[randomIndex];
+        }
+    }
+
+    /**
+     * Avance un ennemi d'une case dans une direction (index spatial et rendu mis à jour).
+     */
+    private void stepEnemy(Enemy enemy, int dir) {
+        enemy.setDirection(FlowField.DX[dir], FlowField.DY[dir]);
+        enemies.moveTo(enemy, enemy.getX() + FlowField.DX[dir], enemy.getY() + FlowField.DY[dir]);
+        listener.onEnemyMoved(enemy);
+    }
+
+    /**
+     * Vérifie qu'un ennemi peut entrer sur une case sans être soufflé avant d'en ressortir.
+     */
+    private boolean canEnemyEnter(Enemy enemy, int x, int y, DangerMap danger) {
+        return canMoveTo(x, y, enemy) && !danger.isLethal(x, y, ENEMY_DANGER_HORIZON_TICKS);
+    }
 
-            newX = currentX + enemyCurrDirection[0];
-            newY = currentY + enemyCurrDirection[1];
+    /**
+     * Choisit la case voisine explosant le plus tard (idéalement jamais) ; à égalité,
+     * celle qui rapproche du joueur.
+     * @return indice de direction, ou -1 si l'ennemi est cerné
+     */
+    private int findEscapeDirection(Enemy enemy, DangerMap danger) {
+        int x = enemy.getX();
+        int y = enemy.getY();
+        int best = -1;
+        int bestTicks = danger.ticksUntilBlast(x, y);
+        int bestDistance = FlowField.UNREACHABLE;
+        for (int dir = 0; dir < 4; dir++) {
+            int nx = x + FlowField.DX[dir];
+            int ny = y + FlowField.DY[dir];
+            if (!canMoveTo(nx, ny, enemy)) {
+                continue;
+            }
+            int ticks = danger.ticksUntilBlast(nx, ny);
+            int distance = flowField.distanceAt(nx, ny);
+            if (ticks > bestTicks || (ticks == bestTicks && best >= 0 && distance < bestDistance)) {
+                best = dir;
+                bestTicks = ticks;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
 
-            if (canMoveTo(newX, newY, enemy)) {
-                enemy.setPosition(newX, newY);
-                visualRenderer.updateEnemyPosition(enemy, bombManager.getActiveBombs());
+    private static int directionIndex(int dx, int dy) {
+        for (int dir = 0; dir < 4; dir++) {
+            if (FlowField.DX[dir] == dx && FlowField.DY[dir] == dy) {
+                return dir;
             }
         }
+        return 0;
     }
 
     /**
@@ -222,113 +388,78 @@ public class GameLogic {
      * @return true si le déplacement est possible, false sinon
      */
     private boolean canMoveTo(int x, int y, Object entity) {
-        if (x < 0 || y < 0 || y >= map.length || x >= map[0].length) {
+        if (!grid.isInBounds(x, y)) {
             return false;
         }
 
-        Tile tile = map[y][x];
+        TileType type = grid.get(x, y);
 
-        if (tile.getType() == TileType.WALL) {
+        if (type == TileType.WALL) {
             return false;
         }
 
-        if (tile.getType() == TileType.WALL_BREAKABLE) {
+        if (type == TileType.WALL_BREAKABLE) {
             if (entity instanceof Player player) {
                 return player.canPassThroughWalls();
             }
             return false;
         }
 
-        // Vérifier les bombes sur la case
-        for (Bomb bomb : bombManager.getActiveBombs()) {
-            if (bomb.getX() == x && bomb.getY() == y) {
-                if (entity instanceof Player player) {
-                    // Power Kick
-                    if (player.canKickBombs() && !bomb.isFlying() && !bomb.isMoving()) {
-                        int kickDirX = x - player.getX();
-                        int kickDirY = y - player.getY();
-                        if (bombManager.tryKickBomb(bomb, kickDirX, kickDirY)) {
-                            return true;
-                        }
-                    }
-                    // BombPass
-                    if (player.canPassThroughBombs() && bomb.getOwner() == player) {
+        // Vérifier la bombe sur la case (index d'occupation)
+        Bomb bomb = bombManager.getBombAt(x, y);
+        if (bomb != null) {
+            if (entity instanceof Player player) {
+                // Power Kick
+                if (player.canKickBombs() && !bomb.isFlying() && !bomb.isMoving()) {
+                    int kickDirX = x - player.getX();
+                    int kickDirY = y - player.getY();
+                    if (bombManager.tryKickBomb(bomb, kickDirX, kickDirY)) {
                         return true;
                     }
                 }
-                return false;
+                // BombPass
+                if (player.canPassThroughBombs() && bomb.getOwner() == player) {
+                    return true;
+                }
             }
+            return false;
         }
 
         return true;
     }
 
-    /**
-     * Met à jour la position visuelle d'un joueur.
-     * @param player Joueur concerné
-     * @param playerNumber Numéro du joueur
-     * @param visualRenderer Gestionnaire graphique
-     */
-    private void updatePlayerVisualPosition(Player player, int playerNumber, VisualRenderer visualRenderer) {
-        if (playerNumber == 1) {
-            visualRenderer.updatePlayerPosition(player, visualRenderer.getPlayerPattern(), bombManager.getActiveBombs());
-        } else {
-            visualRenderer.updatePlayerPosition(player, visualRenderer.getPlayer2Pattern(), bombManager.getActiveBombs());
-        }
-    }
-
-    /**
-     * Définit la dernière direction d'un joueur (pour les actions directionnelles comme le lancer de bombe).
-     * @param playerNumber Numéro du joueur
-     * @param dirX Direction X
-     * @param dirY Direction Y
-     */
-    private void setLastDirection(int playerNumber, int dirX, int dirY) {
-        if (playerNumber == 1) {
-            lastPlayer1DirectionX = dirX;
-            lastPlayer1DirectionY = dirY;
-        } else {
-            lastPlayer2DirectionX = dirX;
-            lastPlayer2DirectionY = dirY;
-        }
-    }
-
     /**
      * Retourne la dernière direction utilisée par le joueur.
      * @param playerNumber Numéro du joueur
      * @return tableau [dirX, dirY]
      */
     public int[] getLastDirection(int playerNumber) {
-        if (playerNumber == 1) {
-            return new int[]{lastPlayer1DirectionX, lastPlayer1DirectionY};
-        } else {
-            return new int[]{lastPlayer2DirectionX, lastPlayer2DirectionY};
-        }
+        PlayerSlot slot = slots.get(playerNumber);
+        return new int[]{slot.getLastDirectionX(), slot.getLastDirectionY()};
     }
 
     /**
      * Gère l'explosion d'une case, destruction des murs, génération de power-ups, et effet graphique.
+     * La destruction du mur intervient 2 secondes (en ticks de simulation) après l'explosion.
      * @param x abscisse cible
      * @param y ordonnée cible
-     * @param visualRenderer gestionnaire graphique
      * @param player joueur à qui attribuer les points
      */
-    public void handleExplosion(int x, int y, VisualRenderer visualRenderer, Player player) {
-        visualRenderer.showExplosion(x, y);
-        javafx.animation.PauseTransition delay = new javafx.animation.PauseTransition(javafx.util.Duration.seconds(2));
-        delay.setOnFinished(event -> {
-            Tile tile = map[y][x];
-            if (tile.getType() == TileType.WALL_BREAKABLE) {
-                map[y][x] = new Tile(TileType.FLOOR);
+    public void handleExplosion(int x, int y, Player player) {
+        listener.onExplosion(x, y);
+        bombManager.getTimerWheel().schedule(WALL_CLEAR_DELAY_TICKS, () -> {
+            PowerUp powerUp = null;
+            if (grid.is(x, y, TileType.WALL_BREAKABLE)) {
+                grid.set(x, y, TileType.FLOOR);
                 scoreSystem.addWallDestroyed(player);
-                PowerUp powerUp = powerUpManager.generateRandomPowerUp(x, y);
-                if (powerUp != null) {
-                    visualRenderer.placePowerUpVisual(powerUp);
-                }
+                powerUp = powerUpManager.generateRandomPowerUp(x, y);
+            }
+            bombManager.getDangerMap().invalidate();
+            listener.onTileChanged(x, y);
+            if (powerUp != null) {
+                listener.onPowerUpSpawned(powerUp);
             }
-            visualRenderer.redrawTile(x, y, powerUpManager.getActivePowerUps());
         });
-        delay.play();
     }
 
     /**
@@ -339,22 +470,24 @@ public class GameLogic {
     public void handleExplosionAt(int x, int y) {
         boolean gameEnded = false;
 
-        if (player1 != null && player1.isAlive() && player1.getX() == x && player1.getY() == y) {
-            player1.setAlive(false);
-            player1Dead = true;
-            System.out.println("💀 Joueur 1 éliminé par explosion à (" + x + ", " + y + ")");
-            gameEnded = true;
+        for (int i = 0; i < slots.activeCount(); i++) {
+            PlayerSlot slot = slots.active(i);
+            Player player = slot.getPlayer();
+            if (player.isAlive() && player.getX() == x && player.getY() == y) {
+                eliminate(slot);
+                GameLog.info("💀 Joueur {} éliminé par explosion à ({}, {})", slot.getNumber(), x, y);
+                gameEnded = true;
+            }
         }
-        if (!isOnePlayer && player2 != null && player2.isAlive() && player2.getX() == x && player2.getY() == y) {
-            player2.setAlive(false);
-            player2Dead = true;
-            System.out.println("💀 Joueur 2 éliminé par explosion à (" + x + ", " + y + ")");
-            gameEnded = true;
+        Enemy victim = enemies.firstAt(x, y);
+        while (victim != null) {
+            Enemy next = enemies.nextAt(victim);
+            enemies.kill(victim);
+            GameLog.info("💀 Ennemi éliminé par explosion à ({}, {})", x, y);
+            victim = next;
         }
-        if (enemy != null && enemy.isAlive() && enemy.getX() == x && enemy.getY() == y) {
-            enemy.kill();
+        if (!enemyDead && enemies.allDefeated()) {
             enemyDead = true;
-            System.out.println("💀 Ennemi éliminé par explosion à (" + x + ", " + y + ")");
             if (isOnePlayer) {
                 gameStateManager.setGameWon(true);
                 gameEnded = true;
@@ -370,51 +503,83 @@ public class GameLogic {
      */
     public void checkAndEndGame() {
         if (isOnePlayer) {
-            if (player1Dead) {
+            if (slots.get(1).isDead()) {
                 gameStateManager.setGameWon(false);
                 gameStateManager.endGame();
                 return;
             }
-            if (enemyDead || (enemy != null && enemy.isDead())) {
+            if (enemyDead || enemies.allDefeated()) {
                 gameStateManager.setGameWon(true);
                 gameStateManager.endGame();
             }
         } else {
-            if (player1Dead && player2Dead) {
+            // Fin de partie quand il reste au plus un survivant parmi les joueurs actifs
+            int alive = slots.aliveCount();
+            if (alive == 0 && slots.activeCount() > 0) {
                 gameStateManager.setGameWon(false);
                 gameStateManager.endGame();
-            } else if (player1Dead) {
-                winner = player2;
-                gameStateManager.setGameWon(false);
-                gameStateManager.endGame();
-            } else if (player2Dead) {
-                winner = player1;
-                gameStateManager.setGameWon(true);
+            } else if (alive == 1 && slots.activeCount() > 1) {
+                PlayerSlot survivor = lastSurvivor();
+                winner = survivor.getPlayer();
+                gameStateManager.setGameWon(survivor.getNumber() == 1);
                 gameStateManager.endGame();
             }
         }
     }
 
     /**
-     * Vérifie les collisions entre joueur(s) et ennemi, et tue le joueur si collision.
+     * @return la première place active dont le joueur n'est pas éliminé, ou null
+     */
+    private PlayerSlot lastSurvivor() {
+        for (int i = 0; i < slots.activeCount(); i++) {
+            if (!slots.active(i).isDead()) {
+                return slots.active(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Élimine le joueur d'une place.
+     * @param slot place du joueur
+     */
+    private void eliminate(PlayerSlot slot) {
+        slot.getPlayer().setAlive(false);
+        slot.setDead(true);
+    }
+
+    /**
+     * Vérifie les collisions entre joueur(s) et ennemis, et tue le joueur si collision.
+     * Seules les cases des joueurs sont consultées dans l'index des ennemis.
      */
     private void checkPlayerEnemyCollisions() {
-        if (enemy == null || enemy.isDead()) {
+        if (enemies.getAliveCount() == 0) {
             return;
         }
-        if (player1 != null && player1.isAlive() &&
-                player1.getX() == enemy.getX() && player1.getY() == enemy.getY()) {
-            player1.setAlive(false);
-            player1Dead = true;
-            System.out.println("💀 Joueur 1 tué par l'ennemi à (" + enemy.getX() + ", " + enemy.getY() + ")");
-            checkAndEndGame();
+        for (int i = 0; i < slots.activeCount(); i++) {
+            PlayerSlot slot = slots.active(i);
+            Player player = slot.getPlayer();
+            if (player.isAlive() && enemies.hasEnemyAt(player.getX(), player.getY())) {
+                eliminate(slot);
+                GameLog.info("💀 Joueur {} tué par l'ennemi à ({}, {})", slot.getNumber(), player.getX(), player.getY());
+                checkAndEndGame();
+            }
         }
-        if (!isOnePlayer && player2 != null && player2.isAlive() &&
-                player2.getX() == enemy.getX() && player2.getY() == enemy.getY()) {
-            player2.setAlive(false);
-            player2Dead = true;
-            System.out.println("💀 Joueur 2 tué par l'ennemi à (" + enemy.getX() + ", " + enemy.getY() + ")");
-            checkAndEndGame();
+    }
+
+    /**
+     * Vérifie la collision d'un ennemi qui vient de bouger avec les joueurs.
+     * @param mover l'ennemi déplacé
+     */
+    private void checkEnemyCollision(Enemy mover) {
+        for (int i = 0; i < slots.activeCount(); i++) {
+            PlayerSlot slot = slots.active(i);
+            Player player = slot.getPlayer();
+            if (player.isAlive() && player.getX() == mover.getX() && player.getY() == mover.getY()) {
+                eliminate(slot);
+                GameLog.info("💀 Joueur {} tué par l'ennemi à ({}, {})", slot.getNumber(), mover.getX(), mover.getY());
+                checkAndEndGame();
+            }
         }
     }
 
@@ -422,7 +587,7 @@ public class GameLogic {
      * Vérifie les conditions de victoire/défaite à chaque cycle d'update.
      */
     public void checkGameConditions() {
-        if (isOnePlayer && enemy != null && enemy.isDead()) {
+        if (isOnePlayer && enemies.allDefeated()) {
             gameStateManager.setGameWon(true);
             gameStateManager.endGame();
             return;
@@ -438,7 +603,7 @@ public class GameLogic {
      * @return true si l'ennemi est mort
      */
     private boolean isEnemyDefeated() {
-        return enemy != null && enemy.isDead();
+        return enemies.allDefeated();
     }
 
     /**
@@ -446,37 +611,38 @@ public class GameLogic {
      * @return true si le(s) joueur(s) sont morts
      */
     private boolean isPlayerDefeated() {
-        if (isOnePlayer) {
-            return player1 == null || !player1.isAlive();
-        } else {
-            boolean player1Alive = player1 != null && player1.isAlive();
-            boolean player2Alive = player2 != null && player2.isAlive();
-            return !player1Alive && !player2Alive;
+        for (int i = 0; i < slots.activeCount(); i++) {
+            if (slots.active(i).getPlayer().isAlive()) {
+                return false;
+            }
         }
+        return true;
     }
 
     /**
-     * Gère les malus automatiques (ex : AUTO_BOMB).
-     * @param currentTime Horodatage actuel
+     * Gère les malus automatiques (ex : AUTO_BOMB) : une bombe toutes les 2 secondes.
+     * @param currentTime Horodatage actuel (nanosecondes)
      */
     public void handleAutoBombMalus(long currentTime) {
-        final long AUTO_BOMB_INTERVAL = 2_000_000_000L; // 2 secondes
-
-        if (player1.hasMalus(MalusType.AUTO_BOMB)) {
-            bombManager.placeBomb(player1, 1);
-        }
-        if (!isOnePlayer && player2 != null && player2.hasMalus(MalusType.AUTO_BOMB)) {
-            bombManager.placeBomb(player2, 2);
+        for (int i = 0; i < slots.activeCount(); i++) {
+            PlayerSlot slot = slots.active(i);
+            if (slot.getPlayer().hasMalus(MalusType.AUTO_BOMB)
+                    && currentTime - slot.getLastAutoBombTime() >= AUTO_BOMB_INTERVAL) {
+                bombManager.placeBomb(slot.getPlayer(), slot.getNumber());
+                slot.setLastAutoBombTime(currentTime);
+            }
         }
     }
 
     /**
-     * Met à jour toutes les entités du jeu : bombes, power-ups, collisions.
-     * @param visualRenderer gestionnaire graphique
+     * Met à jour les entités du jeu : power-ups, collisions et conditions de fin.
+     * Les bombes sont avancées séparément par {@link BombManager#updateBombs()}.
      */
-    public void updateEntities(VisualRenderer visualRenderer) {
-        bombManager.updateBombs();
-        powerUpManager.checkPlayerCollisions(player1, player2, gameStateManager, visualRenderer);
+    public void updateEntities() {
+        for (int i = 0; i < slots.activeCount(); i++) {
+            PlayerSlot slot = slots.active(i);
+            powerUpManager.checkPlayerCollision(slot.getPlayer(), slot.getNumber(), gameStateManager, listener);
+        }
         checkPlayerEnemyCollisions();
         checkGameConditions();
     }
@@ -494,35 +660,18 @@ public class GameLogic {
     }
 
     /**
-     * IA basique : trouve le déplacement rapprochant l'ennemi du joueur le plus proche.
+     * Trouve le déplacement rapprochant l'ennemi du joueur le plus proche, en nombre de cases
+     * réellement parcourables (murs et bombes contournés), via le champ de flux.
      * @param enemy L'ennemi
-     * @return tableau directionnel [dx, dy]
+     * @return tableau directionnel [dx, dy], {0, 0} si aucun joueur n'est atteignable
      */
     public int[] findBestMoveForEnemy(Enemy enemy) {
-        double minDistance = Double.MAX_VALUE;
-        int[] bestMove = {0, 0};
-        int[][] directions = {{1,0}, {-1,0}, {0,1}, {0,-1}};
-
-        for (int[] dir : directions) {
-            int newX = enemy.getX() + dir[0];
-            int newY = enemy.getY() + dir[1];
-
-            if (canMoveTo(newX, newY, enemy)) {
-                double distanceToPlayer1 = calculateDistance(newX, newY, player1.getX(), player1.getY());
-                double distance = distanceToPlayer1;
-
-                if (!isOnePlayer && player2 != null) {
-                    double distanceToPlayer2 = calculateDistance(newX, newY, player2.getX(), player2.getY());
-                    distance = Math.min(distanceToPlayer1, distanceToPlayer2);
-                }
-
-                if (distance < minDistance) {
-                    minDistance = distance;
-                    bestMove = dir;
-                }
-            }
+        updateFlowField();
+        int dir = flowField.nextDirection(enemy.getX(), enemy.getY(), -1);
+        if (dir < 0 || !canMoveTo(enemy.getX() + FlowField.DX[dir], enemy.getY() + FlowField.DY[dir], enemy)) {
+            return new int[]{0, 0};
         }
-        return bestMove;
+        return new int[]{FlowField.DX[dir], FlowField.DY[dir]};
     }
 
     /**
@@ -533,30 +682,28 @@ public class GameLogic {
      * @return true si la position est valide
      */
     private boolean isValidPosition(int x, int y, Object entity) {
-        if (x < 0 || y < 0 || y >= map.length || x >= map[0].length) {
+        if (!grid.isInBounds(x, y)) {
             return false;
         }
 
-        Tile tile = map[y][x];
+        TileType type = grid.get(x, y);
 
-        if (tile.getType() == TileType.WALL) {
+        if (type == TileType.WALL) {
             return false;
         }
 
-        if (tile.getType() == TileType.WALL_BREAKABLE) {
+        if (type == TileType.WALL_BREAKABLE) {
             if (entity instanceof Player player) {
                 return player.canPassThroughWalls();
             }
             return false;
         }
 
-        for (Bomb bomb : bombManager.getActiveBombs()) {
-            if (bomb.getX() == x && bomb.getY() == y) {
-                if (entity instanceof Player player) {
-                    return player.canPassThroughBombs();
-                }
-                return false;
+        if (bombManager.hasBombAt(x, y)) {
+            if (entity instanceof Player player) {
+                return player.canPassThroughBombs();
             }
+            return false;
         }
 
         return true;
@@ -565,17 +712,76 @@ public class GameLogic {
     // === GETTERS pour états de mort et directions ===
 
     /** @return true si le joueur 1 est mort */
-    public boolean isPlayer1Dead() { return player1Dead; }
+    public boolean isPlayer1Dead() { return slots.get(1).isDead(); }
+    /**
+     * Sauvegarde l'état des ennemis et l'issue de la partie.
+     * @param state instantané à remplir
+     */
+    public void save(State state) {
+        List<Enemy> all = enemies.getEnemies();
+        if (state.enemies.length != all.size()) {
+            state.enemies = new Enemy[all.size()];
+            state.moveQueue = new Enemy[all.size()];
+            for (int i = 0; i < all.size(); i++) {
+                state.enemies[i] = new Enemy();
+            }
+        }
+        for (int i = 0; i < all.size(); i++) {
+            state.enemies[i].copyStateFrom(all.get(i));
+        }
+        // Parcours par rotation de la file : aucun itérateur alloué
+        int count = enemyMoveQueue.size();
+        for (int i = 0; i < count; i++) {
+            Enemy enemy = enemyMoveQueue.pollFirst();
+            state.moveQueue[i] = enemy;
+            enemyMoveQueue.addLast(enemy);
+        }
+        state.queueCount = count;
+        state.enemyDead = enemyDead;
+        state.winner = winner;
+    }
+
+    /**
+     * Remet les ennemis et l'issue de la partie dans l'état d'une sauvegarde.
+     * @param state instantané rempli par {@link #save(State)}
+     * @throws IllegalArgumentException si l'instantané est vide
+     */
+    public void restore(State state) {
+        if (state.queueCount < 0) {
+            throw new IllegalArgumentException("Instantané de logique vide");
+        }
+        List<Enemy> all = enemies.getEnemies();
+        for (int i = 0; i < all.size(); i++) {
+            all.get(i).copyStateFrom(state.enemies[i]);
+        }
+        enemies.reindex();
+        enemyMoveQueue.clear();
+        for (int i = 0; i < state.queueCount; i++) {
+            enemyMoveQueue.addLast(state.moveQueue[i]);
+        }
+        enemyDead = state.enemyDead;
+        winner = state.winner;
+    }
+
     /** @return true si le joueur 2 est mort */
-    public boolean isPlayer2Dead() { return player2Dead; }
+    public boolean isPlayer2Dead() { return slots.get(2).isDead(); }
+    /**
+     * @param playerNumber numéro du joueur (1 à 8)
+     * @return true si ce joueur est mort
+     */
+    public boolean isPlayerDead(int playerNumber) { return slots.get(playerNumber).isDead(); }
+    /** @return places des joueurs de la partie */
+    public PlayerSlots getPlayerSlots() { return slots; }
+    /** @return session de la partie */
+    public MatchSession getSession() { return session; }
     /** @return true si l'ennemi est mort */
     public boolean isEnemyDead() { return enemyDead; }
     /** @return le joueur gagnant (multijoueur) */
     public Player getWinner() { return winner; }
 
     // Getters pour les directions
-    public int getLastPlayer1DirectionX() { return lastPlayer1DirectionX; }
-    public int getLastPlayer1DirectionY() { return lastPlayer1DirectionY; }
-    public int getLastPlayer2DirectionX() { return lastPlayer2DirectionX; }
-    public int getLastPlayer2DirectionY() { return lastPlayer2DirectionY; }
+    public int getLastPlayer1DirectionX() { return slots.get(1).getLastDirectionX(); }
+    public int getLastPlayer1DirectionY() { return slots.get(1).getLastDirectionY(); }
+    public int getLastPlayer2DirectionX() { return slots.get(2).getLastDirectionX(); }
+    public int getLastPlayer2DirectionY() { return slots.get(2).getLastDirectionY(); }
 }
\ No newline at end of file
@@ -0,0 +1,332 @@
+package com.superbomberman.game;
+
+import com.superbomberman.model.GameRandom;
+import com.superbomberman.model.Player;
+import com.superbomberman.model.TileGrid;
+
+import java.util.SplittableRandom;
+
+/**
+ * Simulation de partie à pas fixe, sans dépendance au rendu JavaFX.
+ * <p>
+ * Chaque appel à {@link #step(int[])} fait avancer la partie d'exactement un tick
+ * ({@value #TICKS_PER_SECOND} ticks par seconde) à partir des masques d'entrée
+ * {@link PlayerInput} des joueurs (jusqu'à {@value PlayerSlots#MAX_PLAYERS}, un masque par
+ * place de {@link PlayerSlots}, quelle que soit l'origine des entrées). Le temps de jeu est dérivé du numéro de tick,
+ * jamais de l'horloge système : la même suite d'entrées produit donc la même partie,
+ * que la simulation tourne derrière une fenêtre, dans un test ou sur un serveur.
+ * </p>
+ * <p>
+ * Tout l'aléa de la partie (drops de power-ups, IA de l'ennemi, malus SKULL) est tiré
+ * dans un unique {@link GameRandom} initialisé par la graine de la partie
+ * ({@link #getSeed()}) : même graine et mêmes entrées donnent la même partie.
+ * Un {@link ReplayRecorder} peut donc enregistrer la partie sous forme de graine et
+ * d'entrées, rejouée ensuite par un {@link ReplayPlayer}.
+ * </p>
+ * <p>
+ * L'état complet de la partie se sauvegarde et se restaure sans allocation
+ * ({@link #save(SimulationSnapshot)}, {@link #restore(SimulationSnapshot)}) : une session
+ * en ligne peut ainsi revenir quelques ticks en arrière et resimuler avec les vraies
+ * entrées d'un pair (rollback).
+ * </p>
+ *
+ * <ul>
+ *     <li>Phase 1 : actions sur front montant (bombe, glove, LineBomb, remote)</li>
+ *     <li>Phase 2 : déplacements des joueurs puis de l'ennemi</li>
+ *     <li>Phase 3 : minuteries des bombes (mèches, vols, glissements)</li>
+ *     <li>Phase 4 : malus AUTO_BOMB</li>
+ *     <li>Phase 5 : collisions et conditions de fin de partie</li>
+ * </ul>
+ * <p>
+ * Un {@link FrameProfiler} branché par {@link #setProfiler(FrameProfiler)} reçoit la
+ * durée réelle de chaque phase ; le temps de jeu, lui, reste dérivé du tick.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.6 - Chronométrage des phases (FrameProfiler)
+ * @since 2026-10-17
+ */
+public class GameSimulation {
+
+    /** Fréquence de la simulation. */
+    public static final int TICKS_PER_SECOND = 60;
+    /** Durée d'un tick en nanosecondes. */
+    public static final long NANOS_PER_TICK = 1_000_000_000L / TICKS_PER_SECOND;
+
+    /** Session de la partie (carte, entités, gestionnaires, aléa). */
+    private final MatchSession session;
+    private final TileGrid map;
+    private final GameStateManager gameStateManager;
+    private final BombManager bombManager;
+    private final PowerUpManager powerUpManager;
+    private final GameLogic gameLogic;
+    /** Graine de la partie. */
+    private final long seed;
+    /** Flux aléatoire unique de la partie, injecté dans tous les gestionnaires. */
+    private final GameRandom random;
+
+    /** Enregistreur de replay (null si la partie n'est pas enregistrée). */
+    private ReplayRecorder recorder;
+    /** Profileur des phases (null si la partie n'est pas profilée). */
+    private FrameProfiler profiler;
+
+    /** Places des joueurs (partagées avec la logique de jeu). */
+    private final PlayerSlots slots;
+    /** Entrées du tick courant par place, transmises à l'enregistreur. */
+    private final int[] tickInputs = new int[PlayerSlots.MAX_PLAYERS];
+    private long tick = 0;
+    private boolean finished = false;
+
+    /**
+     * Crée une simulation sur une carte déjà chargée (joueurs et ennemi via {@code MapLoader}).
+     *
+     * @param map carte de la partie
+     * @param gameStateManager gestionnaire d'état (score, fin de partie)
+     */
+    public GameSimulation(TileGrid map, GameStateManager gameStateManager) {
+        this(map, gameStateManager, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Crée une simulation reproductible à partir d'une graine.
+     *
+     * @param map carte de la partie
+     * @param gameStateManager gestionnaire d'état (score, fin de partie)
+     * @param seed graine du générateur aléatoire de la partie
+     */
+    public GameSimulation(TileGrid map, GameStateManager gameStateManager, long seed) {
+        this(MatchSession.fromLoadedMap(map, gameStateManager, seed));
+    }
+
+    /**
+     * Crée la simulation d'une session : aucune donnée n'est lue dans les références
+     * globales, plusieurs simulations peuvent donc tourner en parallèle (une par thread).
+     *
+     * @param session session de la partie
+     */
+    public GameSimulation(MatchSession session) {
+        this.session = session;
+        this.map = session.getMap();
+        this.seed = session.getSeed();
+        this.random = session.getRandom();
+        this.gameStateManager = session.getGameStateManager();
+        this.bombManager = session.getBombManager();
+        this.powerUpManager = session.getPowerUpManager();
+        this.gameLogic = session.getGameLogic();
+        this.slots = session.getPlayers();
+
+        for (Player player : slots.activePlayers()) {
+            player.setClock(this::getTimeMillis);
+        }
+    }
+
+    /**
+     * Branche un observateur (rendu) sur tous les gestionnaires.
+     *
+     * @param listener observateur notifié des changements, null pour aucun
+     */
+    public void setListener(GameListener listener) {
+        bombManager.setListener(listener);
+        gameLogic.setListener(listener);
+    }
+
+    /**
+     * Enregistre les entrées de chaque tick dans un replay.
+     *
+     * @param recorder enregistreur ouvert avec la graine de cette simulation, null pour arrêter
+     */
+    public void setRecorder(ReplayRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Chronomètre les phases de chaque tick.
+     *
+     * @param profiler profileur recevant les durées, null pour arrêter
+     */
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Action de fin de partie du mode sans interface (tests, serveur) : la simulation se
+     * marque simplement terminée, sans écran de fin.
+     */
+    public void runHeadless() {
+        gameStateManager.setOnGameEnded(() -> finished = true);
+    }
+
+    /**
+     * Avance la simulation d'un tick.
+     *
+     * @param inputs masques {@link PlayerInput} indexés par place (0 = joueur 1, 1 = joueur 2, ...)
+     */
+    public void step(int[] inputs) {
+        if (finished) {
+            return;
+        }
+        tick++;
+        long now = getTimeNanos();
+        int count = slots.activeCount();
+        FrameProfiler profiler = this.profiler;
+        long mark = profiler != null ? System.nanoTime() : 0L;
+
+        // Phase 1 : actions immédiates
+        for (int i = 0; i < count; i++) {
+            PlayerSlot slot = slots.active(i);
+            int index = slot.getIndex();
+            int input = index < inputs.length ? inputs[index] : PlayerInput.NONE;
+            applyActions(slot.getPlayer(), slot.getNumber(), input & ~slot.getPreviousInput());
+            slot.setPreviousInput(input);
+            tickInputs[index] = input;
+        }
+        if (recorder != null) {
+            recorder.record(tickInputs);
+        }
+        if (profiler != null) {
+            mark = profiler.lap(FrameProfiler.Phase.ACTIONS, mark);
+        }
+
+        // Phase 2 : déplacements
+        for (int i = 0; i < count; i++) {
+            PlayerSlot slot = slots.active(i);
+            gameLogic.handlePlayerMovement(slot.getPlayer(), slot.getNumber(), now, slot.getPreviousInput());
+        }
+        gameLogic.handleEnemyMovement(now);
+        if (profiler != null) {
+            mark = profiler.lap(FrameProfiler.Phase.MOVEMENT, mark);
+        }
+
+        // Phase 3 : bombes
+        bombManager.updateBombs();
+        if (profiler != null) {
+            mark = profiler.lap(FrameProfiler.Phase.BOMBS, mark);
+        }
+
+        // Phase 4 : malus AUTO_BOMB
+        gameLogic.handleAutoBombMalus(now);
+        if (profiler != null) {
+            mark = profiler.lap(FrameProfiler.Phase.AUTO_BOMB, mark);
+        }
+
+        // Phase 5 : collisions et fin de partie
+        gameLogic.updateEntities();
+        gameStateManager.checkGameConditions();
+        if (gameStateManager.isGameEnded()) {
+            finished = true;
+        }
+        if (profiler != null) {
+            profiler.lap(FrameProfiler.Phase.FINAL_CHECKS, mark);
+        }
+    }
+
+    /**
+     * Sauvegarde l'état complet de la partie entre deux ticks.
+     *
+     * @param snapshot instantané créé pour cette simulation
+     * @throws IllegalArgumentException si l'instantané appartient à une autre simulation
+     */
+    public void save(SimulationSnapshot snapshot) {
+        checkOwner(snapshot);
+        snapshot.tick = tick;
+        snapshot.finished = finished;
+        snapshot.randomState = random.getState();
+        map.copyCellsTo(snapshot.cells);
+        for (int i = 0; i < slots.activeCount(); i++) {
+            PlayerSlot slot = slots.active(i);
+            snapshot.slots[i].copyStateFrom(slot);
+            snapshot.players[i].copyStateFrom(slot.getPlayer());
+        }
+        bombManager.save(snapshot.bombs);
+        powerUpManager.save(snapshot.powerUps);
+        gameLogic.save(snapshot.logic);
+        gameStateManager.save(snapshot.gameState);
+    }
+
+    /**
+     * Remet la partie dans l'état d'un instantané : le tick courant redevient celui de la
+     * sauvegarde et les ticks suivants peuvent être resimulés avec d'autres entrées.
+     * L'écouteur n'est pas notifié : seul un rendu qui relit l'état à chaque image, comme le
+     * {@link CanvasRenderer}, convient à une partie restaurée.
+     *
+     * @param snapshot instantané rempli par {@link #save(SimulationSnapshot)}
+     * @throws IllegalArgumentException si l'instantané est vide ou appartient à une autre simulation
+     * @throws IllegalStateException si la partie est enregistrée (le replay contiendrait les ticks annulés)
+     */
+    public void restore(SimulationSnapshot snapshot) {
+        checkOwner(snapshot);
+        if (snapshot.isEmpty()) {
+            throw new IllegalArgumentException("Instantané vide");
+        }
+        if (recorder != null) {
+            throw new IllegalStateException("Retour en arrière impossible pendant l'enregistrement d'un replay");
+        }
+        tick = snapshot.tick;
+        finished = snapshot.finished;
+        random.setState(snapshot.randomState);
+        map.copyCellsFrom(snapshot.cells);
+        for (int i = 0; i < slots.activeCount(); i++) {
+            PlayerSlot slot = slots.active(i);
+            slot.copyStateFrom(snapshot.slots[i]);
+            slot.getPlayer().copyStateFrom(snapshot.players[i]);
+        }
+        bombManager.restore(snapshot.bombs);
+        powerUpManager.restore(snapshot.powerUps);
+        gameLogic.restore(snapshot.logic);
+        gameStateManager.restore(snapshot.gameState);
+    }
+
+    private void checkOwner(SimulationSnapshot snapshot) {
+        if (snapshot.owner != this) {
+            throw new IllegalArgumentException("Instantané d'une autre simulation");
+        }
+    }
+
+    /**
+     * Déclenche les actions nouvellement pressées d'un joueur.
+     */
+    private void applyActions(Player player, int playerNumber, int pressed) {
+        if (player == null || pressed == PlayerInput.NONE) {
+            return;
+        }
+        if (PlayerInput.has(pressed, PlayerInput.BOMB)) {
+            bombManager.placeBomb(player, playerNumber);
+        }
+        if (PlayerInput.has(pressed, PlayerInput.GLOVE)) {
+            bombManager.handleBombPickupOrThrow(player, playerNumber);
+        }
+        if (PlayerInput.has(pressed, PlayerInput.LINE_BOMB)) {
+            bombManager.placeLineBombs(player, playerNumber);
+        }
+        if (PlayerInput.has(pressed, PlayerInput.REMOTE)) {
+            bombManager.detonateRemoteBombs(player, playerNumber);
+        }
+    }
+
+    /** @return nombre de ticks simulés */
+    public long getTick() { return tick; }
+    /** @return temps de jeu simulé en nanosecondes */
+    public long getTimeNanos() { return tick * NANOS_PER_TICK; }
+    /** @return graine du générateur aléatoire de la partie */
+    public long getSeed() { return seed; }
+    /** @return flux aléatoire unique de la partie */
+    public GameRandom getRandom() { return random; }
+    /** @return temps de jeu simulé en millisecondes */
+    public long getTimeMillis() { return getTimeNanos() / 1_000_000L; }
+    /** @return true si la partie est terminée */
+    public boolean isFinished() { return finished; }
+    /** @return session de la partie */
+    public MatchSession getSession() { return session; }
+    /** @return carte de la partie */
+    public TileGrid getMap() { return map; }
+    /** @return gestionnaire d'état */
+    public GameStateManager getGameStateManager() { return gameStateManager; }
+    /** @return gestionnaire des bombes */
+    public BombManager getBombManager() { return bombManager; }
+    /** @return gestionnaire des power-ups */
+    public PowerUpManager getPowerUpManager() { return powerUpManager; }
+    /** @return places des joueurs de la partie */
+    public PlayerSlots getPlayerSlots() { return slots; }
+    /** @return logique de jeu */
+    public GameLogic getGameLogic() { return gameLogic; }
+}
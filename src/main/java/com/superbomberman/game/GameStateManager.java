@@ -8,40 +8,50 @@
  *
  * <ul>
  *     <li>Gère la victoire/défaite en solo et multi</li>
- *     <li>Affiche l'écran de fin adaptatif avec résumé</li>
+ *     <li>Construit le résumé de partie ({@link GameResult}) et exécute l'action de fin
+ *     injectée par l'interface ({@link #setOnGameEnded(Runnable)}), sans dépendre de JavaFX</li>
  *     <li>Réinitialise l'état du jeu et des entités pour restart</li>
  *     <li>Met à jour les statistiques utilisateur via AuthService</li>
- *     <li>Permet de retourner au menu ou quitter le jeu proprement</li>
  *     <li>Expose ScoreSystem et informations de partie</li>
+ *     <li>Sauvegarde/restauration de l'issue et des scores ({@link State})</li>
+ *     <li>Fin de partie différée jusqu'à confirmation ({@link #setEndDeferred(boolean)})</li>
  * </ul>
  *
  * @author Jules Fuselier
- * @version 2.0 - Intégration ScoreSystem
+ * @version 2.7 - Écran de fin, restart et menu déplacés dans EndGameController (action de fin injectée)
  * @since 2025-06-08
  */
 package com.superbomberman.game;
 
-import com.superbomberman.controller.EndGameController;
 import com.superbomberman.model.GameEndType;
 import com.superbomberman.model.GameResult;
+import com.superbomberman.logging.GameLog;
+import com.superbomberman.model.EnemyRegistry;
 import com.superbomberman.model.Player;
 import com.superbomberman.model.User;
 import com.superbomberman.service.AuthService;
 
-import static com.superbomberman.model.MapLoader.enemy;
-import static com.superbomberman.model.MapLoader.player1;
-import static com.superbomberman.model.MapLoader.player2;
-import static com.superbomberman.controller.MenuController.isOnePlayer;
-
 /**
  * Gestionnaire principal de l'état de la partie.
  * <ul>
  *     <li>Gère la victoire, la défaite, le score et la réinitialisation de partie.</li>
- *     <li>Affiche l'écran de fin et met à jour les statistiques utilisateur.</li>
- *     <li>Permet le restart de partie ou de retourner au menu.</li>
+ *     <li>Met à jour les statistiques utilisateur et déclenche l'action de fin injectée.</li>
  * </ul>
  */
 public class GameStateManager {
+
+    /**
+     * Instantané de l'issue de la partie et des scores des joueurs actifs.
+     */
+    public static final class State {
+        private final int[] scores = new int[PlayerSlots.MAX_PLAYERS];
+        private final int[] livesEarned = new int[PlayerSlots.MAX_PLAYERS];
+        private int gameScore = -1;
+        private boolean gameWon;
+        private boolean gameEnded;
+        private Player winner;
+    }
+
     /** Utilisateur courant (peut être null en mode invité). */
     private User currentUser;
     /** Service d'authentification pour la persistance des stats utilisateur. */
@@ -59,6 +69,14 @@ public class GameStateManager {
     private ScoreSystem scoreSystem;
     /** Joueur gagnant (mode multijoueur). */
     private Player winner;
+    /** Action de fin de partie injectée par l'interface (écran de fin), null pour aucune. */
+    private Runnable onGameEnded;
+    /** Session de la partie (null tant qu'aucune session n'est rattachée). */
+    private MatchSession session;
+    /** Effets de fin (statistiques, écran) retenus jusqu'à {@link #confirmEnd()}. */
+    private boolean endDeferred = false;
+    /** Indique si les effets de fin ont été produits. */
+    private boolean endEffectsDone = false;
 
     /**
      * Crée un gestionnaire d'état de partie.
@@ -72,13 +90,31 @@ public class GameStateManager {
         this.scoreSystem = new ScoreSystem(this);
     }
 
+    /**
+     * Rattache la session dont ce gestionnaire juge la fin de partie.
+     * @param session session de la partie
+     */
+    void attach(MatchSession session) {
+        this.session = session;
+    }
+
+    /**
+     * @return session rattachée, ou à défaut une session lue dans les entités chargées
+     *         par {@link com.superbomberman.model.MapLoader}
+     */
+    private MatchSession session() {
+        return session != null ? session : MatchSession.detached(null);
+    }
+
     /**
      * Incrémente le score global de la partie.
      * @param points points à ajouter
      */
     public void updateScore(int points) {
         gameScore += points;
-        System.out.println("Score actuel: " + gameScore);
+        if (GameLog.DEBUG) {
+            GameLog.debug("Score actuel: {}", gameScore);
+        }
     }
 
     /**
@@ -95,20 +131,48 @@ public class GameStateManager {
 
             scoreSystem.finishLevel(maxTimeSeconds, usedTimeSeconds);
 
-            System.out.println("🎉 Victoire ! Score final: " + gameScore);
+            GameLog.info("🎉 Victoire ! Score final: {}", gameScore);
         }
     }
 
     /**
      * Termine la partie et met à jour les statistiques utilisateur.
-     * Affiche l'écran de fin de jeu.
+     * Déclenche l'action de fin injectée (écran de fin de l'interface).
      */
     public void endGame() {
         if (gameEnded) {
             return;
         }
         gameEnded = true;
+        if (!endDeferred) {
+            runEndEffects();
+        }
+    }
+
+    /**
+     * Diffère les effets de fin de partie : une fin atteinte sur des entrées prédites peut
+     * encore être annulée par un retour en arrière. Les statistiques et l'écran de fin
+     * attendent alors {@link #confirmEnd()}.
+     * @param endDeferred true pour différer les effets de fin
+     */
+    public void setEndDeferred(boolean endDeferred) {
+        this.endDeferred = endDeferred;
+    }
 
+    /**
+     * Produit les effets d'une fin de partie différée, une seule fois.
+     */
+    public void confirmEnd() {
+        if (gameEnded && !endEffectsDone) {
+            runEndEffects();
+        }
+    }
+
+    /**
+     * Met à jour les statistiques utilisateur et exécute l'action de fin injectée.
+     */
+    private void runEndEffects() {
+        endEffectsDone = true;
         if (currentUser != null && authService != null) {
             authService.updateUserStats(currentUser, gameWon, gameScore);
             System.out.println("Statistiques mises à jour pour " + currentUser.getUsername());
@@ -116,66 +180,36 @@ public class GameStateManager {
             scoreSystem.displayScoreSummary();
         }
 
-        javafx.application.Platform.runLater(this::showEndGameScreen);
+        if (onGameEnded != null) {
+            onGameEnded.run();
+        }
     }
 
     /**
-     * Affiche l'écran de fin adaptatif, avec résumé de partie.
+     * Définit l'action exécutée à la fin de la partie : l'interface y affiche son écran de
+     * fin, la simulation sans interface se marque terminée.
+     * @param onGameEnded action exécutée à la fin de la partie, null pour aucune
      */
-    private void showEndGameScreen() {
-        try {
-            GameResult result = createGameResult();
-
-            javafx.fxml.FXMLLoader loader = new javafx.fxml.FXMLLoader(
-                    getClass().getResource("/fxml/endgame.fxml")
-            );
-            javafx.scene.Parent root = loader.load();
-
-            EndGameController controller = loader.getController();
-            controller.initializeEndScreen(result);
-            controller.setGameStateManager(this);
-
-            javafx.stage.Stage stage = getCurrentStage();
-            if (stage != null) {
-                stage.setScene(new javafx.scene.Scene(root));
-                stage.setTitle("Super Bomberman - Fin de Partie");
-                stage.sizeToScene();
-            } else {
-                System.err.println("❌ Impossible de trouver la fenêtre principale");
-            }
-
-        } catch (Exception e) {
-            System.err.println("❌ Erreur lors de l'affichage de l'écran de fin:");
-            e.printStackTrace();
-            returnToMenu();
-        }
+    public void setOnGameEnded(Runnable onGameEnded) {
+        this.onGameEnded = onGameEnded;
     }
 
-    /**
-     * Récupère la fenêtre principale JavaFX courante.
-     * @return la Stage courante ou null
-     */
-    private javafx.stage.Stage getCurrentStage() {
-        try {
-            for (javafx.stage.Window window : javafx.stage.Window.getWindows()) {
-                if (window instanceof javafx.stage.Stage && window.isShowing()) {
-                    return (javafx.stage.Stage) window;
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("⚠️ Erreur lors de la récupération de la fenêtre: " + e.getMessage());
-        }
-        return null;
+    /** @return true si la partie est terminée */
+    public boolean isGameEnded() {
+        return gameEnded;
     }
 
     /**
      * Construit l'objet GameResult selon le mode de jeu (solo/multi).
      * @return GameResult à transmettre à l'écran de fin
      */
-    private GameResult createGameResult() {
+    public GameResult createGameResult() {
         long gameDuration = System.currentTimeMillis() - gameStartTime;
+        MatchSession session = session();
+        Player player1 = session.getPlayers().get(1).getPlayer();
+        Player player2 = session.getPlayers().get(2).getPlayer();
 
-        if (isOnePlayer) {
+        if (session.isOnePlayer()) {
             GameEndType endType = gameWon ? GameEndType.SOLO_VICTORY : GameEndType.SOLO_DEFEAT;
             int finalScore = scoreSystem.getPlayerScore(player1) + gameScore;
             System.out.println("🎯 Score final transmis: " + finalScore);
@@ -211,52 +245,67 @@ public class GameStateManager {
         if (gameEnded) {
             return;
         }
+        MatchSession session = session();
 
-        if (isOnePlayer) {
-            if (enemy != null && isEnemyDefeated()) {
+        if (session.isOnePlayer()) {
+            if (isEnemyDefeated(session)) {
                 setGameWon(true);
                 endGame();
-            } else if (isPlayerDefeated()) {
+            } else if (isPlayerDefeated(session)) {
                 setGameWon(false);
                 endGame();
             }
         } else {
-            boolean player1Alive = player1 != null && player1.isAlive();
-            boolean player2Alive = player2 != null && player2.isAlive();
+            // Partie terminée quand il reste au plus un survivant : victoire si c'est le joueur 1
+            int alive = 0;
+            Player survivor = null;
+            PlayerSlots players = session.getPlayers();
+            for (int i = 0; i < players.activeCount(); i++) {
+                Player player = players.active(i).getPlayer();
+                if (player.isAlive()) {
+                    alive++;
+                    if (survivor == null) {
+                        survivor = player;
+                    }
+                }
+            }
 
-            if (!player1Alive && !player2Alive) {
+            if (alive == 0) {
                 setGameWon(false);
                 endGame();
-            } else if (player1Alive && !player2Alive) {
-                setGameWon(true);
-                endGame();
-            } else if (!player1Alive && player2Alive) {
-                setGameWon(false);
+            } else if (alive == 1) {
+                setGameWon(survivor == players.get(1).getPlayer());
                 endGame();
             }
         }
     }
 
     /**
-     * Vérifie si l'ennemi est vaincu (mort).
-     * @return true si l'ennemi est mort
+     * Vérifie si les ennemis sont vaincus (tous morts).
+     * @param session session de la partie
+     * @return true si la carte avait des ennemis et qu'ils sont tous morts
      */
-    private boolean isEnemyDefeated() {
-        return enemy != null && enemy.isDead();
+    private boolean isEnemyDefeated(MatchSession session) {
+        return session.getEnemies().allDefeated();
     }
 
     /**
      * Vérifie si le(s) joueur(s) sont vaincus.
+     * @param session session de la partie
      * @return true si joueur(s) mort(s)
      */
-    private boolean isPlayerDefeated() {
-        if (isOnePlayer) {
+    private boolean isPlayerDefeated(MatchSession session) {
+        PlayerSlots players = session.getPlayers();
+        if (session.isOnePlayer()) {
+            Player player1 = players.get(1).getPlayer();
             return player1 == null || !player1.isAlive();
-        } else {
-            boolean player1Alive = player1 != null && player1.isAlive();
-            boolean player2Alive = player2 != null && player2.isAlive();
-            return !player1Alive && !player2Alive;
         }
+        for (int i = 0; i < players.activeCount(); i++) {
+            if (players.active(i).getPlayer().isAlive()) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -264,18 +313,18 @@ public class GameStateManager {
      */
     public void resetGameEntities() {
         System.out.println("🔄 Réinitialisation des entités du jeu...");
+        MatchSession session = session();
 
-        if (player1 != null) {
-            player1.setAlive(true);
-            System.out.println("✅ Joueur 1 réinitialisé");
+        PlayerSlots players = session.getPlayers();
+        for (int i = 0; i < players.activeCount(); i++) {
+            PlayerSlot slot = players.active(i);
+            slot.getPlayer().setAlive(true);
+            System.out.println("✅ Joueur " + slot.getNumber() + " réinitialisé");
         }
-        if (player2 != null) {
-            player2.setAlive(true);
-            System.out.println("✅ Joueur 2 réinitialisé");
-        }
-        if (enemy != null) {
-            enemy.setAlive(true);
-            System.out.println("✅ Ennemi réinitialisé");
+        EnemyRegistry enemies = session.getEnemies();
+        if (!enemies.isEmpty()) {
+            enemies.reviveAll();
+            System.out.println("✅ Ennemis réinitialisés (" + enemies.size() + ")");
         }
         System.out.println("🎮 Toutes les entités ont été réinitialisées");
     }
@@ -287,6 +336,7 @@ public class GameStateManager {
         System.out.println("🔄 Réinitialisation de l'état du jeu...");
 
         this.gameEnded = false;
+        this.endEffectsDone = false;
         this.gameWon = false;
         this.gameScore = 0;
         this.gameStartTime = System.currentTimeMillis();
@@ -299,74 +349,42 @@ public class GameStateManager {
         System.out.println("✅ État du jeu réinitialisé");
     }
 
-    // === Méthodes pour les boutons (appelées depuis EndGameController) ===
-
     /**
-     * Relance une nouvelle partie (restart) en réinitialisant tout et rechargeant la vue de jeu.
+     * Sauvegarde l'issue de la partie et les scores.
+     * @param state instantané à remplir
      */
-    public void restartGame() {
-        javafx.application.Platform.runLater(() -> {
-            try {
-                System.out.println("🔄 DÉBUT DU RESTART...");
-
-                resetGameState();
-                resetGameEntities();
-
-                javafx.fxml.FXMLLoader loader = new javafx.fxml.FXMLLoader(
-                        getClass().getResource("/fxml/game-view.fxml")
-                );
-                javafx.scene.Parent gameRoot = loader.load();
-
-                com.superbomberman.controller.GameViewController gameController = loader.getController();
-                if (currentUser != null) {
-                    gameController.setCurrentUser(currentUser);
-                }
-
-                javafx.stage.Stage stage = getCurrentStage();
-                if (stage != null) {
-                    javafx.scene.Scene newScene = new javafx.scene.Scene(gameRoot);
-                    stage.setScene(newScene);
-                    stage.setTitle("Super Bomberman - " + (isOnePlayer ? "1 Joueur" : "2 Joueurs"));
-                    stage.sizeToScene();
-                    stage.centerOnScreen();
-                    System.out.println("✅ RESTART TERMINÉ AVEC SUCCÈS !");
-                }
-            } catch (Exception e) {
-                System.err.println("❌ ERREUR DURANT LE RESTART:");
-                e.printStackTrace();
-            }
-        });
-    }
-
-    /**
-     * Retourne au menu principal.
-     */
-    public void returnToMenu() {
-        javafx.application.Platform.runLater(() -> {
-            try {
-                javafx.fxml.FXMLLoader loader = new javafx.fxml.FXMLLoader(
-                        getClass().getResource("/fxml/menu.fxml")
-                );
-                javafx.scene.Parent menuRoot = loader.load();
-
-                javafx.stage.Stage stage = getCurrentStage();
-                if (stage != null) {
-                    stage.setScene(new javafx.scene.Scene(menuRoot));
-                    stage.setTitle("Super Bomberman - Menu");
-                    stage.sizeToScene();
-                }
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-        });
+    public void save(State state) {
+        PlayerSlots slots = session().getPlayers();
+        for (int i = 0; i < slots.activeCount(); i++) {
+            PlayerSlot slot = slots.active(i);
+            state.scores[slot.getIndex()] = scoreSystem.getScore(slot.getPlayer());
+            state.livesEarned[slot.getIndex()] = scoreSystem.getLivesEarned(slot.getPlayer());
+        }
+        state.gameScore = gameScore;
+        state.gameWon = gameWon;
+        state.gameEnded = gameEnded;
+        state.winner = winner;
     }
 
     /**
-     * Ferme proprement le jeu.
+     * Remet l'issue de la partie et les scores dans l'état d'une sauvegarde. Les effets
+     * déjà produits par une fin de partie (écran de fin, statistiques) ne sont pas annulés.
+     * @param state instantané rempli par {@link #save(State)}
+     * @throws IllegalArgumentException si l'instantané est vide
      */
-    public void quitGame() {
-        System.out.println("Quitter le jeu");
-        javafx.application.Platform.exit();
+    public void restore(State state) {
+        if (state.gameScore < 0) {
+            throw new IllegalArgumentException("Instantané d'état de partie vide");
+        }
+        PlayerSlots slots = session().getPlayers();
+        for (int i = 0; i < slots.activeCount(); i++) {
+            PlayerSlot slot = slots.active(i);
+            scoreSystem.restoreScore(slot.getPlayer(), state.scores[slot.getIndex()], state.livesEarned[slot.getIndex()]);
+        }
+        gameScore = state.gameScore;
+        gameWon = state.gameWon;
+        gameEnded = state.gameEnded;
+        winner = state.winner;
     }
 
     // === Getters ===
@@ -1,25 +1,48 @@
 package com.superbomberman.game;
 
+import com.superbomberman.logging.GameLog;
 import com.superbomberman.model.Player;
 import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.GridPane;
 
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Set;
 
 import static com.superbomberman.controller.MenuController.isOnePlayer;
 
 /**
  * Gestionnaire des entrées clavier du jeu
+ * <p>
+ * Traduit les touches JavaFX en masques {@link PlayerInput} consommés par la
+ * {@link GameSimulation} à chaque tick, selon les {@link KeyBindings} de chaque joueur.
+ * </p>
+ * <p>
+ * Les touches enfoncées sont aussi tenues dans des tableaux, mis à jour à chaque
+ * événement clavier : le relevé de chaque frame ({@link #pollInputMask(int)}) n'alloue rien.
+ * </p>
  *
  * @author Jules Fuselier
- * @version 1.0
+ * @version 1.4 - Appuis ponctuels hors commandes des joueurs (overlay du profileur)
  * @since 2025-06-08
  */
 public class InputHandler {
-    private Set<KeyCode> pressedKeys = new HashSet<>();
+    /** Affectation par défaut, utilisée par {@link #toInputMask(Set, int)}. */
+    private static final KeyBindings DEFAULT_BINDINGS = KeyBindings.defaults();
+
+    private KeyBindings keyBindings = DEFAULT_BINDINGS;
+    private final Set<KeyCode> pressedKeys = EnumSet.noneOf(KeyCode.class);
+    private final Set<KeyCode> pressedKeysView = Collections.unmodifiableSet(pressedKeys);
+    /** Touches pressées depuis le dernier relevé (pour ne pas perdre un appui très bref). */
+    private final Set<KeyCode> latchedKeys = EnumSet.noneOf(KeyCode.class);
+    /** Contenu de {@link #pressedKeys} et {@link #latchedKeys}, parcouru sans itérateur. */
+    private final KeyCode[] heldKeys = new KeyCode[KeyCode.values().length];
+    private int heldCount;
+    private final KeyCode[] latchedKeyList = new KeyCode[KeyCode.values().length];
+    private int latchedCount;
 
     /**
      * Configure la gestion des événements clavier
@@ -29,55 +52,163 @@ public class InputHandler {
         gameGrid.setFocusTraversable(true);
 
         gameGrid.setOnKeyPressed(event -> {
-            System.out.println("DEBUG: Touche pressée sur gameGrid: " + event.getCode());
-            pressedKeys.add(event.getCode());
+            GameLog.debug("Touche pressée sur gameGrid: {}", event.getCode());
+            keyPressed(event.getCode());
             event.consume(); // Empêcher la propagation
         });
 
         gameGrid.setOnKeyReleased(event -> {
-            System.out.println("DEBUG: Touche relâchée sur gameGrid: " + event.getCode());
-            pressedKeys.remove(event.getCode());
+            GameLog.debug("Touche relâchée sur gameGrid: {}", event.getCode());
+            keyReleased(event.getCode());
             event.consume(); // Empêcher la propagation
         });
 
         // Clic pour forcer le focus
         gameGrid.setOnMouseClicked(event -> {
             gameGrid.requestFocus();
-            System.out.println("DEBUG: Focus demandé via clic");
+            GameLog.debug("Focus demandé via clic");
         });
 
         // Debug du focus
         gameGrid.focusedProperty().addListener((obs, oldVal, newVal) -> {
-            System.out.println("DEBUG: Focus du gameGrid: " + newVal);
+            GameLog.debug("Focus du gameGrid: {}", newVal);
         });
 
         // Configuration sur la scene une fois qu'elle est disponible
         Platform.runLater(() -> {
             Scene scene = gameGrid.getScene();
             if (scene != null) {
-                System.out.println("DEBUG: Configuration des événements sur la scene");
+                GameLog.debug("Configuration des événements sur la scene");
 
                 scene.setOnKeyPressed(event -> {
-                    System.out.println("DEBUG: Touche pressée sur scene: " + event.getCode());
-                    pressedKeys.add(event.getCode());
+                    GameLog.debug("Touche pressée sur scene: {}", event.getCode());
+                    keyPressed(event.getCode());
                     // Ne pas consommer ici pour permettre au gameGrid de recevoir aussi
                 });
 
                 scene.setOnKeyReleased(event -> {
-                    System.out.println("DEBUG: Touche relâchée sur scene: " + event.getCode());
-                    pressedKeys.remove(event.getCode());
+                    GameLog.debug("Touche relâchée sur scene: {}", event.getCode());
+                    keyReleased(event.getCode());
                     // Ne pas consommer ici pour permettre au gameGrid de recevoir aussi
                 });
 
                 // Forcer le focus initial
                 gameGrid.requestFocus();
-                System.out.println("DEBUG: Focus initial demandé");
+                GameLog.debug("Focus initial demandé");
             } else {
-                System.err.println("DEBUG: Scene non disponible!");
+                GameLog.warn("Scene non disponible!");
             }
         });
     }
 
+    /**
+     * Enregistre l'appui d'une touche (maintenue, et mémorisée jusqu'au prochain relevé).
+     *
+     * @param key touche pressée
+     */
+    public void keyPressed(KeyCode key) {
+        if (pressedKeys.add(key)) {
+            heldKeys[heldCount++] = key;
+        }
+        if (latchedKeys.add(key)) {
+            latchedKeyList[latchedCount++] = key;
+        }
+    }
+
+    /**
+     * Enregistre le relâchement d'une touche.
+     *
+     * @param key touche relâchée
+     */
+    public void keyReleased(KeyCode key) {
+        if (!pressedKeys.remove(key)) {
+            return;
+        }
+        for (int i = 0; i < heldCount; i++) {
+            if (heldKeys[i] == key) {
+                heldKeys[i] = heldKeys[--heldCount];
+                heldKeys[heldCount] = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Convertit un ensemble de touches en masque {@link PlayerInput} pour un joueur,
+     * selon l'affectation par défaut ({@link KeyBindings#defaults()}).
+     *
+     * @param keys touches enfoncées
+     * @param playerNumber numéro du joueur (1 à 8)
+     * @return masque d'entrée du joueur
+     */
+    public static int toInputMask(Set<KeyCode> keys, int playerNumber) {
+        return DEFAULT_BINDINGS.toInputMask(keys, playerNumber);
+    }
+
+    /**
+     * Remplace l'affectation des touches.
+     *
+     * @param keyBindings nouvelle affectation
+     */
+    public void setKeyBindings(KeyBindings keyBindings) {
+        this.keyBindings = keyBindings;
+    }
+
+    /** @return affectation des touches utilisée */
+    public KeyBindings getKeyBindings() {
+        return keyBindings;
+    }
+
+    /**
+     * Relève le masque d'entrée courant d'un joueur : touches maintenues, plus
+     * les actions pressées depuis le relevé précédent (même si déjà relâchées).
+     *
+     * @param playerNumber numéro du joueur (1 à 8)
+     * @return masque d'entrée du joueur pour le prochain tick
+     */
+    public int pollInputMask(int playerNumber) {
+        int input = PlayerInput.NONE;
+        for (int i = 0; i < heldCount; i++) {
+            input |= keyBindings.inputOf(playerNumber, heldKeys[i]);
+        }
+        // Les actions mémorisées de ce joueur sont consommées, celles des autres restent
+        int kept = 0;
+        for (int i = 0; i < latchedCount; i++) {
+            KeyCode key = latchedKeyList[i];
+            int action = keyBindings.inputOf(playerNumber, key) & PlayerInput.ACTION_MASK;
+            if (action != PlayerInput.NONE) {
+                input |= action;
+                latchedKeys.remove(key);
+            } else {
+                latchedKeyList[kept++] = key;
+            }
+        }
+        Arrays.fill(latchedKeyList, kept, latchedCount, null);
+        latchedCount = kept;
+        return input;
+    }
+
+    /**
+     * Consomme l'appui d'une touche qui ne commande aucun joueur (raccourci de l'interface) :
+     * chaque appui n'est signalé qu'une fois, même s'il a déjà été relâché.
+     *
+     * @param key touche attendue
+     * @return true si la touche a été pressée depuis le dernier appel
+     */
+    public boolean consumePress(KeyCode key) {
+        if (!latchedKeys.remove(key)) {
+            return false;
+        }
+        for (int i = 0; i < latchedCount; i++) {
+            if (latchedKeyList[i] == key) {
+                latchedKeyList[i] = latchedKeyList[--latchedCount];
+                latchedKeyList[latchedCount] = null;
+                break;
+            }
+        }
+        return true;
+    }
+
     /**
      * Traite les actions immédiates (bombes, powers spéciaux)
      */
@@ -85,38 +216,38 @@ public class InputHandler {
         // Actions du joueur 1 (Flèches + SPACE + SHIFT + L + R)
         if (pressedKeys.contains(KeyCode.SPACE)) {
             bombManager.placeBomb(player1, 1);
-            pressedKeys.remove(KeyCode.SPACE); // Éviter la répétition
+            keyReleased(KeyCode.SPACE); // Éviter la répétition
         }
         if (pressedKeys.contains(KeyCode.SHIFT)) {
             bombManager.handleBombPickupOrThrow(player1, 1);
-            pressedKeys.remove(KeyCode.SHIFT);
+            keyReleased(KeyCode.SHIFT);
         }
         if (pressedKeys.contains(KeyCode.L)) {
             bombManager.placeLineBombs(player1, 1);
-            pressedKeys.remove(KeyCode.L);
+            keyReleased(KeyCode.L);
         }
         if (pressedKeys.contains(KeyCode.R)) {
             bombManager.detonateRemoteBombs(player1, 1);
-            pressedKeys.remove(KeyCode.R);
+            keyReleased(KeyCode.R);
         }
 
         // Actions du joueur 2 (ZQSD + ENTER + CTRL + K + O)
         if (!isOnePlayer && player2 != null) {
             if (pressedKeys.contains(KeyCode.ENTER)) {
                 bombManager.placeBomb(player2, 2);
-                pressedKeys.remove(KeyCode.ENTER);
+                keyReleased(KeyCode.ENTER);
             }
             if (pressedKeys.contains(KeyCode.CONTROL)) {
                 bombManager.handleBombPickupOrThrow(player2, 2);
-                pressedKeys.remove(KeyCode.CONTROL);
+                keyReleased(KeyCode.CONTROL);
             }
             if (pressedKeys.contains(KeyCode.K)) {
                 bombManager.placeLineBombs(player2, 2);
-                pressedKeys.remove(KeyCode.K);
+                keyReleased(KeyCode.K);
             }
             if (pressedKeys.contains(KeyCode.O)) {
                 bombManager.detonateRemoteBombs(player2, 2);
-                pressedKeys.remove(KeyCode.O);
+                keyReleased(KeyCode.O);
             }
         }
     }
@@ -204,6 +335,11 @@ public class InputHandler {
      */
     public void clearPressedKeys() {
         pressedKeys.clear();
+        latchedKeys.clear();
+        Arrays.fill(heldKeys, 0, heldCount, null);
+        heldCount = 0;
+        Arrays.fill(latchedKeyList, 0, latchedCount, null);
+        latchedCount = 0;
     }
 
     /**
@@ -214,9 +350,10 @@ public class InputHandler {
     }
 
     /**
-     * Retourne une copie de l'ensemble des touches actuellement pressées.
+     * Retourne les touches actuellement pressées.
+     * @return vue en lecture seule (sans copie) de l'ensemble des touches pressées
      */
     public Set<KeyCode> getPressedKeys() {
-        return new HashSet<>(pressedKeys); // Retourne une copie pour éviter les modifications externes
+        return pressedKeysView;
     }
 }
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.superbomberman.game;
+
+import javafx.scene.input.KeyCode;
+
+import java.util.Set;
+
+/**
+ * Affectation des touches du clavier aux entrées {@link PlayerInput} de chaque joueur.
+ * <p>
+ * Une table par place de joueur associe à chaque {@link KeyCode} (par ordinal) les bits
+ * {@link PlayerInput} qu'elle déclenche : la conversion d'un ensemble de touches ne
+ * parcourt que les touches enfoncées, quel que soit le nombre de joueurs. Les places
+ * sans touche affectée (IA, joueurs distants) produisent simplement un masque vide.
+ * </p>
+ *
+ * <ul>
+ *     <li>Joueur 1 : flèches, SPACE (bombe), SHIFT (glove), L (LineBomb), R (remote)</li>
+ *     <li>Joueur 2 : ZQSD, ENTER (bombe), CTRL (glove), K (LineBomb), O (remote)</li>
+ *     <li>Joueur 3 : pavé numérique 8-5-4-6, 0 (bombe), 7 (glove), 9 (LineBomb), 1 (remote)</li>
+ * </ul>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class KeyBindings {
+
+    private static final int KEY_COUNT = KeyCode.values().length;
+
+    /** Bits {@link PlayerInput} de chaque touche, par place de joueur. */
+    private final int[][] masks = new int[PlayerSlots.MAX_PLAYERS][KEY_COUNT];
+
+    /**
+     * @return affectation par défaut (joueurs 1 à 3 au clavier)
+     */
+    public static KeyBindings defaults() {
+        KeyBindings bindings = new KeyBindings();
+        bindings.bindAll(1, KeyCode.UP, KeyCode.DOWN, KeyCode.LEFT, KeyCode.RIGHT,
+                KeyCode.SPACE, KeyCode.SHIFT, KeyCode.L, KeyCode.R);
+        bindings.bindAll(2, KeyCode.Z, KeyCode.S, KeyCode.Q, KeyCode.D,
+                KeyCode.ENTER, KeyCode.CONTROL, KeyCode.K, KeyCode.O);
+        bindings.bindAll(3, KeyCode.NUMPAD8, KeyCode.NUMPAD5, KeyCode.NUMPAD4, KeyCode.NUMPAD6,
+                KeyCode.NUMPAD0, KeyCode.NUMPAD7, KeyCode.NUMPAD9, KeyCode.NUMPAD1);
+        return bindings;
+    }
+
+    /**
+     * Affecte une touche à une entrée d'un joueur (en plus de ses affectations existantes).
+     *
+     * @param playerNumber numéro du joueur (1 à {@link PlayerSlots#MAX_PLAYERS})
+     * @param key touche
+     * @param input bit(s) {@link PlayerInput} déclenchés par la touche
+     */
+    public void bind(int playerNumber, KeyCode key, int input) {
+        masks[index(playerNumber)][key.ordinal()] |= input;
+    }
+
+    /**
+     * Retire toutes les affectations d'une touche pour un joueur.
+     *
+     * @param playerNumber numéro du joueur (1 à {@link PlayerSlots#MAX_PLAYERS})
+     * @param key touche
+     */
+    public void unbind(int playerNumber, KeyCode key) {
+        masks[index(playerNumber)][key.ordinal()] = PlayerInput.NONE;
+    }
+
+    /**
+     * @param playerNumber numéro du joueur (1 à {@link PlayerSlots#MAX_PLAYERS})
+     * @param key touche
+     * @return bits {@link PlayerInput} déclenchés par la touche pour ce joueur
+     */
+    public int inputOf(int playerNumber, KeyCode key) {
+        return masks[index(playerNumber)][key.ordinal()];
+    }
+
+    /**
+     * Convertit un ensemble de touches en masque {@link PlayerInput} pour un joueur.
+     *
+     * @param keys touches enfoncées
+     * @param playerNumber numéro du joueur (1 à {@link PlayerSlots#MAX_PLAYERS})
+     * @return masque d'entrée du joueur
+     */
+    public int toInputMask(Set<KeyCode> keys, int playerNumber) {
+        if (keys == null || keys.isEmpty()) {
+            return PlayerInput.NONE;
+        }
+        int[] table = masks[index(playerNumber)];
+        int input = PlayerInput.NONE;
+        for (KeyCode key : keys) {
+            input |= table[key.ordinal()];
+        }
+        return input;
+    }
+
+    private void bindAll(int playerNumber, KeyCode up, KeyCode down, KeyCode left, KeyCode right,
+                         KeyCode bomb, KeyCode glove, KeyCode lineBomb, KeyCode remote) {
+        bind(playerNumber, up, PlayerInput.UP);
+        bind(playerNumber, down, PlayerInput.DOWN);
+        bind(playerNumber, left, PlayerInput.LEFT);
+        bind(playerNumber, right, PlayerInput.RIGHT);
+        bind(playerNumber, bomb, PlayerInput.BOMB);
+        bind(playerNumber, glove, PlayerInput.GLOVE);
+        bind(playerNumber, lineBomb, PlayerInput.LINE_BOMB);
+        bind(playerNumber, remote, PlayerInput.REMOTE);
+    }
+
+    private static int index(int playerNumber) {
+        if (playerNumber < 1 || playerNumber > PlayerSlots.MAX_PLAYERS) {
+            throw new IllegalArgumentException("Numéro de joueur invalide : " + playerNumber);
+        }
+        return playerNumber - 1;
+    }
+}
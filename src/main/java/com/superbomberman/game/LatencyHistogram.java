@@ -0,0 +1,120 @@
+package com.superbomberman.game;
+
+import java.util.Arrays;
+
+/**
+ * Histogramme de durées à cases fixes, sur le modèle d'HdrHistogram.
+ * <p>
+ * Les valeurs (en nanosecondes) sont rangées dans des cases log-linéaires : exactes
+ * jusqu'à {@value #LINEAR_LIMIT}, puis {@value #SUB_BUCKETS} cases par puissance de deux,
+ * soit une erreur relative d'au plus 1/{@value #SUB_BUCKETS} (environ 3 %). Le tableau
+ * des compteurs est alloué une fois : {@link #record(long)} ne fait qu'incrémenter
+ * une case et peut donc être appelé à chaque tick.
+ * </p>
+ * <p>
+ * Les valeurs au-delà de {@link #MAX_VALUE} (environ 18 minutes) sont comptées dans
+ * la dernière case ; le maximum exact est conservé à part.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class LatencyHistogram {
+
+    /** Nombre de cases par puissance de deux au-delà de la zone linéaire. */
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Valeurs enregistrées exactement (une case par nanoseconde). */
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    private static final int LINEAR_BITS = SUB_BUCKET_BITS + 1;
+    /** Puissance de deux de la plus grande valeur distinguée. */
+    private static final int MAX_EXPONENT = 39;
+    /** Plus grande valeur distinguée par les cases. */
+    public static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    private final long[] counts = new long[LINEAR_LIMIT + (MAX_EXPONENT + 1 - LINEAR_BITS) * SUB_BUCKETS];
+    private long totalCount;
+    private long maxValue;
+    private long sum;
+
+    /**
+     * Enregistre une durée.
+     *
+     * @param nanos durée en nanosecondes (une valeur négative compte pour 0)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        counts[indexOf(Math.min(value, MAX_VALUE))]++;
+        totalCount++;
+        sum += value;
+        if (value > maxValue) {
+            maxValue = value;
+        }
+    }
+
+    /**
+     * Valeur sous laquelle se trouve un pourcentage des durées enregistrées
+     * (borne haute de la case atteinte, jamais au-dessus du maximum).
+     *
+     * @param percentile pourcentage entre 0 et 100
+     * @return durée en nanosecondes, 0 si rien n'a été enregistré
+     * @throws IllegalArgumentException si le pourcentage sort de [0, 100]
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("Percentile hors de [0, 100] : " + percentile);
+        }
+        if (totalCount == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    /** @return nombre de durées enregistrées */
+    public long getTotalCount() { return totalCount; }
+
+    /** @return plus grande durée enregistrée, en nanosecondes */
+    public long getMaxValue() { return maxValue; }
+
+    /** @return durée moyenne en nanosecondes, 0 si rien n'a été enregistré */
+    public double getMean() { return totalCount == 0 ? 0.0 : (double) sum / totalCount; }
+
+    /**
+     * Vide l'histogramme (sans réallouer les cases).
+     */
+    public void reset() {
+        Arrays.fill(counts, 0L);
+        totalCount = 0;
+        maxValue = 0;
+        sum = 0;
+    }
+
+    private static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return LINEAR_LIMIT + (exponent - LINEAR_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long highestValueOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int offset = index - LINEAR_LIMIT;
+        int shift = offset / SUB_BUCKETS + LINEAR_BITS - SUB_BUCKET_BITS;
+        long lowest = (long) (SUB_BUCKETS + offset % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,196 @@
+package com.superbomberman.game;
+
+import com.superbomberman.model.EnemyRegistry;
+import com.superbomberman.model.GameRandom;
+import com.superbomberman.model.MapLoader;
+import com.superbomberman.model.Player;
+import com.superbomberman.model.TileGrid;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Tout l'état d'une partie : carte, joueurs, ennemis, gestionnaires, aléa et réglages.
+ * <p>
+ * Les gestionnaires ({@link GameLogic}, {@link BombManager}, {@link PowerUpManager},
+ * {@link GameStateManager} et son {@link ScoreSystem}) reçoivent la session par référence
+ * et n'y lisent que ses données : deux sessions ne partagent aucun état mutable, un
+ * serveur peut donc faire tourner des centaines de parties en parallèle dans le même
+ * processus (une session n'est en revanche pas faite pour être avancée par deux
+ * threads à la fois).
+ * </p>
+ *
+ * <ul>
+ *     <li>{@link #create(List, MatchSettings, GameStateManager, long)} : partie indépendante, carte donnée par ses lignes</li>
+ *     <li>{@link #load(Path, MatchSettings, GameStateManager, long)} : idem, carte lue dans un fichier</li>
+ *     <li>{@link #fromLoadedMap(TileGrid, GameStateManager, long)} : partie lancée par l'interface,
+ *     à partir des entités chargées par {@link MapLoader#loadGrid(String)}</li>
+ * </ul>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class MatchSession {
+
+    private final MatchSettings settings;
+    private final TileGrid map;
+    private final PlayerSlots players;
+    private final EnemyRegistry enemies;
+    private final long seed;
+    /** Flux aléatoire unique de la partie, partagé par tous les gestionnaires. */
+    private final GameRandom random;
+
+    private GameStateManager gameStateManager;
+    private BombManager bombManager;
+    private PowerUpManager powerUpManager;
+    private GameLogic gameLogic;
+
+    /**
+     * Crée une session complète et ses gestionnaires.
+     *
+     * @param settings réglages de la partie
+     * @param map carte de la partie
+     * @param players places des joueurs
+     * @param enemies ennemis de la partie
+     * @param gameStateManager gestionnaire d'état (score, fin de partie)
+     * @param seed graine du générateur aléatoire de la partie
+     */
+    public MatchSession(MatchSettings settings, TileGrid map, PlayerSlots players, EnemyRegistry enemies,
+                        GameStateManager gameStateManager, long seed) {
+        this(settings, map, players, enemies, seed);
+        bindManagers(gameStateManager, null, null);
+        this.bombManager = new BombManager(this);
+        this.powerUpManager = new PowerUpManager(this);
+        this.gameLogic = new GameLogic(this);
+
+        bombManager.setManagers(null, powerUpManager, gameStateManager);
+        bombManager.setGameLogic(gameLogic);
+        for (Player player : players.activePlayers()) {
+            player.setRandom(random);
+        }
+    }
+
+    /**
+     * Session sans gestionnaires (ceux-ci sont rattachés ensuite par {@link #bindManagers}).
+     */
+    private MatchSession(MatchSettings settings, TileGrid map, PlayerSlots players, EnemyRegistry enemies, long seed) {
+        this.settings = settings;
+        this.map = map;
+        this.players = players;
+        this.enemies = enemies;
+        this.seed = seed;
+        this.random = new GameRandom(seed);
+    }
+
+    /**
+     * Crée une partie indépendante à partir des lignes d'une carte, sans toucher aux
+     * références globales de {@link MapLoader}.
+     *
+     * @param mapLines lignes de la carte
+     * @param settings réglages de la partie (en solo, seul le joueur 1 est placé)
+     * @param gameStateManager gestionnaire d'état de cette partie
+     * @param seed graine de la partie
+     * @return session prête à être simulée
+     */
+    public static MatchSession create(List<String> mapLines, MatchSettings settings,
+                                      GameStateManager gameStateManager, long seed) {
+        Player[] loaded = new Player[PlayerSlots.MAX_PLAYERS];
+        EnemyRegistry enemies = new EnemyRegistry();
+        TileGrid map = MapLoader.parseGrid(mapLines, loaded, enemies);
+        PlayerSlots players = new PlayerSlots();
+        int last = settings.isOnePlayer() ? 1 : PlayerSlots.MAX_PLAYERS;
+        for (int number = 1; number <= last; number++) {
+            if (loaded[number - 1] != null) {
+                players.assign(number, loaded[number - 1], PlayerSlot.Control.LOCAL);
+            }
+        }
+        if (!settings.isOnePlayer()) {
+            enemies.clear(); // Les ennemis ne participent qu'au mode solo
+        }
+        return new MatchSession(settings, map, players, enemies, gameStateManager, seed);
+    }
+
+    /**
+     * Crée une partie indépendante à partir d'un fichier de carte.
+     *
+     * @param mapFile fichier de carte
+     * @param settings réglages de la partie
+     * @param gameStateManager gestionnaire d'état de cette partie
+     * @param seed graine de la partie
+     * @return session prête à être simulée
+     * @throws IOException si la carte est illisible
+     */
+    public static MatchSession load(Path mapFile, MatchSettings settings,
+                                    GameStateManager gameStateManager, long seed) throws IOException {
+        return create(Files.readAllLines(mapFile), settings, gameStateManager, seed);
+    }
+
+    /**
+     * Crée la session d'une partie lancée par l'interface : joueurs et ennemis chargés
+     * par {@link MapLoader}, réglages lus dans le menu et les options.
+     *
+     * @param map carte chargée
+     * @param gameStateManager gestionnaire d'état de la partie
+     * @param seed graine de la partie
+     * @return session de la partie
+     */
+    public static MatchSession fromLoadedMap(TileGrid map, GameStateManager gameStateManager, long seed) {
+        MatchSettings settings = MatchSettings.fromGlobals();
+        return new MatchSession(settings, map, PlayerSlots.fromLoadedMap(settings.isOnePlayer()),
+                MapLoader.enemies, gameStateManager, seed);
+    }
+
+    /**
+     * Session réduite aux données (carte, joueurs, ennemis, réglages) lues dans les
+     * références globales, pour un gestionnaire construit seul (outils, tests).
+     *
+     * @param map carte (peut être null pour un gestionnaire qui n'en a pas besoin)
+     * @return session sans gestionnaires
+     */
+    public static MatchSession detached(TileGrid map) {
+        MatchSettings settings = MatchSettings.fromGlobals();
+        return new MatchSession(settings, map, PlayerSlots.fromLoadedMap(settings.isOnePlayer()),
+                MapLoader.enemies, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Rattache les gestionnaires d'une session construite par morceaux.
+     */
+    void bindManagers(GameStateManager gameStateManager, BombManager bombManager, PowerUpManager powerUpManager) {
+        this.gameStateManager = gameStateManager;
+        this.bombManager = bombManager;
+        this.powerUpManager = powerUpManager;
+        if (gameStateManager != null) {
+            gameStateManager.attach(this);
+        }
+    }
+
+    /** @return réglages de la partie */
+    public MatchSettings getSettings() { return settings; }
+    /** @return true en mode solo */
+    public boolean isOnePlayer() { return settings.isOnePlayer(); }
+    /** @return carte de la partie */
+    public TileGrid getMap() { return map; }
+    /** @return places des joueurs */
+    public PlayerSlots getPlayers() { return players; }
+    /** @return ennemis de la partie */
+    public EnemyRegistry getEnemies() { return enemies; }
+    /** @return graine de la partie */
+    public long getSeed() { return seed; }
+    /** @return flux aléatoire unique de la partie */
+    public GameRandom getRandom() { return random; }
+    /** @return gestionnaire d'état (null pour une session détachée) */
+    public GameStateManager getGameStateManager() { return gameStateManager; }
+    /** @return système de score (null pour une session détachée) */
+    public ScoreSystem getScoreSystem() { return gameStateManager != null ? gameStateManager.getScoreSystem() : null; }
+    /** @return gestionnaire des bombes */
+    public BombManager getBombManager() { return bombManager; }
+    /** @return gestionnaire des power-ups */
+    public PowerUpManager getPowerUpManager() { return powerUpManager; }
+    /** @return logique de jeu */
+    public GameLogic getGameLogic() { return gameLogic; }
+}
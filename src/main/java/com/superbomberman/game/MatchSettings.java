@@ -0,0 +1,68 @@
+package com.superbomberman.game;
+
+import com.superbomberman.controller.MenuController;
+import com.superbomberman.controller.OptionsController;
+
+/**
+ * Réglages figés d'une partie : mode de jeu, carte, difficulté et vitesse.
+ * <p>
+ * Les réglages sont copiés au lancement de la partie ({@link #fromGlobals()} lit le
+ * menu et l'écran d'options) puis ne changent plus : modifier les options pendant
+ * qu'une partie tourne, ou faire tourner plusieurs parties aux réglages différents
+ * dans le même processus, ne mélange pas les états.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class MatchSettings {
+
+    private final boolean onePlayer;
+    private final String mapName;
+    private final String difficulty;
+    private final double gameSpeed;
+
+    /**
+     * @param onePlayer true en mode solo (joueur 1 contre les ennemis)
+     * @param mapName nom du fichier de carte
+     * @param difficulty niveau de difficulté
+     * @param gameSpeed vitesse de jeu
+     */
+    public MatchSettings(boolean onePlayer, String mapName, String difficulty, double gameSpeed) {
+        this.onePlayer = onePlayer;
+        this.mapName = mapName;
+        this.difficulty = difficulty;
+        this.gameSpeed = gameSpeed;
+    }
+
+    /**
+     * Réglages par défaut d'un mode de jeu (serveur, tests).
+     *
+     * @param onePlayer true en mode solo
+     * @param mapName nom du fichier de carte
+     * @return réglages avec difficulté et vitesse par défaut
+     */
+    public static MatchSettings of(boolean onePlayer, String mapName) {
+        return new MatchSettings(onePlayer, mapName, "Normal", 3.0);
+    }
+
+    /**
+     * Copie les réglages choisis dans le menu et l'écran d'options.
+     *
+     * @return réglages de la partie lancée depuis l'interface
+     */
+    public static MatchSettings fromGlobals() {
+        return new MatchSettings(MenuController.isOnePlayer, OptionsController.getSelectedMap(),
+                OptionsController.getDifficulty(), OptionsController.getGameSpeed());
+    }
+
+    /** @return true en mode solo */
+    public boolean isOnePlayer() { return onePlayer; }
+    /** @return nom du fichier de carte */
+    public String getMapName() { return mapName; }
+    /** @return niveau de difficulté */
+    public String getDifficulty() { return difficulty; }
+    /** @return vitesse de jeu */
+    public double getGameSpeed() { return gameSpeed; }
+}
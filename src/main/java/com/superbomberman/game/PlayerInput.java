@@ -0,0 +1,62 @@
+package com.superbomberman.game;
+
+/**
+ * Encodage des entrées d'un joueur pour un tick de simulation.
+ * <p>
+ * Chaque entrée est un masque de bits indépendant de JavaFX : les touches de
+ * direction sont des états maintenus, les actions (bombe, glove, LineBomb, remote)
+ * sont déclenchées sur front montant par la {@link GameSimulation}.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@link #UP}, {@link #DOWN}, {@link #LEFT}, {@link #RIGHT} : déplacements</li>
+ *     <li>{@link #BOMB} : pose d'une bombe</li>
+ *     <li>{@link #GLOVE} : ramasser/lancer une bombe</li>
+ *     <li>{@link #LINE_BOMB} : pose de bombes en ligne</li>
+ *     <li>{@link #REMOTE} : détonation à distance</li>
+ * </ul>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class PlayerInput {
+
+    /** Aucune touche enfoncée. */
+    public static final int NONE = 0;
+    /** Déplacement vers le haut. */
+    public static final int UP = 1;
+    /** Déplacement vers le bas. */
+    public static final int DOWN = 1 << 1;
+    /** Déplacement vers la gauche. */
+    public static final int LEFT = 1 << 2;
+    /** Déplacement vers la droite. */
+    public static final int RIGHT = 1 << 3;
+    /** Pose d'une bombe. */
+    public static final int BOMB = 1 << 4;
+    /** Ramasser ou lancer une bombe (Glove Power). */
+    public static final int GLOVE = 1 << 5;
+    /** Pose de bombes en ligne (LineBomb Power). */
+    public static final int LINE_BOMB = 1 << 6;
+    /** Détonation à distance (Remote Power). */
+    public static final int REMOTE = 1 << 7;
+
+    /** Masque des touches de déplacement. */
+    public static final int MOVEMENT_MASK = UP | DOWN | LEFT | RIGHT;
+    /** Masque des actions déclenchées sur front montant. */
+    public static final int ACTION_MASK = BOMB | GLOVE | LINE_BOMB | REMOTE;
+
+    private PlayerInput() {
+    }
+
+    /**
+     * Vérifie si un bit d'entrée est présent dans un masque.
+     *
+     * @param input masque d'entrée du joueur
+     * @param bit bit à tester (ex : {@link #BOMB})
+     * @return true si le bit est présent
+     */
+    public static boolean has(int input, int bit) {
+        return (input & bit) != 0;
+    }
+}
@@ -0,0 +1,126 @@
+package com.superbomberman.game;
+
+import com.superbomberman.model.Player;
+
+/**
+ * Place d'un joueur dans une partie : le joueur lui-même, l'origine de ses entrées
+ * et l'état que la logique de jeu tient pour lui.
+ * <p>
+ * Toutes les données par joueur (dernière direction pour le lancer de bombe,
+ * horodatages de déplacement et de malus AUTO_BOMB, mort, entrées du tick précédent)
+ * vivent ici plutôt que dans des champs « joueur 1 / joueur 2 » : la logique de jeu
+ * parcourt simplement les places actives de {@link PlayerSlots}.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.2 - Suppression du contrôle BOT, qu'aucune source d'entrées n'alimentait
+ * @since 2026-10-17
+ */
+public final class PlayerSlot {
+
+    /**
+     * Origine des entrées d'un joueur. Les bots scriptés ({@code BotClient}) se connectent
+     * au serveur comme n'importe quel client et sont donc des places {@link #REMOTE}.
+     */
+    public enum Control {
+        /** Clavier local, via les {@link KeyBindings}. */
+        LOCAL,
+        /** Entrées reçues d'un client distant. */
+        REMOTE
+    }
+
+    private final int number;
+    private Player player;
+    private Control control = Control.LOCAL;
+
+    private int lastDirectionX = 0;
+    private int lastDirectionY = 1;
+    private long lastMoveTime = 0;
+    private long lastAutoBombTime = 0;
+    private boolean dead = false;
+    private int previousInput = PlayerInput.NONE;
+
+    /**
+     * @param number numéro du joueur (1 à {@link PlayerSlots#MAX_PLAYERS})
+     */
+    PlayerSlot(int number) {
+        this.number = number;
+    }
+
+    /** @return numéro du joueur (1 à {@link PlayerSlots#MAX_PLAYERS}) */
+    public int getNumber() { return number; }
+    /** @return indice de la place (numéro - 1) */
+    public int getIndex() { return number - 1; }
+    /** @return joueur occupant la place, null si elle est libre */
+    public Player getPlayer() { return player; }
+    /** @return origine des entrées du joueur */
+    public Control getControl() { return control; }
+    /** @return true si un joueur occupe la place */
+    public boolean isActive() { return player != null; }
+
+    void setPlayer(Player player, Control control) {
+        this.player = player;
+        this.control = control;
+    }
+
+    /** @return composante X de la dernière direction */
+    public int getLastDirectionX() { return lastDirectionX; }
+    /** @return composante Y de la dernière direction */
+    public int getLastDirectionY() { return lastDirectionY; }
+
+    /**
+     * @param dirX composante X de la direction
+     * @param dirY composante Y de la direction
+     */
+    public void setLastDirection(int dirX, int dirY) {
+        this.lastDirectionX = dirX;
+        this.lastDirectionY = dirY;
+    }
+
+    /** @return horodatage du dernier déplacement (nanosecondes) */
+    public long getLastMoveTime() { return lastMoveTime; }
+    /** @param lastMoveTime horodatage du dernier déplacement (nanosecondes) */
+    public void setLastMoveTime(long lastMoveTime) { this.lastMoveTime = lastMoveTime; }
+
+    /** @return horodatage de la dernière bombe du malus AUTO_BOMB (nanosecondes) */
+    public long getLastAutoBombTime() { return lastAutoBombTime; }
+    /** @param lastAutoBombTime horodatage de la dernière bombe automatique (nanosecondes) */
+    public void setLastAutoBombTime(long lastAutoBombTime) { this.lastAutoBombTime = lastAutoBombTime; }
+
+    /** @return true si le joueur a été éliminé */
+    public boolean isDead() { return dead; }
+    /** @param dead true si le joueur a été éliminé */
+    public void setDead(boolean dead) { this.dead = dead; }
+
+    /** @return masque {@link PlayerInput} du tick précédent (détection des fronts montants) */
+    public int getPreviousInput() { return previousInput; }
+    /** @param previousInput masque {@link PlayerInput} du tick courant */
+    public void setPreviousInput(int previousInput) { this.previousInput = previousInput; }
+
+    /**
+     * Recopie l'état de partie d'une autre place (le joueur et son mode de contrôle ne sont
+     * pas copiés).
+     *
+     * @param other place dont l'état est recopié
+     */
+    void copyStateFrom(PlayerSlot other) {
+        lastDirectionX = other.lastDirectionX;
+        lastDirectionY = other.lastDirectionY;
+        lastMoveTime = other.lastMoveTime;
+        lastAutoBombTime = other.lastAutoBombTime;
+        dead = other.dead;
+        previousInput = other.previousInput;
+    }
+
+    /**
+     * Remet à zéro l'état de partie (le joueur et son mode de contrôle sont conservés).
+     */
+    public void reset() {
+        lastDirectionX = 0;
+        lastDirectionY = 1;
+        lastMoveTime = 0;
+        lastAutoBombTime = 0;
+        dead = false;
+        previousInput = PlayerInput.NONE;
+    }
+}
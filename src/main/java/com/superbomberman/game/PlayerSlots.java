@@ -0,0 +1,152 @@
+package com.superbomberman.game;
+
+import com.superbomberman.model.MapLoader;
+import com.superbomberman.model.Player;
+
+import java.util.Arrays;
+
+/**
+ * Places des joueurs d'une partie, de 1 à {@value #MAX_PLAYERS}.
+ * <p>
+ * Les {@value #MAX_PLAYERS} places existent toujours (l'état par numéro de joueur est
+ * donc disponible même pour un joueur qui n'est pas sur la carte) ; seules les places
+ * occupées sont parcourues par la simulation, via un tableau compact tenu à jour à
+ * chaque affectation : le coût par tick est linéaire en nombre de joueurs actifs.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@link #get(int)} : place d'un numéro de joueur</li>
+ *     <li>{@link #activeCount()} / {@link #active(int)} : places occupées, par numéro croissant</li>
+ *     <li>{@link #activePlayers()} : joueurs des places occupées (sources du {@link FlowField})</li>
+ * </ul>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class PlayerSlots {
+
+    /** Nombre maximal de joueurs d'une partie. */
+    public static final int MAX_PLAYERS = MapLoader.MAX_PLAYERS;
+
+    private final PlayerSlot[] slots = new PlayerSlot[MAX_PLAYERS];
+    private final PlayerSlot[] active = new PlayerSlot[MAX_PLAYERS];
+    private int activeCount = 0;
+    private Player[] activePlayers = new Player[0];
+
+    /**
+     * Crée des places toutes libres.
+     */
+    public PlayerSlots() {
+        for (int i = 0; i < MAX_PLAYERS; i++) {
+            slots[i] = new PlayerSlot(i + 1);
+        }
+    }
+
+    /**
+     * Crée les places à partir des joueurs chargés par {@link MapLoader} : le joueur 1
+     * seul en mode solo, tous les joueurs présents sur la carte sinon, au clavier local.
+     *
+     * @param onePlayer true en mode solo
+     * @return places des joueurs de la carte
+     */
+    public static PlayerSlots fromLoadedMap(boolean onePlayer) {
+        PlayerSlots slots = new PlayerSlots();
+        int last = onePlayer ? 1 : MAX_PLAYERS;
+        for (int number = 1; number <= last; number++) {
+            Player player = MapLoader.getPlayer(number);
+            if (player != null) {
+                slots.assign(number, player, PlayerSlot.Control.LOCAL);
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Place un joueur (ou libère la place avec null).
+     *
+     * @param number numéro du joueur (1 à {@value #MAX_PLAYERS})
+     * @param player joueur, null pour libérer la place
+     * @param control origine des entrées du joueur
+     * @return la place affectée
+     */
+    public PlayerSlot assign(int number, Player player, PlayerSlot.Control control) {
+        PlayerSlot slot = get(number);
+        slot.setPlayer(player, control);
+        rebuildActive();
+        return slot;
+    }
+
+    /**
+     * @param number numéro du joueur (1 à {@value #MAX_PLAYERS})
+     * @return la place de ce numéro
+     * @throws IllegalArgumentException si le numéro est hors limites
+     */
+    public PlayerSlot get(int number) {
+        if (number < 1 || number > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Numéro de joueur invalide : " + number);
+        }
+        return slots[number - 1];
+    }
+
+    /**
+     * @param player un joueur
+     * @return la place occupée par ce joueur, ou null
+     */
+    public PlayerSlot find(Player player) {
+        for (int i = 0; i < activeCount; i++) {
+            if (active[i].getPlayer() == player) {
+                return active[i];
+            }
+        }
+        return null;
+    }
+
+    /** @return nombre de places occupées */
+    public int activeCount() {
+        return activeCount;
+    }
+
+    /**
+     * @param index rang parmi les places occupées (0 à {@link #activeCount()} - 1)
+     * @return la place occupée de ce rang
+     */
+    public PlayerSlot active(int index) {
+        return active[index];
+    }
+
+    /** @return plus grand numéro de joueur occupé, 0 si aucun (nombre d'entrées d'un replay) */
+    public int highestNumber() {
+        return activeCount == 0 ? 0 : active[activeCount - 1].getNumber();
+    }
+
+    /** @return joueurs des places occupées, par numéro croissant (tableau partagé, ne pas modifier) */
+    public Player[] activePlayers() {
+        return activePlayers;
+    }
+
+    /** @return nombre de joueurs actifs non éliminés */
+    public int aliveCount() {
+        int alive = 0;
+        for (int i = 0; i < activeCount; i++) {
+            if (!active[i].isDead()) {
+                alive++;
+            }
+        }
+        return alive;
+    }
+
+    private void rebuildActive() {
+        activeCount = 0;
+        for (PlayerSlot slot : slots) {
+            if (slot.isActive()) {
+                active[activeCount++] = slot;
+            }
+        }
+        Arrays.fill(active, activeCount, MAX_PLAYERS, null);
+        activePlayers = new Player[activeCount];
+        for (int i = 0; i < activeCount; i++) {
+            activePlayers[i] = active[i].getPlayer();
+        }
+    }
+}
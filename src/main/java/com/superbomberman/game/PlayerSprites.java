@@ -0,0 +1,66 @@
+package com.superbomberman.game;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+/**
+ * Sprites des joueurs, partagés par le {@link VisualRenderer} et le {@link CanvasRenderer}.
+ * <p>
+ * Les joueurs 1 et 2 ont chacun leur image dans le thème. Les joueurs 3 à 8 reprennent
+ * celle du joueur 1 avec une teinte décalée, calculée une fois au chargement du thème :
+ * chaque place reste reconnaissable sur le plateau.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class PlayerSprites {
+
+    /** Décalage de teinte (degrés) de chaque joueur, index = numéro - 1 (joueurs 1 et 2 : image du thème). */
+    private static final double[] HUE_SHIFTS = {0, 0, 60, 120, 180, 240, 300, 30};
+
+    private PlayerSprites() {
+    }
+
+    /**
+     * Sprite d'un joueur.
+     *
+     * @param number numéro du joueur (1 à {@link PlayerSlots#MAX_PLAYERS})
+     * @param player1 image du joueur 1 dans le thème
+     * @param player2 image du joueur 2 dans le thème
+     * @return image du joueur (nouvelle image teintée au-delà du joueur 2)
+     */
+    static Image forPlayer(int number, Image player1, Image player2) {
+        if (number < 1 || number > PlayerSlots.MAX_PLAYERS) {
+            throw new IllegalArgumentException("Numéro de joueur invalide : " + number);
+        }
+        return switch (number) {
+            case 1 -> player1;
+            case 2 -> player2;
+            default -> tint(player1, HUE_SHIFTS[number - 1]);
+        };
+    }
+
+    /**
+     * Copie d'une image dont la teinte de chaque pixel est décalée (transparence conservée).
+     */
+    private static Image tint(Image source, double hueShift) {
+        PixelReader reader = source.getPixelReader();
+        if (reader == null || source.isError()) {
+            return source;
+        }
+        int width = (int) source.getWidth();
+        int height = (int) source.getHeight();
+        WritableImage tinted = new WritableImage(width, height);
+        PixelWriter writer = tinted.getPixelWriter();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                writer.setColor(x, y, reader.getColor(x, y).deriveColor(hueShift, 1, 1, 1));
+            }
+        }
+        return tinted;
+    }
+}
@@ -12,30 +12,97 @@
  *     <li>Application des effets selon le type de power-up</li>
  *     <li>Gestion des malus (SKULL)</li>
  *     <li>Statistiques et nettoyage des power-ups</li>
+ *     <li>Sauvegarde/restauration sans allocation des power-ups posés ({@link State})</li>
+ *     <li>Vue en lecture seule des power-ups posés, sans copie (flux des spectateurs)</li>
+ *     <li>Index des power-ups par case : collecte et recherche en temps constant</li>
+ *     <li>Événement JFR à chaque ramassage pendant un enregistrement ({@link PowerUpPickupEvent})</li>
  * </ul>
  *
  * @author Jules Fuselier
- * @version 1.1 - Correction des malus manquants
+ * @version 2.0 - Retrait d'un power-up en temps constant (échange avec le dernier)
  * @since 2025-06-08
  */
 package com.superbomberman.game;
 
+import com.superbomberman.jfr.GameEvents;
+import com.superbomberman.jfr.PowerUpPickupEvent;
+import com.superbomberman.logging.GameLog;
 import com.superbomberman.model.*;
 import com.superbomberman.model.powerup.*;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
-import static com.superbomberman.model.MapLoader.player1;
-import static com.superbomberman.model.MapLoader.player2;
 
 /**
  * Gestionnaire central des power-ups : ajout, détection collision, application effet, suppression.
  */
 public class PowerUpManager {
-    /** Liste des power-ups actifs sur la carte. */
-    private List<PowerUp> activePowerUps = new ArrayList<>();
+
+    /**
+     * Instantané des power-ups posés sur la carte (par référence : un power-up ne change
+     * pas une fois posé).
+     */
+    public static final class State {
+        private PowerUp[] powerUps = new PowerUp[16];
+        private int count = -1;
+    }
+
+    /**
+     * Liste des power-ups actifs sur la carte. Chaque power-up connaît sa position dans la
+     * liste ({@link PowerUp#getListIndex()}) : le retrait échange avec le dernier élément.
+     */
+    private final List<PowerUp> activePowerUps = new ArrayList<>();
+    private final List<PowerUp> activePowerUpsView = Collections.unmodifiableList(activePowerUps);
+    /** Premier power-up posé sur chaque case (index y * largeur + x), null si aucun. */
+    private PowerUp[] powerUpGrid;
+    /** Nombre de power-ups posés sur chaque case (plusieurs en cas rare). */
+    private int[] powerUpCountGrid;
+    private int width;
+    private int height;
+    /** Vrai si l'index suit la carte de la session (taille fixe). */
+    private final boolean fixedGrid;
     /** Système de score associé (pour la collecte de power-ups). */
     private ScoreSystem scoreSystem;
+    /** Générateur aléatoire de la partie (drops de power-ups). */
+    private RandomGenerator random;
+
+    /**
+     * Crée le gestionnaire des power-ups d'une session : drops tirés dans l'aléa de la
+     * partie, collectes comptées par son système de score.
+     * @param session session de la partie
+     */
+    public PowerUpManager(MatchSession session) {
+        this.random = session.getRandom();
+        this.scoreSystem = session.getScoreSystem();
+        TileGrid map = session.getMap();
+        this.width = map.getWidth();
+        this.height = map.getHeight();
+        this.powerUpGrid = new PowerUp[map.size()];
+        this.powerUpCountGrid = new int[map.size()];
+        this.fixedGrid = true;
+    }
+
+    /**
+     * Crée un gestionnaire des power-ups autonome (aléa non reproductible). Sans carte,
+     * l'index des cases s'agrandit au fil des power-ups posés.
+     */
+    public PowerUpManager() {
+        this.random = new SplittableRandom();
+        this.powerUpGrid = new PowerUp[0];
+        this.powerUpCountGrid = new int[0];
+        this.fixedGrid = false;
+    }
+
+    /**
+     * Injecte le générateur aléatoire de la partie.
+     * @param random générateur partagé par la session de jeu
+     */
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
+    }
 
     /**
      * Ajoute un power-up à la liste des power-ups actifs.
@@ -43,8 +110,10 @@ public class PowerUpManager {
      */
     public void addPowerUp(PowerUp powerUp) {
         if (powerUp != null) {
+            powerUp.setListIndex(activePowerUps.size());
             activePowerUps.add(powerUp);
-            System.out.println("Power-up ajouté à la position (" + powerUp.getX() + ", " + powerUp.getY() + "): " + powerUp.getType());
+            occupy(powerUp);
+            GameLog.info("Power-up ajouté à la position ({}, {}): {}", powerUp.getX(), powerUp.getY(), powerUp.getType());
         }
     }
 
@@ -55,18 +124,18 @@ public class PowerUpManager {
      * @return Le power-up généré, ou null si aucun
      */
     public PowerUp generateRandomPowerUp(int x, int y) {
-        if (Math.random() < 0.25) {
+        if (random.nextDouble() < 0.25) {
             try {
-                PowerUpType type = PowerUpType.randomType();
+                PowerUpType type = PowerUpType.randomType(random);
                 PowerUp powerUp = PowerUpFactory.create(type, x, y);
 
                 if (powerUp != null) {
                     addPowerUp(powerUp);
-                    System.out.println("Power-up généré: " + type + " à (" + x + ", " + y + ")");
+                    GameLog.info("Power-up généré: {} à ({}, {})", type, x, y);
                 }
                 return powerUp;
             } catch (Exception e) {
-                System.err.println("Erreur lors de la création du power-up: " + e.getMessage());
+                GameLog.warn("Erreur lors de la création du power-up: {}", e.getMessage());
             }
         }
         return null;
@@ -78,40 +147,60 @@ public class PowerUpManager {
      * @param player1 Joueur 1
      * @param player2 Joueur 2
      * @param gameStateManager Gestionnaire état de partie (pour score)
-     * @param visualRenderer Pour affichage/suppression visuelle des power-ups
+     * @param listener Pour affichage/suppression visuelle des power-ups
      */
-    public void checkPlayerCollisions(Player player1, Player player2, GameStateManager gameStateManager, VisualRenderer visualRenderer) {
+    public void checkPlayerCollisions(Player player1, Player player2, GameStateManager gameStateManager, GameListener listener) {
+        checkPlayerCollision(player1, 1, gameStateManager, listener);
+        if (player2 != null) {
+            checkPlayerCollision(player2, 2, gameStateManager, listener);
+        }
+    }
+
+    /**
+     * Vérifie si un joueur est sur un power-up ; si oui, applique l'effet et l'enlève de la carte.
+     * @param player Joueur à vérifier
+     * @param playerNumber Numéro du joueur (1 à 8)
+     * @param gameStateManager Gestionnaire état de partie (pour score)
+     * @param listener Pour affichage/suppression visuelle des power-ups
+     */
+    public void checkPlayerCollision(Player player, int playerNumber, GameStateManager gameStateManager, GameListener listener) {
+        if (player == null) {
+            return;
+        }
+        if (listener == null) {
+            listener = GameListener.NONE;
+        }
         if (gameStateManager != null && scoreSystem == null) {
             scoreSystem = gameStateManager.getScoreSystem();
         }
-        checkPlayerOnPowerUp(player1, 1, gameStateManager, visualRenderer);
-        if (player2 != null) {
-            checkPlayerOnPowerUp(player2, 2, gameStateManager, visualRenderer);
-        }
+        checkPlayerOnPowerUp(player, playerNumber, gameStateManager, listener);
     }
 
     /**
      * Vérifie si un joueur est sur un power-up et applique son effet.
      * @param player Joueur à vérifier
-     * @param playerNumber Numéro du joueur (1 ou 2)
+     * @param playerNumber Numéro du joueur (1 à 8)
      * @param gameStateManager Gestionnaire état du jeu
-     * @param visualRenderer Pour affichage/suppression visuelle
+     * @param listener Notifié de la collecte (suppression visuelle)
      */
-    private void checkPlayerOnPowerUp(Player player, int playerNumber, GameStateManager gameStateManager, VisualRenderer visualRenderer) {
-        PowerUp toCollect = null;
-
-        for (PowerUp powerUp : activePowerUps) {
-            if (powerUp.getX() == player.getX() && powerUp.getY() == player.getY()) {
-                toCollect = powerUp;
-                break;
-            }
-        }
+    private void checkPlayerOnPowerUp(Player player, int playerNumber, GameStateManager gameStateManager, GameListener listener) {
+        PowerUp toCollect = getPowerUpAt(player.getX(), player.getY());
 
         if (toCollect != null) {
-            System.out.println("Joueur " + playerNumber + ": Power-up collecté: " + toCollect.getType());
+            GameLog.info("Joueur {}: Power-up collecté: {}", playerNumber, toCollect.getType());
             applyPowerUpEffect(player, toCollect, playerNumber, gameStateManager);
-            visualRenderer.removePowerUpVisual(toCollect);
-            activePowerUps.remove(toCollect);
+            removePowerUp(toCollect);
+            listener.onPowerUpCollected(toCollect);
+            if (GameEvents.isRecording()) {
+                PowerUpPickupEvent event = new PowerUpPickupEvent();
+                if (event.shouldCommit()) {
+                    event.playerNumber = playerNumber;
+                    event.x = toCollect.getX();
+                    event.y = toCollect.getY();
+                    event.powerUpType = toCollect.getType().name();
+                    event.commit();
+                }
+            }
         }
     }
 
@@ -131,22 +220,19 @@ public class PowerUpManager {
 
         // Affiche l'effet selon le type
         switch (powerUp.getType()) {
-            case RANGE_UP -> System.out.println("Joueur " + playerNumber + ": Range augmentée! (" + player.getExplosionRange() + ")");
-            case BOMB_UP -> System.out.println("Joueur " + playerNumber + ": Bombes max augmentées! (" + player.getMaxBombs() + ")");
-            case SPEED_UP -> System.out.println("Joueur " + playerNumber + ": Vitesse augmentée! (" + player.getSpeed() + ")");
-            case GLOVE -> System.out.println("Joueur " + playerNumber + ": Glove activé! (" +
-                    (playerNumber == 1 ? "SHIFT" : "CTRL") + " pour ramasser/lancer)");
-            case KICK -> System.out.println("Joueur " + playerNumber + ": Kick activé! (marcher contre une bombe)");
-            case LINE_BOMB -> System.out.println("Joueur " + playerNumber + ": LineBomb activé! (" +
-                    (playerNumber == 1 ? "L" : "K") + ")");
-            case REMOTE -> System.out.println("Joueur " + playerNumber + ": Remote activé! (" +
-                    (playerNumber == 1 ? "R" : "O") + ")");
+            case RANGE_UP -> GameLog.info("Joueur {}: Range augmentée! ({})", playerNumber, player.getExplosionRange());
+            case BOMB_UP -> GameLog.info("Joueur {}: Bombes max augmentées! ({})", playerNumber, player.getMaxBombs());
+            case SPEED_UP -> GameLog.info("Joueur {}: Vitesse augmentée! ({})", playerNumber, player.getSpeed());
+            case GLOVE -> GameLog.info("Joueur {}: Glove activé! ({} pour ramasser/lancer)", playerNumber, (playerNumber == 1 ? "SHIFT" : "CTRL"));
+            case KICK -> GameLog.info("Joueur {}: Kick activé! (marcher contre une bombe)", playerNumber);
+            case LINE_BOMB -> GameLog.info("Joueur {}: LineBomb activé! ({})", playerNumber, (playerNumber == 1 ? "L" : "K"));
+            case REMOTE -> GameLog.info("Joueur {}: Remote activé! ({})", playerNumber, (playerNumber == 1 ? "R" : "O"));
             case SKULL -> {
-                System.out.println("Joueur " + playerNumber + ": MALUS SKULL! Un effet négatif aléatoire a été appliqué!");
+                GameLog.info("Joueur {}: MALUS SKULL! Un effet négatif aléatoire a été appliqué!", playerNumber);
                 displayCurrentMalus(player, playerNumber);
             }
-            case BOMB_PASS -> System.out.println("Joueur " + playerNumber + ": BombPass activé! (traverser ses propres bombes)");
-            case WALL_PASS -> System.out.println("Joueur " + playerNumber + ": WallPass activé! (traverser les murs destructibles)");
+            case BOMB_PASS -> GameLog.info("Joueur {}: BombPass activé! (traverser ses propres bombes)", playerNumber);
+            case WALL_PASS -> GameLog.info("Joueur {}: WallPass activé! (traverser les murs destructibles)", playerNumber);
         }
     }
 
@@ -168,17 +254,34 @@ public class PowerUpManager {
             };
 
             long timeRemaining = player.getMalusTimeRemaining() / 1000;
-            System.out.println("Joueur " + playerNumber + ": Malus actif - " + malusDescription +
-                    " (encore " + timeRemaining + " secondes)");
+            GameLog.info("Joueur {}: Malus actif - {} (encore {} secondes)", playerNumber, malusDescription, timeRemaining);
         }
     }
 
     /**
-     * Supprime un power-up spécifique.
+     * Supprime un power-up spécifique, en temps constant : le dernier power-up de la liste
+     * prend sa place.
      * @param powerUp à supprimer
      */
     public void removePowerUp(PowerUp powerUp) {
-        activePowerUps.remove(powerUp);
+        if (powerUp == null) {
+            return;
+        }
+        int index = powerUp.getListIndex();
+        if (index < 0 || index >= activePowerUps.size() || activePowerUps.get(index) != powerUp) {
+            // Position périmée (power-up d'un autre gestionnaire ou déjà retiré)
+            index = activePowerUps.indexOf(powerUp);
+            if (index < 0) {
+                return;
+            }
+        }
+        PowerUp last = activePowerUps.remove(activePowerUps.size() - 1);
+        if (last != powerUp) {
+            activePowerUps.set(index, last);
+            last.setListIndex(index);
+        }
+        powerUp.setListIndex(-1);
+        vacate(powerUp);
     }
 
     /**
@@ -187,39 +290,44 @@ public class PowerUpManager {
      * @param y ordonnée
      */
     public void removePowerUpsAt(int x, int y) {
-        activePowerUps.removeIf(powerUp -> powerUp.getX() == x && powerUp.getY() == y);
+        PowerUp powerUp = getPowerUpAt(x, y);
+        while (powerUp != null) {
+            removePowerUp(powerUp);
+            powerUp = getPowerUpAt(x, y);
+        }
     }
 
     /**
-     * Vérifie la présence d'un power-up sur une case.
+     * Vérifie la présence d'un power-up sur une case, en temps constant.
      * @param x abscisse
      * @param y ordonnée
      * @return true si power-up présent
      */
     public boolean hasPowerUpAt(int x, int y) {
-        return activePowerUps.stream()
-                .anyMatch(powerUp -> powerUp.getX() == x && powerUp.getY() == y);
+        return getPowerUpAt(x, y) != null;
     }
 
     /**
-     * Retourne le power-up à une position donnée (ou null).
+     * Retourne le power-up à une position donnée (ou null), en temps constant. Si
+     * plusieurs power-ups partagent la case, retourne le premier posé tant qu'il y reste.
      * @param x abscisse
      * @param y ordonnée
-     * @return power-up ou null
+     * @return power-up ou null (aussi hors carte)
      */
     public PowerUp getPowerUpAt(int x, int y) {
-        return activePowerUps.stream()
-                .filter(powerUp -> powerUp.getX() == x && powerUp.getY() == y)
-                .findFirst()
-                .orElse(null);
+        if (!isIndexed(x, y)) {
+            return null;
+        }
+        return powerUpGrid[y * width + x];
     }
 
     /**
      * Supprime tous les power-ups (pour reset).
      */
     public void clearAllPowerUps() {
+        clearGrid();
         activePowerUps.clear();
-        System.out.println("Tous les power-ups ont été supprimés");
+        GameLog.info("Tous les power-ups ont été supprimés");
     }
 
     /**
@@ -240,6 +348,130 @@ public class PowerUpManager {
         System.out.println("===============================");
     }
 
+    /**
+     * Sauvegarde la liste des power-ups posés.
+     * @param state instantané à remplir
+     */
+    public void save(State state) {
+        int size = activePowerUps.size();
+        if (state.powerUps.length < size) {
+            state.powerUps = new PowerUp[Math.max(size, state.powerUps.length * 2)];
+        }
+        for (int i = 0; i < size; i++) {
+            state.powerUps[i] = activePowerUps.get(i);
+        }
+        for (int i = size; i < state.count; i++) {
+            state.powerUps[i] = null;
+        }
+        state.count = size;
+    }
+
+    /**
+     * Remet les power-ups posés dans l'état d'une sauvegarde.
+     * @param state instantané rempli par {@link #save(State)}
+     * @throws IllegalArgumentException si l'instantané est vide
+     */
+    public void restore(State state) {
+        if (state.count < 0) {
+            throw new IllegalArgumentException("Instantané de power-ups vide");
+        }
+        clearGrid();
+        activePowerUps.clear();
+        for (int i = 0; i < state.count; i++) {
+            state.powerUps[i].setListIndex(i);
+            activePowerUps.add(state.powerUps[i]);
+            occupy(state.powerUps[i]);
+        }
+    }
+
+    // --- Index des cases ---
+
+    private boolean isIndexed(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * Enregistre un power-up sur sa case (le premier posé reste celui de la case).
+     * @param powerUp Le power-up ajouté à la liste
+     */
+    private void occupy(PowerUp powerUp) {
+        int x = powerUp.getX();
+        int y = powerUp.getY();
+        if (!isIndexed(x, y)) {
+            if (!fixedGrid && x >= 0 && y >= 0) {
+                // Gestionnaire sans carte : l'index grandit jusqu'à la case du power-up,
+                // déjà dans la liste et donc enregistré par l'agrandissement
+                growGrid(Math.max(width, x + 1), Math.max(height, y + 1));
+            }
+            return;
+        }
+        int index = y * width + x;
+        if (powerUpCountGrid[index]++ == 0) {
+            powerUpGrid[index] = powerUp;
+        }
+    }
+
+    /**
+     * Retire un power-up de sa case.
+     * @param powerUp Le power-up retiré de la liste
+     */
+    private void vacate(PowerUp powerUp) {
+        if (!isIndexed(powerUp.getX(), powerUp.getY())) {
+            return;
+        }
+        int index = powerUp.getY() * width + powerUp.getX();
+        if (powerUpCountGrid[index] == 0) {
+            return;
+        }
+        powerUpCountGrid[index]--;
+        if (powerUpCountGrid[index] == 0) {
+            powerUpGrid[index] = null;
+        } else if (powerUpGrid[index] == powerUp) {
+            // Cas rare : plusieurs power-ups sur la case, retrouver le premier qui reste
+            powerUpGrid[index] = findPowerUpAt(powerUp.getX(), powerUp.getY());
+        }
+    }
+
+    /**
+     * Recherche linéaire du premier power-up d'une case (cases partagées uniquement).
+     */
+    private PowerUp findPowerUpAt(int x, int y) {
+        for (PowerUp powerUp : activePowerUps) {
+            if (powerUp.getX() == x && powerUp.getY() == y) {
+                return powerUp;
+            }
+        }
+        return null;
+    }
+
+    /** Vide les cases occupées par les power-ups de la liste. */
+    private void clearGrid() {
+        for (int i = 0; i < activePowerUps.size(); i++) {
+            PowerUp powerUp = activePowerUps.get(i);
+            if (isIndexed(powerUp.getX(), powerUp.getY())) {
+                int index = powerUp.getY() * width + powerUp.getX();
+                powerUpGrid[index] = null;
+                powerUpCountGrid[index] = 0;
+            }
+        }
+    }
+
+    /** Agrandit l'index d'un gestionnaire sans carte, puis y réenregistre les power-ups. */
+    private void growGrid(int newWidth, int newHeight) {
+        width = newWidth;
+        height = newHeight;
+        powerUpGrid = new PowerUp[width * height];
+        powerUpCountGrid = new int[width * height];
+        for (PowerUp powerUp : activePowerUps) {
+            if (isIndexed(powerUp.getX(), powerUp.getY())) {
+                int index = powerUp.getY() * width + powerUp.getX();
+                if (powerUpCountGrid[index]++ == 0) {
+                    powerUpGrid[index] = powerUp;
+                }
+            }
+        }
+    }
+
     // === GETTERS ===
 
     /** @return copie de la liste des power-ups actifs */
@@ -247,6 +479,14 @@ public class PowerUpManager {
         return new ArrayList<>(activePowerUps);
     }
 
+    /**
+     * Vue en lecture seule des power-ups actifs, sans copie (pour les parcours à chaque tick).
+     * @return vue non modifiable de la liste des power-ups actifs
+     */
+    public List<PowerUp> getActivePowerUpsView() {
+        return activePowerUpsView;
+    }
+
     /** @return nombre de power-ups actifs */
     public int getActivePowerUpCount() {
         return activePowerUps.size();
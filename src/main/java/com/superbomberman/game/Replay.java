@@ -0,0 +1,206 @@
+package com.superbomberman.game;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Replay décodé : graine, carte et changements d'entrée de chaque joueur.
+ * <p>
+ * Format binaire (écrit par {@link ReplayRecorder}) :
+ * </p>
+ * <pre>
+ * "SBRP" | version (1 octet) | graine (8 octets) | joueurs (1 octet) | carte (varint longueur + UTF-8)
+ * enregistrement : varint(((écart en ticks) &lt;&lt; 3 | joueur) + 1) | varint(masque XOR ancien masque)
+ * fin            : varint(0) | varint(ticks après le dernier enregistrement)
+ * </pre>
+ * <p>
+ * Un fichier tronqué (partie interrompue) reste lisible : il s'arrête au dernier
+ * changement d'entrée complet.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class Replay {
+
+    /** Signature des fichiers de replay. */
+    static final byte[] MAGIC = {'S', 'B', 'R', 'P'};
+    /** Version du format. */
+    static final int VERSION = 1;
+    /** Nombre de bits réservés au numéro de joueur dans un enregistrement. */
+    static final int PLAYER_BITS = 3;
+    /** Nombre maximal de joueurs enregistrables. */
+    public static final int MAX_PLAYERS = 1 << PLAYER_BITS;
+    /** Valeur marquant la fin des enregistrements. */
+    static final int END_MARKER = 0;
+
+    private final long seed;
+    private final int playerCount;
+    private final String mapName;
+    private final long totalTicks;
+    private final long[] eventTicks;
+    private final byte[] eventPlayers;
+    private final int[] eventMasks;
+
+    private Replay(long seed, int playerCount, String mapName, long totalTicks,
+                   long[] eventTicks, byte[] eventPlayers, int[] eventMasks) {
+        this.seed = seed;
+        this.playerCount = playerCount;
+        this.mapName = mapName;
+        this.totalTicks = totalTicks;
+        this.eventTicks = eventTicks;
+        this.eventPlayers = eventPlayers;
+        this.eventMasks = eventMasks;
+    }
+
+    /**
+     * Lit un replay depuis un fichier.
+     *
+     * @param file fichier de replay
+     * @return le replay décodé
+     * @throws IOException si le fichier est illisible ou n'est pas un replay
+     */
+    public static Replay read(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Lit un replay depuis un flux.
+     *
+     * @param in flux positionné au début du replay
+     * @return le replay décodé
+     * @throws IOException si le flux est illisible ou n'est pas un replay
+     */
+    public static Replay read(InputStream in) throws IOException {
+        for (byte expected : MAGIC) {
+            if (readByte(in) != expected) {
+                throw new IOException("Fichier de replay invalide (signature)");
+            }
+        }
+        int version = readByte(in);
+        if (version != VERSION) {
+            throw new IOException("Version de replay non supportée : " + version);
+        }
+        long seed = 0;
+        for (int i = 0; i < 8; i++) {
+            seed = (seed << 8) | readByte(in);
+        }
+        int playerCount = readByte(in);
+        if (playerCount < 1 || playerCount > MAX_PLAYERS) {
+            throw new IOException("Nombre de joueurs invalide : " + playerCount);
+        }
+        byte[] name = new byte[(int) readVarint(in)];
+        for (int i = 0; i < name.length; i++) {
+            name[i] = (byte) readByte(in);
+        }
+
+        long[] ticks = new long[64];
+        byte[] players = new byte[64];
+        int[] masks = new int[64];
+        int[] current = new int[playerCount];
+        int count = 0;
+        long tick = 0;
+
+        while (true) {
+            long header;
+            try {
+                header = readVarint(in);
+            } catch (EOFException e) {
+                break; // Replay tronqué : on garde ce qui a été lu
+            }
+            if (header == END_MARKER) {
+                try {
+                    tick += readVarint(in);
+                } catch (EOFException ignored) {
+                    // Fin sans durée finale
+                }
+                break;
+            }
+            long value = header - 1;
+            int player = (int) (value & (MAX_PLAYERS - 1));
+            long delta = value >>> PLAYER_BITS;
+            int changed;
+            try {
+                changed = (int) readVarint(in);
+            } catch (EOFException e) {
+                break;
+            }
+            if (player >= playerCount) {
+                throw new IOException("Joueur hors limites dans le replay : " + player);
+            }
+            tick += delta;
+            current[player] ^= changed;
+
+            if (count == ticks.length) {
+                ticks = Arrays.copyOf(ticks, count * 2);
+                players = Arrays.copyOf(players, count * 2);
+                masks = Arrays.copyOf(masks, count * 2);
+            }
+            ticks[count] = tick;
+            players[count] = (byte) player;
+            masks[count] = current[player];
+            count++;
+        }
+
+        return new Replay(seed, playerCount, new String(name, StandardCharsets.UTF_8), tick,
+                Arrays.copyOf(ticks, count), Arrays.copyOf(players, count), Arrays.copyOf(masks, count));
+    }
+
+    private static int readByte(InputStream in) throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException("Fin de replay inattendue");
+        }
+        return b;
+    }
+
+    private static long readVarint(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte(in);
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint trop long dans le replay");
+    }
+
+    /** @return graine de la partie */
+    public long getSeed() { return seed; }
+    /** @return nombre de joueurs enregistrés */
+    public int getPlayerCount() { return playerCount; }
+    /** @return nom de la carte jouée */
+    public String getMapName() { return mapName; }
+    /** @return durée de la partie en ticks */
+    public long getTotalTicks() { return totalTicks; }
+    /** @return nombre de changements d'entrée */
+    public int getEventCount() { return eventTicks.length; }
+
+    /**
+     * @param index index du changement
+     * @return tick à partir duquel le nouveau masque s'applique
+     */
+    public long getEventTick(int index) { return eventTicks[index]; }
+
+    /**
+     * @param index index du changement
+     * @return joueur concerné (0 = joueur 1)
+     */
+    public int getEventPlayer(int index) { return eventPlayers[index]; }
+
+    /**
+     * @param index index du changement
+     * @return masque {@link PlayerInput} complet après le changement
+     */
+    public int getEventMask(int index) { return eventMasks[index]; }
+}
@@ -0,0 +1,172 @@
+package com.superbomberman.game;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Relecture d'un {@link Replay} dans une {@link GameSimulation}.
+ * <p>
+ * Les entrées enregistrées sont réinjectées tick par tick via {@link GameSimulation#step(int[])},
+ * exactement comme le ferait le clavier : avec la même graine et la même carte, la partie
+ * se redéroule à l'identique. La vitesse est libre : temps réel ({@code 1x}), accéléré
+ * ({@code 8x}) ou sans limite en mode sans interface ({@link #runToEnd()}).
+ * </p>
+ *
+ * <pre>
+ * java -cp target/classes com.superbomberman.game.ReplayPlayer data/replays/replay.sbr
+ * </pre>
+ *
+ * @author Jules Fuselier
+ * @version 1.2 - Graine de simulation différente de celle du replay refusée
+ * @since 2026-10-17
+ */
+public class ReplayPlayer {
+
+    /** Dossier des cartes, identique à celui du jeu. */
+    private static final String MAPS_DIR = "src/main/resources/maps/";
+    /** Nombre maximal de ticks rejoués par appel à {@link #advance(long)}. */
+    private static final int MAX_STEPS_PER_ADVANCE = 256;
+
+    private final Replay replay;
+    private final GameSimulation simulation;
+    private final int[] inputs;
+    private int nextEvent = 0;
+    private double speed = 1.0;
+    private double accumulator = 0;
+
+    /**
+     * Prépare la relecture.
+     *
+     * @param replay replay à rejouer
+     * @param simulation simulation fraîche, créée sur la carte du replay avec sa graine
+     * @throws IllegalArgumentException si la graine de la simulation n'est pas celle du replay
+     *         (la partie divergerait dès le premier tirage)
+     */
+    public ReplayPlayer(Replay replay, GameSimulation simulation) {
+        if (simulation.getSeed() != replay.getSeed()) {
+            throw new IllegalArgumentException("Graine de la simulation différente de celle du replay : "
+                    + simulation.getSeed() + " au lieu de " + replay.getSeed());
+        }
+        this.replay = replay;
+        this.simulation = simulation;
+        this.inputs = new int[Math.max(2, replay.getPlayerCount())];
+    }
+
+    /**
+     * Rejoue un tick.
+     *
+     * @return true si un tick a été rejoué, false si le replay est terminé
+     */
+    public boolean step() {
+        if (isFinished()) {
+            return false;
+        }
+        long tick = simulation.getTick() + 1;
+        while (nextEvent < replay.getEventCount() && replay.getEventTick(nextEvent) <= tick) {
+            inputs[replay.getEventPlayer(nextEvent)] = replay.getEventMask(nextEvent);
+            nextEvent++;
+        }
+        simulation.step(inputs);
+        return true;
+    }
+
+    /**
+     * Rejoue le temps écoulé à la vitesse courante (à appeler à chaque frame).
+     *
+     * @param elapsedNanos temps réel écoulé depuis l'appel précédent
+     * @return nombre de ticks rejoués
+     */
+    public int advance(long elapsedNanos) {
+        accumulator += elapsedNanos * speed;
+        int steps = 0;
+        while (accumulator >= GameSimulation.NANOS_PER_TICK && steps < MAX_STEPS_PER_ADVANCE && step()) {
+            accumulator -= GameSimulation.NANOS_PER_TICK;
+            steps++;
+        }
+        if (steps == MAX_STEPS_PER_ADVANCE || isFinished()) {
+            accumulator = 0;
+        }
+        return steps;
+    }
+
+    /**
+     * Rejoue tout le replay, sans limite de vitesse.
+     *
+     * @return nombre de ticks rejoués
+     */
+    public long runToEnd() {
+        long steps = 0;
+        while (step()) {
+            steps++;
+        }
+        return steps;
+    }
+
+    /** @return true si tous les ticks ont été rejoués ou si la partie est terminée */
+    public boolean isFinished() {
+        return simulation.isFinished() || simulation.getTick() >= replay.getTotalTicks();
+    }
+
+    /**
+     * Définit la vitesse de relecture pour {@link #advance(long)}.
+     *
+     * @param speed multiplicateur du temps réel (1 = temps réel, 8 = huit fois plus vite)
+     */
+    public void setSpeed(double speed) {
+        if (speed <= 0) {
+            throw new IllegalArgumentException("Vitesse de relecture invalide : " + speed);
+        }
+        this.speed = speed;
+    }
+
+    /** @return vitesse de relecture */
+    public double getSpeed() { return speed; }
+    /** @return replay en cours de lecture */
+    public Replay getReplay() { return replay; }
+    /** @return simulation pilotée par le replay */
+    public GameSimulation getSimulation() { return simulation; }
+
+    /**
+     * Charge la carte du replay dans une {@link MatchSession} indépendante et crée la
+     * simulation correspondante, sans interface.
+     *
+     * @param replay replay à rejouer
+     * @return lecteur prêt à démarrer
+     * @throws IOException si la carte est introuvable
+     */
+    public static ReplayPlayer headless(Replay replay) throws IOException {
+        MatchSettings settings = MatchSettings.of(replay.getPlayerCount() == 1, replay.getMapName());
+        MatchSession session = MatchSession.load(Paths.get(MAPS_DIR + replay.getMapName()), settings,
+                new GameStateManager(null, null), replay.getSeed());
+        GameSimulation simulation = new GameSimulation(session);
+        simulation.runHeadless();
+        return new ReplayPlayer(replay, simulation);
+    }
+
+    /**
+     * Rejoue un fichier de replay sans interface, à vitesse maximale.
+     *
+     * @param args chemin du fichier de replay
+     * @throws IOException si le replay ou sa carte est illisible
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage : ReplayPlayer <fichier.sbr>");
+            return;
+        }
+        Path file = Paths.get(args[0]);
+        Replay replay = Replay.read(file);
+        System.out.println("Replay " + file.getFileName() + " : carte " + replay.getMapName() + ", "
+                + replay.getPlayerCount() + " joueur(s), " + replay.getTotalTicks() + " ticks, graine " + replay.getSeed());
+
+        ReplayPlayer player = headless(replay);
+        long start = System.nanoTime();
+        long ticks = player.runToEnd();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000L;
+
+        GameSimulation simulation = player.getSimulation();
+        System.out.println("Rejoué " + ticks + " ticks en " + elapsedMs + " ms"
+                + (simulation.isFinished() ? " (partie terminée, victoire : " + simulation.getGameStateManager().isGameWon() + ")" : ""));
+    }
+}
@@ -0,0 +1,165 @@
+package com.superbomberman.game;
+
+import com.superbomberman.logging.GameLog;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Enregistreur de replay : graine de la partie et flux des entrées, tick par tick.
+ * <p>
+ * Seuls les changements d'entrée sont écrits, sous forme d'enregistrements compacts
+ * (voir {@link Replay} pour le format) : écart en ticks depuis le changement précédent
+ * et XOR avec l'ancien masque, le tout en varints. Un joueur change d'entrée quelques
+ * fois par seconde au plus : une heure de jeu tient en quelques dizaines de Ko, écrits
+ * au fil de l'eau dans un flux bufferisé.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@link #record(int[])} : appelé par la {@link GameSimulation} à chaque tick</li>
+ *     <li>{@link #close()} : écrit la fin du replay (nombre total de ticks)</li>
+ * </ul>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ReplayRecorder implements Closeable {
+
+    private final OutputStream out;
+    private final int[] lastMasks;
+    private long tick = 0;
+    private long lastEventTick = 0;
+    private long bytesWritten = 0;
+    private boolean closed = false;
+
+    /**
+     * Ouvre un enregistrement sur un flux et écrit l'en-tête.
+     *
+     * @param out flux de destination (bufferisé par l'appelant si besoin)
+     * @param seed graine de la partie
+     * @param playerCount nombre de joueurs enregistrés (1 à {@link Replay#MAX_PLAYERS})
+     * @param mapName nom de la carte jouée
+     * @throws IOException si l'en-tête ne peut être écrit
+     */
+    public ReplayRecorder(OutputStream out, long seed, int playerCount, String mapName) throws IOException {
+        if (playerCount < 1 || playerCount > Replay.MAX_PLAYERS) {
+            throw new IllegalArgumentException("Nombre de joueurs invalide : " + playerCount);
+        }
+        this.out = out;
+        this.lastMasks = new int[playerCount];
+
+        writeBytes(Replay.MAGIC);
+        writeByte(Replay.VERSION);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            writeByte((int) (seed >>> shift));
+        }
+        writeByte(playerCount);
+        byte[] name = (mapName != null ? mapName : "").getBytes(StandardCharsets.UTF_8);
+        writeVarint(name.length);
+        writeBytes(name);
+    }
+
+    /**
+     * Crée le fichier de replay (et ses dossiers) puis ouvre l'enregistrement.
+     *
+     * @param file fichier de destination
+     * @param seed graine de la partie
+     * @param playerCount nombre de joueurs enregistrés
+     * @param mapName nom de la carte jouée
+     * @return l'enregistreur ouvert
+     * @throws IOException si le fichier ne peut être créé
+     */
+    public static ReplayRecorder create(Path file, long seed, int playerCount, String mapName) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        return new ReplayRecorder(new BufferedOutputStream(Files.newOutputStream(file)), seed, playerCount, mapName);
+    }
+
+    /**
+     * Enregistre les entrées d'un tick. Seuls les masques modifiés produisent des octets.
+     *
+     * @param masks masques {@link PlayerInput} indexés par joueur (les joueurs en trop sont ignorés)
+     */
+    public void record(int[] masks) {
+        if (closed) {
+            return;
+        }
+        tick++;
+        try {
+            int count = Math.min(masks.length, lastMasks.length);
+            for (int player = 0; player < count; player++) {
+                int changed = masks[player] ^ lastMasks[player];
+                if (changed != 0) {
+                    long delta = tick - lastEventTick;
+                    writeVarint(((delta << Replay.PLAYER_BITS) | player) + 1);
+                    writeVarint(changed);
+                    lastMasks[player] = masks[player];
+                    lastEventTick = tick;
+                }
+            }
+        } catch (IOException e) {
+            GameLog.error("Erreur d'écriture du replay, enregistrement interrompu : {}", e.getMessage());
+            closeQuietly();
+        }
+    }
+
+    /**
+     * Termine le replay : marqueur de fin, nombre de ticks restants, puis fermeture du flux.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        try {
+            writeVarint(Replay.END_MARKER);
+            writeVarint(tick - lastEventTick);
+            out.flush();
+            GameLog.info("🎞️ Replay enregistré : {} ticks, {} octets", tick, bytesWritten);
+        } catch (IOException e) {
+            GameLog.error("Erreur de fin de replay : {}", e.getMessage());
+        }
+        closeQuietly();
+    }
+
+    private void closeQuietly() {
+        closed = true;
+        try {
+            out.close();
+        } catch (IOException ignored) {
+            // Rien à faire : le replay est déjà perdu
+        }
+    }
+
+    /** @return nombre de ticks enregistrés */
+    public long getTick() { return tick; }
+    /** @return nombre d'octets écrits (en-tête compris) */
+    public long getBytesWritten() { return bytesWritten; }
+    /** @return true si l'enregistrement est terminé */
+    public boolean isClosed() { return closed; }
+
+    private void writeVarint(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        writeByte((int) value);
+    }
+
+    private void writeByte(int value) throws IOException {
+        out.write(value);
+        bytesWritten++;
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        out.write(bytes);
+        bytesWritten += bytes.length;
+    }
+}
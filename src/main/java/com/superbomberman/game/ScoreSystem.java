@@ -1,5 +1,6 @@
 package com.superbomberman.game;
 
+import com.superbomberman.logging.GameLog;
 import com.superbomberman.model.Player;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -20,10 +21,11 @@ import java.util.Map;
  *     <li>Gestion des combos d'explosion avec multiplicateur</li>
  *     <li>Gestion des vies supplémentaires à chaque palier de score</li>
  *     <li>Affichage et accès aux scores individuels</li>
+ *     <li>Restauration d'un score sauvegardé (retour en arrière d'une partie en ligne)</li>
  * </ul>
  *
  * @author Jules Fuselier
- * @version 1.0
+ * @version 1.3 - Score et vies tenus dans un compteur mutable par joueur (ajout sans allocation)
  * @since 2025-06-10
  */
 public class ScoreSystem {
@@ -40,12 +42,17 @@ public class ScoreSystem {
     private static final int EXTRA_LIFE_THRESHOLD = 10000; // Tous les 10 000 points
 
     // --- État du système ---
-    /** Scores par joueur */
-    private Map<Player, Integer> playerScores = new HashMap<>();
+    /** Score et vies supplémentaires d'un joueur, modifiés sur place (pas d'entier emballé par ajout). */
+    private static final class Tally {
+        private int score;
+        /** Nombre de vies supplémentaires gagnées (calculé sur la base du score) */
+        private int livesEarned;
+    }
+
+    /** Scores et vies supplémentaires par joueur */
+    private Map<Player, Tally> playerTallies = new HashMap<>();
     /** Liste des points des combos en attente par joueur */
     private Map<Player, List<Integer>> playerCombos = new HashMap<>();
-    /** Nombre de vies supplémentaires gagnées par joueur (calculé sur la base du score) */
-    private Map<Player, Integer> playerLivesEarned = new HashMap<>();
     /** Référence vers le GameStateManager pour notification */
     private GameStateManager gameStateManager;
 
@@ -63,7 +70,7 @@ public class ScoreSystem {
      */
     public void addEnemyKilled(Player player) {
         playerCombos.computeIfAbsent(player, k -> new ArrayList<>()).add(POINTS_ENEMY_KILLED);
-        System.out.println("💀 Ennemi tué par " + player + " : +" + POINTS_ENEMY_KILLED + " points");
+        GameLog.info("💀 Ennemi tué par {} : +{} points", player, POINTS_ENEMY_KILLED);
     }
 
     /**
@@ -72,8 +79,8 @@ public class ScoreSystem {
      * @param player Joueur concerné
      */
     public void processExplosionCombo(Player player) {
-        List<Integer> comboList = playerCombos.getOrDefault(player, new ArrayList<>());
-        if (comboList.isEmpty()) {
+        List<Integer> comboList = playerCombos.get(player);
+        if (comboList == null || comboList.isEmpty()) {
             return;
         }
 
@@ -87,12 +94,12 @@ public class ScoreSystem {
             int points = basePoints * comboMultiplier;
             totalPoints += points;
 
-            System.out.println("🔥 Combo x" + comboMultiplier + " : " + basePoints + " -> " + points + " points");
+            GameLog.info("🔥 Combo x{} : {} -> {} points", comboMultiplier, basePoints, points);
         }
 
         // Affichage spécial si plusieurs ennemis touchés
         if (enemyCount > 1) {
-            System.out.println("🎊 COMBO " + enemyCount + " ENNEMIS pour " + player + " ! Total : +" + totalPoints + " points");
+            GameLog.info("🎊 COMBO {} ENNEMIS pour {} ! Total : +{} points", enemyCount, player, totalPoints);
         }
 
         addScore(player, totalPoints);
@@ -105,7 +112,7 @@ public class ScoreSystem {
      */
     public void addPowerUpCollected(Player player) {
         addScore(player, POINTS_POWERUP_COLLECTED);
-        System.out.println("✨ Power-up collecté par " + player + " : +" + POINTS_POWERUP_COLLECTED + " points");
+        GameLog.info("✨ Power-up collecté par {} : +{} points", player, POINTS_POWERUP_COLLECTED);
     }
 
     /**
@@ -114,7 +121,7 @@ public class ScoreSystem {
      */
     public void addWallDestroyed(Player player) {
         addScore(player, POINTS_WALL_DESTROYED);
-        System.out.println("🧱 Mur détruit par " + player + " : +" + POINTS_WALL_DESTROYED + " points");
+        GameLog.info("🧱 Mur détruit par {} : +{} points", player, POINTS_WALL_DESTROYED);
     }
 
     /**
@@ -129,11 +136,11 @@ public class ScoreSystem {
         }
 
         // Calculer le bonus de temps pour chaque joueur (décommenter si besoin)
-//        for (Player player : playerScores.keySet()) {
+//        for (Player player : playerTallies.keySet()) {
 //            calculateTimeBonus(player, maxTimeSeconds, usedTimeSeconds);
 //        }
 
-        System.out.println("🎉 Niveau terminé !");
+        GameLog.info("🎉 Niveau terminé !");
     }
 
     /**
@@ -142,14 +149,15 @@ public class ScoreSystem {
      * @param points Points à ajouter
      */
     private void addScore(Player player, int points) {
-        int newScore = playerScores.getOrDefault(player, 0) + points;
-        playerScores.put(player, newScore);
+        Tally tally = tally(player);
+        tally.score += points;
+        int newScore = tally.score;
 
         // Gestion des vies supplémentaires
         int lives = newScore / EXTRA_LIFE_THRESHOLD;
-        if (lives > playerLivesEarned.getOrDefault(player, 0)) {
-            playerLivesEarned.put(player, lives);
-            System.out.println("❤️ Vie supplémentaire gagnée par " + player + " !");
+        if (lives > tally.livesEarned) {
+            tally.livesEarned = lives;
+            GameLog.info("❤️ Vie supplémentaire gagnée par {} !", player);
         }
 
         // Notifier le GameStateManager
@@ -157,27 +165,38 @@ public class ScoreSystem {
             gameStateManager.updateScore(points);
         }
 
-        System.out.println("Score actuel de " + player + " : " + newScore);
+        if (GameLog.DEBUG) {
+            GameLog.debug("Score actuel de {} : {}", player, newScore);
+        }
+    }
+
+    /** Compteur du joueur, créé à son premier point. */
+    private Tally tally(Player player) {
+        Tally tally = playerTallies.get(player);
+        if (tally == null) {
+            tally = new Tally();
+            playerTallies.put(player, tally);
+        }
+        return tally;
     }
 
     /**
-     * Vérifie si le joueur a gagné des vies supplémentaires (obsolète, voir playerLivesEarned).
+     * Vérifie si le joueur a gagné des vies supplémentaires (obsolète, voir Tally.livesEarned).
      */
     @Deprecated
     private void checkExtraLives(int oldScore, int newScore) {
         int oldLives = oldScore / EXTRA_LIFE_THRESHOLD;
         int newLives = newScore / EXTRA_LIFE_THRESHOLD;
-        // Cette méthode n'est plus utilisée, car la gestion des vies se fait par joueur dans playerLivesEarned
+        // Cette méthode n'est plus utilisée, car la gestion des vies se fait par joueur dans Tally.livesEarned
     }
 
     /**
      * Remet à zéro le système de score.
      */
     public void reset() {
-        playerScores.clear();
+        playerTallies.clear();
         playerCombos.clear();
-        playerLivesEarned.clear();
-        System.out.println("🔄 Système de score remis à zéro");
+        GameLog.info("🔄 Système de score remis à zéro");
     }
 
     // --- Getters et utilitaires ---
@@ -188,7 +207,8 @@ public class ScoreSystem {
      * @return Score du joueur
      */
     public int getScore(Player player) {
-        return playerScores.getOrDefault(player, 0);
+        Tally tally = playerTallies.get(player);
+        return tally != null ? tally.score : 0;
     }
 
     /**
@@ -197,7 +217,31 @@ public class ScoreSystem {
      * @return Score du joueur
      */
     public int getPlayerScore(Player player) {
-        return playerScores.getOrDefault(player, 0);
+        return getScore(player);
+    }
+
+    /**
+     * Récupère le nombre de vies supplémentaires gagnées par un joueur.
+     * @param player Joueur concerné
+     * @return Vies supplémentaires gagnées
+     */
+    public int getLivesEarned(Player player) {
+        Tally tally = playerTallies.get(player);
+        return tally != null ? tally.livesEarned : 0;
+    }
+
+    /**
+     * Remet le score d'un joueur à une valeur sauvegardée.
+     * @param player Joueur concerné
+     * @param score Score sauvegardé
+     * @param livesEarned Vies supplémentaires sauvegardées
+     */
+    public void restoreScore(Player player, int score, int livesEarned) {
+        if (getScore(player) != score || getLivesEarned(player) != livesEarned) {
+            Tally tally = tally(player);
+            tally.score = score;
+            tally.livesEarned = livesEarned;
+        }
     }
 
     /**
@@ -205,8 +249,8 @@ public class ScoreSystem {
      */
     public void displayScoreSummary() {
         System.out.println("=== 📊 RÉSUMÉ DU SCORE ===");
-        for (Map.Entry<Player, Integer> entry : playerScores.entrySet()) {
-            System.out.println("Joueur " + entry.getKey() + " : " + entry.getValue() + " points");
+        for (Map.Entry<Player, Tally> entry : playerTallies.entrySet()) {
+            System.out.println("Joueur " + entry.getKey() + " : " + entry.getValue().score + " points");
         }
         System.out.println("========================");
     }
@@ -216,8 +260,7 @@ public class ScoreSystem {
      * @param player Joueur à enregistrer
      */
     public void registerPlayer(Player player) {
-        playerScores.putIfAbsent(player, 0);
+        tally(player);
         playerCombos.putIfAbsent(player, new ArrayList<>());
-        playerLivesEarned.putIfAbsent(player, 0);
     }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.superbomberman.game;
+
+import com.superbomberman.model.Player;
+
+/**
+ * Instantané complet d'une {@link GameSimulation}, réutilisé d'un tick à l'autre.
+ * <p>
+ * Contient tout ce qui évolue pendant une partie : cases de la carte (un octet par case),
+ * état de l'aléa ({@link com.superbomberman.model.GameRandom}), joueurs et places (copiés
+ * dans des objets « ombres »), bombes et minuteries ({@link BombManager.State}),
+ * power-ups posés, ennemis, issue de la partie et scores. Tous les tampons sont alloués à
+ * la création ou ne grandissent qu'avec le nombre de bombes : en régime établi,
+ * {@link GameSimulation#save(SimulationSnapshot)} et {@link GameSimulation#restore(SimulationSnapshot)}
+ * n'allouent rien et se mesurent en microsecondes.
+ * </p>
+ * <p>
+ * Un instantané n'est valable que pour la simulation qui l'a créé : les bombes et
+ * actions programmées y sont gardées par référence.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class SimulationSnapshot {
+
+    final GameSimulation owner;
+    long tick = -1;
+    boolean finished;
+    long randomState;
+    final byte[] cells;
+    /** Copies des joueurs et de leurs places, par rang de place active. */
+    final Player[] players;
+    final PlayerSlot[] slots;
+    final BombManager.State bombs = new BombManager.State();
+    final PowerUpManager.State powerUps = new PowerUpManager.State();
+    final GameLogic.State logic = new GameLogic.State();
+    final GameStateManager.State gameState = new GameStateManager.State();
+
+    /**
+     * Crée un instantané vide dimensionné pour une simulation.
+     *
+     * @param simulation simulation dont l'état sera sauvegardé
+     */
+    public SimulationSnapshot(GameSimulation simulation) {
+        this.owner = simulation;
+        this.cells = new byte[simulation.getMap().size()];
+        PlayerSlots playerSlots = simulation.getPlayerSlots();
+        this.players = new Player[playerSlots.activeCount()];
+        this.slots = new PlayerSlot[playerSlots.activeCount()];
+        for (int i = 0; i < players.length; i++) {
+            PlayerSlot slot = playerSlots.active(i);
+            players[i] = new Player(slot.getPlayer().getName());
+            slots[i] = new PlayerSlot(slot.getNumber());
+        }
+    }
+
+    /** @return tick de l'état sauvegardé, -1 si l'instantané est vide */
+    public long getTick() { return tick; }
+    /** @return true si aucun état n'a encore été sauvegardé */
+    public boolean isEmpty() { return tick < 0; }
+}
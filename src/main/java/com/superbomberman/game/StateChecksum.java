@@ -0,0 +1,78 @@
+package com.superbomberman.game;
+
+import com.superbomberman.model.Bomb;
+import com.superbomberman.model.Enemy;
+import com.superbomberman.model.Player;
+import com.superbomberman.model.TileGrid;
+
+import java.util.List;
+
+/**
+ * Empreinte 32 bits de l'état observable d'une partie.
+ * <p>
+ * Deux simulations déterministes qui ont reçu la même graine et les mêmes entrées ont la
+ * même empreinte à chaque tick : la comparer entre machines détecte une désynchronisation
+ * sans échanger l'état lui-même. L'empreinte couvre le tick, les cases de la carte, les
+ * joueurs (position, vie, capacités), les bombes et les ennemis ; elle se calcule sans
+ * allocation, par mélange multiplicatif des valeurs.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class StateChecksum {
+
+    private static final int SEED = 0x811C9DC5;
+    private static final int PRIME = 0x01000193;
+
+    private StateChecksum() {
+    }
+
+    /**
+     * @param simulation simulation à résumer
+     * @return empreinte de l'état courant
+     */
+    public static int of(GameSimulation simulation) {
+        int hash = mix(SEED, (int) simulation.getTick());
+
+        TileGrid map = simulation.getMap();
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int x = 0; x < map.getWidth(); x++) {
+                hash = mix(hash, map.get(x, y).ordinal());
+            }
+        }
+
+        PlayerSlots slots = simulation.getPlayerSlots();
+        for (int i = 0; i < slots.activeCount(); i++) {
+            Player player = slots.active(i).getPlayer();
+            hash = mix(hash, player.getX());
+            hash = mix(hash, player.getY());
+            hash = mix(hash, player.isAlive() ? 1 : 0);
+            hash = mix(hash, player.getMaxBombs());
+            hash = mix(hash, player.getExplosionRange());
+        }
+
+        List<Bomb> bombs = simulation.getBombManager().getActiveBombsView();
+        for (int i = 0; i < bombs.size(); i++) {
+            Bomb bomb = bombs.get(i);
+            hash = mix(hash, bomb.getX());
+            hash = mix(hash, bomb.getY());
+            hash = mix(hash, (int) bomb.getDetonationTick());
+        }
+
+        List<Enemy> enemies = simulation.getSession().getEnemies().getEnemies();
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            hash = mix(hash, enemy.getX());
+            hash = mix(hash, enemy.getY());
+            hash = mix(hash, enemy.isAlive() ? 1 : 0);
+        }
+        return hash;
+    }
+
+    private static int mix(int hash, int value) {
+        hash = (hash ^ value) * PRIME;
+        return hash ^ (hash >>> 15);
+    }
+}
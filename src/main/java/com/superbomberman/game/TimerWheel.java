@@ -0,0 +1,394 @@
+package com.superbomberman.game;
+
+import java.util.Arrays;
+
+/**
+ * Roue de minuteries hachée, cadencée par les ticks de la simulation.
+ * <p>
+ * Remplace les {@code Timeline} individuelles des bombes : toutes les échéances
+ * (mèches, pas de vol, pas de glissement, apparition de power-ups) sont rangées
+ * dans un tableau circulaire de cases indexé par {@code échéance & (taille - 1)}.
+ * Chaque {@link #advance()} ne parcourt que la case du tick courant ; les tâches
+ * dont l'échéance dépasse un tour de roue y restent simplement jusqu'au bon tour.
+ * </p>
+ *
+ * <ul>
+ *     <li>Programmation et annulation en O(1) (liste doublement chaînée par case)</li>
+ *     <li>Nœuds recyclés : aucune allocation en régime établi</li>
+ *     <li>Ordre déterministe : à échéance égale, ordre de programmation</li>
+ *     <li>Pause/reprise globale via {@link #setPaused(boolean)}</li>
+ *     <li>Sauvegarde/restauration sans allocation ({@link #save(State)}, {@link #restore(State)})</li>
+ * </ul>
+ *
+ * <p>
+ * Un identifiant de tâche combine l'index du nœud et sa génération : annuler une
+ * tâche déjà exécutée (dont le nœud a été réutilisé) n'a donc aucun effet.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.1 - Instantanés de la roue (rollback)
+ * @since 2026-10-17
+ */
+public class TimerWheel {
+
+    /** Nombre de cases par défaut (un peu plus de 4 s à 60 ticks/s). */
+    public static final int DEFAULT_WHEEL_SIZE = 256;
+
+    /** Case d'un nœud en cours d'exécution (sorti de la roue). */
+    private static final int FIRING = -1;
+    /** Case d'un nœud libre. */
+    private static final int FREE = -2;
+
+    /** Nœud de la roue, réutilisé d'une tâche à l'autre. */
+    private static final class Node {
+        private final int index;
+        private int generation;
+        private int slot = FREE;
+        private long deadline;
+        private Runnable action;
+        private Node prev;
+        private Node next;
+
+        private Node(int index) {
+            this.index = index;
+        }
+    }
+
+    /**
+     * Instantané de la roue : nœuds (index, génération, échéance, action, chaînages) et
+     * compteurs, copiés dans des tableaux réutilisés d'une sauvegarde à l'autre. Les
+     * actions sont conservées par référence.
+     */
+    public static final class State {
+        private int poolSize = -1;
+        private int[] generation = new int[0];
+        private int[] slot = new int[0];
+        private long[] deadline = new long[0];
+        private Runnable[] action = new Runnable[0];
+        private int[] prev = new int[0];
+        private int[] next = new int[0];
+        private int[] heads = new int[0];
+        private int[] tails = new int[0];
+        private int freeList;
+        private long currentTick;
+        private int pending;
+        private boolean paused;
+
+        private void ensureCapacity(int nodes, int wheelSize) {
+            if (generation.length < nodes) {
+                int capacity = Math.max(nodes, generation.length * 2);
+                generation = new int[capacity];
+                slot = new int[capacity];
+                deadline = new long[capacity];
+                action = new Runnable[capacity];
+                prev = new int[capacity];
+                next = new int[capacity];
+            }
+            if (heads.length != wheelSize) {
+                heads = new int[wheelSize];
+                tails = new int[wheelSize];
+            }
+        }
+    }
+
+    private final Node[] heads;
+    private final Node[] tails;
+    private final int mask;
+
+    /** Tous les nœuds créés, indexés par {@link Node#index}. */
+    private Node[] pool = new Node[64];
+    private int poolSize = 0;
+    /** Liste chaînée (via {@link Node#next}) des nœuds libres. */
+    private Node freeList;
+
+    /** Tampon des tâches à exécuter pour le tick courant. */
+    private Node[] due = new Node[16];
+
+    private long currentTick = 0;
+    private int pending = 0;
+    private boolean paused = false;
+
+    /**
+     * Crée une roue de {@value #DEFAULT_WHEEL_SIZE} cases.
+     */
+    public TimerWheel() {
+        this(DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Crée une roue avec un nombre de cases donné.
+     *
+     * @param wheelSize nombre de cases (puissance de 2)
+     * @throws IllegalArgumentException si la taille n'est pas une puissance de 2
+     */
+    public TimerWheel(int wheelSize) {
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("La taille de la roue doit être une puissance de 2 : " + wheelSize);
+        }
+        this.heads = new Node[wheelSize];
+        this.tails = new Node[wheelSize];
+        this.mask = wheelSize - 1;
+    }
+
+    /**
+     * Programme une action après un délai donné.
+     *
+     * @param delayTicks délai en ticks (0 = au prochain {@link #advance()})
+     * @param action action à exécuter
+     * @return identifiant de la tâche, utilisable avec {@link #cancel(long)}
+     */
+    public long schedule(long delayTicks, Runnable action) {
+        Node node = acquire();
+        node.deadline = currentTick + Math.max(1, delayTicks);
+        node.action = action;
+        link(node, (int) (node.deadline & mask));
+        pending++;
+        return ((long) node.generation << 32) | node.index;
+    }
+
+    /**
+     * Annule une tâche programmée (sans effet si elle a déjà été exécutée ou annulée).
+     *
+     * @param id identifiant retourné par {@link #schedule(long, Runnable)}
+     */
+    public void cancel(long id) {
+        if (id < 0) {
+            return;
+        }
+        int index = (int) id;
+        if (index >= poolSize) {
+            return;
+        }
+        Node node = pool[index];
+        if (node.generation != (int) (id >>> 32) || node.action == null) {
+            return;
+        }
+        node.action = null;
+        pending--;
+        if (node.slot >= 0) {
+            unlink(node);
+            release(node);
+        }
+        // Un nœud en cours d'exécution sera libéré à la fin du tick
+    }
+
+    /**
+     * Avance d'un tick et exécute les tâches arrivées à échéance, dans leur ordre
+     * de programmation. Sans effet lorsque la roue est en pause.
+     */
+    public void advance() {
+        if (paused) {
+            return;
+        }
+        currentTick++;
+        int slot = (int) (currentTick & mask);
+
+        // Sortir d'abord les tâches échues : une action peut annuler ou
+        // programmer d'autres tâches de la même case sans casser le parcours.
+        int dueCount = 0;
+        Node node = heads[slot];
+        while (node != null) {
+            Node next = node.next;
+            if (node.deadline <= currentTick) {
+                unlink(node);
+                node.slot = FIRING;
+                if (dueCount == due.length) {
+                    due = Arrays.copyOf(due, dueCount * 2);
+                }
+                due[dueCount++] = node;
+            }
+            node = next;
+        }
+
+        for (int i = 0; i < dueCount; i++) {
+            Node task = due[i];
+            due[i] = null;
+            Runnable action = task.action;
+            if (action != null) {
+                task.action = null;
+                pending--;
+                action.run();
+            }
+            release(task);
+        }
+    }
+
+    /**
+     * Supprime toutes les tâches en attente.
+     */
+    public void clear() {
+        for (int slot = 0; slot <= mask; slot++) {
+            Node node = heads[slot];
+            while (node != null) {
+                Node next = node.next;
+                node.action = null;
+                release(node);
+                node = next;
+            }
+            heads[slot] = null;
+            tails[slot] = null;
+        }
+        // Tâches sorties de la roue pendant un advance() en cours
+        for (Node node : due) {
+            if (node != null) {
+                node.action = null;
+            }
+        }
+        pending = 0;
+    }
+
+    /**
+     * Suspend ou reprend l'écoulement du temps : toutes les échéances sont
+     * décalées d'autant, sans toucher aux tâches une par une.
+     *
+     * @param paused true pour suspendre
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    /** @return true si la roue est en pause */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /** @return tick courant de la roue */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /** @return nombre de tâches en attente */
+    public int getPendingCount() {
+        return pending;
+    }
+
+    /**
+     * Sauvegarde l'état complet de la roue. À appeler entre deux {@link #advance()}.
+     *
+     * @param state instantané à remplir (ses tableaux ne grandissent qu'avec la roue)
+     */
+    public void save(State state) {
+        state.ensureCapacity(poolSize, heads.length);
+        for (int i = 0; i < poolSize; i++) {
+            Node node = pool[i];
+            state.generation[i] = node.generation;
+            state.slot[i] = node.slot;
+            state.deadline[i] = node.deadline;
+            state.action[i] = node.action;
+            state.prev[i] = indexOf(node.prev);
+            state.next[i] = indexOf(node.next);
+        }
+        for (int s = 0; s < heads.length; s++) {
+            state.heads[s] = indexOf(heads[s]);
+            state.tails[s] = indexOf(tails[s]);
+        }
+        state.poolSize = poolSize;
+        state.freeList = indexOf(freeList);
+        state.currentTick = currentTick;
+        state.pending = pending;
+        state.paused = paused;
+    }
+
+    /**
+     * Remet la roue dans l'état d'une sauvegarde : les tâches programmées depuis sont
+     * oubliées, celles exécutées ou annulées depuis sont de nouveau en attente. Les nœuds
+     * créés après la sauvegarde sont gardés comme nœuds libres.
+     *
+     * @param state instantané rempli par {@link #save(State)} sur cette roue
+     * @throws IllegalArgumentException si l'instantané est vide
+     */
+    public void restore(State state) {
+        if (state.poolSize < 0) {
+            throw new IllegalArgumentException("Instantané de roue vide");
+        }
+        for (int i = 0; i < state.poolSize; i++) {
+            Node node = pool[i];
+            node.generation = state.generation[i];
+            node.slot = state.slot[i];
+            node.deadline = state.deadline[i];
+            node.action = state.action[i];
+            node.prev = nodeAt(state.prev[i]);
+            node.next = nodeAt(state.next[i]);
+        }
+        Node free = nodeAt(state.freeList);
+        for (int i = poolSize - 1; i >= state.poolSize; i--) {
+            Node node = pool[i];
+            node.generation = (node.generation + 1) & Integer.MAX_VALUE;
+            node.slot = FREE;
+            node.action = null;
+            node.prev = null;
+            node.next = free;
+            free = node;
+        }
+        freeList = free;
+        for (int s = 0; s < heads.length; s++) {
+            heads[s] = nodeAt(state.heads[s]);
+            tails[s] = nodeAt(state.tails[s]);
+        }
+        currentTick = state.currentTick;
+        pending = state.pending;
+        paused = state.paused;
+    }
+
+    private static int indexOf(Node node) {
+        return node == null ? -1 : node.index;
+    }
+
+    private Node nodeAt(int index) {
+        return index < 0 ? null : pool[index];
+    }
+
+    // === Gestion des nœuds ===
+
+    private Node acquire() {
+        Node node = freeList;
+        if (node != null) {
+            freeList = node.next;
+            node.next = null;
+            return node;
+        }
+        if (poolSize == pool.length) {
+            pool = Arrays.copyOf(pool, poolSize * 2);
+        }
+        node = new Node(poolSize);
+        pool[poolSize++] = node;
+        return node;
+    }
+
+    private void release(Node node) {
+        node.generation = (node.generation + 1) & Integer.MAX_VALUE;
+        node.slot = FREE;
+        node.action = null;
+        node.prev = null;
+        node.next = freeList;
+        freeList = node;
+    }
+
+    private void link(Node node, int slot) {
+        node.slot = slot;
+        node.next = null;
+        node.prev = tails[slot];
+        if (tails[slot] == null) {
+            heads[slot] = node;
+        } else {
+            tails[slot].next = node;
+        }
+        tails[slot] = node;
+    }
+
+    private void unlink(Node node) {
+        int slot = node.slot;
+        if (node.prev == null) {
+            heads[slot] = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tails[slot] = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+}
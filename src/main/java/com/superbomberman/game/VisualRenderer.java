@@ -1,6 +1,7 @@
 package com.superbomberman.game;
 
 import com.superbomberman.controller.OptionsController;
+import com.superbomberman.logging.GameLog;
 import com.superbomberman.model.*;
 import com.superbomberman.model.powerup.PowerUp;
 import javafx.animation.PauseTransition;
@@ -19,14 +20,18 @@ import java.util.List;
 
 /**
  * Gestionnaire du rendu visuel du jeu
+ * <p>
+ * Implémente {@link GameListener} : la simulation notifie les changements
+ * d'état et le rendu met à jour les cellules de la grille concernées.
+ * </p>
  *
  * @author Jules Fuselier
- * @version 1.2 - Fix chemins d'images
+ * @version 1.6 - Un sprite par joueur (joueurs 3 à 8 teintés)
  * @since 2025-06-08
  */
-public class VisualRenderer {
+public class VisualRenderer implements GameListener {
     private GridPane gameGrid;
-    private Tile[][] map;
+    private TileGrid map;
 
     // Patterns pour les différents éléments
     private ImagePattern floorPattern;
@@ -34,6 +39,8 @@ public class VisualRenderer {
     private ImagePattern wallBreakablePattern;
     private ImagePattern playerPattern;
     private ImagePattern player2Pattern;
+    /** Motif de chaque joueur, index = numéro - 1. */
+    private final ImagePattern[] playerPatterns = new ImagePattern[PlayerSlots.MAX_PLAYERS];
     private ImagePattern enemyPattern;
     private ImagePattern bombPattern;
     private ImagePattern explosionPattern;
@@ -42,7 +49,7 @@ public class VisualRenderer {
     private ImagePattern bombPassPattern;
     private ImagePattern skullPattern;
 
-    public VisualRenderer(GridPane gameGrid, Tile[][] map) {
+    public VisualRenderer(GridPane gameGrid, TileGrid map) {
         this.gameGrid = gameGrid;
         this.map = map;
         loadPatterns();
@@ -69,8 +76,15 @@ public class VisualRenderer {
             floorPattern = new ImagePattern(new Image(getClass().getResource(basePath + "grass.png").toExternalForm()));
             wallPattern = new ImagePattern(new Image(getClass().getResource(basePath + "wall.png").toExternalForm()));
             wallBreakablePattern = new ImagePattern(new Image(getClass().getResource(basePath + "wall_breakable.png").toExternalForm()));
-            playerPattern = new ImagePattern(new Image(getClass().getResource(basePath + "player.png").toExternalForm()));
-            player2Pattern = new ImagePattern(new Image(getClass().getResource(basePath + "player2.png").toExternalForm()));
+            Image player1Image = new Image(getClass().getResource(basePath + "player.png").toExternalForm());
+            Image player2Image = new Image(getClass().getResource(basePath + "player2.png").toExternalForm());
+            playerPattern = new ImagePattern(player1Image);
+            player2Pattern = new ImagePattern(player2Image);
+            playerPatterns[0] = playerPattern;
+            playerPatterns[1] = player2Pattern;
+            for (int number = 3; number <= PlayerSlots.MAX_PLAYERS; number++) {
+                playerPatterns[number - 1] = new ImagePattern(PlayerSprites.forPlayer(number, player1Image, player2Image));
+            }
             enemyPattern = new ImagePattern(new Image(getClass().getResource(basePath + "enemy.png").toExternalForm()));
             bombPattern = new ImagePattern(new Image(getClass().getResource(basePath + "bomb.png").toExternalForm()));
             explosionPattern = new ImagePattern(new Image(getClass().getResource(basePath + "explosion.png").toExternalForm()));
@@ -79,9 +93,9 @@ public class VisualRenderer {
             bombPassPattern = new ImagePattern(new Image(getClass().getResource(basePath + "BombPass.png").toExternalForm()));
             skullPattern = new ImagePattern(new Image(getClass().getResource(basePath + "Skull.png").toExternalForm()));
 
-            System.out.println("✅ Patterns chargés avec succès depuis /images/!");
+            GameLog.info("✅ Patterns chargés avec succès depuis /images/!");
         } catch (Exception e) {
-            System.err.println("❌ Erreur lors du chargement des patterns: " + e.getMessage());
+            GameLog.error("❌ Erreur lors du chargement des patterns: {}", e.getMessage());
             e.printStackTrace();
         }
     }
@@ -94,8 +108,8 @@ public class VisualRenderer {
         gameGrid.getColumnConstraints().clear();
         gameGrid.getRowConstraints().clear();
 
-        int rows = map.length;
-        int cols = map[0].length;
+        int rows = map.getHeight();
+        int cols = map.getWidth();
 
         // Ajouter les contraintes de colonnes
         for (int i = 0; i < cols; i++) {
@@ -120,19 +134,19 @@ public class VisualRenderer {
         gameGrid.setVgap(0);
         gameGrid.setStyle("-fx-background-color: black; -fx-grid-lines-visible: false;");
 
-        System.out.println("✅ Contraintes de grille configurées: " + cols + "x" + rows);
+        GameLog.info("✅ Contraintes de grille configurées: {}x{}", cols, rows);
     }
 
     /**
      * Dessine la carte initiale
      */
     public void drawMap() {
-        for (int row = 0; row < map.length; row++) {
-            for (int col = 0; col < map[row].length; col++) {
-                createCell(col, row, map[row][col].getType());
+        for (int row = 0; row < map.getHeight(); row++) {
+            for (int col = 0; col < map.getWidth(); col++) {
+                createCell(col, row, map.get(col, row));
             }
         }
-        System.out.println("✅ Carte dessinée avec succès!");
+        GameLog.info("✅ Carte dessinée avec succès!");
     }
 
     /**
@@ -228,12 +242,12 @@ public class VisualRenderer {
                 }
             }
 
-            System.out.println("🧹 Position (" + prevX + ", " + prevY + ") nettoyée, reste " + prevCell.getChildren().size() + " éléments");
+            GameLog.debug("🧹 Position ({}, {}) nettoyée, reste {} éléments", prevX, prevY, prevCell.getChildren().size());
         }
 
         // Ajouter à la nouvelle position
         addEntityToGrid(enemy.getX(), enemy.getY(), enemyPattern);
-        System.out.println("👾 Ennemi déplacé vers (" + enemy.getX() + ", " + enemy.getY() + ")");
+        GameLog.debug("👾 Ennemi déplacé vers ({}, {})", enemy.getX(), enemy.getY());
     }
 
     /**
@@ -303,17 +317,17 @@ public class VisualRenderer {
 
                 // Redessiner le fond
                 Rectangle background = (Rectangle) cell.getChildren().get(0);
-                switch (map[y][x].getType()) {
+                switch (map.get(x, y)) {
                     case FLOOR -> background.setFill(floorPattern);
                     case WALL -> background.setFill(wallPattern);
                     case WALL_BREAKABLE -> background.setFill(wallBreakablePattern);
                 }
 
-                System.out.println("💥 Explosion supprimée à (" + x + ", " + y + ") après 0.5s");
+                GameLog.debug("💥 Explosion supprimée à ({}, {}) après 0.5s", x, y);
             });
             explosionDuration.play();
 
-            System.out.println("💥 Explosion affichée à (" + x + ", " + y + ") - suppression dans 0.5s");
+            GameLog.debug("💥 Explosion affichée à ({}, {}) - suppression dans 0.5s", x, y);
         }
     }
 
@@ -356,12 +370,14 @@ public class VisualRenderer {
 
     /**
      * Redessine une tuile à sa position
+     * @param x abscisse
+     * @param y ordonnée
+     * @param powerUpManager power-ups posés (recherche par case en temps constant), null si aucun
      */
-    public void redrawTile(int x, int y, List<PowerUp> activePowerUps) {
+    public void redrawTile(int x, int y, PowerUpManager powerUpManager) {
         StackPane cell = (StackPane) getNodeFromGridPane(x, y);
         if (cell != null) {
-            boolean hasPowerUp = activePowerUps.stream()
-                    .anyMatch(powerUp -> powerUp.getX() == x && powerUp.getY() == y);
+            boolean hasPowerUp = powerUpManager != null && powerUpManager.hasPowerUpAt(x, y);
 
             // Si pas de power-up, nettoyer toutes les entités
             if (!hasPowerUp && cell.getChildren().size() > 1) {
@@ -370,7 +386,7 @@ public class VisualRenderer {
 
             // Redessiner le fond
             Rectangle background = (Rectangle) cell.getChildren().get(0);
-            switch (map[y][x].getType()) {
+            switch (map.get(x, y)) {
                 case FLOOR -> background.setFill(floorPattern);
                 case WALL -> background.setFill(wallPattern);
                 case WALL_BREAKABLE -> background.setFill(wallBreakablePattern);
@@ -378,6 +394,65 @@ public class VisualRenderer {
         }
     }
 
+    @Override
+    public void onBombPlaced(Bomb bomb) {
+        placeBombVisual(bomb);
+    }
+
+    @Override
+    public void onBombMoved(Bomb bomb) {
+        updateBombVisual(bomb);
+    }
+
+    @Override
+    public void onBombRemoved(Bomb bomb) {
+        removeBombVisual(bomb);
+    }
+
+    @Override
+    public void onExplosion(int x, int y) {
+        showExplosion(x, y);
+    }
+
+    @Override
+    public void onTileChanged(int x, int y) {
+        redrawTile(x, y, null);
+    }
+
+    @Override
+    public void onPowerUpSpawned(PowerUp powerUp) {
+        placePowerUpVisual(powerUp);
+    }
+
+    @Override
+    public void onPowerUpCollected(PowerUp powerUp) {
+        removePowerUpVisual(powerUp);
+    }
+
+    @Override
+    public void onPlayerMoved(Player player, int playerNumber) {
+        clearEntitiesKeepingBomb(player.getPreviousX(), player.getPreviousY());
+        addEntityToGrid(player.getX(), player.getY(), getPlayerPattern(playerNumber));
+    }
+
+    @Override
+    public void onEnemyMoved(Enemy enemy) {
+        clearEntitiesKeepingBomb(enemy.getPreviousX(), enemy.getPreviousY());
+        addEntityToGrid(enemy.getX(), enemy.getY(), enemyPattern);
+    }
+
+    /**
+     * Supprime les entités d'une cellule en conservant le fond et une éventuelle bombe.
+     */
+    private void clearEntitiesKeepingBomb(int x, int y) {
+        StackPane cell = (StackPane) getNodeFromGridPane(x, y);
+        if (cell != null && cell.getChildren().size() > 1) {
+            Node background = cell.getChildren().get(0);
+            cell.getChildren().removeIf(node -> node != background
+                    && !(node instanceof Rectangle rect && rect.getFill() == bombPattern));
+        }
+    }
+
     /**
      * Obtient un noeud de la grille à une position donnée
      */
@@ -404,7 +479,7 @@ public class VisualRenderer {
                 }
             }
         }
-        System.out.println("🧹 Grille visuelle nettoyée complètement");
+        GameLog.info("🧹 Grille visuelle nettoyée complètement");
     }
 
     /**
@@ -414,7 +489,7 @@ public class VisualRenderer {
         loadPatterns();
         setupGridConstraints();
         drawMap();
-        System.out.println("🔄 Affichage rafraîchi");
+        GameLog.info("🔄 Affichage rafraîchi");
     }
 
     /**
@@ -447,6 +522,13 @@ public class VisualRenderer {
      */
     public ImagePattern getPlayer2Pattern() { return player2Pattern; }
 
+    /**
+     * Retourne le pattern (motif image) d'un joueur.
+     * @param playerNumber numéro du joueur (1 à {@link PlayerSlots#MAX_PLAYERS})
+     * @return le motif du joueur
+     */
+    public ImagePattern getPlayerPattern(int playerNumber) { return playerPatterns[playerNumber - 1]; }
+
     /**
      * Retourne le pattern (motif image) de l'ennemi.
      * @return le motif de l'ennemi
@@ -0,0 +1,39 @@
+package com.superbomberman.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Pose d'une bombe par un joueur.
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Name("superbomberman.BombPlaced")
+@Label("Pose de bombe")
+@Description("Bombe posée par un joueur")
+@Category({GameEvents.CATEGORY, "Bombes"})
+@StackTrace(false)
+public class BombPlacedEvent extends Event {
+
+    @Label("Joueur")
+    public int playerNumber;
+
+    @Label("X")
+    public int x;
+
+    @Label("Y")
+    public int y;
+
+    @Label("Portée")
+    public int range;
+
+    @Label("Télécommandée")
+    @Description("Bombe en attente de détonation manuelle (Remote)")
+    public boolean remote;
+}
@@ -0,0 +1,37 @@
+package com.superbomberman.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Décision de l'IA d'un ennemi (fuite, poursuite ou errance) et son déplacement.
+ * La durée comprend le recalcul du champ de flux s'il a eu lieu pour cette décision.
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Name("superbomberman.EnemyDecision")
+@Label("Décision d'ennemi")
+@Description("Temps de décision de l'IA d'un ennemi")
+@Category({GameEvents.CATEGORY, "IA"})
+@StackTrace(false)
+public class EnemyDecisionEvent extends Event {
+
+    @Label("X de départ")
+    public int x;
+
+    @Label("Y de départ")
+    public int y;
+
+    @Label("Déplacé")
+    public boolean moved;
+
+    @Label("Champ de flux recalculé")
+    @Description("Première décision du tick : le champ de flux vers les joueurs a été recalculé")
+    public boolean flowFieldUpdated;
+}
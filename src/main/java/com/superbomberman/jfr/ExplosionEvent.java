@@ -0,0 +1,35 @@
+package com.superbomberman.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Résolution d'une explosion, réactions en chaîne et effets sur les entités compris.
+ * La durée de l'événement est celle de la résolution.
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Name("superbomberman.Explosion")
+@Label("Explosion")
+@Description("Résolution d'une explosion : bombes de la chaîne, cases soufflées et durée")
+@Category({GameEvents.CATEGORY, "Bombes"})
+@StackTrace(false)
+public class ExplosionEvent extends Event {
+
+    @Label("Bombes déclenchantes")
+    @Description("Bombes à l'origine de la résolution (plusieurs en Remote)")
+    public int seeds;
+
+    @Label("Longueur de chaîne")
+    @Description("Bombes explosées, déclenchantes comprises")
+    public int chainLength;
+
+    @Label("Cases soufflées")
+    public int cellsTouched;
+}
@@ -0,0 +1,35 @@
+package com.superbomberman.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Frame de la boucle d'animation : entrées, ticks de simulation, rendu et scores.
+ * La durée de l'événement est celle de la frame.
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Name("superbomberman.Frame")
+@Label("Frame")
+@Description("Pulse de l'AnimationTimer de la partie")
+@Category({GameEvents.CATEGORY, "Boucle de jeu"})
+@StackTrace(false)
+public class FrameEvent extends Event {
+
+    @Label("Tick")
+    @Description("Tick de simulation à la fin de la frame")
+    public long tick;
+
+    @Label("Ticks simulés")
+    public int steps;
+
+    @Label("Rendu")
+    @Description("La frame a redessiné la carte")
+    public boolean rendered;
+}
@@ -0,0 +1,68 @@
+package com.superbomberman.jfr;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Point d'entrée des événements Java Flight Recorder du jeu.
+ * <p>
+ * Le gameplay ne crée un événement que si {@link #isRecording()} : hors enregistrement,
+ * le coût se limite à la lecture d'un booléen, et aucune allocation n'a lieu (le tick
+ * en régime établi reste sans allocation). L'indicateur suit l'état des enregistrements
+ * via un {@link FlightRecorderListener}, sans jamais démarrer JFR lui-même.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@link BombPlacedEvent} : pose de bombe</li>
+ *     <li>{@link ExplosionEvent} : résolution d'une explosion (chaîne, cases, durée)</li>
+ *     <li>{@link PowerUpPickupEvent} : ramassage de power-up</li>
+ *     <li>{@link EnemyDecisionEvent} : décision de l'IA d'un ennemi (durée)</li>
+ *     <li>{@link FrameEvent} : frame de la boucle d'animation (durée)</li>
+ * </ul>
+ *
+ * <p>
+ * Enregistrement : {@code -XX:StartFlightRecording=filename=partie.jfr}, ou
+ * {@code jcmd <pid> JFR.start} sur une partie en cours ; les événements sont rangés
+ * dans la catégorie « SuperBomberman » de JMC.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class GameEvents {
+
+    /** Catégorie JMC commune à tous les événements du jeu. */
+    static final String CATEGORY = "SuperBomberman";
+
+    private static volatile boolean recording;
+
+    static {
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recordingStateChanged(Recording changed) {
+                recording = anyRunning();
+            }
+        });
+        if (FlightRecorder.isInitialized()) {
+            recording = anyRunning();
+        }
+    }
+
+    private GameEvents() {
+    }
+
+    /** @return true si un enregistrement JFR est en cours */
+    public static boolean isRecording() { return recording; }
+
+    private static boolean anyRunning() {
+        for (Recording running : FlightRecorder.getFlightRecorder().getRecordings()) {
+            if (running.getState() == RecordingState.RUNNING) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
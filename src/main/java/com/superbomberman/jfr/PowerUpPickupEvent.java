@@ -0,0 +1,35 @@
+package com.superbomberman.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Ramassage d'un power-up (bonus ou malus) par un joueur.
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Name("superbomberman.PowerUpPickup")
+@Label("Ramassage de power-up")
+@Description("Power-up ramassé par un joueur")
+@Category({GameEvents.CATEGORY, "Power-ups"})
+@StackTrace(false)
+public class PowerUpPickupEvent extends Event {
+
+    @Label("Joueur")
+    public int playerNumber;
+
+    @Label("X")
+    public int x;
+
+    @Label("Y")
+    public int y;
+
+    @Label("Type")
+    public String powerUpType;
+}
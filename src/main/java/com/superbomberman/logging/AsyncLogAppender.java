@@ -0,0 +1,365 @@
+package com.superbomberman.logging;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Écriture asynchrone des journaux via un tampon circulaire.
+ * <p>
+ * Les threads de jeu ne font que réserver une case du tampon (un compare-and-set), y
+ * copier le motif et ses arguments, puis la publier : aucun formatage, aucune E/S et
+ * aucun verrou. Un thread d'écriture dédié formate les messages, les écrit dans un
+ * fichier tournant ({@code jeu.log}, {@code jeu.log.1}...) et, si demandé, les recopie
+ * sur la console. Si le tampon est plein, le message est abandonné et compté plutôt
+ * que de bloquer la frame.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class AsyncLogAppender implements Closeable {
+
+    /** Attente du thread d'écriture quand le tampon est vide. */
+    private static final long IDLE_PARK_NANOS = 1_000_000L;
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    /** Case du tampon, réutilisée (aucune allocation par message). */
+    private static final class Slot {
+        long timeMillis;
+        LogLevel level;
+        String thread;
+        String pattern;
+        Object arg0;
+        Object arg1;
+        Object arg2;
+        int argCount;
+    }
+
+    private final Slot[] slots;
+    private final int mask;
+    /** Numéro de séquence publié dans chaque case (-1 : jamais écrite). */
+    private final AtomicLongArray published;
+    /** Prochaine séquence à réserver par un producteur. */
+    private final AtomicLong head = new AtomicLong();
+    /** Prochaine séquence à écrire par le thread d'écriture. */
+    private volatile long consumed = 0;
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final Path file;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final boolean console;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    private OutputStream out;
+    private long fileBytes;
+
+    /**
+     * Crée l'appender (le thread d'écriture démarre avec {@link #start()}).
+     *
+     * @param file fichier de journal, null pour la console seule
+     * @param capacity taille du tampon (puissance de 2)
+     * @param maxFileBytes taille maximale d'un fichier avant rotation
+     * @param maxFiles nombre de fichiers archivés conservés
+     * @param console recopie des messages sur la console
+     */
+    public AsyncLogAppender(Path file, int capacity, long maxFileBytes, int maxFiles, boolean console) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("La capacité doit être une puissance de 2 : " + capacity);
+        }
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = capacity - 1;
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        this.file = file;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+        this.console = console;
+        this.writerThread = new Thread(this::drainLoop, "log-writer");
+        this.writerThread.setDaemon(true);
+    }
+
+    /**
+     * Démarre le thread d'écriture.
+     */
+    public void start() {
+        writerThread.start();
+    }
+
+    /**
+     * Ajoute un message au tampon sans jamais bloquer.
+     *
+     * @param level niveau du message
+     * @param pattern motif, les {@code {}} étant remplacés par les arguments
+     * @param arg0 premier argument
+     * @param arg1 deuxième argument
+     * @param arg2 troisième argument
+     * @param argCount nombre d'arguments utilisés (0 à 3)
+     * @return false si le tampon était plein (message abandonné)
+     */
+    public boolean append(LogLevel level, String pattern, Object arg0, Object arg1, Object arg2, int argCount) {
+        long seq;
+        do {
+            seq = head.get();
+            if (seq - consumed >= slots.length || !running) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        } while (!head.compareAndSet(seq, seq + 1));
+
+        int index = (int) (seq & mask);
+        Slot slot = slots[index];
+        slot.timeMillis = System.currentTimeMillis();
+        slot.level = level;
+        slot.thread = Thread.currentThread().getName();
+        slot.pattern = pattern;
+        slot.arg0 = arg0;
+        slot.arg1 = arg1;
+        slot.arg2 = arg2;
+        slot.argCount = argCount;
+        published.lazySet(index, seq);
+        return true;
+    }
+
+    /**
+     * Écrit les messages disponibles (appelé par le thread d'écriture, ou directement en test).
+     *
+     * @return nombre de messages écrits
+     */
+    int drain() {
+        int written = 0;
+        while (true) {
+            long next = consumed;
+            int index = (int) (next & mask);
+            if (published.get(index) != next) {
+                break;
+            }
+            Slot slot = slots[index];
+            write(slot.level, formatLine(slot));
+            slot.pattern = null;
+            slot.arg0 = null;
+            slot.arg1 = null;
+            slot.arg2 = null;
+            slot.thread = null;
+            consumed = next + 1;
+            written++;
+        }
+        if (written > 0 && out != null) {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                disableFile(e);
+            }
+        }
+        return written;
+    }
+
+    private void drainLoop() {
+        openFile();
+        while (running) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        drain();
+        closeFile();
+    }
+
+    /**
+     * Attend que tous les messages déjà publiés soient écrits.
+     *
+     * @param timeoutMillis délai maximal d'attente
+     * @return true si le tampon a été vidé à temps
+     */
+    public boolean flush(long timeoutMillis) {
+        long target = head.get();
+        long deadline = System.nanoTime() + timeoutMillis * 1_000_000L;
+        while (consumed < target) {
+            if (System.nanoTime() > deadline || !writerThread.isAlive()) {
+                return consumed >= target;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * Vide le tampon puis arrête le thread d'écriture.
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        flush(2_000);
+        running = false;
+        if (writerThread.isAlive()) {
+            try {
+                writerThread.join(2_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        } else {
+            drain();
+            closeFile();
+        }
+    }
+
+    /** @return nombre de messages abandonnés faute de place */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /** @return fichier de journal courant (null si console seule) */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Remplace les {@code {}} du motif par les arguments, dans l'ordre.
+     *
+     * @param pattern motif
+     * @param argCount nombre d'arguments
+     * @param arg0 premier argument
+     * @param arg1 deuxième argument
+     * @param arg2 troisième argument
+     * @return le message formaté
+     */
+    static String format(String pattern, int argCount, Object arg0, Object arg1, Object arg2) {
+        if (argCount == 0 || pattern == null) {
+            return String.valueOf(pattern);
+        }
+        StringBuilder sb = new StringBuilder(pattern.length() + 16 * argCount);
+        int start = 0;
+        int used = 0;
+        int at;
+        while (used < argCount && (at = pattern.indexOf("{}", start)) >= 0) {
+            sb.append(pattern, start, at);
+            sb.append(used == 0 ? arg0 : used == 1 ? arg1 : arg2);
+            used++;
+            start = at + 2;
+        }
+        sb.append(pattern, start, pattern.length());
+        return sb.toString();
+    }
+
+    private static String formatLine(Slot slot) {
+        return TIME_FORMAT.format(Instant.ofEpochMilli(slot.timeMillis))
+                + " [" + slot.level + "] [" + slot.thread + "] "
+                + format(slot.pattern, slot.argCount, slot.arg0, slot.arg1, slot.arg2);
+    }
+
+    private void write(LogLevel level, String line) {
+        if (console) {
+            PrintStream stream = level.ordinal() >= LogLevel.WARN.ordinal() ? System.err : System.out;
+            stream.println(line);
+        }
+        if (out == null) {
+            return;
+        }
+        byte[] bytes = (line + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+        try {
+            if (fileBytes + bytes.length > maxFileBytes && fileBytes > 0) {
+                rotate();
+            }
+            out.write(bytes);
+            fileBytes += bytes.length;
+        } catch (IOException e) {
+            disableFile(e);
+        }
+    }
+
+    /**
+     * Décale les archives ({@code .1} vers {@code .2}...) et repart sur un fichier vide.
+     */
+    private void rotate() throws IOException {
+        out.close();
+        out = null;
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            Path source = archive(i);
+            if (Files.exists(source)) {
+                Files.move(source, archive(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (maxFiles > 0) {
+            Files.move(file, archive(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        out = new BufferedOutputStream(Files.newOutputStream(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING));
+        fileBytes = 0;
+    }
+
+    private Path archive(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    private void openFile() {
+        if (file == null) {
+            return;
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            fileBytes = Files.exists(file) ? Files.size(file) : 0;
+            out = new BufferedOutputStream(Files.newOutputStream(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        } catch (IOException e) {
+            disableFile(e);
+        }
+    }
+
+    private void closeFile() {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException ignored) {
+                // Fermeture en fin de programme : rien à faire
+            }
+            out = null;
+        }
+    }
+
+    private void disableFile(IOException e) {
+        System.err.println("❌ Journal désactivé (" + file + ") : " + e.getMessage());
+        closeFile();
+    }
+
+    /**
+     * Ouvre le fichier sans démarrer le thread d'écriture (tests).
+     */
+    void openForTest() {
+        openFile();
+    }
+
+    /**
+     * Ferme le fichier sans thread d'écriture (tests).
+     */
+    void closeForTest() {
+        drain();
+        closeFile();
+        running = false;
+    }
+}
@@ -0,0 +1,140 @@
+package com.superbomberman.logging;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Point d'entrée de la journalisation du jeu, à la place de {@code System.out} dans la boucle de jeu.
+ * <p>
+ * Le seuil est lu une seule fois au démarrage (propriété système
+ * {@code superbomberman.log.level}, INFO par défaut) et exposé dans des constantes
+ * {@code static final} : un test {@code if (GameLog.DEBUG)} est éliminé par le JIT quand
+ * le niveau est désactivé. Les messages utilisent des motifs {@code {}} formatés par le
+ * thread d'écriture de l'{@link AsyncLogAppender}, jamais par le thread de jeu.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@code superbomberman.log.level} : DEBUG, INFO, WARN, ERROR ou OFF</li>
+ *     <li>{@code superbomberman.log.file} : fichier de journal ({@code logs/superbomberman.log})</li>
+ *     <li>{@code superbomberman.log.console} : recopie sur la console (true par défaut)</li>
+ * </ul>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class GameLog {
+
+    /** Seuil de journalisation, fixé au démarrage. */
+    public static final LogLevel LEVEL =
+            LogLevel.parse(System.getProperty("superbomberman.log.level"), LogLevel.INFO);
+    /** true si les messages DEBUG sont journalisés. */
+    public static final boolean DEBUG = LogLevel.DEBUG.isEnabledFor(LEVEL);
+    /** true si les messages INFO sont journalisés. */
+    public static final boolean INFO = LogLevel.INFO.isEnabledFor(LEVEL);
+    /** true si les messages WARN sont journalisés. */
+    public static final boolean WARN = LogLevel.WARN.isEnabledFor(LEVEL);
+    /** true si les messages ERROR sont journalisés. */
+    public static final boolean ERROR = LogLevel.ERROR.isEnabledFor(LEVEL);
+
+    private static final int BUFFER_CAPACITY = 8192;
+    private static final long MAX_FILE_BYTES = 5L * 1024 * 1024;
+    private static final int MAX_FILES = 3;
+
+    /** Appender créé au premier message (aucun thread tant que rien n'est journalisé). */
+    private static final class Holder {
+        static final AsyncLogAppender APPENDER = createAppender();
+    }
+
+    private GameLog() {
+    }
+
+    private static AsyncLogAppender createAppender() {
+        String fileName = System.getProperty("superbomberman.log.file", "logs/superbomberman.log");
+        Path file = fileName.isEmpty() ? null : Paths.get(fileName);
+        boolean console = Boolean.parseBoolean(System.getProperty("superbomberman.log.console", "true"));
+        AsyncLogAppender appender = new AsyncLogAppender(file, BUFFER_CAPACITY, MAX_FILE_BYTES, MAX_FILES, console);
+        appender.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(appender::close, "log-shutdown"));
+        return appender;
+    }
+
+    /** @return l'appender partagé (démarré au besoin) */
+    public static AsyncLogAppender appender() {
+        return Holder.APPENDER;
+    }
+
+    /**
+     * Attend l'écriture des messages en attente (fin de partie, tests).
+     *
+     * @param timeoutMillis délai maximal d'attente
+     * @return true si tout a été écrit
+     */
+    public static boolean flush(long timeoutMillis) {
+        return Holder.APPENDER.flush(timeoutMillis);
+    }
+
+    // === DEBUG ===
+
+    public static void debug(String message) {
+        if (DEBUG) Holder.APPENDER.append(LogLevel.DEBUG, message, null, null, null, 0);
+    }
+
+    public static void debug(String pattern, Object arg0) {
+        if (DEBUG) Holder.APPENDER.append(LogLevel.DEBUG, pattern, arg0, null, null, 1);
+    }
+
+    public static void debug(String pattern, Object arg0, Object arg1) {
+        if (DEBUG) Holder.APPENDER.append(LogLevel.DEBUG, pattern, arg0, arg1, null, 2);
+    }
+
+    public static void debug(String pattern, Object arg0, Object arg1, Object arg2) {
+        if (DEBUG) Holder.APPENDER.append(LogLevel.DEBUG, pattern, arg0, arg1, arg2, 3);
+    }
+
+    // === INFO ===
+
+    public static void info(String message) {
+        if (INFO) Holder.APPENDER.append(LogLevel.INFO, message, null, null, null, 0);
+    }
+
+    public static void info(String pattern, Object arg0) {
+        if (INFO) Holder.APPENDER.append(LogLevel.INFO, pattern, arg0, null, null, 1);
+    }
+
+    public static void info(String pattern, Object arg0, Object arg1) {
+        if (INFO) Holder.APPENDER.append(LogLevel.INFO, pattern, arg0, arg1, null, 2);
+    }
+
+    public static void info(String pattern, Object arg0, Object arg1, Object arg2) {
+        if (INFO) Holder.APPENDER.append(LogLevel.INFO, pattern, arg0, arg1, arg2, 3);
+    }
+
+    // === WARN ===
+
+    public static void warn(String message) {
+        if (WARN) Holder.APPENDER.append(LogLevel.WARN, message, null, null, null, 0);
+    }
+
+    public static void warn(String pattern, Object arg0) {
+        if (WARN) Holder.APPENDER.append(LogLevel.WARN, pattern, arg0, null, null, 1);
+    }
+
+    public static void warn(String pattern, Object arg0, Object arg1) {
+        if (WARN) Holder.APPENDER.append(LogLevel.WARN, pattern, arg0, arg1, null, 2);
+    }
+
+    // === ERROR ===
+
+    public static void error(String message) {
+        if (ERROR) Holder.APPENDER.append(LogLevel.ERROR, message, null, null, null, 0);
+    }
+
+    public static void error(String pattern, Object arg0) {
+        if (ERROR) Holder.APPENDER.append(LogLevel.ERROR, pattern, arg0, null, null, 1);
+    }
+
+    public static void error(String pattern, Object arg0, Object arg1) {
+        if (ERROR) Holder.APPENDER.append(LogLevel.ERROR, pattern, arg0, arg1, null, 2);
+    }
+}
@@ -0,0 +1,49 @@
+package com.superbomberman.logging;
+
+/**
+ * Niveaux de journalisation, du plus bavard au plus grave.
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum LogLevel {
+    /** Détail de chaque pas de jeu (déplacements, glissements...). */
+    DEBUG,
+    /** Événements de partie (bombe posée, power-up, score...). */
+    INFO,
+    /** Situation anormale mais récupérable. */
+    WARN,
+    /** Erreur. */
+    ERROR,
+    /** Journalisation désactivée. */
+    OFF;
+
+    /**
+     * Indique si un message de ce niveau passe le seuil donné.
+     *
+     * @param threshold niveau minimal journalisé
+     * @return true si le message doit être écrit
+     */
+    public boolean isEnabledFor(LogLevel threshold) {
+        return this != OFF && ordinal() >= threshold.ordinal();
+    }
+
+    /**
+     * Lit un niveau depuis son nom, insensible à la casse.
+     *
+     * @param name nom du niveau
+     * @param fallback niveau retourné si le nom est inconnu
+     * @return le niveau correspondant
+     */
+    public static LogLevel parse(String name, LogLevel fallback) {
+        if (name != null) {
+            for (LogLevel level : values()) {
+                if (level.name().equalsIgnoreCase(name.trim())) {
+                    return level;
+                }
+            }
+        }
+        return fallback;
+    }
+}
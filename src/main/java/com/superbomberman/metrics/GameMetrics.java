@@ -0,0 +1,218 @@
+package com.superbomberman.metrics;
+
+import com.superbomberman.game.FrameProfiler;
+import com.superbomberman.game.GameSimulation;
+import com.superbomberman.game.LatencyHistogram;
+import com.superbomberman.game.PlayerSlot;
+import com.superbomberman.game.PlayerSlots;
+import com.superbomberman.game.ScoreSystem;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.util.Locale;
+
+/**
+ * Mesures de la partie en cours, exposées au format texte de Prometheus.
+ * <p>
+ * La boucle de jeu recopie régulièrement l'état de la partie ({@link #update}) sur le
+ * thread JavaFX : tick et ticks par seconde, quantiles du temps de frame du
+ * {@link FrameProfiler}, bombes et power-ups posés, nœuds de la scène, scores de chaque
+ * joueur. Le serveur HTTP ({@link MetricsEndpoint}) ne lit que cette copie : il ne touche
+ * jamais aux objets du jeu depuis son propre thread. Seule la mémoire est lue au moment
+ * de la requête.
+ * </p>
+ * <p>
+ * Une instance unique ({@link #shared()}) sert toutes les parties du processus ; les
+ * compteurs ({@code _total}) cumulent les parties successives.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class GameMetrics {
+
+    /** Quantiles du temps de frame publiés. */
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 1.0};
+
+    private static final GameMetrics SHARED = new GameMetrics();
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private volatile boolean enabled;
+
+    // Copie de l'état de la partie, protégée par le verrou de l'instance
+    private long matchesStarted;
+    private long ticksOfPreviousMatches;
+    private long matchTick;
+    private long lastUpdateTick;
+    private long lastUpdateNanos = -1;
+    private double ticksPerSecond;
+    private final long[] frameQuantiles = new long[QUANTILES.length];
+    private long frameCount;
+    private double frameSumNanos;
+    private double fps;
+    private long droppedPulsesOfPreviousMatches;
+    private long droppedPulses;
+    private int activeBombs;
+    private int activePowerUps;
+    private int sceneNodes;
+    private int playerCount;
+    private final int[] playerNumbers = new int[PlayerSlots.MAX_PLAYERS];
+    private final int[] playerScores = new int[PlayerSlots.MAX_PLAYERS];
+    private final int[] playerLivesEarned = new int[PlayerSlots.MAX_PLAYERS];
+    private final boolean[] playerAlive = new boolean[PlayerSlots.MAX_PLAYERS];
+
+    GameMetrics() {
+    }
+
+    /** @return mesures partagées du processus */
+    public static GameMetrics shared() { return SHARED; }
+
+    /** @return true si un {@link MetricsEndpoint} publie ces mesures */
+    public boolean isEnabled() { return enabled; }
+
+    /**
+     * Active ou désactive la recopie de l'état par la boucle de jeu.
+     *
+     * @param enabled true tant qu'un endpoint publie ces mesures
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Signale le début d'une nouvelle partie : tick et temps de frame repartent de zéro,
+     * les compteurs cumulent la partie précédente.
+     */
+    public synchronized void matchStarted() {
+        matchesStarted++;
+        ticksOfPreviousMatches += matchTick;
+        droppedPulsesOfPreviousMatches += droppedPulses;
+        matchTick = 0;
+        lastUpdateTick = 0;
+        lastUpdateNanos = -1;
+        ticksPerSecond = 0.0;
+        droppedPulses = 0;
+    }
+
+    /**
+     * Recopie l'état de la partie (à appeler sur le thread de la boucle de jeu).
+     *
+     * @param simulation simulation de la partie
+     * @param profiler profileur de la boucle de jeu
+     * @param sceneNodes nombre de nœuds de la scène affichée
+     * @param nowNanos instant de la mise à jour, en nanosecondes
+     */
+    public synchronized void update(GameSimulation simulation, FrameProfiler profiler, int sceneNodes, long nowNanos) {
+        long tick = simulation.getTick();
+        if (lastUpdateNanos >= 0 && nowNanos > lastUpdateNanos) {
+            ticksPerSecond = (tick - lastUpdateTick) * 1e9 / (nowNanos - lastUpdateNanos);
+        }
+        lastUpdateTick = tick;
+        lastUpdateNanos = nowNanos;
+        matchTick = Math.max(matchTick, tick); // Un retour en arrière (rollback) ne décompte pas
+
+        LatencyHistogram frames = profiler.getHistogram(FrameProfiler.Phase.FRAME);
+        for (int i = 0; i < QUANTILES.length; i++) {
+            frameQuantiles[i] = frames.getValueAtPercentile(QUANTILES[i] * 100.0);
+        }
+        frameCount = frames.getTotalCount();
+        frameSumNanos = frames.getMean() * frames.getTotalCount();
+        fps = profiler.getFps();
+        droppedPulses = profiler.getDroppedPulses();
+
+        activeBombs = simulation.getBombManager().getActiveBombsView().size();
+        activePowerUps = simulation.getPowerUpManager().getActivePowerUpCount();
+        this.sceneNodes = sceneNodes;
+
+        ScoreSystem scores = simulation.getGameStateManager().getScoreSystem();
+        PlayerSlots slots = simulation.getPlayerSlots();
+        playerCount = slots.activeCount();
+        for (int i = 0; i < playerCount; i++) {
+            PlayerSlot slot = slots.active(i);
+            playerNumbers[i] = slot.getNumber();
+            playerScores[i] = scores != null ? scores.getPlayerScore(slot.getPlayer()) : 0;
+            playerLivesEarned[i] = scores != null ? scores.getLivesEarned(slot.getPlayer()) : 0;
+            playerAlive[i] = slot.getPlayer().isAlive() && !slot.isDead();
+        }
+    }
+
+    /**
+     * Écrit toutes les mesures au format texte de Prometheus (version 0.0.4).
+     *
+     * @param out texte de la réponse
+     */
+    public synchronized void writeTo(StringBuilder out) {
+        header(out, "superbomberman_matches_started_total", "counter", "Parties démarrées depuis le lancement.");
+        sample(out, "superbomberman_matches_started_total", null, matchesStarted);
+        header(out, "superbomberman_ticks_total", "counter", "Ticks de simulation joués, toutes parties confondues.");
+        sample(out, "superbomberman_ticks_total", null, ticksOfPreviousMatches + matchTick);
+        header(out, "superbomberman_match_tick", "gauge", "Tick de la partie en cours.");
+        sample(out, "superbomberman_match_tick", null, matchTick);
+        header(out, "superbomberman_ticks_per_second", "gauge", "Ticks de simulation par seconde à la dernière mise à jour.");
+        sample(out, "superbomberman_ticks_per_second", null, ticksPerSecond);
+
+        header(out, "superbomberman_frame_time_seconds", "summary", "Durée des frames de la boucle d'animation (partie en cours).");
+        for (int i = 0; i < QUANTILES.length; i++) {
+            sample(out, "superbomberman_frame_time_seconds", "quantile=\"" + QUANTILES[i] + "\"", frameQuantiles[i] / 1e9);
+        }
+        sample(out, "superbomberman_frame_time_seconds_sum", null, frameSumNanos / 1e9);
+        sample(out, "superbomberman_frame_time_seconds_count", null, frameCount);
+        header(out, "superbomberman_fps", "gauge", "Images par seconde sur la dernière seconde.");
+        sample(out, "superbomberman_fps", null, fps);
+        header(out, "superbomberman_dropped_pulses_total", "counter", "Pulses d'animation perdues.");
+        sample(out, "superbomberman_dropped_pulses_total", null, droppedPulsesOfPreviousMatches + droppedPulses);
+
+        header(out, "superbomberman_active_bombs", "gauge", "Bombes posées, tenues ou en mouvement.");
+        sample(out, "superbomberman_active_bombs", null, activeBombs);
+        header(out, "superbomberman_active_powerups", "gauge", "Power-ups posés sur la carte.");
+        sample(out, "superbomberman_active_powerups", null, activePowerUps);
+        header(out, "superbomberman_scene_nodes", "gauge", "Nœuds JavaFX de la scène de jeu.");
+        sample(out, "superbomberman_scene_nodes", null, sceneNodes);
+
+        MemoryUsage heap = memory.getHeapMemoryUsage();
+        header(out, "superbomberman_heap_used_bytes", "gauge", "Mémoire du tas utilisée.");
+        sample(out, "superbomberman_heap_used_bytes", null, heap.getUsed());
+        header(out, "superbomberman_heap_committed_bytes", "gauge", "Mémoire du tas réservée.");
+        sample(out, "superbomberman_heap_committed_bytes", null, heap.getCommitted());
+
+        header(out, "superbomberman_player_score", "gauge", "Score de chaque joueur de la partie en cours.");
+        for (int i = 0; i < playerCount; i++) {
+            sample(out, "superbomberman_player_score", playerLabel(i), playerScores[i]);
+        }
+        header(out, "superbomberman_player_lives_earned", "gauge", "Vies supplémentaires gagnées par chaque joueur.");
+        for (int i = 0; i < playerCount; i++) {
+            sample(out, "superbomberman_player_lives_earned", playerLabel(i), playerLivesEarned[i]);
+        }
+        header(out, "superbomberman_player_alive", "gauge", "1 si le joueur est en vie, 0 sinon.");
+        for (int i = 0; i < playerCount; i++) {
+            sample(out, "superbomberman_player_alive", playerLabel(i), playerAlive[i] ? 1 : 0);
+        }
+    }
+
+    private String playerLabel(int i) {
+        return "player=\"" + playerNumbers[i] + "\"";
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, long value) {
+        appendName(out, name, labels).append(value).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        appendName(out, name, labels).append(String.format(Locale.ROOT, "%.6g", value)).append('\n');
+    }
+
+    private static StringBuilder appendName(StringBuilder out, String name, String labels) {
+        out.append(name);
+        if (labels != null) {
+            out.append('{').append(labels).append('}');
+        }
+        return out.append(' ');
+    }
+}
@@ -0,0 +1,118 @@
+package com.superbomberman.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.superbomberman.logging.GameLog;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Endpoint HTTP local exposant les {@link GameMetrics} au format texte de Prometheus.
+ * <p>
+ * Optionnel : démarré seulement si la propriété {@value #PORT_PROPERTY} donne un port
+ * ({@code -Dsuperbomberman.metrics.port=9464}). Le serveur n'écoute que sur l'interface
+ * locale ; un scraper Prometheus ou {@code curl http://localhost:9464/metrics} suffit à
+ * suivre une partie d'endurance sans attacher de profileur.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class MetricsEndpoint implements AutoCloseable {
+
+    /** Propriété système donnant le port de l'endpoint (absent : pas d'endpoint). */
+    public static final String PORT_PROPERTY = "superbomberman.metrics.port";
+    /** Chemin des mesures. */
+    public static final String PATH = "/metrics";
+    /** Type de contenu du format texte de Prometheus. */
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final GameMetrics metrics;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Ouvre l'endpoint sur l'interface locale et active la recopie des mesures.
+     *
+     * @param port port d'écoute (0 pour un port libre quelconque)
+     * @param metrics mesures publiées
+     * @throws IOException si le port ne peut être ouvert
+     */
+    public MetricsEndpoint(int port, GameMetrics metrics) throws IOException {
+        this.metrics = metrics;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(PATH, this::handle);
+        server.setExecutor(executor);
+        server.start();
+        metrics.setEnabled(true);
+        GameLog.info("Mesures Prometheus sur http://localhost:{}{}", getPort(), PATH);
+    }
+
+    /**
+     * Démarre l'endpoint si la propriété {@value #PORT_PROPERTY} est définie.
+     *
+     * @param metrics mesures publiées
+     * @return l'endpoint démarré, null s'il n'est pas demandé ou n'a pas pu démarrer
+     */
+    public static MetricsEndpoint startFromProperty(GameMetrics metrics) {
+        String value = System.getProperty(PORT_PROPERTY);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return new MetricsEndpoint(Integer.parseInt(value.trim()), metrics);
+        } catch (NumberFormatException e) {
+            GameLog.warn("Port des mesures invalide : {}", value);
+        } catch (IOException | IllegalArgumentException e) {
+            GameLog.warn("Impossible d'ouvrir l'endpoint des mesures : {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            if (!PATH.equals(exchange.getRequestURI().getPath())) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            StringBuilder text = new StringBuilder(4096);
+            metrics.writeTo(text);
+            byte[] body = text.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /** @return port d'écoute effectif */
+    public int getPort() { return server.getAddress().getPort(); }
+
+    /**
+     * Arrête l'endpoint et la recopie des mesures.
+     */
+    @Override
+    public void close() {
+        metrics.setEnabled(false);
+        server.stop(0);
+        executor.shutdown();
+    }
+}
@@ -1,8 +1,6 @@
 package com.superbomberman.model;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.util.Duration;
+import com.superbomberman.logging.GameLog;
 
 /**
  * Représente une bombe dans le jeu Super Bomberman.
@@ -12,22 +10,30 @@ import javafx.util.Duration;
  * après un certain délai et exécuter une action définie lors de cette explosion.
  * Elle peut également être lancée et se déplacer en ligne droite.
  * </p>
+ * <p>
+ * La bombe ne possède plus de timer JavaFX : elle ne fait que porter son état
+ * (armée, en vol, en glissement). Les échéances sont comptées en ticks par le
+ * {@link com.superbomberman.game.BombManager}, ce qui permet de faire tourner
+ * la simulation sans interface graphique.
+ * </p>
  *
  * @author Jules Fuselier
- * @version 1.0
+ * @version 1.5 - Réemploi d'une bombe explosée et échéance du pas de déplacement
  * @since 2025-06-07
  */
 public class Bomb {
     private int x, y;
     private int previousX, previousY;
     private int damage;
-    private Timeline timer;
     private int range;
     private boolean exploded;
 
     /** Joueur qui a posé cette bombe */
     private Player owner;
 
+    /** Numéro du joueur propriétaire (1 ou 2), pour les compteurs du BombManager */
+    private int playerNumber = 1;
+
     /** Indique si la bombe est en train de voler (lancée avec Glove) */
     private boolean isFlying = false;
 
@@ -37,12 +43,21 @@ public class Bomb {
     /** Direction Y du mouvement de la bombe en vol (-1, 0, 1) */
     private int flyDirectionY = 0;
 
-    /** Timer pour le mouvement de la bombe en vol */
-    private Timeline flyTimer;
+    /** Action à exécuter lors de l'explosion (null si le compte à rebours n'est pas armé) */
+    private Runnable onExplode;
+
+    /** Identifiant du timer de mèche chez le BombManager (-1 si aucun) */
+    private long fuseTimerId = -1;
+
+    /** Tick de simulation auquel la mèche arrive à son terme (-1 si aucune mèche) */
+    private long detonationTick = -1;
 
     /** Callback pour notifier le mouvement */
     private Runnable moveCallback;
 
+    /** Identifiant du timer du prochain pas de vol ou de glissement (-1 si aucun) */
+    private long stepTimerId = -1;
+
     /** Indique si la bombe glisse suite à un coup de pied (Kick Power) */
     private boolean isMoving = false;
 
@@ -52,9 +67,6 @@ public class Bomb {
     /** Direction Y du glissement par coup de pied (-1, 0, 1) */
     private int kickDirectionY = 0;
 
-    /** Timer pour le mouvement par coup de pied */
-    private Timeline kickTimer;
-
     public Bomb(int x, int y, int damage, int range) {
         this.x = x;
         this.y = y;
@@ -66,27 +78,141 @@ public class Bomb {
     }
 
     /**
-     * Démarre le compte à rebours avant l'explosion.
+     * Remet la bombe dans l'état d'une bombe neuve, pour la réutiliser après son explosion
+     * sans en allouer une nouvelle.
+     *
+     * @param x     Abscisse de la nouvelle pose
+     * @param y     Ordonnée de la nouvelle pose
+     * @param damage Dégâts de la bombe
+     * @param range Portée d'explosion
+     */
+    public void reset(int x, int y, int damage, int range) {
+        this.x = x;
+        this.y = y;
+        this.previousX = x;
+        this.previousY = y;
+        this.damage = damage;
+        this.range = range;
+        this.exploded = false;
+        this.owner = null;
+        this.playerNumber = 1;
+        this.isFlying = false;
+        this.flyDirectionX = 0;
+        this.flyDirectionY = 0;
+        this.onExplode = null;
+        this.fuseTimerId = -1;
+        this.detonationTick = -1;
+        this.moveCallback = null;
+        this.stepTimerId = -1;
+        this.isMoving = false;
+        this.kickDirectionX = 0;
+        this.kickDirectionY = 0;
+    }
+
+    /**
+     * Arme le compte à rebours avant l'explosion.
+     * <p>
+     * Le délai lui-même est géré par le {@link com.superbomberman.game.BombManager},
+     * qui appelle {@link #detonate()} une fois la mèche consumée.
+     * </p>
      *
      * @param onExplode Action à exécuter lorsque la bombe explose
      */
     public void startCountdown(Runnable onExplode) {
-        timer = new Timeline(new KeyFrame(Duration.seconds(1.5), e -> {
-            exploded = true;
-            onExplode.run();  // Cette ligne exécute le code qu'on lui a passé
-        }));
-        timer.setCycleCount(1);
-        timer.play();
+        this.onExplode = onExplode;
     }
 
     /**
-     * Arrête le timer d'explosion de la bombe.
+     * Désarme le compte à rebours de la bombe (ramassage, remise à zéro).
      */
     public void stopCountdown() {
-        if (timer != null) {
-            timer.stop();
-            timer = null;
+        this.onExplode = null;
+    }
+
+    /**
+     * Indique si le compte à rebours de la bombe est armé.
+     *
+     * @return true si une explosion est programmée, false sinon
+     */
+    public boolean isCountdownArmed() {
+        return onExplode != null;
+    }
+
+    /**
+     * Fait exploser la bombe si son compte à rebours est armé.
+     * L'action d'explosion n'est exécutée qu'une seule fois.
+     */
+    public void detonate() {
+        if (onExplode == null || exploded) {
+            return;
         }
+        Runnable action = onExplode;
+        onExplode = null;
+        exploded = true;
+        action.run();
+    }
+
+    /**
+     * Retourne l'identifiant du timer de mèche associé à la bombe.
+     *
+     * @return identifiant du timer, ou -1 si aucun
+     */
+    public long getFuseTimerId() {
+        return fuseTimerId;
+    }
+
+    /**
+     * Associe un identifiant de timer de mèche à la bombe.
+     *
+     * @param fuseTimerId identifiant fourni par le planificateur, ou -1
+     */
+    public void setFuseTimerId(long fuseTimerId) {
+        this.fuseTimerId = fuseTimerId;
+    }
+
+    /**
+     * Retourne l'identifiant du timer du prochain pas de vol ou de glissement.
+     *
+     * @return identifiant du timer, ou -1 si aucun pas n'est programmé
+     */
+    public long getStepTimerId() {
+        return stepTimerId;
+    }
+
+    /**
+     * Associe l'identifiant du timer du prochain pas de vol ou de glissement.
+     *
+     * @param stepTimerId identifiant fourni par le planificateur, ou -1
+     */
+    public void setStepTimerId(long stepTimerId) {
+        this.stepTimerId = stepTimerId;
+    }
+
+    /**
+     * Retourne l'action appelée à chaque pas de vol ou de glissement.
+     *
+     * @return action de déplacement, ou null si la bombe est immobile
+     */
+    public Runnable getMoveCallback() {
+        return moveCallback;
+    }
+
+    /**
+     * Retourne le tick auquel la bombe explosera si rien ne la déclenche avant.
+     *
+     * @return tick d'explosion prévu, ou -1 si la mèche n'est pas allumée (Remote, bombe tenue)
+     */
+    public long getDetonationTick() {
+        return detonationTick;
+    }
+
+    /**
+     * Définit le tick d'explosion prévu de la bombe.
+     *
+     * @param detonationTick tick d'échéance de la mèche, ou -1
+     */
+    public void setDetonationTick(long detonationTick) {
+        this.detonationTick = detonationTick;
     }
 
     /**
@@ -94,7 +220,7 @@ public class Bomb {
      *
      * @param directionX   Direction X (-1, 0, 1)
      * @param directionY   Direction Y (-1, 0, 1)
-     * @param moveCallback Callback appelé à chaque tick de mouvement
+     * @param moveCallback Callback appelé à chaque pas de mouvement
      */
     public void throwBomb(int directionX, int directionY, Runnable moveCallback) {
         this.flyDirectionX = directionX;
@@ -102,16 +228,7 @@ public class Bomb {
         this.isFlying = true;
         this.moveCallback = moveCallback;
 
-        // Timer pour le mouvement de la bombe (toutes les 200ms)
-        flyTimer = new Timeline(new KeyFrame(Duration.millis(200), e -> {
-            if (moveCallback != null) {
-                moveCallback.run(); // Le GameViewController gère le mouvement
-            }
-        }));
-        flyTimer.setCycleCount(Timeline.INDEFINITE);
-        flyTimer.play();
-
-        System.out.println("Bombe lancée ! Direction: (" + directionX + ", " + directionY + ")");
+        GameLog.info("Bombe lancée ! Direction: ({}, {})", directionX, directionY);
     }
 
     /**
@@ -119,7 +236,7 @@ public class Bomb {
      *
      * @param directionX   Direction X (-1, 0, 1)
      * @param directionY   Direction Y (-1, 0, 1)
-     * @param moveCallback Callback appelé à chaque tick de mouvement
+     * @param moveCallback Callback appelé à chaque pas de mouvement
      */
     public void kickBomb(int directionX, int directionY, Runnable moveCallback) {
         this.kickDirectionX = directionX;
@@ -127,16 +244,7 @@ public class Bomb {
         this.isMoving = true;
         this.moveCallback = moveCallback;
 
-        // Timer pour le glissement de la bombe (toutes les 300ms, un peu plus lent que le vol)
-        kickTimer = new Timeline(new KeyFrame(Duration.millis(300), e -> {
-            if (moveCallback != null) {
-                moveCallback.run(); // Le GameViewController gère le mouvement
-            }
-        }));
-        kickTimer.setCycleCount(Timeline.INDEFINITE);
-        kickTimer.play();
-
-        System.out.println("Bombe donnée un coup de pied ! Direction: (" + directionX + ", " + directionY + ")");
+        GameLog.info("Bombe donnée un coup de pied ! Direction: ({}, {})", directionX, directionY);
     }
 
     /**
@@ -168,7 +276,7 @@ public class Bomb {
         x += flyDirectionX;
         y += flyDirectionY;
 
-        System.out.println("Bombe en vol se déplace vers (" + x + ", " + y + ")");
+        GameLog.debug("Bombe en vol se déplace vers ({}, {})", x, y);
     }
 
     /**
@@ -182,37 +290,29 @@ public class Bomb {
         x += kickDirectionX;
         y += kickDirectionY;
 
-        System.out.println("Bombe glisse vers (" + x + ", " + y + ")");
+        GameLog.debug("Bombe glisse vers ({}, {})", x, y);
     }
 
     /**
      * Arrête le vol de la bombe (collision détectée).
      */
     public void stopFlying() {
-        if (flyTimer != null) {
-            flyTimer.stop();
-            flyTimer = null;
-        }
         this.isFlying = false;
         this.flyDirectionX = 0;
         this.flyDirectionY = 0;
         this.moveCallback = null;
-        System.out.println("Bombe arrêtée en (" + x + ", " + y + ")");
+        GameLog.debug("Bombe arrêtée en ({}, {})", x, y);
     }
 
     /**
      * Arrête le glissement de la bombe (collision détectée).
      */
     public void stopMoving() {
-        if (kickTimer != null) {
-            kickTimer.stop();
-            kickTimer = null;
-        }
         this.isMoving = false;
         this.kickDirectionX = 0;
         this.kickDirectionY = 0;
         this.moveCallback = null;
-        System.out.println("Bombe arrête de glisser en (" + x + ", " + y + ")");
+        GameLog.debug("Bombe arrête de glisser en ({}, {})", x, y);
     }
 
     /**
@@ -327,6 +427,24 @@ public class Bomb {
         return kickDirectionY;
     }
 
+    /**
+     * Retourne le numéro du joueur propriétaire.
+     *
+     * @return 1 ou 2
+     */
+    public int getPlayerNumber() {
+        return playerNumber;
+    }
+
+    /**
+     * Définit le numéro du joueur propriétaire.
+     *
+     * @param playerNumber 1 ou 2
+     */
+    public void setPlayerNumber(int playerNumber) {
+        this.playerNumber = playerNumber;
+    }
+
     /**
      * Vérifie si la bombe a explosé
      *
@@ -342,7 +460,37 @@ public class Bomb {
      * @param exploded nouvel état d'explosion
      */
     public void setExploded(boolean exploded) {
-        exploded = exploded;
+        this.exploded = exploded;
+    }
+
+    /**
+     * Recopie tout l'état d'une autre bombe, actions programmées comprises (mêmes références).
+     * Sert aux instantanés de partie : une bombe « ombre » garde l'état d'une bombe réelle,
+     * qui le reprend lors d'un retour en arrière.
+     *
+     * @param other bombe dont l'état est recopié
+     */
+    public void copyStateFrom(Bomb other) {
+        this.x = other.x;
+        this.y = other.y;
+        this.previousX = other.previousX;
+        this.previousY = other.previousY;
+        this.damage = other.damage;
+        this.range = other.range;
+        this.exploded = other.exploded;
+        this.owner = other.owner;
+        this.playerNumber = other.playerNumber;
+        this.isFlying = other.isFlying;
+        this.flyDirectionX = other.flyDirectionX;
+        this.flyDirectionY = other.flyDirectionY;
+        this.onExplode = other.onExplode;
+        this.fuseTimerId = other.fuseTimerId;
+        this.detonationTick = other.detonationTick;
+        this.moveCallback = other.moveCallback;
+        this.stepTimerId = other.stepTimerId;
+        this.isMoving = other.isMoving;
+        this.kickDirectionX = other.kickDirectionX;
+        this.kickDirectionY = other.kickDirectionY;
     }
 
 }
\ No newline at end of file
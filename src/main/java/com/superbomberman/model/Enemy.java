@@ -1,14 +1,18 @@
 package com.superbomberman.model;
 
+import com.superbomberman.logging.GameLog;
+
 /**
  * Représente un ennemi dans le jeu Super Bomberman.
  * <p>
  * Cette classe gère la position courante et précédente de l'ennemi,
  * ainsi que son état de vie/mort pour le système de victoire.
+ * Chaque ennemi porte sa propre minuterie de déplacement et sa direction courante ;
+ * ses déplacements et sa mort passent par l'{@link EnemyRegistry} de la partie.
  * </p>
  *
  * @author Jules Fuselier
- * @version 2.0
+ * @version 2.2 - Copie d'état pour les instantanés de partie (rollback)
  * @since 2025-06-08
  */
 public class Enemy {
@@ -28,6 +32,35 @@ public class Enemy {
     /** Indique si l'ennemi est vivant */
     private boolean isAlive = true;
 
+    /** Identifiant dans l'{@link EnemyRegistry} (-1 si hors registre). */
+    int registryId = -1;
+
+    /** Horodatage (nanosecondes) du prochain déplacement autorisé. */
+    private long nextMoveTime = 0;
+
+    /** Direction X courante (-1, 0, 1). */
+    private int directionX = 1;
+
+    /** Direction Y courante (-1, 0, 1). */
+    private int directionY = 0;
+
+    /**
+     * Recopie l'état d'un autre ennemi (position, vie, minuterie, direction), sans toucher
+     * à son identifiant de registre : après restauration, appeler {@link EnemyRegistry#reindex()}.
+     *
+     * @param other ennemi dont l'état est recopié
+     */
+    public void copyStateFrom(Enemy other) {
+        this.x = other.x;
+        this.y = other.y;
+        this.previousX = other.previousX;
+        this.previousY = other.previousY;
+        this.isAlive = other.isAlive;
+        this.nextMoveTime = other.nextMoveTime;
+        this.directionX = other.directionX;
+        this.directionY = other.directionY;
+    }
+
     /**
      * Définit la position de l'ennemi et met à jour la position précédente.
      *
@@ -77,12 +110,51 @@ public class Enemy {
         return previousY;
     }
     
+    /**
+     * Retourne l'horodatage du prochain déplacement autorisé.
+     *
+     * @return horodatage en nanosecondes
+     */
+    public long getNextMoveTime() {
+        return nextMoveTime;
+    }
+
+    /**
+     * Définit l'horodatage du prochain déplacement autorisé.
+     *
+     * @param nextMoveTime horodatage en nanosecondes
+     */
+    public void setNextMoveTime(long nextMoveTime) {
+        this.nextMoveTime = nextMoveTime;
+    }
+
+    /** @return direction X courante */
+    public int getDirectionX() {
+        return directionX;
+    }
+
+    /** @return direction Y courante */
+    public int getDirectionY() {
+        return directionY;
+    }
+
+    /**
+     * Définit la direction courante de l'ennemi.
+     *
+     * @param directionX direction X (-1, 0, 1)
+     * @param directionY direction Y (-1, 0, 1)
+     */
+    public void setDirection(int directionX, int directionY) {
+        this.directionX = directionX;
+        this.directionY = directionY;
+    }
+
     /**
      * Tue l'ennemi (le marque comme mort)
      */
     public void kill() {
         this.isAlive = false;
-        System.out.println("💀 Ennemi éliminé à la position (" + x + ", " + y + ")");
+        GameLog.info("💀 Ennemi éliminé à la position ({}, {})", x, y);
     }
 
     /**
@@ -90,7 +162,7 @@ public class Enemy {
      */
     public void revive() {
         this.isAlive = true;
-        System.out.println("✨ Ennemi ressuscité");
+        GameLog.info("✨ Ennemi ressuscité");
     }
 
     /**
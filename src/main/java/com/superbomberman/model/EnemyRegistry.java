@@ -0,0 +1,237 @@
+package com.superbomberman.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Registre des ennemis d'une partie, avec index spatial par case.
+ * <p>
+ * {@link MapLoader} y ajoute un ennemi pour chaque 'E' de la carte. Une fois rattaché
+ * à la carte ({@link #attach(int, int)}), le registre tient pour chaque case la liste
+ * chaînée des ennemis vivants qui s'y trouvent : une explosion ou une collision ne
+ * consulte que les cases concernées, quel que soit le nombre d'ennemis. Les
+ * déplacements ({@link #moveTo}) et les morts ({@link #kill}) doivent donc passer par
+ * le registre pour garder l'index à jour.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@link #firstAt(int, int)} / {@link #nextAt(Enemy)} : ennemis vivants d'une case</li>
+ *     <li>{@link #getAliveCount()} : nombre d'ennemis vivants, en temps constant</li>
+ * </ul>
+ *
+ * @author Jules Fuselier
+ * @version 1.1 - Reconstruction de l'index sans itérateur (appelée à chaque restauration du rollback)
+ * @since 2026-10-17
+ */
+public class EnemyRegistry {
+
+    private static final int NONE = -1;
+
+    private final List<Enemy> enemies = new ArrayList<>();
+    private final List<Enemy> enemiesView = Collections.unmodifiableList(enemies);
+
+    private int width = 0;
+    private int height = 0;
+    /** Premier ennemi vivant de chaque case (identifiant), NONE si aucun. */
+    private int[] cellHead = new int[0];
+    /** Ennemi suivant sur la même case, indexé par identifiant. */
+    private int[] nextInCell = new int[16];
+    private int aliveCount = 0;
+
+    /**
+     * Ajoute un ennemi au registre (et à l'index si le registre est rattaché à une carte).
+     *
+     * @param enemy l'ennemi à ajouter
+     */
+    public void add(Enemy enemy) {
+        enemy.registryId = enemies.size();
+        enemies.add(enemy);
+        if (nextInCell.length < enemies.size()) {
+            nextInCell = Arrays.copyOf(nextInCell, nextInCell.length * 2);
+        }
+        nextInCell[enemy.registryId] = NONE;
+        if (enemy.isAlive()) {
+            aliveCount++;
+            link(enemy);
+        }
+    }
+
+    /**
+     * Vide le registre (nouvelle carte ou mode sans ennemi).
+     */
+    public void clear() {
+        for (Enemy enemy : enemies) {
+            enemy.registryId = NONE;
+        }
+        enemies.clear();
+        Arrays.fill(cellHead, NONE);
+        aliveCount = 0;
+    }
+
+    /**
+     * Rattache le registre à une carte et reconstruit l'index spatial.
+     *
+     * @param width largeur de la carte
+     * @param height hauteur de la carte
+     */
+    public void attach(int width, int height) {
+        this.width = width;
+        this.height = height;
+        if (cellHead.length != width * height) {
+            cellHead = new int[width * height];
+        }
+        reindex();
+    }
+
+    /**
+     * Reconstruit l'index et le compte des vivants (après une résurrection générale
+     * ou des modifications directes des ennemis). N'alloue rien : appelée à chaque
+     * restauration d'un instantané.
+     */
+    public void reindex() {
+        Arrays.fill(cellHead, NONE);
+        aliveCount = 0;
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            nextInCell[enemy.registryId] = NONE;
+            if (enemy.isAlive()) {
+                aliveCount++;
+                link(enemy);
+            }
+        }
+    }
+
+    /**
+     * Déplace un ennemi en mettant à jour l'index.
+     *
+     * @param enemy l'ennemi
+     * @param x nouvelle abscisse
+     * @param y nouvelle ordonnée
+     */
+    public void moveTo(Enemy enemy, int x, int y) {
+        boolean indexed = enemy.isAlive();
+        if (indexed) {
+            unlink(enemy);
+        }
+        enemy.setPosition(x, y);
+        if (indexed) {
+            link(enemy);
+        }
+    }
+
+    /**
+     * Tue un ennemi et le retire de l'index.
+     *
+     * @param enemy l'ennemi
+     * @return true si l'ennemi était vivant
+     */
+    public boolean kill(Enemy enemy) {
+        if (!enemy.isAlive()) {
+            return false;
+        }
+        unlink(enemy);
+        enemy.kill();
+        aliveCount--;
+        return true;
+    }
+
+    /**
+     * Ressuscite tous les ennemis (réinitialisation de partie).
+     */
+    public void reviveAll() {
+        for (Enemy enemy : enemies) {
+            enemy.setAlive(true);
+        }
+        reindex();
+    }
+
+    /**
+     * @param x abscisse
+     * @param y ordonnée
+     * @return premier ennemi vivant de la case, ou null
+     */
+    public Enemy firstAt(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return null;
+        }
+        int id = cellHead[y * width + x];
+        return id == NONE ? null : enemies.get(id);
+    }
+
+    /**
+     * @param enemy ennemi vivant obtenu par {@link #firstAt} ou {@link #nextAt}
+     * @return ennemi vivant suivant sur la même case, ou null
+     */
+    public Enemy nextAt(Enemy enemy) {
+        int id = nextInCell[enemy.registryId];
+        return id == NONE ? null : enemies.get(id);
+    }
+
+    /**
+     * @param x abscisse
+     * @param y ordonnée
+     * @return true si au moins un ennemi vivant occupe la case
+     */
+    public boolean hasEnemyAt(int x, int y) {
+        return firstAt(x, y) != null;
+    }
+
+    /** @return vue en lecture seule des ennemis, morts compris, dans l'ordre de chargement */
+    public List<Enemy> getEnemies() {
+        return enemiesView;
+    }
+
+    /** @return nombre d'ennemis, morts compris */
+    public int size() {
+        return enemies.size();
+    }
+
+    /** @return true si aucun ennemi n'est enregistré */
+    public boolean isEmpty() {
+        return enemies.isEmpty();
+    }
+
+    /** @return nombre d'ennemis vivants */
+    public int getAliveCount() {
+        return aliveCount;
+    }
+
+    /** @return true si la carte avait des ennemis et qu'ils sont tous morts */
+    public boolean allDefeated() {
+        return !enemies.isEmpty() && aliveCount == 0;
+    }
+
+    private void link(Enemy enemy) {
+        int x = enemy.getX();
+        int y = enemy.getY();
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return;
+        }
+        int cell = y * width + x;
+        nextInCell[enemy.registryId] = cellHead[cell];
+        cellHead[cell] = enemy.registryId;
+    }
+
+    private void unlink(Enemy enemy) {
+        int x = enemy.getX();
+        int y = enemy.getY();
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return;
+        }
+        int cell = y * width + x;
+        int id = enemy.registryId;
+        if (cellHead[cell] == id) {
+            cellHead[cell] = nextInCell[id];
+        } else {
+            for (int prev = cellHead[cell]; prev != NONE; prev = nextInCell[prev]) {
+                if (nextInCell[prev] == id) {
+                    nextInCell[prev] = nextInCell[id];
+                    break;
+                }
+            }
+        }
+        nextInCell[id] = NONE;
+    }
+}
@@ -0,0 +1,70 @@
+package com.superbomberman.model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Générateur aléatoire d'une partie, dont l'état tient dans un seul {@code long}.
+ * <p>
+ * Reproduit exactement la suite de {@link java.util.SplittableRandom} pour une même graine
+ * (incrément de Weyl puis mélange de l'état) : les graines et replays existants donnent donc
+ * la même partie. Contrairement à {@code SplittableRandom}, l'état est lisible et réinjectable
+ * ({@link #getState()}, {@link #setState(long)}), ce qui permet de revenir en arrière dans
+ * une partie (rollback) sans copier d'objet.
+ * </p>
+ *
+ * <p>
+ * Les tirages bornés ({@code nextInt(int)}, {@code nextDouble()}) sont ceux par défaut de
+ * {@link RandomGenerator}, les mêmes que ceux de {@code SplittableRandom}.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class GameRandom implements RandomGenerator {
+
+    /** Incrément de Weyl de {@code SplittableRandom} (nombre d'or). */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    /**
+     * @param seed graine de la partie
+     */
+    public GameRandom(long seed) {
+        this.state = seed;
+    }
+
+    @Override
+    public long nextLong() {
+        return mix64(state += GOLDEN_GAMMA);
+    }
+
+    @Override
+    public int nextInt() {
+        return mix32(state += GOLDEN_GAMMA);
+    }
+
+    /** @return état courant du générateur */
+    public long getState() { return state; }
+
+    /**
+     * Replace le générateur dans un état lu par {@link #getState()}.
+     *
+     * @param state état à restaurer
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+}
@@ -3,12 +3,13 @@ package com.superbomberman.model;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Utilitaire pour charger une carte du jeu Super Bomberman à partir d'un fichier texte.
  * <p>
- * Cette classe permet de générer une matrice de {@link Tile} à partir d'un fichier de carte,
+ * Cette classe permet de générer une {@link TileGrid} (ou une matrice de {@link Tile}) à partir d'un fichier de carte,
  * tout en positionnant les joueurs {@link Player} et l'{@link Enemy} selon les caractères du fichier.
  * </p>
  * <ul>
@@ -17,13 +18,16 @@ import java.util.List;
  *     <li>'0' : Mur destructible ({@link TileType#WALL_BREAKABLE})</li>
  *     <li>'1' : Joueur 1 (positionné sur une case sol)</li>
  *     <li>'2' : Joueur 2 (positionné sur une case sol)</li>
- *     <li>'E' : Ennemi (positionné sur une case sol)</li>
+ *     <li>'3' à '8' : Joueurs 3 à 8 (parties à plus de deux joueurs)</li>
+ *     <li>'E' : Ennemi (un par caractère, positionné sur une case sol)</li>
  * </ul>
  *
- * Les attributs {@link #player1}, {@link #player2} et {@link #enemy} sont mis à jour avec leurs positions respectives.
+ * Les attributs {@link #player1} et {@link #player2} sont mis à jour avec leurs positions respectives,
+ * les joueurs suivants sont accessibles via {@link #getPlayer(int)} ;
+ * chaque 'E' crée un ennemi dans le registre {@link #enemies}.
  *
  * @author Jules Fuselier
- * @version 1.0
+ * @version 1.4 - Analyse d'une carte sans références globales (parseGrid)
  * @since 2025-06-08
  */
 public class MapLoader {
@@ -34,13 +38,76 @@ public class MapLoader {
     /** Référence globale vers le joueur 2 (définie lors du chargement de la carte). */
     public static Player player2 = null;
 
-    /** Référence globale vers l'ennemi (définie lors du chargement de la carte). */
+    /** Nombre maximal de joueurs d'une partie. */
+    public static final int MAX_PLAYERS = 8;
+
+    /** Joueurs 3 à 8 (indice 0 = joueur 3), remis à zéro à chaque chargement. */
+    private static final Player[] extraPlayers = new Player[MAX_PLAYERS - 2];
+
+    /** Premier ennemi de la carte (compatibilité avec l'affichage à un seul ennemi). */
     public static Enemy enemy = null;
 
+    /** Tous les ennemis de la carte, un par 'E' (vidé à chaque chargement). */
+    public static final EnemyRegistry enemies = new EnemyRegistry();
+
+    /**
+     * Retire tous les ennemis de la partie (mode deux joueurs, tests).
+     */
+    public static void clearEnemies() {
+        enemy = null;
+        enemies.clear();
+    }
+
+    /**
+     * Retourne le joueur d'un numéro donné.
+     *
+     * @param playerNumber numéro du joueur (1 à {@value #MAX_PLAYERS})
+     * @return le joueur, ou null s'il n'est pas sur la carte
+     */
+    public static Player getPlayer(int playerNumber) {
+        if (playerNumber == 1) {
+            return player1;
+        }
+        if (playerNumber == 2) {
+            return player2;
+        }
+        if (playerNumber < 1 || playerNumber > MAX_PLAYERS) {
+            return null;
+        }
+        return extraPlayers[playerNumber - 3];
+    }
+
+    /**
+     * Définit le joueur d'un numéro donné.
+     *
+     * @param playerNumber numéro du joueur (1 à {@value #MAX_PLAYERS})
+     * @param player le joueur, null pour libérer la place
+     */
+    public static void setPlayer(int playerNumber, Player player) {
+        if (playerNumber < 1 || playerNumber > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Numéro de joueur invalide : " + playerNumber);
+        }
+        if (playerNumber == 1) {
+            player1 = player;
+        } else if (playerNumber == 2) {
+            player2 = player;
+        } else {
+            extraPlayers[playerNumber - 3] = player;
+        }
+    }
+
+    /**
+     * Retire les joueurs 3 à 8 (les joueurs 1 et 2 sont conservés d'une carte à l'autre).
+     */
+    public static void clearExtraPlayers() {
+        Arrays.fill(extraPlayers, null);
+    }
+
     /**
      * Charge une carte à partir d'un fichier texte et retourne la matrice de {@link Tile} correspondante.
      * <p>
      * Met à jour les positions des joueurs et de l'ennemi selon les caractères de la carte.
+     * Les tuiles retournées sont les instances partagées de {@link Tile#of(TileType)}.
      * </p>
      *
      * @param path Chemin du fichier de carte à charger.
@@ -48,45 +115,81 @@ public class MapLoader {
      * @throws IOException Si le fichier ne peut pas être lu.
      */
     public static Tile[][] loadMap(String path) throws IOException {
+        return loadGrid(path).toTiles();
+    }
+
+    /**
+     * Charge une carte à partir d'un fichier texte dans une {@link TileGrid}.
+     * <p>
+     * Met à jour les positions des joueurs et de l'ennemi selon les caractères de la carte.
+     * Les caractères non reconnus donnent une case de sol.
+     * </p>
+     *
+     * @param path Chemin du fichier de carte à charger.
+     * @return Carte compacte du jeu.
+     * @throws IOException Si le fichier ne peut pas être lu.
+     */
+    public static TileGrid loadGrid(String path) throws IOException {
         List<String> lines = Files.readAllLines(Paths.get(path));
+        clearEnemies();
+        clearExtraPlayers();
+
+        Player[] players = new Player[MAX_PLAYERS];
+        players[0] = player1;
+        players[1] = player2;
+        TileGrid grid = parseGrid(lines, players, enemies);
+        for (int number = 1; number <= MAX_PLAYERS; number++) {
+            setPlayer(number, players[number - 1]);
+        }
+        enemy = enemies.isEmpty() ? null : enemies.getEnemies().get(0);
+        return grid;
+    }
+
+    /**
+     * Construit une carte à partir de ses lignes, sans toucher aux références globales :
+     * les joueurs et les ennemis trouvés sont rangés dans les conteneurs fournis, ce qui
+     * permet de charger plusieurs parties indépendantes dans le même processus.
+     * <p>
+     * Un joueur déjà présent dans {@code players} est réutilisé (et simplement repositionné),
+     * sinon il est créé. Les caractères non reconnus donnent une case de sol.
+     * </p>
+     *
+     * @param lines lignes de la carte (toutes de même longueur)
+     * @param players joueurs par numéro (indice = numéro - 1), au moins {@value #MAX_PLAYERS} cases
+     * @param enemies registre recevant un ennemi par 'E'
+     * @return Carte compacte du jeu.
+     */
+    public static TileGrid parseGrid(List<String> lines, Player[] players, EnemyRegistry enemies) {
         int rows = lines.size();
         int cols = lines.get(0).length();
-
-        Tile[][] map = new Tile[rows][cols];
+        TileGrid grid = new TileGrid(cols, rows);
 
         for (int row = 0; row < rows; row++) {
             String line = lines.get(row);
             for (int col = 0; col < cols; col++) {
                 char c = line.charAt(col);
                 switch (c) {
-                    case '#' -> map[row][col] = new Tile(TileType.WALL);
-                    case ' ' -> map[row][col] = new Tile(TileType.FLOOR);
-                    case '0' -> map[row][col] = new Tile(TileType.WALL_BREAKABLE);
-                    case '1' -> {
-                        map[row][col] = new Tile(TileType.FLOOR);
-                        if (player1 == null) {
-                            player1 = new Player("Joueur 1");
-                        }
-                        player1.setPosition(col, row);
-                    }
-                    case '2' -> {
-                        map[row][col] = new Tile(TileType.FLOOR);
-                        if (player2 == null) {
-                            player2 = new Player("Joueur 2");
+                    case '#' -> grid.set(col, row, TileType.WALL);
+                    case '0' -> grid.set(col, row, TileType.WALL_BREAKABLE);
+                    case '1', '2', '3', '4', '5', '6', '7', '8' -> {
+                        int index = c - '1';
+                        if (players[index] == null) {
+                            players[index] = new Player("Joueur " + (index + 1));
                         }
-                        player2.setPosition(col, row);
+                        players[index].setPosition(col, row);
                     }
                     case 'E' -> {
-                        map[row][col] = new Tile(TileType.FLOOR);
-                        if (enemy == null) {
-                            enemy = new Enemy();
-                        }
-                        enemy.setPosition(col, row);
+                        Enemy loaded = new Enemy();
+                        loaded.setPosition(col, row);
+                        enemies.add(loaded);
+                    }
+                    default -> {
+                        // ' ' et caractères inconnus : sol (valeur par défaut de la grille)
                     }
                 }
             }
         }
 
-        return map;
+        return grid;
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,10 @@
 package com.superbomberman.model;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.function.LongSupplier;
 
+import com.superbomberman.logging.GameLog;
 import com.superbomberman.model.powerup.MalusType;
 
 /**
@@ -21,7 +24,7 @@ import com.superbomberman.model.powerup.MalusType;
  * </ul>
  *
  * @author Jules Fuselier
- * @version 2.0
+ * @version 2.3 - Copie d'état pour les instantanés de partie (rollback)
  * @since 2025-06-08
  */
 public class Player {
@@ -92,6 +95,12 @@ public class Player {
     /** Nom du joueur (pour l'affichage du podium) */
     private String name;
 
+    /** Générateur aléatoire de la partie, pour le tirage des malus */
+    private RandomGenerator random = new SplittableRandom();
+
+    /** Horloge de la partie en millisecondes, pour la durée des malus */
+    private LongSupplier clock = System::currentTimeMillis;
+
     /**
      * Constructeur du joueur.
      *
@@ -321,7 +330,7 @@ public class Player {
 
         this.heldBomb = bomb;
         this.isHoldingBomb = true;
-        System.out.println("Bombe ramassée !");
+        GameLog.info("Bombe ramassée !");
         return true;
     }
 
@@ -341,7 +350,7 @@ public class Player {
         this.heldBomb = null;
         this.isHoldingBomb = false;
 
-        System.out.println("Bombe lancée dans la direction (" + directionX + ", " + directionY + ")");
+        GameLog.info("Bombe lancée dans la direction ({}, {})", directionX, directionY);
         return thrownBomb;
     }
 
@@ -371,6 +380,55 @@ public class Player {
         this.isHoldingBomb = false;
     }
 
+    /**
+     * Injecte le générateur aléatoire de la partie (tirage des malus).
+     *
+     * @param random générateur partagé par la session de jeu
+     */
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /**
+     * Injecte l'horloge de la partie (temps simulé), pour que la durée des malus
+     * ne dépende pas de la vitesse de lecture d'un replay.
+     *
+     * @param clock horloge en millisecondes
+     */
+    public void setClock(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Recopie l'état de jeu d'un autre joueur (position, capacités, malus, bombe tenue, vie),
+     * sans allocation. Le nom, l'aléa et l'horloge ne sont pas copiés : un joueur « ombre »
+     * sert ainsi d'instantané du joueur réel et inversement.
+     *
+     * @param other joueur dont l'état est recopié
+     */
+    public void copyStateFrom(Player other) {
+        this.x = other.x;
+        this.y = other.y;
+        this.previousX = other.previousX;
+        this.previousY = other.previousY;
+        this.maxBombs = other.maxBombs;
+        this.explosionRange = other.explosionRange;
+        this.speed = other.speed;
+        this.canKickBombs = other.canKickBombs;
+        this.canThrowBombs = other.canThrowBombs;
+        this.hasRemoteDetonation = other.hasRemoteDetonation;
+        this.canPassThroughWalls = other.canPassThroughWalls;
+        this.canPassThroughBombs = other.canPassThroughBombs;
+        this.hasLineBombs = other.hasLineBombs;
+        this.heldBomb = other.heldBomb;
+        this.isHoldingBomb = other.isHoldingBomb;
+        this.currentMalus = other.currentMalus;
+        this.malusEndTime = other.malusEndTime;
+        this.savedSpeed = other.savedSpeed;
+        this.savedRange = other.savedRange;
+        this.alive = other.alive;
+    }
+
     /**
      * Applique un malus aléatoire au joueur.
      */
@@ -380,38 +438,38 @@ public class Player {
 
         // Choisir un malus aléatoire
         MalusType[] malusTypes = MalusType.values();
-        currentMalus = malusTypes[new Random().nextInt(malusTypes.length)];
-        malusEndTime = System.currentTimeMillis() + MALUS_DURATION;
+        currentMalus = malusTypes[random.nextInt(malusTypes.length)];
+        malusEndTime = clock.getAsLong() + MALUS_DURATION;
 
         // Appliquer l'effet du malus
         switch (currentMalus) {
             case SLOW_SPEED -> {
                 savedSpeed = speed;
                 speed = Math.max(0.3, speed - 0.7);
-                System.out.println("MALUS: Vitesse réduite!");
+                GameLog.info("MALUS: Vitesse réduite!");
             }
             case SUPER_FAST -> {
                 savedSpeed = speed;
                 speed += 2.0;
-                System.out.println("MALUS: Vitesse incontrôlable!");
+                GameLog.info("MALUS: Vitesse incontrôlable!");
             }
             case REDUCED_RANGE -> {
                 savedRange = explosionRange;
                 explosionRange = Math.max(1, explosionRange - 2);
-                System.out.println("MALUS: Portée d'explosion réduite!");
+                GameLog.info("MALUS: Portée d'explosion réduite!");
             }
             case REVERSED_CONTROLS -> {
-                System.out.println("MALUS: Contrôles inversés!");
+                GameLog.info("MALUS: Contrôles inversés!");
             }
             case AUTO_BOMB -> {
-                System.out.println("MALUS: Pose de bombes automatique!");
+                GameLog.info("MALUS: Pose de bombes automatique!");
             }
             case NO_BOMB -> {
-                System.out.println("MALUS: Impossible de poser des bombes!");
+                GameLog.info("MALUS: Impossible de poser des bombes!");
             }
         }
 
-        System.out.println("Malus actif pendant " + (MALUS_DURATION / 1000) + " secondes: " + currentMalus);
+        GameLog.info("Malus actif pendant {} secondes: {}", (MALUS_DURATION / 1000), currentMalus);
     }
 
     /**
@@ -442,8 +500,8 @@ public class Player {
      * Met à jour l'état du malus (à appeler régulièrement).
      */
     public void updateMalus() {
-        if (currentMalus != null && System.currentTimeMillis() >= malusEndTime) {
-            System.out.println("Fin du malus: " + currentMalus);
+        if (currentMalus != null && clock.getAsLong() >= malusEndTime) {
+            GameLog.info("Fin du malus: {}", currentMalus);
             clearCurrentMalus();
         }
     }
@@ -483,7 +541,7 @@ public class Player {
      */
     public long getMalusTimeRemaining() {
         if (currentMalus == null) return 0;
-        return Math.max(0, malusEndTime - System.currentTimeMillis());
+        return Math.max(0, malusEndTime - clock.getAsLong());
     }
 
     /**
@@ -7,13 +7,36 @@ package com.superbomberman.model;
  * Elle peut être testée pour sa franchissabilité (walkable) et d'autres comportements selon son type.
  * </p>
  *
+ * <p>
+ * Une tuile étant immuable, {@link #of(TileType)} fournit une instance partagée
+ * par type, utilisée par {@link TileGrid} pour éviter toute allocation par case.
+ * </p>
+ *
  * @author Hugo Brest Lestrade
- * @version 1.0
+ * @version 1.1 - Instances partagées par type
  * @since 2025-06-12
  */
 public class Tile {
     private final TileType type;
 
+    /** Instances partagées, indexées par ordinal de {@link TileType}. */
+    private static final Tile[] SHARED = new Tile[TileType.values().length];
+
+    static {
+        for (TileType type : TileType.values()) {
+            SHARED[type.ordinal()] = new Tile(type);
+        }
+    }
+
+    /**
+     * Retourne l'instance partagée d'une tuile du type donné.
+     * @param type Le type de la tuile
+     * @return la tuile partagée (immuable)
+     */
+    public static Tile of(TileType type) {
+        return SHARED[type.ordinal()];
+    }
+
     /**
      * Construit une tuile du type spécifié.
      * @param type Le type de la tuile (mur, sol, etc)
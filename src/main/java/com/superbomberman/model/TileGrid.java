@@ -0,0 +1,164 @@
+package com.superbomberman.model;
+
+import java.util.Arrays;
+
+/**
+ * Carte du jeu stockée dans un tableau d'octets à plat.
+ * <p>
+ * Chaque case est codée par l'ordinal de son {@link TileType} dans un {@code byte[]}
+ * parcouru ligne par ligne (index {@code y * largeur + x}). Une arène de 512x512
+ * tient ainsi dans 256 Ko, sans aucun objet par case, et les parcours de la carte
+ * restent contigus en mémoire. Les accès objets passent par des {@link Tile}
+ * partagées (voir {@link Tile#of(TileType)}) : détruire un mur ne crée plus rien.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@link #get(int, int)} / {@link #set(int, int, TileType)} : accès par type</li>
+ *     <li>{@link #tileAt(int, int)} : accès compatible avec l'ancienne matrice de {@link Tile}</li>
+ *     <li>{@link #fromTiles(Tile[][])} / {@link #toTiles()} : conversion depuis/vers {@code Tile[][]}</li>
+ * </ul>
+ *
+ * @author Jules Fuselier
+ * @version 1.1 - Copie brute des cases (instantanés de partie)
+ * @since 2026-10-17
+ */
+public final class TileGrid {
+
+    /** Types indexés par ordinal, pour décoder sans allouer. */
+    private static final TileType[] TYPES = TileType.values();
+
+    private final int width;
+    private final int height;
+    private final byte[] cells;
+
+    /**
+     * Crée une carte remplie de sol.
+     *
+     * @param width largeur en cases
+     * @param height hauteur en cases
+     */
+    public TileGrid(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Dimensions de carte invalides : " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.cells = new byte[width * height];
+        Arrays.fill(cells, (byte) TileType.FLOOR.ordinal());
+    }
+
+    /**
+     * Construit une carte à partir d'une matrice de tuiles (les cases nulles deviennent du sol).
+     *
+     * @param tiles matrice [ligne][colonne]
+     * @return la carte équivalente
+     */
+    public static TileGrid fromTiles(Tile[][] tiles) {
+        TileGrid grid = new TileGrid(tiles[0].length, tiles.length);
+        for (int y = 0; y < grid.height; y++) {
+            for (int x = 0; x < grid.width; x++) {
+                Tile tile = tiles[y][x];
+                if (tile != null) {
+                    grid.set(x, y, tile.getType());
+                }
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Retourne une matrice de tuiles partagées équivalente (pour le code existant).
+     *
+     * @return matrice [ligne][colonne]
+     */
+    public Tile[][] toTiles() {
+        Tile[][] tiles = new Tile[height][width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                tiles[y][x] = tileAt(x, y);
+            }
+        }
+        return tiles;
+    }
+
+    /**
+     * @param x abscisse
+     * @param y ordonnée
+     * @return le type de la case
+     */
+    public TileType get(int x, int y) {
+        return TYPES[cells[y * width + x]];
+    }
+
+    /**
+     * Modifie le type d'une case.
+     *
+     * @param x abscisse
+     * @param y ordonnée
+     * @param type nouveau type
+     */
+    public void set(int x, int y, TileType type) {
+        cells[y * width + x] = (byte) type.ordinal();
+    }
+
+    /**
+     * @param x abscisse
+     * @param y ordonnée
+     * @return la tuile partagée correspondant au type de la case
+     */
+    public Tile tileAt(int x, int y) {
+        return Tile.of(get(x, y));
+    }
+
+    /**
+     * @param x abscisse
+     * @param y ordonnée
+     * @param type type recherché
+     * @return true si la case est du type donné
+     */
+    public boolean is(int x, int y, TileType type) {
+        return cells[y * width + x] == (byte) type.ordinal();
+    }
+
+    /**
+     * @param x abscisse
+     * @param y ordonnée
+     * @return true si la position est dans la carte
+     */
+    public boolean isInBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /** @return largeur en cases */
+    public int getWidth() {
+        return width;
+    }
+
+    /** @return hauteur en cases */
+    public int getHeight() {
+        return height;
+    }
+
+    /** @return nombre total de cases */
+    public int size() {
+        return cells.length;
+    }
+
+    /**
+     * Copie les cases (un octet par case) dans un tampon, sans allocation.
+     *
+     * @param target tampon d'au moins {@link #size()} octets
+     */
+    public void copyCellsTo(byte[] target) {
+        System.arraycopy(cells, 0, target, 0, cells.length);
+    }
+
+    /**
+     * Remplace toutes les cases par celles d'un tampon rempli par {@link #copyCellsTo(byte[])}.
+     *
+     * @param source tampon d'au moins {@link #size()} octets
+     */
+    public void copyCellsFrom(byte[] source) {
+        System.arraycopy(source, 0, cells, 0, cells.length);
+    }
+}
@@ -12,7 +12,7 @@ import com.superbomberman.model.Player;
  * qui doit être implémentée pour appliquer l'effet du power-up à un joueur.</p>
  *
  * @author Jules Fuselier
- * @version 1.0
+ * @version 1.1 - Position dans la liste des power-ups actifs (retrait en temps constant)
  * @since 2025-06-13
  */
 public abstract class PowerUp {
@@ -26,6 +26,9 @@ public abstract class PowerUp {
     /** Type du power-up */
     protected final PowerUpType type;
 
+    /** Position dans la liste des power-ups actifs du gestionnaire (-1 si hors liste) */
+    private int listIndex = -1;
+
     /**
      * Constructeur de la classe PowerUp.
      *
@@ -72,4 +75,22 @@ public abstract class PowerUp {
     public int getY() {
         return y;
     }
+
+    /**
+     * Retourne la position du power-up dans la liste des power-ups actifs.
+     *
+     * @return position dans la liste, ou -1 si le power-up n'y est pas
+     */
+    public int getListIndex() {
+        return listIndex;
+    }
+
+    /**
+     * Associe la position du power-up dans la liste des power-ups actifs.
+     *
+     * @param listIndex position fournie par le gestionnaire, ou -1
+     */
+    public void setListIndex(int listIndex) {
+        this.listIndex = listIndex;
+    }
 }
@@ -1,6 +1,7 @@
 package com.superbomberman.model.powerup;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Énumération des différents types de power-ups disponibles dans SuperBomberman.
@@ -9,10 +10,11 @@ import java.util.Random;
  * appliqué au joueur.</p>
  *
  * <p>Cette énumération fournit également une méthode statique pour obtenir
- * un type de power-up aléatoire.</p>
+ * un type de power-up aléatoire, tiré dans le générateur de la partie pour que
+ * les parties soient reproductibles.</p>
  *
  * @author Jules Fuselier
- * @version 1.0
+ * @version 1.1 - Tirage dans le générateur de la partie
  * @since 2025-06-13
  */
 public enum PowerUpType {
@@ -46,15 +48,25 @@ public enum PowerUpType {
     /** Malus lié à un effet négatif (exemple : tête de mort) */
     SKULL;
 
-    private static final Random RANDOM = new Random();
+    /** Types indexés par ordinal, pour tirer sans copier le tableau. */
+    private static final PowerUpType[] VALUES = values();
 
     /**
      * Retourne un type de power-up choisi aléatoirement parmi tous les types possibles.
      *
+     * @param random générateur de la partie
+     * @return un {@link PowerUpType} aléatoire
+     */
+    public static PowerUpType randomType(RandomGenerator random) {
+        return VALUES[random.nextInt(VALUES.length)];
+    }
+
+    /**
+     * Retourne un type de power-up aléatoire, hors de toute partie (tirage non reproductible).
+     *
      * @return un {@link PowerUpType} aléatoire
      */
     public static PowerUpType randomType() {
-        PowerUpType[] values = values();
-        return values[RANDOM.nextInt(values.length)];
+        return VALUES[ThreadLocalRandom.current().nextInt(VALUES.length)];
     }
 }
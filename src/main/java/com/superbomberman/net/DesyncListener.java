@@ -0,0 +1,21 @@
+package com.superbomberman.net;
+
+/**
+ * Observateur des désynchronisations détectées par une {@link LockstepSession}.
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface DesyncListener {
+
+    /**
+     * Appelé quand l'empreinte d'un pair diffère de l'empreinte locale au même tick.
+     *
+     * @param tick tick comparé
+     * @param player numéro du pair en désaccord
+     * @param localChecksum empreinte locale
+     * @param remoteChecksum empreinte reçue du pair
+     */
+    void onDesync(long tick, int player, int localChecksum, int remoteChecksum);
+}
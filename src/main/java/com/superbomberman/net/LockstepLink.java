@@ -0,0 +1,270 @@
+package com.superbomberman.net;
+
+import com.superbomberman.logging.GameLog;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Liaison TCP entre les pairs d'une partie en lockstep (boucle locale ou réseau local).
+ * <p>
+ * Topologie en étoile : l'hôte (joueur 1) accepte les autres pairs, leur annonce la partie
+ * (graine, carte, nombre de joueurs, numéro attribué, délai d'entrée) puis relaie chaque
+ * trame reçue d'un pair vers tous les autres. Un pair ne parle qu'à l'hôte. Les trames
+ * sont courtes ({@link LockstepProtocol}) et envoyées sans attendre ({@code TCP_NODELAY}).
+ * </p>
+ *
+ * <ul>
+ *     <li>{@link #host(int, int, String, long, int, int)} : ouvre la partie et attend les pairs</li>
+ *     <li>{@link #join(String, int, int)} : rejoint une partie</li>
+ *     <li>{@link #start(PeerSession)} : branche la session et démarre la réception</li>
+ * </ul>
+ *
+ * @author Jules Fuselier
+ * @version 1.1 - Branchement de toute {@link PeerSession} (lockstep ou rollback)
+ * @since 2026-10-17
+ */
+public final class LockstepLink implements LockstepTransport, Closeable {
+
+    /** Identifiant du protocole, vérifié à la connexion. */
+    private static final int MAGIC = 0x53424C53; // "SBLS"
+
+    /**
+     * Connexion vers un pair (ou vers l'hôte).
+     */
+    private static final class Peer {
+        final Socket socket;
+        final DataInputStream in;
+        final DataOutputStream out;
+
+        Peer(Socket socket) throws IOException {
+            this.socket = socket;
+            socket.setTcpNoDelay(true);
+            this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        }
+
+        synchronized void write(byte[] frame, int offset, int length) throws IOException {
+            out.write(frame, offset, length);
+            out.flush();
+        }
+    }
+
+    private final List<Peer> peers;
+    private final boolean host;
+    private final long seed;
+    private final String mapName;
+    private final int playerCount;
+    private final int localNumber;
+    private final int inputDelay;
+    private volatile boolean closed = false;
+
+    private LockstepLink(List<Peer> peers, boolean host, long seed, String mapName,
+                         int playerCount, int localNumber, int inputDelay) {
+        this.peers = peers;
+        this.host = host;
+        this.seed = seed;
+        this.mapName = mapName;
+        this.playerCount = playerCount;
+        this.localNumber = localNumber;
+        this.inputDelay = inputDelay;
+    }
+
+    /**
+     * Ouvre une partie et attend que tous les pairs l'aient rejointe.
+     *
+     * @param port port d'écoute (0 = port libre, voir {@link #listen(int)})
+     * @param playerCount nombre total de joueurs, hôte compris
+     * @param mapName carte de la partie
+     * @param seed graine de la partie
+     * @param inputDelay délai d'entrée en ticks
+     * @param timeoutMillis attente maximale de chaque pair
+     * @return liaison de l'hôte (joueur 1)
+     * @throws IOException si un pair ne se connecte pas à temps
+     */
+    public static LockstepLink host(int port, int playerCount, String mapName, long seed,
+                                    int inputDelay, int timeoutMillis) throws IOException {
+        try (ServerSocket server = listen(port)) {
+            return accept(server, playerCount, mapName, seed, inputDelay, timeoutMillis);
+        }
+    }
+
+    /**
+     * Ouvre le port d'écoute d'un hôte (sur toutes les interfaces, pour le réseau local).
+     *
+     * @param port port d'écoute, 0 pour un port libre
+     * @return socket serveur à passer à {@link #accept}
+     * @throws IOException si le port ne peut être ouvert
+     */
+    public static ServerSocket listen(int port) throws IOException {
+        return new ServerSocket(port);
+    }
+
+    /**
+     * Attend les pairs sur un port déjà ouvert et leur annonce la partie.
+     *
+     * @param server socket serveur ouverte par {@link #listen(int)}
+     * @param playerCount nombre total de joueurs, hôte compris
+     * @param mapName carte de la partie
+     * @param seed graine de la partie
+     * @param inputDelay délai d'entrée en ticks
+     * @param timeoutMillis attente maximale de chaque pair
+     * @return liaison de l'hôte (joueur 1)
+     * @throws IOException si un pair ne se connecte pas à temps
+     */
+    public static LockstepLink accept(ServerSocket server, int playerCount, String mapName, long seed,
+                                      int inputDelay, int timeoutMillis) throws IOException {
+        server.setSoTimeout(timeoutMillis);
+        List<Peer> peers = new ArrayList<>();
+        try {
+            for (int number = 2; number <= playerCount; number++) {
+                Peer peer = new Peer(server.accept());
+                peers.add(peer);
+                peer.out.writeInt(MAGIC);
+                peer.out.writeLong(seed);
+                peer.out.writeUTF(mapName);
+                peer.out.writeByte(playerCount);
+                peer.out.writeByte(number);
+                peer.out.writeByte(inputDelay);
+                peer.out.flush();
+            }
+        } catch (IOException e) {
+            peers.forEach(peer -> closeQuietly(peer.socket));
+            throw e;
+        }
+        return new LockstepLink(peers, true, seed, mapName, playerCount, 1, inputDelay);
+    }
+
+    /**
+     * Rejoint une partie ouverte par un hôte.
+     *
+     * @param hostName adresse de l'hôte
+     * @param port port de l'hôte
+     * @param timeoutMillis délai maximal de connexion et d'annonce
+     * @return liaison du pair
+     * @throws IOException si l'hôte est injoignable ou ne parle pas ce protocole
+     */
+    public static LockstepLink join(String hostName, int port, int timeoutMillis) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(hostName, port), timeoutMillis);
+            socket.setSoTimeout(timeoutMillis);
+            Peer peer = new Peer(socket);
+            if (peer.in.readInt() != MAGIC) {
+                throw new IOException("L'hôte ne parle pas le protocole lockstep");
+            }
+            long seed = peer.in.readLong();
+            String mapName = peer.in.readUTF();
+            int playerCount = peer.in.readUnsignedByte();
+            int localNumber = peer.in.readUnsignedByte();
+            int inputDelay = peer.in.readUnsignedByte();
+            socket.setSoTimeout(0);
+            return new LockstepLink(List.of(peer), false, seed, mapName, playerCount, localNumber, inputDelay);
+        } catch (IOException e) {
+            closeQuietly(socket);
+            throw e;
+        }
+    }
+
+    /**
+     * Branche la session sur la liaison : un thread virtuel par pair lit les trames, les
+     * transmet à la session et, chez l'hôte, les relaie aux autres pairs.
+     *
+     * @param session session (lockstep ou rollback) alimentée par les trames reçues
+     */
+    public void start(PeerSession session) {
+        for (Peer peer : peers) {
+            Thread.ofVirtual().name("lockstep-peer").start(() -> readLoop(peer, session));
+        }
+    }
+
+    private void readLoop(Peer source, PeerSession session) {
+        byte[] buffer = new byte[LockstepProtocol.MAX_FRAME];
+        try {
+            while (!closed) {
+                int length = source.in.readUnsignedByte();
+                if (length == 0 || length >= LockstepProtocol.MAX_FRAME) {
+                    throw new IOException("Trame invalide (" + length + " octets)");
+                }
+                buffer[0] = (byte) length;
+                source.in.readFully(buffer, 1, length);
+                session.receive(buffer, 1, length);
+                if (host) {
+                    relay(source, buffer, length + 1);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            if (!closed) {
+                GameLog.error("Liaison lockstep interrompue : {}", e.getMessage());
+                close();
+            }
+        }
+    }
+
+    private void relay(Peer source, byte[] frame, int length) {
+        for (Peer peer : peers) {
+            if (peer != source) {
+                write(peer, frame, length);
+            }
+        }
+    }
+
+    @Override
+    public void send(byte[] frame, int length) {
+        for (Peer peer : peers) {
+            write(peer, frame, length);
+        }
+    }
+
+    private void write(Peer peer, byte[] frame, int length) {
+        if (closed) {
+            return;
+        }
+        try {
+            peer.write(frame, 0, length);
+        } catch (IOException e) {
+            GameLog.error("Envoi lockstep impossible : {}", e.getMessage());
+            close();
+        }
+    }
+
+    /** @return graine de la partie */
+    public long getSeed() { return seed; }
+    /** @return carte de la partie */
+    public String getMapName() { return mapName; }
+    /** @return nombre total de joueurs */
+    public int getPlayerCount() { return playerCount; }
+    /** @return numéro du joueur local */
+    public int getLocalNumber() { return localNumber; }
+    /** @return délai d'entrée en ticks */
+    public int getInputDelay() { return inputDelay; }
+    /** @return true si ce pair est l'hôte */
+    public boolean isHost() { return host; }
+    /** @return true si la liaison est fermée */
+    public boolean isClosed() { return closed; }
+
+    @Override
+    public void close() {
+        closed = true;
+        for (Peer peer : peers) {
+            closeQuietly(peer.socket);
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // Fermeture au mieux
+        }
+    }
+}
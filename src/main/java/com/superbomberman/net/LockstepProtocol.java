@@ -0,0 +1,114 @@
+package com.superbomberman.net;
+
+/**
+ * Messages échangés entre pairs d'une partie en lockstep.
+ * <p>
+ * Chaque message est une trame {@code [longueur][type][joueur][corps]} de quelques octets,
+ * les entiers étant codés en varint (7 bits par octet). Seules les entrées circulent :
+ * une série {@link #INPUT_RUN} dit « le joueur a gardé ce masque pendant n ticks » et un
+ * joueur qui ne touche pas au clavier n'émet qu'une série de 5 octets par lot de ticks.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@link #INPUT_RUN} : {@code varint nombre de ticks, octet masque PlayerInput}</li>
+ *     <li>{@link #CHECKSUM} : {@code varint tick, int empreinte} ({@link com.superbomberman.game.StateChecksum})</li>
+ * </ul>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class LockstepProtocol {
+
+    /** Série de ticks d'entrée identique. */
+    public static final byte INPUT_RUN = 1;
+    /** Empreinte d'état à un tick donné. */
+    public static final byte CHECKSUM = 2;
+
+    /** Taille maximale d'une trame, octet de longueur compris. */
+    public static final int MAX_FRAME = 16;
+
+    private LockstepProtocol() {
+    }
+
+    /**
+     * Écrit un entier positif en varint.
+     *
+     * @param buffer tampon de destination
+     * @param offset position d'écriture
+     * @param value valeur positive ou nulle
+     * @return position suivant l'entier écrit
+     */
+    public static int writeVarint(byte[] buffer, int offset, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[offset++] = (byte) value;
+        return offset;
+    }
+
+    /**
+     * Lit un entier varint.
+     *
+     * @param buffer tampon source
+     * @param cursor position de lecture, mise à jour ({@code cursor[0]})
+     * @param end fin des données lisibles
+     * @return valeur lue
+     * @throws IllegalArgumentException si l'entier est tronqué ou trop long
+     */
+    public static long readVarint(byte[] buffer, int[] cursor, int end) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (cursor[0] >= end) {
+                throw new IllegalArgumentException("Varint tronqué");
+            }
+            byte b = buffer[cursor[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint trop long");
+    }
+
+    /**
+     * Encode une série d'entrées.
+     *
+     * @param buffer tampon d'au moins {@link #MAX_FRAME} octets
+     * @param player numéro du joueur
+     * @param ticks nombre de ticks de la série
+     * @param mask masque PlayerInput
+     * @return longueur de la trame
+     */
+    public static int encodeInputRun(byte[] buffer, int player, int ticks, int mask) {
+        int end = writeVarint(buffer, 3, ticks);
+        buffer[end++] = (byte) mask;
+        return frame(buffer, INPUT_RUN, player, end);
+    }
+
+    /**
+     * Encode une empreinte d'état.
+     *
+     * @param buffer tampon d'au moins {@link #MAX_FRAME} octets
+     * @param player numéro du joueur émetteur
+     * @param tick tick de l'empreinte
+     * @param checksum empreinte
+     * @return longueur de la trame
+     */
+    public static int encodeChecksum(byte[] buffer, int player, long tick, int checksum) {
+        int end = writeVarint(buffer, 3, tick);
+        buffer[end++] = (byte) (checksum >>> 24);
+        buffer[end++] = (byte) (checksum >>> 16);
+        buffer[end++] = (byte) (checksum >>> 8);
+        buffer[end++] = (byte) checksum;
+        return frame(buffer, CHECKSUM, player, end);
+    }
+
+    private static int frame(byte[] buffer, byte type, int player, int end) {
+        buffer[0] = (byte) (end - 1);
+        buffer[1] = type;
+        buffer[2] = (byte) player;
+        return end;
+    }
+}
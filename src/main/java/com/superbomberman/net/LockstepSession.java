@@ -0,0 +1,294 @@
+package com.superbomberman.net;
+
+import com.superbomberman.game.GameSimulation;
+import com.superbomberman.game.PlayerInput;
+import com.superbomberman.game.PlayerSlot;
+import com.superbomberman.game.PlayerSlots;
+import com.superbomberman.game.StateChecksum;
+import com.superbomberman.logging.GameLog;
+
+import java.util.Arrays;
+
+/**
+ * Partie multijoueur en lockstep déterministe : seules les entrées circulent entre pairs.
+ * <p>
+ * Chaque pair fait tourner la même {@link GameSimulation} (même carte, même graine). L'entrée
+ * locale relevée au tick {@code t} est appliquée au tick {@code t + inputDelay} et envoyée
+ * aux autres pairs par séries ({@link LockstepProtocol#INPUT_RUN}) : la simulation n'avance
+ * d'un tick que lorsque les entrées de tous les joueurs pour ce tick sont connues
+ * ({@link #tryStep()}). Le délai d'entrée absorbe la latence du réseau et le regroupement
+ * des ticks par lots de {@code batchTicks}.
+ * </p>
+ * <p>
+ * Tous les {@value #CHECKSUM_INTERVAL} ticks, chaque pair diffuse l'empreinte de son état
+ * ({@link StateChecksum}) ; une empreinte différente au même tick signale une
+ * désynchronisation au {@link DesyncListener}. Avec les réglages par défaut, un joueur
+ * émet une série de 5 octets par lot de 6 ticks et une empreinte de 10 octets par seconde,
+ * soit environ 60 octets par seconde.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@link #submitLocalInput(int)} : entrée locale, appelée avant chaque {@link #tryStep()}</li>
+ *     <li>{@link #receive(byte[], int, int)} : trame reçue d'un pair (thread réseau)</li>
+ *     <li>{@link #tryStep()} : avance d'un tick si toutes les entrées sont là</li>
+ * </ul>
+ *
+ * @author Jules Fuselier
+ * @version 1.1 - Interface commune {@link PeerSession}
+ * @since 2026-10-17
+ */
+public final class LockstepSession implements PeerSession {
+
+    /** Délai d'entrée par défaut (ticks), soit 133 ms. */
+    public static final int DEFAULT_INPUT_DELAY = 8;
+    /** Taille par défaut d'un lot de ticks d'entrée. */
+    public static final int DEFAULT_BATCH_TICKS = 6;
+    /** Intervalle entre deux empreintes d'état (ticks). */
+    public static final int CHECKSUM_INTERVAL = 60;
+
+    /** Taille des tampons circulaires d'entrées (ticks). */
+    private static final int RING = 256;
+    /** Taille des tampons circulaires d'empreintes. */
+    private static final int CHECKSUM_RING = 16;
+
+    private final GameSimulation simulation;
+    private final PlayerSlots slots;
+    private final int localNumber;
+    private final int inputDelay;
+    private final int batchTicks;
+    private final LockstepTransport transport;
+    private DesyncListener desyncListener;
+
+    /** Entrées connues par place et par tick (modulo {@link #RING}). */
+    private final int[][] masks = new int[PlayerSlots.MAX_PLAYERS][RING];
+    /** Dernier tick dont l'entrée est connue, par place. */
+    private final long[] confirmed = new long[PlayerSlots.MAX_PLAYERS];
+    private final int[] inputs = new int[PlayerSlots.MAX_PLAYERS];
+
+    private final long[] localChecksumTicks = new long[CHECKSUM_RING];
+    private final int[] localChecksums = new int[CHECKSUM_RING];
+    private final long[][] remoteChecksumTicks = new long[PlayerSlots.MAX_PLAYERS][CHECKSUM_RING];
+    private final int[][] remoteChecksums = new int[PlayerSlots.MAX_PLAYERS][CHECKSUM_RING];
+
+    private final byte[] frame = new byte[LockstepProtocol.MAX_FRAME];
+    private final int[] cursor = new int[1];
+    private int runMask = PlayerInput.NONE;
+    private int runTicks = 0;
+    private long bytesSent = 0;
+    private long desyncTick = -1;
+
+    /**
+     * Crée une session aux réglages par défaut.
+     *
+     * @param simulation simulation locale (mêmes carte et graine que les pairs)
+     * @param localNumber numéro du joueur local
+     * @param transport canal vers les autres pairs
+     */
+    public LockstepSession(GameSimulation simulation, int localNumber, LockstepTransport transport) {
+        this(simulation, localNumber, DEFAULT_INPUT_DELAY, DEFAULT_BATCH_TICKS, transport);
+    }
+
+    /**
+     * @param simulation simulation locale (mêmes carte et graine que les pairs)
+     * @param localNumber numéro du joueur local
+     * @param inputDelay délai d'entrée en ticks, identique chez tous les pairs
+     * @param batchTicks ticks par lot d'entrées envoyé (au plus {@code inputDelay})
+     * @param transport canal vers les autres pairs
+     * @throws IllegalArgumentException si le joueur local n'est pas dans la partie ou si les délais sont incohérents
+     */
+    public LockstepSession(GameSimulation simulation, int localNumber, int inputDelay, int batchTicks,
+                           LockstepTransport transport) {
+        this.simulation = simulation;
+        this.slots = simulation.getPlayerSlots();
+        if (!slots.get(localNumber).isActive()) {
+            throw new IllegalArgumentException("Joueur local absent de la carte : " + localNumber);
+        }
+        if (inputDelay < 1 || inputDelay > RING / 4 || batchTicks < 1 || batchTicks > inputDelay) {
+            throw new IllegalArgumentException("Délai d'entrée " + inputDelay + " / lot " + batchTicks + " invalides");
+        }
+        this.localNumber = localNumber;
+        this.inputDelay = inputDelay;
+        this.batchTicks = batchTicks;
+        this.transport = transport;
+
+        // Les ticks couverts par le délai d'entrée sont sans entrée pour tout le monde
+        long start = simulation.getTick();
+        for (int i = 0; i < slots.activeCount(); i++) {
+            confirmed[slots.active(i).getIndex()] = start + inputDelay;
+        }
+        Arrays.fill(localChecksumTicks, -1);
+        for (long[] ticks : remoteChecksumTicks) {
+            Arrays.fill(ticks, -1);
+        }
+    }
+
+    /**
+     * Définit l'observateur des désynchronisations.
+     *
+     * @param desyncListener observateur, null pour aucun
+     */
+    @Override
+    public void setDesyncListener(DesyncListener desyncListener) {
+        this.desyncListener = desyncListener;
+    }
+
+    /**
+     * Planifie l'entrée locale jusqu'au tick {@code tick courant + inputDelay} et envoie les
+     * séries terminées ou complètes.
+     *
+     * @param mask masque {@link PlayerInput} du joueur local
+     */
+    @Override
+    public synchronized void submitLocalInput(int mask) {
+        int index = localNumber - 1;
+        long target = simulation.getTick() + inputDelay;
+        while (confirmed[index] < target) {
+            long tick = ++confirmed[index];
+            masks[index][(int) (tick % RING)] = mask;
+            if (runTicks > 0 && mask != runMask) {
+                flushRun();
+            }
+            runMask = mask;
+            runTicks++;
+            if (runTicks >= batchTicks) {
+                flushRun();
+            }
+        }
+    }
+
+    private void flushRun() {
+        if (runTicks == 0) {
+            return;
+        }
+        send(LockstepProtocol.encodeInputRun(frame, localNumber, runTicks, runMask));
+        runTicks = 0;
+    }
+
+    /**
+     * Traite une trame reçue d'un pair.
+     *
+     * @param buffer tampon contenant la trame
+     * @param offset début de la trame, après l'octet de longueur (type)
+     * @param length longueur de la trame sans l'octet de longueur
+     * @throws IllegalArgumentException si la trame est invalide
+     * @throws IllegalStateException si un pair est trop en avance
+     */
+    @Override
+    public synchronized void receive(byte[] buffer, int offset, int length) {
+        int end = offset + length;
+        byte type = buffer[offset];
+        int player = buffer[offset + 1];
+        if (player == localNumber || !slots.get(player).isActive()) {
+            throw new IllegalArgumentException("Trame d'un joueur inattendu : " + player);
+        }
+        cursor[0] = offset + 2;
+        switch (type) {
+            case LockstepProtocol.INPUT_RUN -> {
+                long ticks = LockstepProtocol.readVarint(buffer, cursor, end);
+                int mask = buffer[cursor[0]] & 0xFF;
+                int index = player - 1;
+                if (confirmed[index] + ticks - simulation.getTick() >= RING) {
+                    throw new IllegalStateException("Joueur " + player + " trop en avance");
+                }
+                for (long i = 0; i < ticks; i++) {
+                    long tick = ++confirmed[index];
+                    masks[index][(int) (tick % RING)] = mask;
+                }
+            }
+            case LockstepProtocol.CHECKSUM -> {
+                long tick = LockstepProtocol.readVarint(buffer, cursor, end);
+                int p = cursor[0];
+                int checksum = (buffer[p] & 0xFF) << 24 | (buffer[p + 1] & 0xFF) << 16
+                        | (buffer[p + 2] & 0xFF) << 8 | (buffer[p + 3] & 0xFF);
+                int slot = slotOf(tick);
+                remoteChecksumTicks[player - 1][slot] = tick;
+                remoteChecksums[player - 1][slot] = checksum;
+                if (localChecksumTicks[slot] == tick) {
+                    compare(tick, player, localChecksums[slot], checksum);
+                }
+            }
+            default -> throw new IllegalArgumentException("Type de trame inconnu : " + type);
+        }
+    }
+
+    /**
+     * Avance la simulation d'un tick si les entrées de tous les joueurs sont connues.
+     *
+     * @return true si un tick a été simulé, false s'il manque une entrée (ou si la partie est finie)
+     */
+    @Override
+    public synchronized boolean tryStep() {
+        if (simulation.isFinished()) {
+            return false;
+        }
+        long next = simulation.getTick() + 1;
+        int ring = (int) (next % RING);
+        for (int i = 0; i < slots.activeCount(); i++) {
+            int index = slots.active(i).getIndex();
+            if (confirmed[index] < next) {
+                return false;
+            }
+            inputs[index] = masks[index][ring];
+        }
+        simulation.step(inputs);
+
+        long tick = simulation.getTick();
+        if (tick % CHECKSUM_INTERVAL == 0) {
+            int checksum = StateChecksum.of(simulation);
+            int slot = slotOf(tick);
+            localChecksumTicks[slot] = tick;
+            localChecksums[slot] = checksum;
+            send(LockstepProtocol.encodeChecksum(frame, localNumber, tick, checksum));
+            for (int i = 0; i < slots.activeCount(); i++) {
+                PlayerSlot peer = slots.active(i);
+                if (peer.getNumber() != localNumber && remoteChecksumTicks[peer.getIndex()][slot] == tick) {
+                    compare(tick, peer.getNumber(), checksum, remoteChecksums[peer.getIndex()][slot]);
+                }
+            }
+        }
+        return true;
+    }
+
+    private static int slotOf(long tick) {
+        return (int) ((tick / CHECKSUM_INTERVAL) % CHECKSUM_RING);
+    }
+
+    private void compare(long tick, int player, int local, int remote) {
+        if (local == remote) {
+            return;
+        }
+        if (desyncTick < 0) {
+            desyncTick = tick;
+        }
+        GameLog.error("Désynchronisation au tick {} avec le joueur {}", tick, player);
+        if (desyncListener != null) {
+            desyncListener.onDesync(tick, player, local, remote);
+        }
+    }
+
+    private void send(int length) {
+        bytesSent += length;
+        transport.send(frame, length);
+    }
+
+    @Override
+    public GameSimulation getSimulation() { return simulation; }
+    @Override
+    public int getLocalNumber() { return localNumber; }
+    /** @return délai d'entrée en ticks */
+    public int getInputDelay() { return inputDelay; }
+    /** @return octets envoyés depuis le début de la partie */
+    public synchronized long getBytesSent() { return bytesSent; }
+    /** @return true si une désynchronisation a été détectée */
+    public synchronized boolean isDesynced() { return desyncTick >= 0; }
+    /** @return premier tick désynchronisé, -1 si aucun */
+    public synchronized long getDesyncTick() { return desyncTick; }
+
+    /**
+     * @param playerNumber numéro d'un joueur
+     * @return dernier tick dont l'entrée de ce joueur est connue
+     */
+    public synchronized long getConfirmedTick(int playerNumber) {
+        return confirmed[playerNumber - 1];
+    }
+}
@@ -0,0 +1,19 @@
+package com.superbomberman.net;
+
+/**
+ * Canal sortant d'une {@link LockstepSession} vers les autres pairs.
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface LockstepTransport {
+
+    /**
+     * Envoie une trame à tous les autres pairs de la partie.
+     *
+     * @param frame trame complète, octet de longueur compris (le tampon est réutilisé après l'appel)
+     * @param length longueur de la trame
+     */
+    void send(byte[] frame, int length);
+}
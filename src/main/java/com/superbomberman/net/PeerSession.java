@@ -0,0 +1,52 @@
+package com.superbomberman.net;
+
+import com.superbomberman.game.GameSimulation;
+
+/**
+ * Session d'un pair dans une partie en ligne où seules les entrées circulent
+ * ({@link LockstepProtocol}) : {@link LockstepSession} attend les entrées de tous les
+ * joueurs, {@link RollbackSession} les prédit et revient en arrière si besoin. Les deux
+ * modes échangent les mêmes trames et se branchent de la même façon sur une {@link LockstepLink}.
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface PeerSession {
+
+    /**
+     * Planifie l'entrée locale pour les prochains ticks et envoie ce qui doit l'être.
+     *
+     * @param mask masque {@link com.superbomberman.game.PlayerInput} du joueur local
+     */
+    void submitLocalInput(int mask);
+
+    /**
+     * Traite une trame reçue d'un pair (appelé par le thread réseau).
+     *
+     * @param buffer tampon contenant la trame
+     * @param offset début de la trame, après l'octet de longueur (type)
+     * @param length longueur de la trame sans l'octet de longueur
+     */
+    void receive(byte[] buffer, int offset, int length);
+
+    /**
+     * Tente d'avancer la simulation d'un tick.
+     *
+     * @return true si un tick a été simulé
+     */
+    boolean tryStep();
+
+    /**
+     * Définit l'observateur des désynchronisations.
+     *
+     * @param desyncListener observateur, null pour aucun
+     */
+    void setDesyncListener(DesyncListener desyncListener);
+
+    /** @return simulation locale */
+    GameSimulation getSimulation();
+
+    /** @return numéro du joueur local */
+    int getLocalNumber();
+}
@@ -0,0 +1,415 @@
+package com.superbomberman.net;
+
+import com.superbomberman.game.GameSimulation;
+import com.superbomberman.game.PlayerInput;
+import com.superbomberman.game.PlayerSlot;
+import com.superbomberman.game.PlayerSlots;
+import com.superbomberman.game.SimulationSnapshot;
+import com.superbomberman.game.StateChecksum;
+import com.superbomberman.logging.GameLog;
+
+import java.util.Arrays;
+
+/**
+ * Partie multijoueur en rollback : les entrées manquantes des pairs sont prédites et la
+ * simulation n'attend jamais le réseau tant que la prédiction reste dans la fenêtre permise.
+ * <p>
+ * Comme en lockstep, seules les entrées circulent ({@link LockstepProtocol}) et chaque pair
+ * fait tourner la même {@link GameSimulation}. Mais quand l'entrée d'un pair pour le tick
+ * suivant n'est pas encore arrivée, on suppose qu'il garde sa dernière entrée connue et on
+ * avance quand même. L'état est sauvegardé après chaque tick susceptible d'être remis en
+ * cause, dans un anneau de {@value #SNAPSHOTS} {@link SimulationSnapshot} réutilisés
+ * (aucune allocation). Lorsqu'une entrée reçue contredit la prédiction, la simulation est
+ * restaurée juste avant le tick fautif puis resimulée jusqu'au tick courant avec les vraies
+ * entrées : un pic de latence se traduit par une courte correction au lieu d'un gel.
+ * </p>
+ * <p>
+ * La prédiction est bornée à {@code maxRollback} ticks au-delà de la dernière entrée
+ * connue de tous les pairs : au-delà, {@link #tryStep()} attend, comme en lockstep. Les
+ * empreintes d'état ({@link StateChecksum}) ne portent que sur des ticks confirmés (toutes
+ * les entrées reçues) et la fin de partie n'est confirmée ({@link
+ * com.superbomberman.game.GameStateManager#confirmEnd()}) qu'une fois tous ses ticks confirmés.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@link #submitLocalInput(int)} : entrée locale, appelée avant chaque {@link #tryStep()}</li>
+ *     <li>{@link #receive(byte[], int, int)} : trame reçue d'un pair (thread réseau)</li>
+ *     <li>{@link #tryStep()} : corrige les prédictions démenties puis avance d'un tick</li>
+ * </ul>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class RollbackSession implements PeerSession {
+
+    /** Délai d'entrée par défaut (ticks), soit 33 ms : la prédiction couvre le reste. */
+    public static final int DEFAULT_INPUT_DELAY = 2;
+    /** Taille par défaut d'un lot de ticks d'entrée. */
+    public static final int DEFAULT_BATCH_TICKS = 2;
+    /** Prédiction maximale par défaut (ticks au-delà de la dernière entrée connue). */
+    public static final int DEFAULT_MAX_ROLLBACK = 8;
+    /** Nombre d'instantanés conservés (borne la prédiction). */
+    public static final int SNAPSHOTS = 16;
+
+    /** Taille des tampons circulaires d'entrées (ticks). */
+    private static final int RING = 256;
+    /** Taille des tampons circulaires d'empreintes. */
+    private static final int CHECKSUM_RING = 16;
+    private static final long NONE = Long.MAX_VALUE;
+
+    private final GameSimulation simulation;
+    private final PlayerSlots slots;
+    private final int localNumber;
+    private final int inputDelay;
+    private final int batchTicks;
+    private final int maxRollback;
+    private final LockstepTransport transport;
+    private DesyncListener desyncListener;
+
+    /** Entrées connues par place et par tick (modulo {@link #RING}). */
+    private final int[][] masks = new int[PlayerSlots.MAX_PLAYERS][RING];
+    /** Entrées réellement simulées (prédites ou non) par place et par tick. */
+    private final int[][] simulated = new int[PlayerSlots.MAX_PLAYERS][RING];
+    /** Dernier tick dont l'entrée est connue, par place. */
+    private final long[] confirmed = new long[PlayerSlots.MAX_PLAYERS];
+    private final int[] inputs = new int[PlayerSlots.MAX_PLAYERS];
+    /** Instantané de l'état après le tick t, rangé en t modulo {@link #SNAPSHOTS}. */
+    private final SimulationSnapshot[] snapshots = new SimulationSnapshot[SNAPSHOTS];
+    /** Premier tick simulé sur une prédiction démentie, {@link #NONE} si aucun. */
+    private long mispredictedTick = NONE;
+
+    private long pendingChecksumTick = -1;
+    private int pendingChecksum;
+    private long sentChecksumTick = -1;
+    private int sentChecksum;
+    private final long[][] remoteChecksumTicks = new long[PlayerSlots.MAX_PLAYERS][CHECKSUM_RING];
+    private final int[][] remoteChecksums = new int[PlayerSlots.MAX_PLAYERS][CHECKSUM_RING];
+
+    private final byte[] frame = new byte[LockstepProtocol.MAX_FRAME];
+    private final int[] cursor = new int[1];
+    private int runMask = PlayerInput.NONE;
+    private int runTicks = 0;
+    private long bytesSent = 0;
+    private long desyncTick = -1;
+    private boolean endConfirmed = false;
+
+    private long rollbacks = 0;
+    private long resimulatedTicks = 0;
+    private int deepestRollback = 0;
+
+    /**
+     * Crée une session aux réglages par défaut.
+     *
+     * @param simulation simulation locale (mêmes carte et graine que les pairs)
+     * @param localNumber numéro du joueur local
+     * @param transport canal vers les autres pairs
+     */
+    public RollbackSession(GameSimulation simulation, int localNumber, LockstepTransport transport) {
+        this(simulation, localNumber, DEFAULT_INPUT_DELAY, DEFAULT_BATCH_TICKS, DEFAULT_MAX_ROLLBACK, transport);
+    }
+
+    /**
+     * @param simulation simulation locale (mêmes carte et graine que les pairs)
+     * @param localNumber numéro du joueur local
+     * @param inputDelay délai d'entrée en ticks (au moins 1), identique chez tous les pairs
+     * @param batchTicks ticks par lot d'entrées envoyé (au plus {@code inputDelay + maxRollback})
+     * @param maxRollback prédiction maximale en ticks (1 à {@value #SNAPSHOTS} - 1)
+     * @param transport canal vers les autres pairs
+     * @throws IllegalArgumentException si le joueur local n'est pas dans la partie ou si les réglages sont incohérents
+     */
+    public RollbackSession(GameSimulation simulation, int localNumber, int inputDelay, int batchTicks,
+                           int maxRollback, LockstepTransport transport) {
+        this.simulation = simulation;
+        this.slots = simulation.getPlayerSlots();
+        if (!slots.get(localNumber).isActive()) {
+            throw new IllegalArgumentException("Joueur local absent de la carte : " + localNumber);
+        }
+        if (inputDelay < 1 || inputDelay > RING / 4 || maxRollback < 1 || maxRollback >= SNAPSHOTS
+                || batchTicks < 1 || batchTicks > inputDelay + maxRollback) {
+            throw new IllegalArgumentException("Délai d'entrée " + inputDelay + " / lot " + batchTicks
+                    + " / prédiction " + maxRollback + " invalides");
+        }
+        this.localNumber = localNumber;
+        this.inputDelay = inputDelay;
+        this.batchTicks = batchTicks;
+        this.maxRollback = maxRollback;
+        this.transport = transport;
+
+        for (int i = 0; i < SNAPSHOTS; i++) {
+            snapshots[i] = new SimulationSnapshot(simulation);
+        }
+        // Une fin de partie prédite peut être annulée : ses effets attendent la confirmation
+        simulation.getGameStateManager().setEndDeferred(true);
+
+        // Les ticks couverts par le délai d'entrée sont sans entrée pour tout le monde
+        long start = simulation.getTick();
+        for (int i = 0; i < slots.activeCount(); i++) {
+            confirmed[slots.active(i).getIndex()] = start + inputDelay;
+        }
+        for (long[] ticks : remoteChecksumTicks) {
+            Arrays.fill(ticks, -1);
+        }
+    }
+
+    @Override
+    public void setDesyncListener(DesyncListener desyncListener) {
+        this.desyncListener = desyncListener;
+    }
+
+    /**
+     * Planifie l'entrée locale jusqu'au tick {@code tick courant + inputDelay} et envoie les
+     * séries terminées ou complètes.
+     *
+     * @param mask masque {@link PlayerInput} du joueur local
+     */
+    @Override
+    public synchronized void submitLocalInput(int mask) {
+        int index = localNumber - 1;
+        long target = simulation.getTick() + inputDelay;
+        while (confirmed[index] < target) {
+            long tick = ++confirmed[index];
+            masks[index][(int) (tick % RING)] = mask;
+            if (runTicks > 0 && mask != runMask) {
+                flushRun();
+            }
+            runMask = mask;
+            runTicks++;
+            if (runTicks >= batchTicks) {
+                flushRun();
+            }
+        }
+    }
+
+    private void flushRun() {
+        if (runTicks == 0) {
+            return;
+        }
+        send(LockstepProtocol.encodeInputRun(frame, localNumber, runTicks, runMask));
+        runTicks = 0;
+    }
+
+    /**
+     * Traite une trame reçue d'un pair. Une entrée qui contredit celle simulée pour un
+     * tick déjà joué programme un retour en arrière au prochain {@link #tryStep()}.
+     *
+     * @param buffer tampon contenant la trame
+     * @param offset début de la trame, après l'octet de longueur (type)
+     * @param length longueur de la trame sans l'octet de longueur
+     * @throws IllegalArgumentException si la trame est invalide
+     * @throws IllegalStateException si un pair est trop en avance
+     */
+    @Override
+    public synchronized void receive(byte[] buffer, int offset, int length) {
+        int end = offset + length;
+        byte type = buffer[offset];
+        int player = buffer[offset + 1];
+        if (player == localNumber || !slots.get(player).isActive()) {
+            throw new IllegalArgumentException("Trame d'un joueur inattendu : " + player);
+        }
+        cursor[0] = offset + 2;
+        switch (type) {
+            case LockstepProtocol.INPUT_RUN -> {
+                long ticks = LockstepProtocol.readVarint(buffer, cursor, end);
+                int mask = buffer[cursor[0]] & 0xFF;
+                int index = player - 1;
+                if (confirmed[index] + ticks - simulation.getTick() >= RING) {
+                    throw new IllegalStateException("Joueur " + player + " trop en avance");
+                }
+                long current = simulation.getTick();
+                for (long i = 0; i < ticks; i++) {
+                    long tick = ++confirmed[index];
+                    int ring = (int) (tick % RING);
+                    masks[index][ring] = mask;
+                    if (tick <= current && simulated[index][ring] != mask && tick < mispredictedTick) {
+                        mispredictedTick = tick;
+                    }
+                }
+            }
+            case LockstepProtocol.CHECKSUM -> {
+                long tick = LockstepProtocol.readVarint(buffer, cursor, end);
+                int p = cursor[0];
+                int checksum = (buffer[p] & 0xFF) << 24 | (buffer[p + 1] & 0xFF) << 16
+                        | (buffer[p + 2] & 0xFF) << 8 | (buffer[p + 3] & 0xFF);
+                int slot = slotOf(tick);
+                remoteChecksumTicks[player - 1][slot] = tick;
+                remoteChecksums[player - 1][slot] = checksum;
+                if (sentChecksumTick == tick) {
+                    compare(tick, player, sentChecksum, checksum);
+                }
+            }
+            default -> throw new IllegalArgumentException("Type de trame inconnu : " + type);
+        }
+    }
+
+    /**
+     * Corrige d'abord les prédictions démenties (restauration puis resimulation), puis
+     * avance d'un tick en prédisant les entrées manquantes.
+     *
+     * @return true si un nouveau tick a été simulé, false si la prédiction irait au-delà de
+     *         la fenêtre permise (ou si la partie est finie)
+     */
+    @Override
+    public synchronized boolean tryStep() {
+        if (mispredictedTick != NONE) {
+            rollback();
+        }
+        publishChecksum();
+        if (simulation.isFinished()) {
+            flushRun();
+            confirmEnd();
+            return false;
+        }
+        long next = simulation.getTick() + 1;
+        if (next - minConfirmed() > maxRollback) {
+            return false;
+        }
+        simulateNext();
+        return true;
+    }
+
+    /**
+     * Restaure l'état d'avant le premier tick mal prédit et resimule jusqu'au tick courant.
+     */
+    private void rollback() {
+        long target = simulation.getTick();
+        long from = mispredictedTick;
+        mispredictedTick = NONE;
+        SimulationSnapshot snapshot = snapshots[(int) ((from - 1) % SNAPSHOTS)];
+        if (snapshot.getTick() != from - 1) {
+            throw new IllegalStateException("Aucun instantané pour revenir au tick " + (from - 1));
+        }
+        simulation.restore(snapshot);
+        int depth = (int) (target - from + 1);
+        rollbacks++;
+        resimulatedTicks += depth;
+        deepestRollback = Math.max(deepestRollback, depth);
+        while (simulation.getTick() < target && !simulation.isFinished()) {
+            simulateNext();
+        }
+        if (GameLog.DEBUG) {
+            GameLog.debug("Rollback de {} tick(s) depuis le tick {}", depth, from);
+        }
+    }
+
+    /**
+     * Simule le tick suivant, entrées manquantes prédites, et sauvegarde l'état s'il peut
+     * encore être remis en cause.
+     */
+    private void simulateNext() {
+        long next = simulation.getTick() + 1;
+        int ring = (int) (next % RING);
+        for (int i = 0; i < slots.activeCount(); i++) {
+            int index = slots.active(i).getIndex();
+            long known = confirmed[index];
+            // Prédiction : le pair garde sa dernière entrée connue
+            int input = known >= next ? masks[index][ring] : masks[index][(int) (known % RING)];
+            simulated[index][ring] = input;
+            inputs[index] = input;
+        }
+        simulation.step(inputs);
+
+        long tick = simulation.getTick();
+        if (tick >= minConfirmed()) {
+            simulation.save(snapshots[(int) (tick % SNAPSHOTS)]);
+        }
+        if (tick % LockstepSession.CHECKSUM_INTERVAL == 0) {
+            pendingChecksumTick = tick;
+            pendingChecksum = StateChecksum.of(simulation);
+        }
+    }
+
+    /**
+     * Diffuse l'empreinte en attente dès que son tick est confirmé (plus aucun retour en
+     * arrière possible jusqu'à lui).
+     */
+    private void publishChecksum() {
+        long tick = pendingChecksumTick;
+        if (tick <= sentChecksumTick || tick > minConfirmed() || tick > simulation.getTick()) {
+            return;
+        }
+        sentChecksumTick = tick;
+        sentChecksum = pendingChecksum;
+        send(LockstepProtocol.encodeChecksum(frame, localNumber, tick, sentChecksum));
+        int slot = slotOf(tick);
+        for (int i = 0; i < slots.activeCount(); i++) {
+            PlayerSlot peer = slots.active(i);
+            if (peer.getNumber() != localNumber && remoteChecksumTicks[peer.getIndex()][slot] == tick) {
+                compare(tick, peer.getNumber(), sentChecksum, remoteChecksums[peer.getIndex()][slot]);
+            }
+        }
+    }
+
+    /**
+     * Confirme la fin de partie quand toutes les entrées jusqu'à son tick sont connues.
+     */
+    private void confirmEnd() {
+        if (!endConfirmed && minConfirmed() >= simulation.getTick()) {
+            endConfirmed = true;
+            simulation.getGameStateManager().confirmEnd();
+        }
+    }
+
+    private long minConfirmed() {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < slots.activeCount(); i++) {
+            min = Math.min(min, confirmed[slots.active(i).getIndex()]);
+        }
+        return min;
+    }
+
+    private static int slotOf(long tick) {
+        return (int) ((tick / LockstepSession.CHECKSUM_INTERVAL) % CHECKSUM_RING);
+    }
+
+    private void compare(long tick, int player, int local, int remote) {
+        if (local == remote) {
+            return;
+        }
+        if (desyncTick < 0) {
+            desyncTick = tick;
+        }
+        GameLog.error("Désynchronisation au tick {} avec le joueur {}", tick, player);
+        if (desyncListener != null) {
+            desyncListener.onDesync(tick, player, local, remote);
+        }
+    }
+
+    private void send(int length) {
+        bytesSent += length;
+        transport.send(frame, length);
+    }
+
+    @Override
+    public GameSimulation getSimulation() { return simulation; }
+    @Override
+    public int getLocalNumber() { return localNumber; }
+    /** @return délai d'entrée en ticks */
+    public int getInputDelay() { return inputDelay; }
+    /** @return prédiction maximale en ticks */
+    public int getMaxRollback() { return maxRollback; }
+    /** @return octets envoyés depuis le début de la partie */
+    public synchronized long getBytesSent() { return bytesSent; }
+    /** @return true si une désynchronisation a été détectée */
+    public synchronized boolean isDesynced() { return desyncTick >= 0; }
+    /** @return premier tick désynchronisé, -1 si aucun */
+    public synchronized long getDesyncTick() { return desyncTick; }
+    /** @return nombre de retours en arrière effectués */
+    public synchronized long getRollbackCount() { return rollbacks; }
+    /** @return nombre total de ticks resimulés */
+    public synchronized long getResimulatedTicks() { return resimulatedTicks; }
+    /** @return plus long retour en arrière (ticks resimulés) */
+    public synchronized int getDeepestRollback() { return deepestRollback; }
+    /** @return dernier tick dont les entrées de tous les joueurs sont connues */
+    public synchronized long getConfirmedTick() { return minConfirmed(); }
+    /** @return true si la fin de partie est confirmée par les entrées de tous les joueurs */
+    public synchronized boolean isEndConfirmed() { return endConfirmed; }
+
+    /**
+     * @param playerNumber numéro d'un joueur
+     * @return dernier tick dont l'entrée de ce joueur est connue
+     */
+    public synchronized long getConfirmedTick(int playerNumber) {
+        return confirmed[playerNumber - 1];
+    }
+}
@@ -0,0 +1,155 @@
+package com.superbomberman.server;
+
+import com.superbomberman.game.PlayerInput;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.SplittableRandom;
+
+/**
+ * Client scripté du serveur de parties, utilisé par le {@link LoadGenerator}.
+ * <p>
+ * Le bot change de direction à intervalle fixe (direction tirée dans un générateur
+ * initialisé par sa graine) et pose une bombe avec une probabilité donnée à chaque
+ * changement. Il n'envoie un message {@link Protocol#INPUT} que lorsque son masque
+ * change, comme le ferait un vrai client, et mesure l'écart entre deux états reçus.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class BotClient implements Runnable {
+
+    private static final int[] DIRECTIONS = {PlayerInput.UP, PlayerInput.DOWN, PlayerInput.LEFT, PlayerInput.RIGHT};
+    /** Ticks entre deux décisions du bot. */
+    private static final int DECISION_TICKS = 20;
+
+    private final InetSocketAddress address;
+    private final String name;
+    private final SplittableRandom random;
+    private final double bombChance;
+
+    private int matchId = -1;
+    private int playerNumber = 0;
+    private int playerCount = 0;
+    private long statesReceived = 0;
+    private long maxGapNanos = 0;
+    private int lastTick = -1;
+    private int lastDecisionTick = -DECISION_TICKS;
+    private boolean ended = false;
+    private boolean outputClosed = false;
+    private int winner = -1;
+    private IOException failure;
+
+    /**
+     * @param address adresse du serveur
+     * @param name nom du bot
+     * @param seed graine du script du bot
+     * @param bombChance probabilité de poser une bombe à chaque décision
+     */
+    public BotClient(InetSocketAddress address, String name, long seed, double bombChance) {
+        this.address = address;
+        this.name = name;
+        this.random = new SplittableRandom(seed);
+        this.bombChance = bombChance;
+    }
+
+    @Override
+    public void run() {
+        try (Socket socket = new Socket()) {
+            socket.setTcpNoDelay(true);
+            socket.connect(address);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            Protocol.writeHello(out, name);
+            play(in, out);
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    private void play(DataInputStream in, DataOutputStream out) throws IOException {
+        int input = PlayerInput.NONE;
+        long lastStateTime = 0;
+        while (!ended) {
+            switch (Protocol.readType(in)) {
+                case Protocol.WELCOME -> {
+                    matchId = in.readInt();
+                    playerNumber = in.readUnsignedByte();
+                    playerCount = in.readUnsignedByte();
+                    in.readShort();
+                    in.readShort();
+                }
+                case Protocol.STATE -> {
+                    long now = System.nanoTime();
+                    if (lastStateTime != 0) {
+                        maxGapNanos = Math.max(maxGapNanos, now - lastStateTime);
+                    }
+                    lastStateTime = now;
+                    statesReceived++;
+                    lastTick = readState(in);
+
+                    int next = decide(lastTick, input);
+                    if (next != input && !outputClosed) {
+                        input = next;
+                        try {
+                            Protocol.writeInput(out, input);
+                        } catch (IOException e) {
+                            // Partie terminée côté serveur : la fin reste à lire dans le flux entrant
+                            outputClosed = true;
+                        }
+                    }
+                }
+                case Protocol.END -> {
+                    lastTick = in.readInt();
+                    winner = in.readUnsignedByte();
+                    ended = true;
+                }
+                default -> throw new IOException("Message inattendu");
+            }
+        }
+    }
+
+    private static int readState(DataInputStream in) throws IOException {
+        int tick = in.readInt();
+        int players = in.readUnsignedByte();
+        in.skipNBytes(players * 6L);
+        int bombs = in.readUnsignedShort();
+        in.skipNBytes(bombs * 4L);
+        return tick;
+    }
+
+    private int decide(int tick, int input) {
+        if (tick - lastDecisionTick < DECISION_TICKS) {
+            return input;
+        }
+        lastDecisionTick = tick;
+        int direction = DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+        return random.nextDouble() < bombChance ? direction | PlayerInput.BOMB : direction;
+    }
+
+    /** @return identifiant de la partie (-1 avant l'accueil) */
+    public int getMatchId() { return matchId; }
+    /** @return numéro de joueur attribué (0 avant l'accueil) */
+    public int getPlayerNumber() { return playerNumber; }
+    /** @return nombre de joueurs de la partie */
+    public int getPlayerCount() { return playerCount; }
+    /** @return nombre d'états reçus */
+    public long getStatesReceived() { return statesReceived; }
+    /** @return plus grand écart entre deux états reçus (nanosecondes) */
+    public long getMaxGapNanos() { return maxGapNanos; }
+    /** @return dernier tick reçu */
+    public int getLastTick() { return lastTick; }
+    /** @return true si la fin de partie a été reçue */
+    public boolean isEnded() { return ended; }
+    /** @return numéro du gagnant (0 si aucun, -1 avant la fin) */
+    public int getWinner() { return winner; }
+    /** @return erreur réseau, null si aucune */
+    public IOException getFailure() { return failure; }
+}
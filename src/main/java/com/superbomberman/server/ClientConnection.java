@@ -0,0 +1,332 @@
+package com.superbomberman.server;
+
+import com.superbomberman.game.PlayerInput;
+import com.superbomberman.logging.GameLog;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Connexion d'un client au serveur de parties.
+ * <p>
+ * Un thread virtuel par connexion lit les messages {@link Protocol#INPUT} et publie le
+ * dernier masque reçu dans un champ {@code volatile} : le thread de la partie le lit à
+ * chaque tick sans verrou ni file.
+ * </p>
+ * <p>
+ * Les envois ne bloquent jamais le thread de la partie : {@link #send(byte[], int)} copie
+ * le message dans une case d'envoi unique, vidée par un second thread virtuel
+ * ({@link #writeFrames()}). Tant qu'un message attend dans la case, les suivants sont
+ * refusés ; un client qui ne lit plus et laisse la case pleine plus de
+ * {@value #MAX_STALL_MILLIS} ms est déconnecté.
+ * </p>
+ * <p>
+ * Un spectateur ({@link Protocol#SPECTATE}) n'envoie rien d'autre : son thread de lecture
+ * ne sert qu'à détecter la déconnexion.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.2 - Envois par une case d'envoi, hors du thread de la partie
+ * @since 2026-10-17
+ */
+public final class ClientConnection implements Closeable {
+
+    /** Durée maximale d'attente d'un message dans la case d'envoi avant déconnexion. */
+    static final long MAX_STALL_MILLIS = 2_000;
+    private static final int INITIAL_FRAME_CAPACITY = 256;
+
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private String name = "";
+    private int playerNumber = 0;
+    /** Partie regardée, -1 pour un joueur. */
+    private int spectatedMatch = -1;
+    /** Dernier masque d'entrée reçu, publié par le thread de lecture. */
+    private volatile int input = PlayerInput.NONE;
+    private volatile boolean closed = false;
+    /** Image clé attendue par un spectateur qui a manqué un delta (thread de la partie). */
+    private boolean keyframeNeeded = false;
+
+    private final long maxStallNanos;
+    private final ReentrantLock sendLock = new ReentrantLock();
+    /** Signalé quand un message est déposé, pris ou écrit, et à la fermeture. */
+    private final Condition sendChanged = sendLock.newCondition();
+    /** Case d'envoi : message en attente, vide si {@code pendingLength == 0}. */
+    private byte[] pending = new byte[INITIAL_FRAME_CAPACITY];
+    private int pendingLength = 0;
+    private long pendingSince;
+    /** Message en cours d'écriture par {@link #writeFrames()}. */
+    private byte[] writing = new byte[INITIAL_FRAME_CAPACITY];
+    private boolean writeInProgress = false;
+
+    /**
+     * @param socket socket acceptée par le serveur
+     * @throws IOException si les flux ne peuvent être ouverts
+     */
+    public ClientConnection(Socket socket) throws IOException {
+        this(socket, TimeUnit.MILLISECONDS.toNanos(MAX_STALL_MILLIS));
+    }
+
+    /**
+     * @param socket socket acceptée par le serveur
+     * @param maxStallNanos durée maximale d'attente d'un message dans la case d'envoi
+     * @throws IOException si les flux ne peuvent être ouverts
+     */
+    ClientConnection(Socket socket, long maxStallNanos) throws IOException {
+        this.socket = socket;
+        this.maxStallNanos = maxStallNanos;
+        socket.setTcpNoDelay(true);
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    }
+
+    /**
+     * Attend la demande de connexion du client : joueur ou spectateur.
+     *
+     * @throws IOException si le client envoie autre chose qu'un {@link Protocol#HELLO} ou un {@link Protocol#SPECTATE}
+     */
+    public void readHello() throws IOException {
+        byte type = Protocol.readType(in);
+        if (type == Protocol.SPECTATE) {
+            spectatedMatch = in.readInt();
+            if (spectatedMatch < 0) {
+                throw new IOException("Partie invalide : " + spectatedMatch);
+            }
+            name = "spectateur";
+        } else if (type == Protocol.HELLO) {
+            name = in.readUTF();
+        } else {
+            throw new IOException("HELLO ou SPECTATE attendu, reçu " + type);
+        }
+    }
+
+    /**
+     * Boucle de lecture des entrées, jusqu'à la fermeture de la connexion.
+     * À exécuter sur un thread dédié (virtuel).
+     */
+    public void readInputs() {
+        try {
+            while (!closed) {
+                byte type = Protocol.readType(in);
+                if (type != Protocol.INPUT) {
+                    throw new IOException("INPUT attendu, reçu " + type);
+                }
+                input = in.readUnsignedByte();
+            }
+        } catch (IOException e) {
+            if (!closed && GameLog.DEBUG) {
+                GameLog.debug("Client {} déconnecté : {}", name, e.getMessage());
+            }
+        } finally {
+            input = PlayerInput.NONE;
+            close();
+        }
+    }
+
+    /**
+     * Boucle d'écriture des messages déposés par {@link #send(byte[], int)}, jusqu'à la
+     * fermeture de la connexion. À exécuter sur un thread dédié (virtuel).
+     */
+    public void writeFrames() {
+        try {
+            while (true) {
+                int length;
+                sendLock.lock();
+                try {
+                    while (pendingLength == 0 && !closed) {
+                        sendChanged.await();
+                    }
+                    if (closed) {
+                        return;
+                    }
+                    byte[] taken = pending;
+                    pending = writing;
+                    writing = taken;
+                    length = pendingLength;
+                    pendingLength = 0;
+                    writeInProgress = true;
+                    sendChanged.signalAll();
+                } finally {
+                    sendLock.unlock();
+                }
+                out.write(writing, 0, length);
+                out.flush();
+                sendLock.lock();
+                try {
+                    writeInProgress = false;
+                    sendChanged.signalAll();
+                } finally {
+                    sendLock.unlock();
+                }
+            }
+        } catch (IOException e) {
+            if (!closed && GameLog.DEBUG) {
+                GameLog.debug("Envoi à {} interrompu : {}", name, e.getMessage());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Annonce au client sa place dans une partie.
+     *
+     * @param matchId identifiant de la partie
+     * @param playerNumber numéro de joueur attribué
+     * @param playerCount nombre de joueurs de la partie
+     * @param width largeur de la carte
+     * @param height hauteur de la carte
+     * @return false si la connexion est fermée ou sa case d'envoi encore pleine
+     */
+    public boolean sendWelcome(int matchId, int playerNumber, int playerCount, int width, int height) {
+        this.playerNumber = playerNumber;
+        byte[] welcome = {Protocol.WELCOME,
+                (byte) (matchId >>> 24), (byte) (matchId >>> 16), (byte) (matchId >>> 8), (byte) matchId,
+                (byte) playerNumber, (byte) playerCount,
+                (byte) (width >>> 8), (byte) width, (byte) (height >>> 8), (byte) height};
+        return send(welcome, welcome.length);
+    }
+
+    /**
+     * Dépose un message déjà encodé (état partagé par tous les clients d'une partie) dans la
+     * case d'envoi, sans attendre l'écriture : le message est copié, le tampon de l'appelant
+     * peut être réutilisé aussitôt. Aucune allocation tant que la taille des messages ne
+     * dépasse pas celle des précédents.
+     *
+     * @param frame message complet, type compris
+     * @param length nombre d'octets à envoyer
+     * @return false si la connexion est fermée ou si le message précédent attend encore
+     *         (le client ne suit pas : il est déconnecté au-delà de {@value #MAX_STALL_MILLIS} ms)
+     */
+    public boolean send(byte[] frame, int length) {
+        if (closed) {
+            return false;
+        }
+        sendLock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            if (pendingLength > 0) {
+                if (System.nanoTime() - pendingSince > maxStallNanos) {
+                    if (GameLog.DEBUG) {
+                        GameLog.debug("Client {} déconnecté : il ne lit plus ses messages", name);
+                    }
+                    close();
+                }
+                return false;
+            }
+            if (pending.length < length) {
+                pending = new byte[Math.max(length, 2 * pending.length)];
+            }
+            System.arraycopy(frame, 0, pending, 0, length);
+            pendingLength = length;
+            pendingSince = System.nanoTime();
+            sendChanged.signalAll();
+            return true;
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    /**
+     * Dépose le dernier message de la connexion (fin de partie) dès que la case d'envoi est
+     * libre, attend son écriture puis ferme la connexion. À n'appeler qu'une fois la partie
+     * terminée : l'appelant peut attendre jusqu'à l'échéance.
+     *
+     * @param frame message complet, type compris
+     * @param length nombre d'octets à envoyer
+     * @param deadlineNanos échéance ({@link System#nanoTime()}) au-delà de laquelle la
+     *                      connexion est fermée même si le message n'est pas parti
+     * @return true si le message a été déposé
+     */
+    public boolean sendLastAndClose(byte[] frame, int length, long deadlineNanos) {
+        boolean sent = false;
+        sendLock.lock();
+        try {
+            if (awaitSendState(false, deadlineNanos)) {
+                sent = send(frame, length);
+                awaitSendState(true, deadlineNanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            sendLock.unlock();
+        }
+        close();
+        return sent;
+    }
+
+    /**
+     * Attend, verrou tenu, que la case d'envoi soit libre et, si demandé, que l'écriture
+     * en cours soit terminée.
+     *
+     * @param written true pour attendre aussi la fin de l'écriture
+     * @param deadlineNanos échéance ({@link System#nanoTime()}) de l'attente
+     * @return true si l'état est atteint avant l'échéance, connexion ouverte
+     */
+    private boolean awaitSendState(boolean written, long deadlineNanos) throws InterruptedException {
+        while (!closed && (pendingLength > 0 || (written && writeInProgress))) {
+            long remaining = deadlineNanos - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            sendChanged.awaitNanos(remaining);
+        }
+        return !closed;
+    }
+
+    /** @return true si la case d'envoi est libre (le message précédent est parti ou en cours d'écriture) */
+    public boolean canSend() {
+        sendLock.lock();
+        try {
+            return pendingLength == 0 && !closed;
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    /** @return nom annoncé par le client */
+    public String getName() { return name; }
+    /** @return numéro de joueur attribué (0 avant le début de la partie) */
+    public int getPlayerNumber() { return playerNumber; }
+    /** @return true si le client est un spectateur */
+    public boolean isSpectator() { return spectatedMatch >= 0; }
+    /** @return partie regardée par un spectateur, -1 pour un joueur */
+    public int getSpectatedMatch() { return spectatedMatch; }
+    /** @return dernier masque {@code PlayerInput} reçu */
+    public int getInput() { return input; }
+    /** @return true si la connexion est fermée */
+    public boolean isClosed() { return closed; }
+    /** @return true si le spectateur a manqué un delta et attend une image clé */
+    boolean isKeyframeNeeded() { return keyframeNeeded; }
+    /** @param keyframeNeeded true si le spectateur a manqué un delta */
+    void setKeyframeNeeded(boolean keyframeNeeded) { this.keyframeNeeded = keyframeNeeded; }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // Fermeture au mieux
+        }
+        sendLock.lock();
+        try {
+            sendChanged.signalAll();
+        } finally {
+            sendLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.superbomberman.server;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Générateur de charge du serveur de parties : des bots scriptés ({@link BotClient}) sur
+ * la boucle locale, un thread virtuel par bot.
+ * <p>
+ * Avec {@code --embedded}, un {@link MatchServer} est démarré dans le même processus (port
+ * libre) et ses compteurs sont affichés à la fin : la proportion de ticks en retard indique
+ * si la machine tient la charge demandée (objectif : 1 000 parties à 4 joueurs sur 8 cœurs).
+ * </p>
+ *
+ * <pre>
+ * java -cp target/classes com.superbomberman.server.LoadGenerator --embedded --matches 1000 --max-ticks 1800
+ * </pre>
+ *
+ * <ul>
+ *     <li>{@code --matches} : nombre de parties simultanées (1000)</li>
+ *     <li>{@code --players} : joueurs par partie (4)</li>
+ *     <li>{@code --port} : port du serveur (7777, ignoré avec {@code --embedded})</li>
+ *     <li>{@code --bomb-chance} : probabilité qu'un bot pose une bombe à chaque décision (0.05)</li>
+ *     <li>{@code --spectators} : spectateurs ({@link SpectatorClient}) par partie (0) ; les
+ *     parties regardées sont numérotées à partir de 1, comme sur un serveur qui vient de démarrer</li>
+ *     <li>{@code --embedded} : démarre le serveur dans le processus ; {@code --max-ticks}
+ *     et {@code --broadcast-every} lui sont transmis</li>
+ * </ul>
+ *
+ * @author Jules Fuselier
+ * @version 1.1 - Spectateurs par partie
+ * @since 2026-10-17
+ */
+public final class LoadGenerator {
+
+    /**
+     * Résultat d'une campagne de charge.
+     */
+    public static final class Report {
+        private final List<BotClient> bots;
+        private final List<SpectatorClient> spectators;
+        private final long elapsedNanos;
+
+        Report(List<BotClient> bots, List<SpectatorClient> spectators, long elapsedNanos) {
+            this.bots = bots;
+            this.spectators = spectators;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /** @return bots de la campagne */
+        public List<BotClient> getBots() { return bots; }
+        /** @return spectateurs de la campagne */
+        public List<SpectatorClient> getSpectators() { return spectators; }
+
+        /** @return octets reçus par l'ensemble des spectateurs */
+        public long getSpectatorBytes() {
+            long bytes = 0;
+            for (SpectatorClient spectator : spectators) {
+                bytes += spectator.getBytesReceived();
+            }
+            return bytes;
+        }
+        /** @return durée de la campagne (nanosecondes) */
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        /** @return nombre de bots ayant reçu la fin de leur partie */
+        public int getEndedBots() {
+            int ended = 0;
+            for (BotClient bot : bots) {
+                if (bot.isEnded()) {
+                    ended++;
+                }
+            }
+            return ended;
+        }
+
+        /** @return nombre de bots en erreur réseau */
+        public int getFailedBots() {
+            int failed = 0;
+            for (BotClient bot : bots) {
+                if (bot.getFailure() != null) {
+                    failed++;
+                }
+            }
+            return failed;
+        }
+
+        /** @return total des états reçus par les bots */
+        public long getStatesReceived() {
+            long states = 0;
+            for (BotClient bot : bots) {
+                states += bot.getStatesReceived();
+            }
+            return states;
+        }
+
+        /** @return plus grand écart entre deux états reçus par un même bot (nanosecondes) */
+        public long getMaxGapNanos() {
+            long gap = 0;
+            for (BotClient bot : bots) {
+                gap = Math.max(gap, bot.getMaxGapNanos());
+            }
+            return gap;
+        }
+
+        @Override
+        public String toString() {
+            double seconds = elapsedNanos / 1e9;
+            String report = String.format("%d bots, %d parties terminées, %d en erreur | %.1f s, %d états (%.0f/s), écart max %.1f ms",
+                    bots.size(), getEndedBots(), getFailedBots(), seconds, getStatesReceived(),
+                    getStatesReceived() / seconds, getMaxGapNanos() / 1e6);
+            if (spectators.isEmpty()) {
+                return report;
+            }
+            return report + String.format(" | %d spectateurs, %d Ko reçus (%.0f o/s chacun)", spectators.size(),
+                    getSpectatorBytes() / 1024, getSpectatorBytes() / seconds / spectators.size());
+        }
+    }
+
+    private LoadGenerator() {
+    }
+
+    /**
+     * Lance les bots de {@code matches} parties et attend la fin de toutes les parties.
+     *
+     * @param port port du serveur sur la boucle locale
+     * @param matches nombre de parties
+     * @param playersPerMatch joueurs par partie
+     * @param bombChance probabilité de poser une bombe à chaque décision
+     * @param timeoutMillis délai maximal d'attente
+     * @return résultat de la campagne
+     * @throws InterruptedException si l'attente est interrompue
+     */
+    public static Report run(int port, int matches, int playersPerMatch, double bombChance,
+                             long timeoutMillis) throws InterruptedException {
+        return run(port, matches, playersPerMatch, bombChance, 0, timeoutMillis);
+    }
+
+    /**
+     * Lance les bots et les spectateurs de {@code matches} parties et attend la fin de
+     * toutes les parties.
+     *
+     * @param port port du serveur sur la boucle locale
+     * @param matches nombre de parties (regardées : parties 1 à {@code matches})
+     * @param playersPerMatch joueurs par partie
+     * @param bombChance probabilité de poser une bombe à chaque décision
+     * @param spectatorsPerMatch spectateurs par partie
+     * @param timeoutMillis délai maximal d'attente
+     * @return résultat de la campagne
+     * @throws InterruptedException si l'attente est interrompue
+     */
+    public static Report run(int port, int matches, int playersPerMatch, double bombChance,
+                             int spectatorsPerMatch, long timeoutMillis) throws InterruptedException {
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        List<BotClient> bots = new ArrayList<>(matches * playersPerMatch);
+        for (int i = 0; i < matches * playersPerMatch; i++) {
+            bots.add(new BotClient(address, "bot-" + i, i, bombChance));
+        }
+        List<SpectatorClient> spectators = new ArrayList<>(matches * spectatorsPerMatch);
+        for (int match = 1; match <= matches; match++) {
+            for (int i = 0; i < spectatorsPerMatch; i++) {
+                spectators.add(new SpectatorClient(address, match));
+            }
+        }
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        spectators.forEach(executor::submit);
+        bots.forEach(executor::submit);
+        executor.shutdown();
+        if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+        }
+        return new Report(bots, spectators, System.nanoTime() - start);
+    }
+
+    /**
+     * Lance une campagne de charge et affiche son résultat.
+     *
+     * @param args options (voir la documentation de la classe)
+     * @throws Exception si le serveur intégré ne peut démarrer
+     */
+    public static void main(String[] args) throws Exception {
+        MatchServer.Options serverOptions = new MatchServer.Options();
+        serverOptions.setPort(0);
+        int matches = 1000;
+        int players = 4;
+        int port = 7777;
+        double bombChance = 0.05;
+        int spectators = 0;
+        boolean embedded = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--embedded" -> embedded = true;
+                case "--matches" -> matches = Integer.parseInt(args[++i]);
+                case "--players" -> players = Integer.parseInt(args[++i]);
+                case "--port" -> port = Integer.parseInt(args[++i]);
+                case "--bomb-chance" -> bombChance = Double.parseDouble(args[++i]);
+                case "--spectators" -> spectators = Integer.parseInt(args[++i]);
+                case "--max-ticks" -> serverOptions.setMaxTicks(Long.parseLong(args[++i]));
+                case "--broadcast-every" -> serverOptions.setBroadcastEvery(Integer.parseInt(args[++i]));
+                default -> throw new IllegalArgumentException("Option inconnue : " + args[i]);
+            }
+        }
+
+        MatchServer server = null;
+        if (embedded) {
+            serverOptions.setPlayersPerMatch(players);
+            server = new MatchServer(serverOptions);
+            server.start();
+            port = server.getPort();
+        }
+        System.out.println("Charge : " + matches + " parties de " + players + " joueurs sur le port " + port + " ("
+                + Runtime.getRuntime().availableProcessors() + " cœurs)");
+        try {
+            Report report = run(port, matches, players, bombChance, spectators, TimeUnit.HOURS.toMillis(1));
+            System.out.println(report);
+            if (server != null) {
+                System.out.println("Serveur : " + server.getStats());
+            }
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.superbomberman.server;
+
+import com.superbomberman.game.GameSimulation;
+import com.superbomberman.game.MatchSession;
+import com.superbomberman.game.PlayerSlot;
+import com.superbomberman.game.PlayerSlots;
+import com.superbomberman.logging.GameLog;
+import com.superbomberman.model.Bomb;
+import com.superbomberman.model.Player;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Déroulement d'une partie du serveur, sur son propre thread virtuel.
+ * <p>
+ * Ordonnanceur à pas fixe : le tick {@code n} est dû à {@code début + n × }{@link GameSimulation#NANOS_PER_TICK}
+ * et le thread se gare ({@link LockSupport#parkNanos(long)}) jusqu'à cette échéance. Un tick
+ * démarré après son échéance est compté en retard ; au-delà de {@value #MAX_CATCH_UP_TICKS}
+ * ticks de retard l'échéance est recalée plutôt que de rattraper en rafale. Un thread virtuel
+ * garé ne consomme aucun thread porteur : des milliers de parties se partagent les cœurs.
+ * </p>
+ * <p>
+ * L'état est encodé une seule fois par diffusion dans un tampon réutilisé, puis déposé
+ * tel quel dans la case d'envoi de chaque client ({@link ClientConnection#send(byte[], int)}) :
+ * le thread de la partie n'écrit jamais sur une socket. Un client dont la case est encore
+ * pleine saute cet état (le suivant est complet) et finit déconnecté s'il ne lit plus.
+ * </p>
+ * <p>
+ * Les spectateurs ({@link #addSpectator(ClientConnection)}) reçoivent à chaque tick le
+ * message de {@link SpectatorFeed} : un delta, ou une image clé tous les
+ * {@link MatchServer.Options#getKeyframeEvery()} ticks et à l'arrivée d'un spectateur.
+ * Il est encodé une fois pour tous ; sans spectateur, rien n'est encodé. Un spectateur qui
+ * manque un delta n'en reçoit plus jusqu'à une image clé, demandée dès que sa case d'envoi
+ * se libère.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.2 - Envois déposés dans la case d'envoi des clients, sans écriture bloquante
+ * @since 2026-10-17
+ */
+public final class MatchRunner implements Runnable {
+
+    /** Retard (en ticks) au-delà duquel l'échéance est recalée sur l'horloge. */
+    static final int MAX_CATCH_UP_TICKS = 5;
+    /** Délai laissé aux clients pour recevoir la fin de partie avant fermeture. */
+    private static final long END_LINGER_NANOS = 1_000_000_000L;
+
+    private final int matchId;
+    private final MatchSession session;
+    private final GameSimulation simulation;
+    private final ClientConnection[] clients;
+    private final MatchServer.Options options;
+    private final ServerStats stats;
+    private final int[] inputs = new int[PlayerSlots.MAX_PLAYERS];
+    private final ByteBuffer frame;
+    private final SpectatorFeed feed;
+    private final CopyOnWriteArrayList<ClientConnection> spectators = new CopyOnWriteArrayList<>();
+    /** Image clé demandée par un spectateur arrivé depuis le dernier tick. */
+    private final AtomicBoolean keyframeRequested = new AtomicBoolean();
+    /** Fin de partie envoyée : les spectateurs arrivés ensuite sont congédiés. */
+    private volatile boolean over = false;
+
+    /**
+     * @param matchId identifiant de la partie
+     * @param session session de la partie (une place REMOTE par client)
+     * @param clients clients, indexés par numéro de joueur - 1
+     * @param options réglages du serveur
+     * @param stats compteurs du serveur
+     */
+    public MatchRunner(int matchId, MatchSession session, ClientConnection[] clients,
+                       MatchServer.Options options, ServerStats stats) {
+        this.matchId = matchId;
+        this.session = session;
+        this.simulation = new GameSimulation(session);
+        this.simulation.runHeadless();
+        this.clients = clients;
+        this.options = options;
+        this.stats = stats;
+        int cells = session.getMap().size();
+        this.frame = ByteBuffer.allocate(1 + 4 + 1 + PlayerSlots.MAX_PLAYERS * 6 + 2 + cells * 4);
+        this.feed = new SpectatorFeed(simulation);
+    }
+
+    /**
+     * Ajoute un spectateur à la partie (thread de connexion). Il recevra une image clé au
+     * prochain tick, puis les deltas et la fin de partie.
+     *
+     * @param spectator connexion du spectateur
+     */
+    public void addSpectator(ClientConnection spectator) {
+        spectators.add(spectator);
+        stats.spectatorJoined();
+        keyframeRequested.set(true);
+        if (over) {
+            dismiss(spectator);
+        }
+    }
+
+    @Override
+    public void run() {
+        stats.matchStarted();
+        try {
+            welcome();
+            loop();
+            sendEnd();
+        } finally {
+            over = true;
+            for (ClientConnection client : clients) {
+                if (client != null) {
+                    client.close();
+                }
+            }
+            for (ClientConnection spectator : spectators) {
+                dismiss(spectator);
+            }
+            stats.matchFinished();
+        }
+    }
+
+    private void welcome() {
+        int playerCount = session.getPlayers().activeCount();
+        for (int i = 0; i < clients.length; i++) {
+            if (clients[i] != null && !clients[i].sendWelcome(matchId, i + 1, playerCount,
+                    session.getMap().getWidth(), session.getMap().getHeight())) {
+                clients[i].close();
+            }
+        }
+    }
+
+    private void loop() {
+        PlayerSlots slots = session.getPlayers();
+        long next = System.nanoTime();
+        while (!simulation.isFinished() && simulation.getTick() < options.getMaxTicks()) {
+            for (int i = 0; i < slots.activeCount(); i++) {
+                PlayerSlot slot = slots.active(i);
+                ClientConnection client = clients[slot.getIndex()];
+                inputs[slot.getIndex()] = client != null ? client.getInput() : 0;
+            }
+            simulation.step(inputs);
+            stats.tick();
+            if (simulation.getTick() % options.getBroadcastEvery() == 0) {
+                broadcast(encodeState());
+            }
+            if (!spectators.isEmpty()) {
+                publishToSpectators();
+            }
+            if (!anyClientConnected()) {
+                break;
+            }
+
+            next += GameSimulation.NANOS_PER_TICK;
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            } else {
+                stats.lateTick();
+                if (-wait > MAX_CATCH_UP_TICKS * GameSimulation.NANOS_PER_TICK) {
+                    next = System.nanoTime();
+                }
+            }
+        }
+        if (GameLog.DEBUG) {
+            GameLog.debug("Partie {} terminée au tick {}", matchId, simulation.getTick());
+        }
+    }
+
+    private int encodeState() {
+        frame.clear();
+        frame.put(Protocol.STATE);
+        frame.putInt((int) simulation.getTick());
+        PlayerSlots slots = session.getPlayers();
+        frame.put((byte) slots.activeCount());
+        for (int i = 0; i < slots.activeCount(); i++) {
+            PlayerSlot slot = slots.active(i);
+            Player player = slot.getPlayer();
+            frame.put((byte) slot.getNumber());
+            frame.putShort((short) player.getX());
+            frame.putShort((short) player.getY());
+            frame.put((byte) (player.isAlive() ? 1 : 0));
+        }
+        List<Bomb> bombs = simulation.getBombManager().getActiveBombsView();
+        frame.putShort((short) bombs.size());
+        for (int i = 0; i < bombs.size(); i++) {
+            Bomb bomb = bombs.get(i);
+            frame.putShort((short) bomb.getX());
+            frame.putShort((short) bomb.getY());
+        }
+        return frame.position();
+    }
+
+    private void publishToSpectators() {
+        boolean keyframe = keyframeRequested.getAndSet(false)
+                || simulation.getTick() % options.getKeyframeEvery() == 0;
+        int length = feed.encode(keyframe);
+        stats.spectatorFrameEncoded();
+        byte[] bytes = feed.getFrame();
+        for (int i = spectators.size() - 1; i >= 0; i--) {
+            ClientConnection spectator = spectators.get(i);
+            if (spectator.isKeyframeNeeded() && !keyframe) {
+                // Delta manqué : le suivant ne s'appliquerait pas, on attend une image clé
+                if (spectator.canSend()) {
+                    keyframeRequested.set(true);
+                } else if (spectator.isClosed()) {
+                    dismiss(spectator);
+                }
+            } else if (spectator.send(bytes, length)) {
+                spectator.setKeyframeNeeded(false);
+                stats.spectatorFrameSent(length);
+            } else if (spectator.isClosed()) {
+                dismiss(spectator);
+            } else {
+                spectator.setKeyframeNeeded(true);
+            }
+        }
+    }
+
+    /** Retire un spectateur de la partie et ferme sa connexion. */
+    private void dismiss(ClientConnection spectator) {
+        if (spectators.remove(spectator)) {
+            stats.spectatorLeft();
+            spectator.close();
+        }
+    }
+
+    private void sendEnd() {
+        Player winner = simulation.getGameLogic().getWinner();
+        PlayerSlot slot = winner != null ? session.getPlayers().find(winner) : null;
+        frame.clear();
+        frame.put(Protocol.END);
+        frame.putInt((int) simulation.getTick());
+        frame.put((byte) (slot != null ? slot.getNumber() : 0));
+        over = true;
+        // La partie est finie : attendre que chacun reçoive la fin ne retarde plus aucun tick
+        byte[] bytes = frame.array();
+        int length = frame.position();
+        long deadline = System.nanoTime() + END_LINGER_NANOS;
+        for (ClientConnection client : clients) {
+            if (client != null && client.sendLastAndClose(bytes, length, deadline)) {
+                stats.frameSent(length);
+            }
+        }
+        for (ClientConnection spectator : spectators) {
+            if (spectator.sendLastAndClose(bytes, length, deadline)) {
+                stats.spectatorFrameSent(length);
+            }
+        }
+    }
+
+    private void broadcast(int length) {
+        byte[] bytes = frame.array();
+        for (ClientConnection client : clients) {
+            if (client != null && client.send(bytes, length)) {
+                stats.frameSent(length);
+            }
+        }
+    }
+
+    private boolean anyClientConnected() {
+        for (ClientConnection client : clients) {
+            if (client != null && !client.isClosed()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** @return identifiant de la partie */
+    public int getMatchId() { return matchId; }
+    /** @return nombre de spectateurs de la partie */
+    public int getSpectatorCount() { return spectators.size(); }
+    /** @return simulation de la partie */
+    public GameSimulation getSimulation() { return simulation; }
+}
@@ -0,0 +1,345 @@
+package com.superbomberman.server;
+
+import com.superbomberman.game.GameStateManager;
+import com.superbomberman.game.MatchSession;
+import com.superbomberman.game.MatchSettings;
+import com.superbomberman.game.PlayerSlot;
+import com.superbomberman.game.PlayerSlots;
+import com.superbomberman.logging.GameLog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serveur de parties dédié, sans interface (point d'entrée {@code bomberman-server}).
+ * <p>
+ * Le serveur accepte des connexions TCP locales, regroupe les clients par
+ * {@link Options#getPlayersPerMatch()} dans l'ordre d'arrivée et lance pour chaque groupe
+ * une {@link MatchSession} indépendante, déroulée par un {@link MatchRunner} sur son propre
+ * thread virtuel. Chaque connexion a aussi son thread virtuel de lecture : les appels
+ * bloquants (socket, attente du prochain tick) libèrent le thread porteur, si bien que
+ * quelques threads système suffisent pour des milliers de parties et de clients.
+ * </p>
+ * <p>
+ * Un client peut aussi regarder une partie ({@link Protocol#SPECTATE}, identifiant de la
+ * partie) : en cours, il est ajouté à ses spectateurs ; pas encore lancée, il attend son
+ * lancement ; terminée, sa connexion est fermée.
+ * </p>
+ *
+ * <pre>
+ * java -cp target/classes com.superbomberman.server.MatchServer --port 7777 --players 4
+ * </pre>
+ *
+ * <ul>
+ *     <li>{@code --port} : port d'écoute sur l'interface locale (7777, 0 = port libre)</li>
+ *     <li>{@code --players} : joueurs par partie (4)</li>
+ *     <li>{@code --broadcast-every} : ticks entre deux diffusions de l'état (2, soit 30 Hz)</li>
+ *     <li>{@code --max-ticks} : durée maximale d'une partie en ticks (3 minutes)</li>
+ *     <li>{@code --keyframe-every} : ticks entre deux images clés du flux des spectateurs (60, soit 1 s)</li>
+ *     <li>{@code --map} : fichier de carte (arène à 4 joueurs intégrée par défaut)</li>
+ * </ul>
+ *
+ * @author Jules Fuselier
+ * @version 1.1 - Spectateurs des parties (flux delta)
+ * @since 2026-10-17
+ */
+public final class MatchServer implements Closeable {
+
+    /** Arène par défaut : carte du niveau 1 avec un joueur dans chaque coin. */
+    public static final List<String> DEFAULT_ARENA = List.of(
+            "###############",
+            "#1  0 0 0 0  2#",
+            "# # #0# # # # #",
+            "#0   #0 0#   0#",
+            "# #0# # # #0# #",
+            "#  0   0    0 #",
+            "#0# # #0# # #0#",
+            "# 0         0 #",
+            "#0###0#0#0###0#",
+            "#   0 0 0 0   #",
+            "#0#0# #0# #0#0#",
+            "#3   0   0   4#",
+            "###############");
+
+    /** File d'attente des connexions non encore acceptées. */
+    private static final int ACCEPT_BACKLOG = 4096;
+
+    /**
+     * Réglages du serveur.
+     */
+    public static final class Options {
+        private int port = 7777;
+        private int playersPerMatch = 4;
+        private int broadcastEvery = 2;
+        private long maxTicks = 3L * 60 * 60;
+        private int keyframeEvery = 60;
+        private String mapName = "arena4";
+        private List<String> mapLines = DEFAULT_ARENA;
+
+        /**
+         * Lit les réglages de la ligne de commande.
+         *
+         * @param args arguments {@code --nom valeur}
+         * @return réglages
+         * @throws IOException si le fichier de carte est illisible
+         * @throws IllegalArgumentException si un argument est inconnu ou invalide
+         */
+        public static Options parse(String[] args) throws IOException {
+            Options options = new Options();
+            for (int i = 0; i + 1 < args.length; i += 2) {
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--port" -> options.setPort(Integer.parseInt(value));
+                    case "--players" -> options.setPlayersPerMatch(Integer.parseInt(value));
+                    case "--broadcast-every" -> options.setBroadcastEvery(Integer.parseInt(value));
+                    case "--max-ticks" -> options.setMaxTicks(Long.parseLong(value));
+                    case "--keyframe-every" -> options.setKeyframeEvery(Integer.parseInt(value));
+                    case "--map" -> options.setMap(Paths.get(value).getFileName().toString(),
+                            Files.readAllLines(Paths.get(value)));
+                    default -> throw new IllegalArgumentException("Option inconnue : " + args[i]);
+                }
+            }
+            return options;
+        }
+
+        /** @return port d'écoute (0 = port libre choisi par le système) */
+        public int getPort() { return port; }
+        /** @param port port d'écoute */
+        public void setPort(int port) { this.port = port; }
+        /** @return joueurs par partie */
+        public int getPlayersPerMatch() { return playersPerMatch; }
+
+        /**
+         * @param playersPerMatch joueurs par partie (1 à {@link PlayerSlots#MAX_PLAYERS})
+         */
+        public void setPlayersPerMatch(int playersPerMatch) {
+            if (playersPerMatch < 1 || playersPerMatch > PlayerSlots.MAX_PLAYERS) {
+                throw new IllegalArgumentException("Joueurs par partie invalide : " + playersPerMatch);
+            }
+            this.playersPerMatch = playersPerMatch;
+        }
+
+        /** @return ticks entre deux diffusions de l'état */
+        public int getBroadcastEvery() { return broadcastEvery; }
+        /** @param broadcastEvery ticks entre deux diffusions de l'état (au moins 1) */
+        public void setBroadcastEvery(int broadcastEvery) { this.broadcastEvery = Math.max(1, broadcastEvery); }
+        /** @return durée maximale d'une partie en ticks */
+        public long getMaxTicks() { return maxTicks; }
+        /** @param maxTicks durée maximale d'une partie en ticks */
+        public void setMaxTicks(long maxTicks) { this.maxTicks = maxTicks; }
+        /** @return ticks entre deux images clés du flux des spectateurs */
+        public int getKeyframeEvery() { return keyframeEvery; }
+        /** @param keyframeEvery ticks entre deux images clés (au moins 1) */
+        public void setKeyframeEvery(int keyframeEvery) { this.keyframeEvery = Math.max(1, keyframeEvery); }
+        /** @return nom de la carte */
+        public String getMapName() { return mapName; }
+        /** @return lignes de la carte */
+        public List<String> getMapLines() { return mapLines; }
+
+        /**
+         * @param mapName nom de la carte
+         * @param mapLines lignes de la carte
+         */
+        public void setMap(String mapName, List<String> mapLines) {
+            this.mapName = mapName;
+            this.mapLines = List.copyOf(mapLines);
+        }
+    }
+
+    private final Options options;
+    private final ServerStats stats = new ServerStats();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger nextMatchId = new AtomicInteger(1);
+    /** Parties en cours, par identifiant. */
+    private final Map<Integer, MatchRunner> runningMatches = new ConcurrentHashMap<>();
+    /** Spectateurs de parties pas encore lancées (accès sous verrou de la table). */
+    private final Map<Integer, List<ClientConnection>> waitingSpectators = new HashMap<>();
+    private final SplittableRandom seeds = new SplittableRandom();
+    /** Clients en attente d'une partie (accès sous verrou de la liste). */
+    private final List<ClientConnection> lobby = new ArrayList<>();
+    private ServerSocket serverSocket;
+    private volatile boolean running = false;
+
+    /**
+     * @param options réglages du serveur
+     */
+    public MatchServer(Options options) {
+        this.options = options;
+    }
+
+    /**
+     * Ouvre le port d'écoute et démarre l'acceptation des clients.
+     *
+     * @throws IOException si le port ne peut être ouvert
+     */
+    public void start() throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), options.getPort()), ACCEPT_BACKLOG);
+        running = true;
+        Thread.ofVirtual().name("bomberman-server-accept").start(this::acceptLoop);
+        if (GameLog.INFO) {
+            GameLog.info("Serveur de parties à l'écoute sur le port {}", getPort());
+        }
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                executor.submit(() -> handshake(socket));
+            } catch (IOException e) {
+                if (running && GameLog.WARN) {
+                    GameLog.warn("Erreur d'acceptation : {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void handshake(Socket socket) {
+        ClientConnection client;
+        try {
+            client = new ClientConnection(socket);
+            client.readHello();
+        } catch (IOException e) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // Fermeture au mieux
+            }
+            return;
+        }
+        executor.submit(client::readInputs);
+        executor.submit(client::writeFrames);
+        if (client.isSpectator()) {
+            attachSpectator(client);
+            return;
+        }
+
+        ClientConnection[] group = null;
+        synchronized (lobby) {
+            lobby.add(client);
+            if (lobby.size() == options.getPlayersPerMatch()) {
+                group = lobby.toArray(new ClientConnection[0]);
+                lobby.clear();
+            }
+        }
+        if (group != null) {
+            startMatch(group);
+        }
+    }
+
+    private void attachSpectator(ClientConnection spectator) {
+        int matchId = spectator.getSpectatedMatch();
+        synchronized (waitingSpectators) {
+            MatchRunner runner = runningMatches.get(matchId);
+            if (runner != null) {
+                runner.addSpectator(spectator);
+                return;
+            }
+            if (matchId >= nextMatchId.get()) {
+                waitingSpectators.computeIfAbsent(matchId, id -> new ArrayList<>()).add(spectator);
+                return;
+            }
+        }
+        spectator.close(); // Partie terminée
+    }
+
+    private void startMatch(ClientConnection[] group) {
+        MatchSession session = MatchSession.create(options.getMapLines(),
+                MatchSettings.of(false, options.getMapName()), new GameStateManager(null, null), seeds.nextLong());
+        PlayerSlots players = session.getPlayers();
+        ClientConnection[] clients = new ClientConnection[PlayerSlots.MAX_PLAYERS];
+        for (int number = 1; number <= PlayerSlots.MAX_PLAYERS; number++) {
+            PlayerSlot slot = players.get(number);
+            if (number <= group.length && slot.isActive()) {
+                players.assign(number, slot.getPlayer(), PlayerSlot.Control.REMOTE);
+                clients[number - 1] = group[number - 1];
+            } else if (slot.isActive()) {
+                players.assign(number, null, PlayerSlot.Control.LOCAL); // Place sans client
+            } else if (number <= group.length) {
+                group[number - 1].close(); // La carte n'a pas de place pour ce client
+            }
+        }
+        MatchRunner runner;
+        synchronized (waitingSpectators) {
+            int matchId = nextMatchId.getAndIncrement();
+            runner = new MatchRunner(matchId, session, clients, options, stats);
+            runningMatches.put(matchId, runner);
+            List<ClientConnection> waiting = waitingSpectators.remove(matchId);
+            if (waiting != null) {
+                waiting.forEach(runner::addSpectator);
+            }
+        }
+        executor.submit(() -> {
+            try {
+                runner.run();
+            } finally {
+                runningMatches.remove(runner.getMatchId());
+            }
+        });
+    }
+
+    /** @return port d'écoute effectif */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /** @return compteurs du serveur */
+    public ServerStats getStats() {
+        return stats;
+    }
+
+    /** Arrête l'acceptation, ferme les clients en attente et interrompt les parties. */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            if (serverSocket != null) {
+                serverSocket.close();
+            }
+        } catch (IOException ignored) {
+            // Fermeture au mieux
+        }
+        synchronized (lobby) {
+            lobby.forEach(ClientConnection::close);
+            lobby.clear();
+        }
+        synchronized (waitingSpectators) {
+            waitingSpectators.values().forEach(waiting -> waiting.forEach(ClientConnection::close));
+            waitingSpectators.clear();
+        }
+        executor.shutdownNow();
+    }
+
+    /**
+     * Lance le serveur et affiche ses compteurs toutes les 5 secondes.
+     *
+     * @param args options (voir la documentation de la classe)
+     * @throws Exception si le serveur ne peut démarrer
+     */
+    public static void main(String[] args) throws Exception {
+        MatchServer server = new MatchServer(Options.parse(args));
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close, "bomberman-server-shutdown"));
+        System.out.println("bomberman-server à l'écoute sur le port " + server.getPort());
+        while (true) {
+            Thread.sleep(5000);
+            System.out.println(server.getStats());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.superbomberman.server;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Protocole binaire entre le serveur de parties et ses clients, sur TCP.
+ * <p>
+ * Chaque message commence par un octet de type suivi de champs de taille fixe
+ * (flux {@link DataOutputStream}, big-endian). Les messages sont courts (quelques
+ * dizaines d'octets) et écrits dans un flux bufferisé vidé une fois par message :
+ * un état de partie complet tient dans un seul segment TCP.
+ * </p>
+ *
+ * <ul>
+ *     <li>Client → serveur : {@link #HELLO} (nom), {@link #INPUT} (masque {@code PlayerInput}),
+ *     {@link #SPECTATE} (partie à regarder)</li>
+ *     <li>Serveur → client : {@link #WELCOME} (partie, numéro de joueur, carte),
+ *     {@link #STATE} (tick, joueurs, bombes), {@link #END} (gagnant)</li>
+ *     <li>Serveur → spectateur : {@link #KEYFRAME} (plateau complet) puis un {@link #DELTA}
+ *     par tick (changements depuis le tick précédent), {@link #END}</li>
+ * </ul>
+ *
+ * <p>
+ * Plateau des spectateurs : deux octets par case, la case ({@code TileType}) et son contenu
+ * (bit {@link #CELL_BOMB} pour une bombe, ordinal du {@code PowerUpType} + 1 dans les bits
+ * de {@link #CELL_POWER_UP}). Une liste de cases est codée {@code short n, n × (short case,
+ * byte valeur)} avec {@code case = y × largeur + x}. Les joueurs d'un delta sont désignés
+ * par un masque d'un bit par place ({@code bit i} = joueur {@code i + 1}).
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.1 - Flux des spectateurs : images clés et deltas
+ * @since 2026-10-17
+ */
+public final class Protocol {
+
+    /** Client → serveur : demande à rejoindre une partie ({@code UTF nom}). */
+    public static final byte HELLO = 1;
+    /** Client → serveur : nouvelles entrées du joueur ({@code byte masque}). */
+    public static final byte INPUT = 2;
+    /** Client → serveur : demande à regarder une partie ({@code int partie}). */
+    public static final byte SPECTATE = 3;
+
+    /**
+     * Serveur → client : place attribuée ({@code int partie, byte joueur, byte joueurs,
+     * short largeur, short hauteur}).
+     */
+    public static final byte WELCOME = 10;
+    /**
+     * Serveur → client : état de la partie ({@code int tick, byte n, n × (byte joueur,
+     * short x, short y, boolean vivant), short b, b × (short x, short y)}).
+     */
+    public static final byte STATE = 11;
+    /** Serveur → client : fin de partie ({@code int tick, byte gagnant}, 0 si aucun). */
+    public static final byte END = 12;
+    /**
+     * Serveur → spectateur : plateau complet ({@code int tick, short largeur, short hauteur,
+     * largeur × hauteur × byte case, liste des contenus non vides, byte n, n × (byte joueur,
+     * short x, short y, boolean vivant)}).
+     */
+    public static final byte KEYFRAME = 13;
+    /**
+     * Serveur → spectateur : changements depuis le tick précédent ({@code int tick, liste des
+     * cases changées, liste des contenus changés, byte masque, une entrée (short x, short y,
+     * boolean vivant) par joueur du masque}).
+     */
+    public static final byte DELTA = 14;
+
+    /** Contenu de case : une bombe est posée. */
+    public static final int CELL_BOMB = 0x80;
+    /** Contenu de case : ordinal du power-up + 1, 0 si aucun. */
+    public static final int CELL_POWER_UP = 0x0F;
+
+    /** Longueur maximale d'un nom de joueur. */
+    public static final int MAX_NAME_LENGTH = 32;
+
+    private Protocol() {
+    }
+
+    /**
+     * Écrit une demande de connexion.
+     *
+     * @param out flux du client
+     * @param name nom du joueur
+     * @throws IOException si l'écriture échoue
+     */
+    public static void writeHello(DataOutputStream out, String name) throws IOException {
+        out.writeByte(HELLO);
+        out.writeUTF(name.length() > MAX_NAME_LENGTH ? name.substring(0, MAX_NAME_LENGTH) : name);
+        out.flush();
+    }
+
+    /**
+     * Écrit les entrées d'un joueur.
+     *
+     * @param out flux du client
+     * @param input masque {@code PlayerInput}
+     * @throws IOException si l'écriture échoue
+     */
+    public static void writeInput(DataOutputStream out, int input) throws IOException {
+        out.writeByte(INPUT);
+        out.writeByte(input);
+        out.flush();
+    }
+
+    /**
+     * Écrit une demande à regarder une partie.
+     *
+     * @param out flux du spectateur
+     * @param matchId identifiant de la partie
+     * @throws IOException si l'écriture échoue
+     */
+    public static void writeSpectate(DataOutputStream out, int matchId) throws IOException {
+        out.writeByte(SPECTATE);
+        out.writeInt(matchId);
+        out.flush();
+    }
+
+    /**
+     * Lit le type du prochain message.
+     *
+     * @param in flux entrant
+     * @return type du message
+     * @throws IOException si le flux est fermé ou le type inconnu
+     */
+    public static byte readType(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case HELLO, INPUT, SPECTATE, WELCOME, STATE, END, KEYFRAME, DELTA -> {
+                return type;
+            }
+            default -> throw new IOException("Type de message inconnu : " + type);
+        }
+    }
+}
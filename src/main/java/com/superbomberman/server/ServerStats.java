@@ -0,0 +1,112 @@
+package com.superbomberman.server;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compteurs du serveur de parties, mis à jour par les threads de toutes les parties.
+ * <p>
+ * Les compteurs à fort débit (ticks, messages envoyés) sont des {@link LongAdder} :
+ * chaque thread incrémente sa propre cellule, sans contention entre parties.
+ * </p>
+ * <p>
+ * Le flux des spectateurs est compté à part : messages encodés (un par tick et par partie
+ * regardée) et messages envoyés (un par spectateur). Leur rapport mesure le partage d'un
+ * même encodage entre spectateurs.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.1 - Compteurs du flux des spectateurs
+ * @since 2026-10-17
+ */
+public final class ServerStats {
+
+    private final AtomicInteger runningMatches = new AtomicInteger();
+    private final AtomicInteger peakMatches = new AtomicInteger();
+    private final LongAdder startedMatches = new LongAdder();
+    private final LongAdder finishedMatches = new LongAdder();
+    private final LongAdder ticks = new LongAdder();
+    private final LongAdder lateTicks = new LongAdder();
+    private final LongAdder framesSent = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final AtomicInteger spectators = new AtomicInteger();
+    private final LongAdder spectatorFramesEncoded = new LongAdder();
+    private final LongAdder spectatorFramesSent = new LongAdder();
+    private final LongAdder spectatorBytesSent = new LongAdder();
+
+    void matchStarted() {
+        startedMatches.increment();
+        int running = runningMatches.incrementAndGet();
+        peakMatches.accumulateAndGet(running, Math::max);
+    }
+
+    void matchFinished() {
+        runningMatches.decrementAndGet();
+        finishedMatches.increment();
+    }
+
+    void tick() {
+        ticks.increment();
+    }
+
+    void lateTick() {
+        lateTicks.increment();
+    }
+
+    void frameSent(int length) {
+        framesSent.increment();
+        bytesSent.add(length);
+    }
+
+    void spectatorJoined() {
+        spectators.incrementAndGet();
+    }
+
+    void spectatorLeft() {
+        spectators.decrementAndGet();
+    }
+
+    void spectatorFrameEncoded() {
+        spectatorFramesEncoded.increment();
+    }
+
+    void spectatorFrameSent(int length) {
+        spectatorFramesSent.increment();
+        spectatorBytesSent.add(length);
+    }
+
+    /** @return parties en cours */
+    public int getRunningMatches() { return runningMatches.get(); }
+    /** @return nombre maximal de parties simultanées observé */
+    public int getPeakMatches() { return peakMatches.get(); }
+    /** @return parties démarrées */
+    public long getStartedMatches() { return startedMatches.sum(); }
+    /** @return parties terminées */
+    public long getFinishedMatches() { return finishedMatches.sum(); }
+    /** @return ticks simulés, toutes parties confondues */
+    public long getTicks() { return ticks.sum(); }
+    /** @return ticks démarrés après leur échéance */
+    public long getLateTicks() { return lateTicks.sum(); }
+    /** @return messages d'état et de fin envoyés */
+    public long getFramesSent() { return framesSent.sum(); }
+    /** @return octets d'état et de fin envoyés */
+    public long getBytesSent() { return bytesSent.sum(); }
+    /** @return spectateurs connectés à une partie */
+    public int getSpectators() { return spectators.get(); }
+    /** @return messages des spectateurs encodés (une fois pour tous les spectateurs d'une partie) */
+    public long getSpectatorFramesEncoded() { return spectatorFramesEncoded.sum(); }
+    /** @return messages envoyés aux spectateurs */
+    public long getSpectatorFramesSent() { return spectatorFramesSent.sum(); }
+    /** @return octets envoyés aux spectateurs */
+    public long getSpectatorBytesSent() { return spectatorBytesSent.sum(); }
+
+    @Override
+    public String toString() {
+        long total = getTicks();
+        return String.format("parties %d en cours (pic %d), %d terminées | ticks %d, en retard %d (%.2f %%) | %d messages, %d Ko"
+                        + " | spectateurs %d : %d encodés, %d envoyés, %d Ko",
+                getRunningMatches(), getPeakMatches(), getFinishedMatches(), total, getLateTicks(),
+                total == 0 ? 0.0 : 100.0 * getLateTicks() / total, getFramesSent(), getBytesSent() / 1024,
+                getSpectators(), getSpectatorFramesEncoded(), getSpectatorFramesSent(), getSpectatorBytesSent() / 1024);
+    }
+}
@@ -0,0 +1,102 @@
+package com.superbomberman.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * Spectateur d'une partie du serveur, utilisé par le {@link LoadGenerator}.
+ * <p>
+ * Demande à regarder une partie ({@link Protocol#SPECTATE}), reconstitue son plateau dans
+ * une {@link SpectatorView} à partir des images clés et des deltas reçus, et compte les
+ * messages et octets reçus jusqu'à la fin de la partie.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class SpectatorClient implements Runnable {
+
+    private final InetSocketAddress address;
+    private final int matchId;
+    private final SpectatorView view = new SpectatorView();
+
+    private long keyframes = 0;
+    private long deltas = 0;
+    private long bytesReceived = 0;
+    private int lastTick = -1;
+    private boolean ended = false;
+    private int winner = -1;
+    private IOException failure;
+
+    /**
+     * @param address adresse du serveur
+     * @param matchId partie à regarder (en cours ou à venir)
+     */
+    public SpectatorClient(InetSocketAddress address, int matchId) {
+        this.address = address;
+        this.matchId = matchId;
+    }
+
+    @Override
+    public void run() {
+        try (Socket socket = new Socket()) {
+            socket.setTcpNoDelay(true);
+            socket.connect(address);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            Protocol.writeSpectate(out, matchId);
+            watch(in);
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    private void watch(DataInputStream in) throws IOException {
+        while (!ended) {
+            switch (Protocol.readType(in)) {
+                case Protocol.KEYFRAME -> {
+                    bytesReceived += view.readKeyframe(in);
+                    keyframes++;
+                    lastTick = view.getTick();
+                }
+                case Protocol.DELTA -> {
+                    bytesReceived += view.readDelta(in);
+                    deltas++;
+                    lastTick = view.getTick();
+                }
+                case Protocol.END -> {
+                    lastTick = in.readInt();
+                    winner = in.readUnsignedByte();
+                    bytesReceived += 6;
+                    ended = true;
+                }
+                default -> throw new IOException("Message inattendu");
+            }
+        }
+    }
+
+    /** @return partie regardée */
+    public int getMatchId() { return matchId; }
+    /** @return plateau reconstitué */
+    public SpectatorView getView() { return view; }
+    /** @return nombre d'images clés reçues */
+    public long getKeyframes() { return keyframes; }
+    /** @return nombre de deltas reçus */
+    public long getDeltas() { return deltas; }
+    /** @return octets reçus */
+    public long getBytesReceived() { return bytesReceived; }
+    /** @return dernier tick reçu */
+    public int getLastTick() { return lastTick; }
+    /** @return true si la fin de partie a été reçue */
+    public boolean isEnded() { return ended; }
+    /** @return numéro du gagnant (0 si aucun, -1 avant la fin) */
+    public int getWinner() { return winner; }
+    /** @return erreur réseau, null si aucune */
+    public IOException getFailure() { return failure; }
+}
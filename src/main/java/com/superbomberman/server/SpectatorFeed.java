@@ -0,0 +1,201 @@
+package com.superbomberman.server;
+
+import com.superbomberman.game.GameSimulation;
+import com.superbomberman.game.PlayerSlot;
+import com.superbomberman.game.PlayerSlots;
+import com.superbomberman.model.Bomb;
+import com.superbomberman.model.Player;
+import com.superbomberman.model.TileGrid;
+import com.superbomberman.model.powerup.PowerUp;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Encodeur du flux des spectateurs d'une partie : une image clé de temps en temps, un
+ * delta compact à chaque tick.
+ * <p>
+ * À chaque appel de {@link #encode(boolean)}, le plateau courant (cases de la carte,
+ * bombes, power-ups posés) et les positions des joueurs sont relevés dans des tampons
+ * puis comparés à ceux du tick précédent : seules les différences sont écrites
+ * ({@link Protocol#DELTA}). Une case détruite, une bombe posée, explosée ou poussée, un
+ * power-up apparu ou ramassé coûtent 3 octets ; un tick sans changement en coûte 10.
+ * Le message est encodé une seule fois dans un tampon réutilisé, puis envoyé tel quel à
+ * tous les spectateurs de la partie : leur nombre ne change pas le coût d'encodage.
+ * </p>
+ * <p>
+ * Les tampons sont alloués à la création et échangés d'un tick à l'autre : l'encodage
+ * n'alloue rien.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class SpectatorFeed {
+
+    private final GameSimulation simulation;
+    private final TileGrid map;
+    private final int width;
+    private final ByteBuffer frame;
+
+    private byte[] tiles;
+    private byte[] previousTiles;
+    private byte[] contents;
+    private byte[] previousContents;
+    private final int[] playerX = new int[PlayerSlots.MAX_PLAYERS];
+    private final int[] playerY = new int[PlayerSlots.MAX_PLAYERS];
+    private final boolean[] playerAlive = new boolean[PlayerSlots.MAX_PLAYERS];
+    /** Vrai tant qu'aucun message n'a été encodé (pas de tick précédent). */
+    private boolean first = true;
+
+    /**
+     * @param simulation simulation de la partie diffusée
+     */
+    public SpectatorFeed(GameSimulation simulation) {
+        this.simulation = simulation;
+        this.map = simulation.getMap();
+        this.width = map.getWidth();
+        int cells = map.size();
+        this.tiles = new byte[cells];
+        this.previousTiles = new byte[cells];
+        this.contents = new byte[cells];
+        this.previousContents = new byte[cells];
+        // Pire cas : toutes les cases et tous les contenus changent, tous les joueurs bougent
+        this.frame = ByteBuffer.allocate(1 + 4 + 4 + cells + 2 * (2 + cells * 3) + 1 + PlayerSlots.MAX_PLAYERS * 6);
+    }
+
+    /**
+     * Encode l'état courant de la partie : image clé si demandée (toujours au premier
+     * appel), sinon différences depuis l'appel précédent. Pour que les deltas s'enchaînent,
+     * l'encodage doit être appelé à chaque tick ; après une interruption, demander une image clé.
+     *
+     * @param keyframe true pour une image clé
+     * @return longueur du message dans {@link #getFrame()}
+     */
+    public int encode(boolean keyframe) {
+        captureBoard();
+        frame.clear();
+        if (keyframe || first) {
+            first = false;
+            encodeKeyframe();
+        } else {
+            encodeDelta();
+        }
+        byte[] swap = previousTiles;
+        previousTiles = tiles;
+        tiles = swap;
+        swap = previousContents;
+        previousContents = contents;
+        contents = swap;
+        return frame.position();
+    }
+
+    /** Relève les cases et leur contenu (bombes, power-ups) du tick courant. */
+    private void captureBoard() {
+        map.copyCellsTo(tiles);
+        Arrays.fill(contents, (byte) 0);
+        List<PowerUp> powerUps = simulation.getPowerUpManager().getActivePowerUpsView();
+        for (int i = 0; i < powerUps.size(); i++) {
+            PowerUp powerUp = powerUps.get(i);
+            if (map.isInBounds(powerUp.getX(), powerUp.getY())) {
+                int cell = powerUp.getY() * width + powerUp.getX();
+                contents[cell] = (byte) ((contents[cell] & ~Protocol.CELL_POWER_UP) | (powerUp.getType().ordinal() + 1));
+            }
+        }
+        List<Bomb> bombs = simulation.getBombManager().getActiveBombsView();
+        for (int i = 0; i < bombs.size(); i++) {
+            Bomb bomb = bombs.get(i);
+            if (map.isInBounds(bomb.getX(), bomb.getY())) {
+                contents[bomb.getY() * width + bomb.getX()] |= (byte) Protocol.CELL_BOMB;
+            }
+        }
+    }
+
+    private void encodeKeyframe() {
+        frame.put(Protocol.KEYFRAME);
+        frame.putInt((int) simulation.getTick());
+        frame.putShort((short) width);
+        frame.putShort((short) map.getHeight());
+        frame.put(tiles);
+        int countAt = frame.position();
+        frame.putShort((short) 0);
+        int count = 0;
+        for (int cell = 0; cell < contents.length; cell++) {
+            if (contents[cell] != 0) {
+                putCell(cell, contents[cell]);
+                count++;
+            }
+        }
+        frame.putShort(countAt, (short) count);
+
+        PlayerSlots slots = simulation.getPlayerSlots();
+        frame.put((byte) slots.activeCount());
+        for (int i = 0; i < slots.activeCount(); i++) {
+            PlayerSlot slot = slots.active(i);
+            Player player = slot.getPlayer();
+            frame.put((byte) slot.getNumber());
+            putPlayer(player);
+            remember(slot.getIndex(), player);
+        }
+    }
+
+    private void encodeDelta() {
+        frame.put(Protocol.DELTA);
+        frame.putInt((int) simulation.getTick());
+        putChanges(previousTiles, tiles);
+        putChanges(previousContents, contents);
+
+        PlayerSlots slots = simulation.getPlayerSlots();
+        int maskAt = frame.position();
+        frame.put((byte) 0);
+        int mask = 0;
+        for (int i = 0; i < slots.activeCount(); i++) {
+            PlayerSlot slot = slots.active(i);
+            Player player = slot.getPlayer();
+            int index = slot.getIndex();
+            if (player.getX() != playerX[index] || player.getY() != playerY[index]
+                    || player.isAlive() != playerAlive[index]) {
+                mask |= 1 << index;
+                putPlayer(player);
+                remember(index, player);
+            }
+        }
+        frame.put(maskAt, (byte) mask);
+    }
+
+    /** Écrit la liste des cases dont la valeur a changé. */
+    private void putChanges(byte[] before, byte[] after) {
+        int countAt = frame.position();
+        frame.putShort((short) 0);
+        int count = 0;
+        for (int cell = 0; cell < after.length; cell++) {
+            if (before[cell] != after[cell]) {
+                putCell(cell, after[cell]);
+                count++;
+            }
+        }
+        frame.putShort(countAt, (short) count);
+    }
+
+    private void putCell(int cell, byte value) {
+        frame.putShort((short) cell);
+        frame.put(value);
+    }
+
+    private void putPlayer(Player player) {
+        frame.putShort((short) player.getX());
+        frame.putShort((short) player.getY());
+        frame.put((byte) (player.isAlive() ? 1 : 0));
+    }
+
+    private void remember(int index, Player player) {
+        playerX[index] = player.getX();
+        playerY[index] = player.getY();
+        playerAlive[index] = player.isAlive();
+    }
+
+    /** @return tampon du dernier message encodé (à envoyer tel quel) */
+    public byte[] getFrame() { return frame.array(); }
+}
@@ -0,0 +1,177 @@
+package com.superbomberman.server;
+
+import com.superbomberman.game.PlayerSlots;
+import com.superbomberman.model.TileType;
+import com.superbomberman.model.powerup.PowerUpType;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Plateau reconstitué côté spectateur à partir du flux de {@link SpectatorFeed}.
+ * <p>
+ * Une image clé ({@link Protocol#KEYFRAME}) remplace tout le plateau ; chaque delta
+ * ({@link Protocol#DELTA}) y applique les changements d'un tick. Les deltas reçus avant
+ * la première image clé sont lus puis ignorés.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class SpectatorView {
+
+    private static final TileType[] TILE_TYPES = TileType.values();
+    private static final PowerUpType[] POWER_UP_TYPES = PowerUpType.values();
+
+    private int tick = -1;
+    private int width;
+    private int height;
+    private byte[] tiles = new byte[0];
+    private byte[] contents = new byte[0];
+    private final int[] playerX = new int[PlayerSlots.MAX_PLAYERS];
+    private final int[] playerY = new int[PlayerSlots.MAX_PLAYERS];
+    private final boolean[] playerAlive = new boolean[PlayerSlots.MAX_PLAYERS];
+    private final boolean[] playerPresent = new boolean[PlayerSlots.MAX_PLAYERS];
+
+    /**
+     * Lit une image clé (après son octet de type) et remplace le plateau.
+     *
+     * @param in flux du spectateur
+     * @return nombre d'octets lus, type compris
+     * @throws IOException si le flux est interrompu ou l'image incohérente
+     */
+    public int readKeyframe(DataInputStream in) throws IOException {
+        tick = in.readInt();
+        width = in.readUnsignedShort();
+        height = in.readUnsignedShort();
+        int cells = width * height;
+        if (tiles.length != cells) {
+            tiles = new byte[cells];
+            contents = new byte[cells];
+        } else {
+            Arrays.fill(contents, (byte) 0);
+        }
+        in.readFully(tiles);
+        int length = 1 + 4 + 4 + cells + readCells(in, contents);
+
+        Arrays.fill(playerPresent, false);
+        int players = in.readUnsignedByte();
+        for (int i = 0; i < players; i++) {
+            int index = in.readUnsignedByte() - 1;
+            if (index < 0 || index >= PlayerSlots.MAX_PLAYERS) {
+                throw new IOException("Joueur invalide : " + (index + 1));
+            }
+            playerPresent[index] = true;
+            readPlayer(in, index);
+        }
+        return length + 1 + players * 6;
+    }
+
+    /**
+     * Lit un delta (après son octet de type) et l'applique au plateau.
+     *
+     * @param in flux du spectateur
+     * @return nombre d'octets lus, type compris
+     * @throws IOException si le flux est interrompu ou le delta incohérent
+     */
+    public int readDelta(DataInputStream in) throws IOException {
+        int deltaTick = in.readInt();
+        int length = 1 + 4 + readCells(in, tiles) + readCells(in, contents);
+        int mask = in.readUnsignedByte();
+        length++;
+        for (int index = 0; index < PlayerSlots.MAX_PLAYERS; index++) {
+            if ((mask & (1 << index)) != 0) {
+                readPlayer(in, index);
+                length += 5;
+            }
+        }
+        if (isSynced()) {
+            tick = deltaTick;
+        }
+        return length;
+    }
+
+    /** Lit une liste de cases et l'applique au calque donné (ignorée avant l'image clé). */
+    private int readCells(DataInputStream in, byte[] layer) throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            int cell = in.readUnsignedShort();
+            byte value = in.readByte();
+            if (cell < layer.length) {
+                layer[cell] = value;
+            } else if (isSynced()) {
+                throw new IOException("Case hors du plateau : " + cell);
+            }
+        }
+        return 2 + count * 3;
+    }
+
+    private void readPlayer(DataInputStream in, int index) throws IOException {
+        playerX[index] = in.readShort();
+        playerY[index] = in.readShort();
+        playerAlive[index] = in.readBoolean();
+    }
+
+    /** @return true si une image clé a été reçue */
+    public boolean isSynced() { return tick >= 0; }
+    /** @return tick du dernier message appliqué, -1 avant la première image clé */
+    public int getTick() { return tick; }
+    /** @return largeur du plateau */
+    public int getWidth() { return width; }
+    /** @return hauteur du plateau */
+    public int getHeight() { return height; }
+
+    /**
+     * @param x colonne
+     * @param y ligne
+     * @return type de la case
+     */
+    public TileType getTile(int x, int y) {
+        return TILE_TYPES[tiles[y * width + x]];
+    }
+
+    /**
+     * @param x colonne
+     * @param y ligne
+     * @return true si une bombe est posée sur la case
+     */
+    public boolean hasBomb(int x, int y) {
+        return (contents[y * width + x] & Protocol.CELL_BOMB) != 0;
+    }
+
+    /**
+     * @param x colonne
+     * @param y ligne
+     * @return power-up posé sur la case, null si aucun
+     */
+    public PowerUpType getPowerUp(int x, int y) {
+        int code = contents[y * width + x] & Protocol.CELL_POWER_UP;
+        return code == 0 ? null : POWER_UP_TYPES[code - 1];
+    }
+
+    /**
+     * @param playerNumber numéro du joueur
+     * @return true si le joueur est dans la partie
+     */
+    public boolean isPlayerPresent(int playerNumber) { return playerPresent[playerNumber - 1]; }
+
+    /**
+     * @param playerNumber numéro du joueur
+     * @return colonne du joueur
+     */
+    public int getPlayerX(int playerNumber) { return playerX[playerNumber - 1]; }
+
+    /**
+     * @param playerNumber numéro du joueur
+     * @return ligne du joueur
+     */
+    public int getPlayerY(int playerNumber) { return playerY[playerNumber - 1]; }
+
+    /**
+     * @param playerNumber numéro du joueur
+     * @return true si le joueur est en vie
+     */
+    public boolean isPlayerAlive(int playerNumber) { return playerAlive[playerNumber - 1]; }
+}
@@ -2,9 +2,11 @@ package com.superbomberman.service;
 
 import com.superbomberman.model.User;
 import java.io.*;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -12,36 +14,58 @@ import java.util.Properties;
 
 /**
  * Service de gestion de l'authentification et des utilisateurs.
- * Utilise un système de fichiers simple pour stocker les données utilisateurs.
+ * <p>
+ * Les utilisateurs sont stockés dans un fichier unique indexé ({@link UserStore}) :
+ * le démarrage ne lit que l'index, chaque utilisateur est décodé à sa première
+ * utilisation, et une connexion ou une mise à jour des statistiques n'ajoute qu'un
+ * enregistrement en fin de fichier. Les anciens fichiers {@code data/users/*.properties}
+ * sont importés à la première ouverture, dans un fichier à part renommé une fois l'import
+ * complet : un import interrompu est repris en entier.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 2.1 - Import des anciens fichiers tout ou rien
  */
 public class AuthService {
-    private static final String USERS_DIR = "data/users/";
+    private static final String USERS_FILE = "data/users.db";
+    /** Ancien répertoire des utilisateurs, un fichier .properties chacun (importé une fois). */
+    private static final String LEGACY_USERS_DIR = "data/users/";
     private static final String CURRENT_USER_FILE = "data/current_user.properties";
     private User currentUser;
     private Map<String, User> userCache;
+    private UserStore store;
 
     public AuthService() {
         this.userCache = new HashMap<>();
         createDataDirectories();
-        loadAllUsers();
+        openStore();
     }
 
     private void createDataDirectories() {
         try {
-            Path usersPath = Paths.get(USERS_DIR);
             Path dataPath = Paths.get("data");
 
             if (!Files.exists(dataPath)) {
                 Files.createDirectory(dataPath);
             }
-            if (!Files.exists(usersPath)) {
-                Files.createDirectory(usersPath);
-            }
         } catch (IOException e) {
             System.err.println("Erreur lors de la création des répertoires : " + e.getMessage());
         }
     }
 
+    /**
+     * Ouvre le fichier des utilisateurs, après y avoir importé les anciens fichiers s'il n'existe pas encore
+     */
+    private void openStore() {
+        try {
+            Path usersFile = Paths.get(USERS_FILE);
+            importLegacyUsers(Paths.get(LEGACY_USERS_DIR), usersFile);
+            store = UserStore.open(usersFile);
+        } catch (IOException e) {
+            System.err.println("Erreur lors de l'ouverture des utilisateurs : " + e.getMessage());
+        }
+    }
+
 
     /**
      * Authentifie un utilisateur avec son nom d'utilisateur et mot de passe
@@ -114,7 +138,7 @@ public class AuthService {
      * Vérifie si un utilisateur existe
      */
     public boolean userExists(String username) {
-        return loadUser(username) != null;
+        return userCache.containsKey(username) || (store != null && store.contains(username));
     }
 
     /**
@@ -132,18 +156,92 @@ public class AuthService {
     }
 
     /**
-     * Charge un utilisateur depuis le fichier
+     * Charge un utilisateur depuis le fichier des utilisateurs
      */
     private User loadUser(String username) {
         if (userCache.containsKey(username)) {
             return userCache.get(username);
         }
+        if (store == null) {
+            return null;
+        }
 
-        Path userFile = Paths.get(USERS_DIR + username + ".properties");
-        if (!Files.exists(userFile)) {
+        try {
+            User user = store.get(username);
+            if (user != null) {
+                userCache.put(username, user);
+            }
+            return user;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Erreur lors du chargement de l'utilisateur " + username + " : " + e.getMessage());
             return null;
         }
+    }
+
+    /**
+     * Sauvegarde un utilisateur (ajout d'un enregistrement au fichier des utilisateurs)
+     */
+    private void saveUser(User user) {
+        userCache.put(user.getUsername(), user);
+        if (store == null) {
+            return;
+        }
+
+        try {
+            store.put(user);
+        } catch (IOException e) {
+            System.err.println("Erreur lors de la sauvegarde de l'utilisateur " + user.getUsername() + " : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Importe les utilisateurs des anciens fichiers .properties si le fichier des utilisateurs
+     * n'existe pas encore. L'import est écrit dans un fichier à côté, renommé atomiquement une
+     * fois complet : l'existence du fichier des utilisateurs marque l'import terminé, et un
+     * import interrompu (fichier partiel restant) est recommencé depuis le début.
+     *
+     * @param legacyDir répertoire des anciens fichiers
+     * @param usersFile fichier des utilisateurs
+     * @return nombre d'utilisateurs importés (0 si l'import a déjà eu lieu)
+     * @throws IOException si l'import ou le renommage échoue (le fichier des utilisateurs n'est alors pas créé)
+     */
+    static synchronized int importLegacyUsers(Path legacyDir, Path usersFile) throws IOException {
+        if (Files.exists(usersFile) || !Files.isDirectory(legacyDir)) {
+            return 0;
+        }
+        Path partial = usersFile.resolveSibling(usersFile.getFileName() + ".import");
+        Files.deleteIfExists(partial); // Import précédent interrompu
+
+        int imported = 0;
+        UserStore importing = UserStore.open(partial);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(legacyDir, "*.properties")) {
+            for (Path file : files) {
+                User user = readLegacyUser(file);
+                if (user == null) {
+                    continue;
+                }
+                try {
+                    importing.put(user);
+                    imported++;
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Utilisateur de " + file + " non importé : " + e.getMessage());
+                }
+            }
+            importing.sync();
+        } finally {
+            importing.close();
+        }
+        Files.move(partial, usersFile, StandardCopyOption.ATOMIC_MOVE);
+        if (imported > 0) {
+            System.out.println(imported + " utilisateur(s) importé(s) depuis " + legacyDir);
+        }
+        return imported;
+    }
 
+    /**
+     * Lit un utilisateur dans un ancien fichier .properties
+     */
+    private static User readLegacyUser(Path userFile) {
         try (InputStream input = Files.newInputStream(userFile)) {
             Properties props = new Properties();
             props.load(input);
@@ -163,65 +261,14 @@ public class AuthService {
             if (props.getProperty("lastLoginAt") != null) {
                 user.setLastLoginAt(LocalDateTime.parse(props.getProperty("lastLoginAt")));
             }
+            return user.getUsername() != null && user.getPassword() != null ? user : null;
 
-            userCache.put(username, user);
-            return user;
-
-        } catch (IOException | NumberFormatException e) {
-            System.err.println("Erreur lors du chargement de l'utilisateur " + username + " : " + e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Erreur lors de l'import de " + userFile + " : " + e.getMessage());
             return null;
         }
     }
 
-    /**
-     * Sauvegarde un utilisateur dans un fichier
-     */
-    private void saveUser(User user) {
-        Path userFile = Paths.get(USERS_DIR + user.getUsername() + ".properties");
-
-        try (OutputStream output = Files.newOutputStream(userFile)) {
-            Properties props = new Properties();
-            props.setProperty("username", user.getUsername());
-            props.setProperty("password", user.getPassword());
-            props.setProperty("email", user.getEmail() != null ? user.getEmail() : "");
-            props.setProperty("gamesPlayed", String.valueOf(user.getGamesPlayed()));
-            props.setProperty("gamesWon", String.valueOf(user.getGamesWon()));
-            props.setProperty("highScore", String.valueOf(user.getHighScore()));
-            props.setProperty("favoriteCharacter", user.getFavoriteCharacter());
-            props.setProperty("createdAt", user.getCreatedAt().toString());
-
-            if (user.getLastLoginAt() != null) {
-                props.setProperty("lastLoginAt", user.getLastLoginAt().toString());
-            }
-
-            props.store(output, "User data for " + user.getUsername());
-            userCache.put(user.getUsername(), user);
-
-        } catch (IOException e) {
-            System.err.println("Erreur lors de la sauvegarde de l'utilisateur " + user.getUsername() + " : " + e.getMessage());
-        }
-    }
-
-    /**
-     * Charge tous les utilisateurs en cache
-     */
-    private void loadAllUsers() {
-        try {
-            Path usersPath = Paths.get(USERS_DIR);
-            if (Files.exists(usersPath)) {
-                Files.list(usersPath)
-                        .filter(path -> path.toString().endsWith(".properties"))
-                        .forEach(path -> {
-                            String filename = path.getFileName().toString();
-                            String username = filename.substring(0, filename.lastIndexOf("."));
-                            loadUser(username);
-                        });
-            }
-        } catch (IOException e) {
-            System.err.println("Erreur lors du chargement des utilisateurs : " + e.getMessage());
-        }
-    }
-
     /**
      * Sauvegarde la session utilisateur actuelle
      */
@@ -0,0 +1,568 @@
+package com.superbomberman.service;
+
+import com.superbomberman.model.User;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+/**
+ * Stockage des utilisateurs dans un fichier unique d'enregistrements ajoutés à la suite.
+ * <p>
+ * Chaque sauvegarde d'un utilisateur ajoute un enregistrement en fin de fichier
+ * (longueur, somme de contrôle CRC32C, contenu) ; un index en mémoire associe chaque nom
+ * d'utilisateur à la position de son dernier enregistrement. À l'ouverture, le fichier
+ * est lu une fois pour reconstruire l'index : seuls les noms sont retenus, les
+ * utilisateurs sont décodés à la demande ({@link #get(String)}).
+ * </p>
+ *
+ * <ul>
+ *     <li>Écriture : un ajout de quelques centaines d'octets, sans réécrire de fichier</li>
+ *     <li>Durabilité par lots : {@code fsync} tous les {@value #SYNC_BATCH_RECORDS}
+ *     ajouts, et au plus {@value #SYNC_INTERVAL_MILLIS} ms après le dernier ajout</li>
+ *     <li>Reprise après incident : un enregistrement incomplet ou corrompu en fin de
+ *     fichier (écriture interrompue) est détecté par sa somme de contrôle et tronqué ;
+ *     un enregistrement corrompu au milieu du fichier est sauté, ceux qui le suivent
+ *     sont conservés</li>
+ *     <li>Compactage : quand les enregistrements périmés dépassent les enregistrements
+ *     vivants, le fichier est réécrit à côté puis remplacé atomiquement, sur le thread
+ *     de synchronisation plutôt que sur celui de l'ajout</li>
+ * </ul>
+ *
+ * <p>
+ * Un seul stockage est ouvert par fichier dans le processus ({@link #open(Path)}) :
+ * les services d'authentification le partagent. Les stockages ouverts sont synchronisés
+ * et fermés à l'arrêt de la JVM.
+ * </p>
+ *
+ * @author Jules Fuselier
+ * @version 1.1 - Corruption au milieu du fichier sautée sans tronquer les enregistrements suivants
+ * @since 2026-10-17
+ */
+public final class UserStore implements AutoCloseable {
+
+    /** Ajouts entre deux synchronisations forcées sur disque. */
+    public static final int SYNC_BATCH_RECORDS = 64;
+    /** Délai maximal entre un ajout et sa synchronisation sur disque. */
+    public static final long SYNC_INTERVAL_MILLIS = 1000;
+    /** Nombre minimal d'enregistrements avant d'envisager un compactage. */
+    public static final int COMPACTION_MIN_RECORDS = 1024;
+
+    /** Signature du fichier ("SBUS"). */
+    private static final int MAGIC = 0x53425553;
+    private static final int FORMAT_VERSION = 1;
+    private static final int FILE_HEADER_BYTES = 8;
+    private static final int RECORD_HEADER_BYTES = 8;
+    /** Taille maximale d'un enregistrement : au-delà, la longueur lue est corrompue. */
+    private static final int MAX_RECORD_BYTES = 64 * 1024;
+    private static final byte KIND_PUT = 1;
+
+    private static final Map<Path, UserStore> OPEN_STORES = new HashMap<>();
+    private static boolean shutdownHookInstalled;
+
+    private final Path file;
+    private FileChannel channel;
+    private final Map<String, Long> index = new HashMap<>();
+    private long endOffset;
+    private int recordCount;
+    private int pendingSync;
+    private boolean closed;
+    private boolean compactionScheduled;
+    private final ScheduledExecutorService syncer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("user-store-sync").daemon().factory());
+
+    private UserStore(Path file) throws IOException {
+        this.file = file;
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            load();
+        } catch (IOException e) {
+            channel.close();
+            syncer.shutdown();
+            throw e;
+        }
+        syncer.scheduleWithFixedDelay(this::syncQuietly, SYNC_INTERVAL_MILLIS, SYNC_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Ouvre le stockage d'un fichier, ou renvoie celui déjà ouvert dans le processus.
+     *
+     * @param file fichier des utilisateurs (créé s'il n'existe pas)
+     * @return stockage partagé du fichier
+     * @throws IOException si le fichier ne peut être ouvert ou n'est pas un fichier d'utilisateurs
+     */
+    public static synchronized UserStore open(Path file) throws IOException {
+        Path key = file.toAbsolutePath().normalize();
+        UserStore store = OPEN_STORES.get(key);
+        if (store == null) {
+            store = new UserStore(key);
+            OPEN_STORES.put(key, store);
+            if (!shutdownHookInstalled) {
+                Runtime.getRuntime().addShutdownHook(new Thread(UserStore::closeAll, "user-store-shutdown"));
+                shutdownHookInstalled = true;
+            }
+        }
+        return store;
+    }
+
+    private static void closeAll() {
+        List<UserStore> stores;
+        synchronized (UserStore.class) {
+            stores = new ArrayList<>(OPEN_STORES.values());
+        }
+        for (UserStore store : stores) {
+            store.close();
+        }
+    }
+
+    /**
+     * Lit le fichier et reconstruit l'index. Un enregistrement invalide suivi d'enregistrements
+     * valides (corruption au milieu du fichier) est sauté ; seule une fin de fichier sans
+     * aucun enregistrement valide (écriture interrompue) est tronquée.
+     */
+    private void load() throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES).putInt(MAGIC).putInt(FORMAT_VERSION).flip();
+            writeFully(header, 0);
+            channel.force(true);
+            endOffset = FILE_HEADER_BYTES;
+            return;
+        }
+
+        channel.position(0);
+        DataInputStream in = newReader();
+        if (size < FILE_HEADER_BYTES || in.readInt() != MAGIC) {
+            throw new IOException("Fichier d'utilisateurs invalide : " + file);
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Version de fichier d'utilisateurs non gérée : " + version);
+        }
+
+        CRC32C crc = new CRC32C();
+        byte[] payload = new byte[256];
+        long offset = FILE_HEADER_BYTES;
+        long skippedBytes = 0;
+        while (offset < size) {
+            int length = 0;
+            String username = null;
+            if (size - offset >= RECORD_HEADER_BYTES) {
+                length = in.readInt();
+                int checksum = in.readInt();
+                if (length > 0 && length <= MAX_RECORD_BYTES && size - offset - RECORD_HEADER_BYTES >= length) {
+                    if (payload.length < length) {
+                        payload = new byte[Math.max(length, payload.length * 2)];
+                    }
+                    in.readFully(payload, 0, length);
+                    username = validUsername(payload, 0, length, checksum, crc);
+                }
+            }
+            if (username == null) {
+                long next = findNextRecord(offset + 1, size, crc);
+                if (next < 0) {
+                    break; // Fin de fichier déchirée : rien de valide ne suit
+                }
+                skippedBytes += next - offset;
+                offset = next;
+                channel.position(offset);
+                in = newReader();
+                continue;
+            }
+            index.put(username, offset);
+            recordCount++;
+            offset += RECORD_HEADER_BYTES + length;
+        }
+
+        if (skippedBytes > 0) {
+            System.err.println("Fichier d'utilisateurs " + file + " : " + skippedBytes
+                    + " octets corrompus ignorés, enregistrements suivants conservés");
+        }
+        if (offset < size) {
+            System.err.println("Fichier d'utilisateurs " + file + " : fin incomplète ou corrompue tronquée ("
+                    + (size - offset) + " octets)");
+            channel.truncate(offset);
+            channel.force(true);
+        }
+        endOffset = offset;
+    }
+
+    /** Lecteur tamponné à partir de la position courante du fichier. */
+    private DataInputStream newReader() {
+        return new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 64 * 1024));
+    }
+
+    /**
+     * Cherche, après un enregistrement invalide, le début du prochain enregistrement valide
+     * (longueur plausible, somme de contrôle juste, nom lisible).
+     *
+     * @param from première position candidate
+     * @param size taille du fichier
+     * @param crc somme de contrôle réutilisée
+     * @return position du prochain enregistrement valide, -1 s'il n'y en a plus
+     * @throws IOException si la lecture échoue ou si la fin du fichier est trop grande pour être parcourue
+     */
+    private long findNextRecord(long from, long size, CRC32C crc) throws IOException {
+        if (size - from < RECORD_HEADER_BYTES) {
+            return -1;
+        }
+        if (size - from > Integer.MAX_VALUE) {
+            throw new IOException("Fichier d'utilisateurs corrompu et trop grand pour être réparé : " + file);
+        }
+        ByteBuffer tail = ByteBuffer.allocate((int) (size - from));
+        readFully(tail, from);
+        byte[] bytes = tail.array();
+        for (int position = 0; position <= bytes.length - RECORD_HEADER_BYTES; position++) {
+            int length = tail.getInt(position);
+            int available = bytes.length - position - RECORD_HEADER_BYTES;
+            if (length > 0 && length <= MAX_RECORD_BYTES && length <= available
+                    && validUsername(bytes, position + RECORD_HEADER_BYTES, length,
+                    tail.getInt(position + 4), crc) != null) {
+                return from + position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return nom d'utilisateur d'un enregistrement dont la somme de contrôle est juste,
+     *         null si le contenu est corrompu ou d'un type inconnu
+     */
+    private static String validUsername(byte[] bytes, int start, int length, int checksum, CRC32C crc) {
+        crc.reset();
+        crc.update(bytes, start, length);
+        if ((int) crc.getValue() != checksum) {
+            return null;
+        }
+        try {
+            return decodeUsername(bytes, start, length);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Enregistre l'état courant d'un utilisateur (ajout en fin de fichier).
+     *
+     * @param user utilisateur à enregistrer
+     * @throws IOException si l'écriture échoue
+     * @throws IllegalArgumentException si l'utilisateur n'a pas de nom ou est trop volumineux
+     */
+    public synchronized void put(User user) throws IOException {
+        checkOpen();
+        byte[] payload = encode(user);
+        if (payload.length > MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("Utilisateur trop volumineux : " + user.getUsername());
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + payload.length)
+                .putInt(payload.length)
+                .putInt((int) crc.getValue())
+                .put(payload)
+                .flip();
+        long offset = endOffset;
+        writeFully(record, offset);
+        endOffset += record.capacity();
+        index.put(user.getUsername(), offset);
+        recordCount++;
+
+        if (++pendingSync >= SYNC_BATCH_RECORDS) {
+            sync();
+        }
+        if (!compactionScheduled && needsCompaction()) {
+            // Réécriture sur le thread de synchronisation : l'ajout ne l'attend pas
+            compactionScheduled = true;
+            syncer.execute(this::compactInBackground);
+        }
+    }
+
+    private boolean needsCompaction() {
+        return recordCount >= COMPACTION_MIN_RECORDS && recordCount > 2 * index.size();
+    }
+
+    private synchronized void compactInBackground() {
+        compactionScheduled = false;
+        if (closed || !needsCompaction()) {
+            return;
+        }
+        try {
+            compact();
+        } catch (IOException e) {
+            System.err.println("Erreur lors du compactage des utilisateurs : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Lit le dernier état enregistré d'un utilisateur.
+     *
+     * @param username nom de l'utilisateur
+     * @return un nouvel objet utilisateur, null s'il n'existe pas
+     * @throws IOException si la lecture échoue
+     */
+    public synchronized User get(String username) throws IOException {
+        checkOpen();
+        Long offset = index.get(username);
+        if (offset == null) {
+            return null;
+        }
+        return decode(readPayload(offset));
+    }
+
+    /**
+     * @param username nom de l'utilisateur
+     * @return true si l'utilisateur est enregistré
+     */
+    public synchronized boolean contains(String username) {
+        return index.containsKey(username);
+    }
+
+    /** @return nombre d'utilisateurs enregistrés */
+    public synchronized int size() { return index.size(); }
+
+    /** @return nombre d'enregistrements du fichier, périmés compris */
+    public synchronized int getRecordCount() { return recordCount; }
+
+    /** @return ajouts pas encore synchronisés sur disque */
+    public synchronized int getPendingSync() { return pendingSync; }
+
+    /** @return taille du fichier en octets */
+    public synchronized long getFileSize() { return endOffset; }
+
+    /**
+     * Force l'écriture sur disque des ajouts en attente.
+     *
+     * @throws IOException si la synchronisation échoue
+     */
+    public synchronized void sync() throws IOException {
+        if (closed || pendingSync == 0) {
+            return;
+        }
+        channel.force(false);
+        pendingSync = 0;
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (IOException e) {
+            System.err.println("Erreur lors de la synchronisation des utilisateurs : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Réécrit le fichier avec le seul dernier enregistrement de chaque utilisateur, dans un
+     * fichier temporaire synchronisé puis substitué atomiquement à l'original.
+     * <p>
+     * Le fichier temporaire reste ouvert pendant le renommage et devient le fichier du
+     * stockage : l'original n'est fermé qu'une fois le remplacement réussi.
+     * </p>
+     *
+     * @throws IOException si la réécriture échoue (le fichier d'origine reste alors intact et utilisable)
+     */
+    public synchronized void compact() throws IOException {
+        checkOpen();
+        Path temp = file.resolveSibling(file.getFileName() + ".compact");
+        Map<String, Long> compacted = new HashMap<>();
+        long offset = FILE_HEADER_BYTES;
+        FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES).putInt(MAGIC).putInt(FORMAT_VERSION).flip();
+            while (header.hasRemaining()) {
+                out.write(header);
+            }
+            for (Map.Entry<String, Long> entry : index.entrySet()) {
+                ByteBuffer record = readRecord(entry.getValue());
+                compacted.put(entry.getKey(), offset);
+                offset += record.remaining();
+                while (record.hasRemaining()) {
+                    out.write(record);
+                }
+            }
+            out.force(true);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            out.close();
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+
+        FileChannel previous = channel;
+        channel = out;
+        index.clear();
+        index.putAll(compacted);
+        recordCount = compacted.size();
+        endOffset = offset;
+        pendingSync = 0;
+        try {
+            previous.close();
+        } catch (IOException e) {
+            System.err.println("Erreur lors de la fermeture de l'ancien fichier d'utilisateurs : " + e.getMessage());
+        }
+        syncDirectory();
+    }
+
+    /**
+     * Rend le renommage durable en synchronisant le répertoire du fichier (sans effet sur
+     * les systèmes qui n'ouvrent pas les répertoires).
+     */
+    private void syncDirectory() {
+        Path parent = file.getParent();
+        if (parent == null) {
+            return;
+        }
+        try (FileChannel directory = FileChannel.open(parent, StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException e) {
+            System.err.println("Synchronisation du répertoire " + parent + " impossible : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Synchronise les ajouts en attente et ferme le fichier.
+     */
+    @Override
+    public void close() {
+        synchronized (UserStore.class) {
+            OPEN_STORES.remove(file);
+        }
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            syncer.shutdown();
+            try {
+                sync();
+                channel.close();
+            } catch (IOException e) {
+                System.err.println("Erreur lors de la fermeture des utilisateurs : " + e.getMessage());
+            }
+            closed = true;
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Stockage des utilisateurs fermé : " + file);
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Enregistrement tronqué dans " + file);
+            }
+            position += read;
+        }
+    }
+
+    /** Lit un enregistrement complet (en-tête compris), prêt à être recopié. */
+    private ByteBuffer readRecord(long offset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+        readFully(header, offset);
+        int length = header.getInt(0);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + length);
+        readFully(record, offset);
+        return record.flip();
+    }
+
+    private byte[] readPayload(long offset) throws IOException {
+        ByteBuffer record = readRecord(offset);
+        byte[] payload = new byte[record.remaining() - RECORD_HEADER_BYTES];
+        record.position(RECORD_HEADER_BYTES).get(payload);
+        return payload;
+    }
+
+    private static byte[] encode(User user) {
+        if (user.getUsername() == null || user.getUsername().isEmpty()) {
+            throw new IllegalArgumentException("Utilisateur sans nom");
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(KIND_PUT);
+            out.writeUTF(user.getUsername());
+            out.writeUTF(orEmpty(user.getPassword()));
+            out.writeUTF(orEmpty(user.getEmail()));
+            out.writeInt(user.getGamesPlayed());
+            out.writeInt(user.getGamesWon());
+            out.writeInt(user.getHighScore());
+            out.writeUTF(orEmpty(user.getFavoriteCharacter()));
+            out.writeUTF(user.getCreatedAt() != null ? user.getCreatedAt().toString() : "");
+            out.writeUTF(user.getLastLoginAt() != null ? user.getLastLoginAt().toString() : "");
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // Écriture en mémoire : n'arrive pas
+        }
+        return bytes.toByteArray();
+    }
+
+    private static User decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        if (in.readByte() != KIND_PUT) {
+            throw new IOException("Enregistrement d'utilisateur inconnu");
+        }
+        User user = new User();
+        user.setUsername(in.readUTF());
+        user.setPassword(in.readUTF());
+        user.setEmail(in.readUTF());
+        user.setGamesPlayed(in.readInt());
+        user.setGamesWon(in.readInt());
+        user.setHighScore(in.readInt());
+        user.setFavoriteCharacter(in.readUTF());
+        String createdAt = in.readUTF();
+        if (!createdAt.isEmpty()) {
+            user.setCreatedAt(LocalDateTime.parse(createdAt));
+        }
+        String lastLoginAt = in.readUTF();
+        user.setLastLoginAt(lastLoginAt.isEmpty() ? null : LocalDateTime.parse(lastLoginAt));
+        return user;
+    }
+
+    /** Nom d'utilisateur d'un enregistrement valide, null si son type est inconnu. */
+    private static String decodeUsername(byte[] payload, int start, int length) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload, start, length));
+        if (in.readByte() != KIND_PUT) {
+            return null;
+        }
+        return in.readUTF();
+    }
+
+    private static String orEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
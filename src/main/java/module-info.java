@@ -3,6 +3,9 @@ module com.superbomberman {
     requires javafx.controls;
     requires javafx.fxml;
     requires java.desktop;
+    requires jdk.management;
+    requires jdk.jfr;
+    requires jdk.httpserver;
 
     requires org.controlsfx.controls;
     requires org.kordamp.bootstrapfx.core;
@@ -5,6 +5,12 @@ import com.superbomberman.model.powerup.MalusType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -17,6 +23,9 @@ import static org.mockito.Mockito.*;
  * - Tests de gestion des compteurs
  * - Tests des getters existants
  * - Tests des cas d'erreur et limites
+ * - Tests de l'index d'occupation des cases
+ * - Tests des réactions en chaîne (un seul bloc de cases, combos, murs)
+ * - Tests des bombes en ligne télécommandées (compteur du bon joueur)
  *
  * Note: Évite les tests avec Timeline/Animation pour éviter les bugs
  * Couverture : Focus sur la logique métier sans JavaFX, méthodes réelles uniquement
@@ -122,4 +131,209 @@ public class BombManagerTest {
         });
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Index d'occupation mis à jour à la pose")
+    void testOccupancyOnPlacement() {
+        assertNull(bombManager.getBombAt(0, 0));
+        assertFalse(bombManager.hasBombAt(0, 0));
+
+        bombManager.placeBomb(testPlayer, 1);
+
+        Bomb bomb = bombManager.getBombAt(0, 0);
+        assertNotNull(bomb);
+        assertSame(testPlayer, bomb.getOwner());
+        assertTrue(bombManager.hasBombAt(0, 0));
+        assertFalse(bombManager.hasBombAt(1, 0));
+    }
+
+    @Test
+    @DisplayName("Une seule bombe par case")
+    void testNoDoublePlacementOnSameCell() {
+        testPlayer.increaseMaxBombs();
+
+        bombManager.placeBomb(testPlayer, 1);
+        bombManager.placeBomb(testPlayer, 1);
+
+        assertEquals(1, bombManager.getCurrentBombCountPlayer1());
+        assertEquals(1, bombManager.getActiveBombsView().size());
+    }
+
+    @Test
+    @DisplayName("Index d'occupation vidé par clearAllBombs et hors carte")
+    void testOccupancyClearedAndOutOfBounds() {
+        bombManager.placeBomb(testPlayer, 1);
+        bombManager.clearAllBombs();
+
+        assertNull(bombManager.getBombAt(0, 0));
+        assertFalse(bombManager.hasBombAt(0, 0));
+        assertNull(bombManager.getBombAt(-1, 0));
+        assertFalse(bombManager.hasBombAt(5, 5));
+    }
+
+    @Test
+    @DisplayName("La vue des bombes actives est en lecture seule")
+    void testActiveBombsViewIsReadOnly() {
+        assertThrows(UnsupportedOperationException.class,
+                () -> bombManager.getActiveBombsView().add(new Bomb(1, 1, 10, 2)));
+    }
+
+    /** Observateur qui enregistre les blocs de cases soufflées. */
+    private static class BlastRecorder implements GameListener {
+        final List<Set<Integer>> blasts = new ArrayList<>();
+        int cellCount;
+
+        @Override
+        public void onBlast(int[] cells, int count, int width) {
+            Set<Integer> set = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                set.add(cells[i]);
+            }
+            blasts.add(set);
+            cellCount += count;
+        }
+    }
+
+    /** Pose une bombe du joueur de test sur la case donnée. */
+    private void placeAt(int x, int y) {
+        testPlayer.setPosition(x, y);
+        bombManager.placeBomb(testPlayer, 1);
+    }
+
+    private void advance(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            bombManager.updateBombs();
+        }
+    }
+
+    @Test
+    @DisplayName("Réaction en chaîne résolue dans le même tick")
+    void testChainReactionSameTick() {
+        for (int i = 0; i < 4; i++) {
+            testPlayer.increaseMaxBombs();
+        }
+        BlastRecorder recorder = new BlastRecorder();
+        bombManager.setListener(recorder);
+
+        placeAt(0, 0);
+        advance(30);
+        // Chaîne le long de la colonne 0 (portée 1), posées plus tard
+        placeAt(0, 1);
+        placeAt(0, 2);
+        placeAt(0, 3);
+        placeAt(0, 4);
+
+        advance(BombManager.FUSE_TICKS - 30);
+
+        assertTrue(bombManager.getActiveBombs().isEmpty());
+        assertEquals(0, bombManager.getCurrentBombCountPlayer1());
+        assertEquals(1, recorder.blasts.size(), "Une seule notification pour toute la chaîne");
+        // Colonne 0 + (1,0), (1,2), (1,3), (1,4) ; le mur (1,1) arrête le rayon
+        assertEquals(9, recorder.blasts.get(0).size());
+        assertEquals(recorder.cellCount, recorder.blasts.get(0).size(), "Aucune case en double");
+
+        // Les mèches des bombes entraînées sont annulées
+        advance(BombManager.FUSE_TICKS);
+        assertEquals(1, recorder.blasts.size());
+    }
+
+    @Test
+    @DisplayName("Bombe hors de portée non entraînée")
+    void testBombOutOfRangeNotChained() {
+        testPlayer.increaseMaxBombs();
+        placeAt(0, 0);
+        advance(1);
+        placeAt(0, 3);
+
+        advance(BombManager.FUSE_TICKS - 1);
+
+        assertEquals(1, bombManager.getActiveBombs().size());
+        assertTrue(bombManager.hasBombAt(0, 3));
+    }
+
+    @Test
+    @DisplayName("Un seul combo par propriétaire et par chaîne")
+    void testSingleComboPerChain() {
+        ScoreSystem scoreSystem = mock(ScoreSystem.class);
+        GameStateManager gameStateManager = mock(GameStateManager.class);
+        when(gameStateManager.getScoreSystem()).thenReturn(scoreSystem);
+        bombManager.setManagers(null, null, gameStateManager);
+
+        testPlayer.increaseMaxBombs();
+        testPlayer.increaseMaxBombs();
+        placeAt(3, 0);
+        placeAt(3, 1);
+        placeAt(3, 2);
+
+        advance(BombManager.FUSE_TICKS);
+
+        verify(scoreSystem, times(1)).processExplosionCombo(testPlayer);
+    }
+
+    @Test
+    @DisplayName("Un mur détruit arrête tous les rayons de la chaîne")
+    void testDestroyedWallBlocksWholeChain() {
+        testPlayer.increaseMaxBombs();
+        testPlayer.increaseExplosionRange();
+        BlastRecorder recorder = new BlastRecorder();
+        bombManager.setListener(recorder);
+
+        // Deux bombes de portée 2 de part et d'autre du mur destructible (2,2)
+        placeAt(2, 3);
+        placeAt(2, 4);
+        advance(BombManager.FUSE_TICKS);
+
+        Tile[][] tiles = bombManager.getGrid().toTiles();
+        assertEquals(TileType.FLOOR, tiles[2][2].getType());
+        assertTrue(recorder.blasts.get(0).contains(2 * 5 + 2));
+        assertFalse(recorder.blasts.get(0).contains(5 + 2), "Le rayon ne traverse pas le mur détruit");
+    }
+
+    @Test
+    @DisplayName("Plusieurs centaines de bombes en chaîne")
+    void testLargeChain() {
+        int size = 25;
+        BombManager large = new BombManager(new TileGrid(size, size));
+        BlastRecorder recorder = new BlastRecorder();
+        large.setListener(recorder);
+        Player player = new Player("Chaîne");
+        for (int i = 1; i < size * size; i++) {
+            player.increaseMaxBombs();
+        }
+        for (int i = 0; i < size * size; i++) {
+            player.setPosition(i % size, i / size);
+            large.placeBomb(player, 1);
+        }
+        assertEquals(size * size, large.getActiveBombs().size());
+
+        // La première mèche échue entraîne tout le plateau et annule les autres
+        for (int i = 0; i < BombManager.FUSE_TICKS; i++) {
+            large.updateBombs();
+        }
+
+        assertTrue(large.getActiveBombs().isEmpty());
+        assertEquals(0, large.getCurrentBombCountPlayer1());
+        assertEquals(1, recorder.blasts.size());
+        assertEquals(size * size, recorder.cellCount);
+    }
+
+    @Test
+    @DisplayName("Bombes en ligne télécommandées du joueur 2 : son compteur est libéré")
+    void testRemoteLineBombsFreeOwnerCounter() {
+        Player player2 = new Player("Joueur2");
+        player2.setPosition(0, 0);
+        player2.setHasLineBombs(true);
+        player2.setRemoteDetonation(true);
+        player2.increaseMaxBombs();
+        player2.increaseMaxBombs();
+
+        bombManager.placeLineBombs(player2, 2);
+        assertEquals(3, bombManager.getCurrentBombCountPlayer2());
+        assertEquals(0, bombManager.getCurrentBombCountPlayer1());
+
+        bombManager.detonateRemoteBombs(player2, 2);
+
+        assertTrue(bombManager.getActiveBombs().isEmpty());
+        assertEquals(0, bombManager.getCurrentBombCountPlayer2());
+        assertEquals(0, bombManager.getCurrentBombCountPlayer1());
+    }
+}
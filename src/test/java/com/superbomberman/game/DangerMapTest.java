@@ -0,0 +1,142 @@
+package com.superbomberman.game;
+
+import com.superbomberman.model.Player;
+import com.superbomberman.model.TileGrid;
+import com.superbomberman.model.TileType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la carte des dangers (DangerMap)
+ *
+ * Politique de tests implémentée :
+ * - Croix d'une bombe : portée, murs, murs cassables
+ * - Décompte de la mèche au fil des ticks
+ * - Réactions en chaîne anticipées
+ * - Mise à jour à l'explosion et bombes Remote
+ * - Temps de recalcul sur une carte 15x13
+ */
+@DisplayName("Tests de la carte des dangers")
+public class DangerMapTest {
+
+    private TileGrid grid;
+    private BombManager bombManager;
+    private DangerMap danger;
+    private Player bomber;
+
+    @BeforeEach
+    void setUp() {
+        grid = new TileGrid(9, 9);
+        bombManager = new BombManager(grid);
+        danger = bombManager.getDangerMap();
+        bomber = new Player("Poseur");
+    }
+
+    private void placeAt(int x, int y) {
+        bomber.setPosition(x, y);
+        bombManager.placeBomb(bomber, 1);
+    }
+
+    @Test
+    @DisplayName("Croix d'une bombe : portée et arrêt sur les murs")
+    void testCross() {
+        grid.set(5, 4, TileType.WALL);
+        grid.set(4, 3, TileType.WALL_BREAKABLE);
+        bomber.increaseExplosionRange(); // portée 2
+        int range = bomber.getExplosionRange();
+        placeAt(4, 4);
+
+        assertEquals(BombManager.FUSE_TICKS, danger.ticksUntilBlast(4, 4));
+        assertEquals(BombManager.FUSE_TICKS, danger.ticksUntilBlast(4 - range, 4));
+        assertEquals(DangerMap.SAFE, danger.ticksUntilBlast(4 - range - 1, 4));
+        assertEquals(DangerMap.SAFE, danger.ticksUntilBlast(5, 4)); // mur
+        assertEquals(BombManager.FUSE_TICKS, danger.ticksUntilBlast(4, 3)); // mur cassable soufflé
+        assertEquals(DangerMap.SAFE, danger.ticksUntilBlast(4, 2)); // derrière le mur cassable
+        assertEquals(DangerMap.SAFE, danger.ticksUntilBlast(0, 0));
+    }
+
+    @Test
+    @DisplayName("Le décompte suit les ticks, puis la case redevient sûre après l'explosion")
+    void testCountdownAndExplosion() {
+        placeAt(2, 2);
+        for (int i = 0; i < 30; i++) {
+            bombManager.updateBombs();
+        }
+        assertEquals(BombManager.FUSE_TICKS - 30, danger.ticksUntilBlast(2, 2));
+        assertTrue(danger.isLethal(2, 3, 60));
+        assertFalse(danger.isLethal(2, 3, 59));
+
+        for (int i = 30; i < BombManager.FUSE_TICKS; i++) {
+            bombManager.updateBombs();
+        }
+        assertTrue(bombManager.getActiveBombs().isEmpty());
+        assertEquals(DangerMap.SAFE, danger.ticksUntilBlast(2, 2));
+    }
+
+    @Test
+    @DisplayName("Réaction en chaîne : la bombe atteinte explose avec la première")
+    void testChainAdvancesDeadline() {
+        placeAt(1, 1);
+        for (int i = 0; i < 40; i++) {
+            bombManager.updateBombs();
+        }
+        bomber.increaseMaxBombs();
+        placeAt(2, 1); // dans la croix de la première bombe
+
+        int firstRemaining = BombManager.FUSE_TICKS - 40;
+        assertEquals(firstRemaining, danger.ticksUntilBlast(2, 1));
+        assertEquals(firstRemaining, danger.ticksUntilBlast(3, 1)); // croix de la seconde, avancée
+        assertEquals(firstRemaining, danger.ticksUntilBlast(2, 2));
+    }
+
+    @Test
+    @DisplayName("Pose isolée peinte sans recalcul complet")
+    void testIncrementalPlacement() {
+        placeAt(1, 1);
+        danger.ticksUntilBlast(0, 0);
+        long rebuilds = danger.getRebuildCount();
+
+        bomber.increaseMaxBombs();
+        placeAt(6, 6);
+        assertEquals(BombManager.FUSE_TICKS, danger.ticksUntilBlast(6, 7));
+        assertEquals(rebuilds, danger.getRebuildCount());
+    }
+
+    @Test
+    @DisplayName("Bombe Remote considérée comme imminente")
+    void testRemoteBomb() {
+        bomber.setRemoteDetonation(true);
+        placeAt(3, 3);
+        assertEquals(0, danger.ticksUntilBlast(3, 4));
+        assertTrue(danger.isLethal(3, 4, 0));
+    }
+
+    @Test
+    @DisplayName("Recalcul sur 15x13 bien en dessous d'une milliseconde")
+    void testRebuildCost() {
+        TileGrid board = new TileGrid(15, 13);
+        BombManager manager = new BombManager(board);
+        Player player = new Player("Charge");
+        for (int i = 0; i < 7; i++) {
+            player.increaseMaxBombs();
+            player.increaseExplosionRange();
+        }
+        for (int i = 0; i < 8; i++) {
+            player.setPosition(1 + (i * 3) % 13, 1 + (i * 5) % 11);
+            manager.placeBomb(player, 1);
+        }
+        DangerMap map = manager.getDangerMap();
+
+        int rounds = 2_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            map.invalidate();
+            map.ticksUntilBlast(7, 6);
+        }
+        long averageNanos = (System.nanoTime() - start) / rounds;
+        assertTrue(averageNanos < 1_000_000, "Recalcul trop lent : " + averageNanos + " ns");
+    }
+}
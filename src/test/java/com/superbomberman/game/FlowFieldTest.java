@@ -0,0 +1,123 @@
+package com.superbomberman.game;
+
+import com.superbomberman.model.Player;
+import com.superbomberman.model.TileGrid;
+import com.superbomberman.model.TileType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le champ de flux des ennemis (FlowField)
+ *
+ * Politique de tests implémentée :
+ * - Distances BFS multi-sources (joueur le plus proche)
+ * - Contournement des murs, murs cassables et bombes
+ * - Mise à jour locale après destruction d'un mur
+ * - Choix de direction et cas sans joueur atteignable
+ */
+@DisplayName("Tests du champ de flux des ennemis")
+public class FlowFieldTest {
+
+    private TileGrid grid;
+    private FlowField field;
+    private Player player1;
+
+    @BeforeEach
+    void setUp() {
+        // Couloir 7x3 : ligne du milieu libre, bords en murs
+        grid = new TileGrid(7, 3);
+        for (int x = 0; x < 7; x++) {
+            grid.set(x, 0, TileType.WALL);
+            grid.set(x, 1, TileType.FLOOR);
+            grid.set(x, 2, TileType.WALL);
+        }
+        field = new FlowField(7, 3);
+        player1 = new Player("P1");
+        player1.setPosition(0, 1);
+    }
+
+    @Test
+    @DisplayName("Distances en nombre de cases depuis le joueur")
+    void testDistances() {
+        field.update(grid, null, player1);
+
+        for (int x = 0; x < 7; x++) {
+            assertEquals(x, field.distanceAt(x, 1));
+        }
+        assertEquals(FlowField.UNREACHABLE, field.distanceAt(3, 0));
+        assertEquals(FlowField.UNREACHABLE, field.distanceAt(-1, 1));
+        assertEquals(1, field.nextDirection(4, 1, -1)); // vers la gauche
+    }
+
+    @Test
+    @DisplayName("Plusieurs joueurs : distance au plus proche")
+    void testMultipleSources() {
+        Player player2 = new Player("P2");
+        player2.setPosition(6, 1);
+        field.update(grid, null, player1, player2);
+
+        assertEquals(2, field.distanceAt(2, 1));
+        assertEquals(1, field.distanceAt(5, 1));
+        assertEquals(0, field.nextDirection(5, 1, -1)); // vers la droite
+
+        player2.setAlive(false);
+        field.update(grid, null, player1, player2);
+        assertEquals(5, field.distanceAt(5, 1));
+    }
+
+    @Test
+    @DisplayName("Mur cassable : joueur inatteignable, puis mise à jour locale après destruction")
+    void testBreakableWallIncremental() {
+        grid.set(3, 1, TileType.WALL_BREAKABLE);
+        field.update(grid, null, player1);
+        assertEquals(FlowField.UNREACHABLE, field.distanceAt(5, 1));
+        assertEquals(-1, field.nextDirection(5, 1, -1));
+        assertEquals(1, field.getFullRebuilds());
+
+        grid.set(3, 1, TileType.FLOOR);
+        field.update(grid, null, player1);
+        assertEquals(3, field.distanceAt(3, 1));
+        assertEquals(6, field.distanceAt(6, 1));
+        assertEquals(1, field.getFullRebuilds());
+        assertEquals(1, field.getIncrementalUpdates());
+    }
+
+    @Test
+    @DisplayName("Une bombe bloque le passage et force un recalcul complet")
+    void testBombBlocks() {
+        BombManager bombManager = new BombManager(grid);
+        field.update(grid, bombManager, player1);
+        assertEquals(4, field.distanceAt(4, 1));
+
+        Player bomber = new Player("Poseur");
+        bomber.setPosition(2, 1);
+        bombManager.placeBomb(bomber, 2);
+        field.update(grid, bombManager, player1);
+
+        assertEquals(FlowField.UNREACHABLE, field.distanceAt(2, 1));
+        assertEquals(FlowField.UNREACHABLE, field.distanceAt(4, 1));
+        assertEquals(2, field.getFullRebuilds());
+    }
+
+    @Test
+    @DisplayName("Détour autour d'un mur plutôt que la ligne droite")
+    void testDetour() {
+        // Carte 5x5 : mur vertical en x = 2 sauf en bas
+        TileGrid open = new TileGrid(5, 5);
+        for (int y = 0; y < 4; y++) {
+            open.set(2, y, TileType.WALL);
+        }
+        FlowField detour = new FlowField(5, 5);
+        Player target = new Player("Cible");
+        target.setPosition(0, 0);
+        detour.update(open, null, target);
+
+        assertEquals(12, detour.distanceAt(4, 0));
+        int dir = detour.nextDirection(4, 0, -1);
+        assertEquals(11, detour.distanceAt(4 + FlowField.DX[dir], FlowField.DY[dir]));
+        assertEquals(2, detour.nextDirection(4, 0, 2)); // égalité : direction préférée conservée
+    }
+}
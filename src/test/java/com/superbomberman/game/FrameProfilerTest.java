@@ -0,0 +1,138 @@
+package com.superbomberman.game;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe FrameProfiler
+ *
+ * Politique de tests implémentée :
+ * - Un histogramme par phase, frames hors budget comptées
+ * - Images par seconde et pulses perdues à partir d'instants de pulse fixés
+ * - Pause : la reprise ne compte pas de pulses perdues
+ * - Overlay et rapport : une ligne par phase
+ */
+@DisplayName("Tests de la classe FrameProfiler")
+public class FrameProfilerTest {
+
+    private static final long PULSE = 10_000_000L; // 10 ms
+
+    private FrameProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        profiler = new FrameProfiler(PULSE);
+    }
+
+    @Test
+    @DisplayName("Chaque phase a son propre histogramme")
+    void testRecordPerPhase() {
+        profiler.record(FrameProfiler.Phase.BOMBS, 3_000);
+        profiler.record(FrameProfiler.Phase.BOMBS, 5_000);
+        profiler.record(FrameProfiler.Phase.RENDER, 40_000);
+
+        assertEquals(2, profiler.getHistogram(FrameProfiler.Phase.BOMBS).getTotalCount());
+        assertEquals(5_000, profiler.getHistogram(FrameProfiler.Phase.BOMBS).getMaxValue());
+        assertEquals(1, profiler.getHistogram(FrameProfiler.Phase.RENDER).getTotalCount());
+        assertEquals(0, profiler.getHistogram(FrameProfiler.Phase.ACTIONS).getTotalCount());
+    }
+
+    @Test
+    @DisplayName("Lap : durée enregistrée et début de la phase suivante renvoyé")
+    void testLap() {
+        long start = System.nanoTime();
+        long end = profiler.lap(FrameProfiler.Phase.MOVEMENT, start);
+
+        assertTrue(end >= start);
+        assertEquals(1, profiler.getHistogram(FrameProfiler.Phase.MOVEMENT).getTotalCount());
+        assertEquals(end - start, profiler.getHistogram(FrameProfiler.Phase.MOVEMENT).getMaxValue());
+    }
+
+    @Test
+    @DisplayName("Les frames plus longues qu'une pulse sont hors budget")
+    void testOverBudgetFrames() {
+        profiler.record(FrameProfiler.Phase.FRAME, PULSE / 2);
+        profiler.record(FrameProfiler.Phase.FRAME, PULSE + 1);
+        profiler.record(FrameProfiler.Phase.RENDER, 3 * PULSE);
+
+        assertEquals(1, profiler.getOverBudgetFrames());
+    }
+
+    @Test
+    @DisplayName("Images par seconde et pulses perdues")
+    void testPulses() {
+        long now = 0;
+        for (int i = 0; i <= 100; i++) {
+            profiler.onPulse(now);
+            now += PULSE;
+        }
+        assertEquals(100.0, profiler.getFps(), 1.0);
+        assertEquals(0, profiler.getDroppedPulses());
+
+        // Un trou de trois périodes : deux pulses perdues
+        profiler.onPulse(now + 2 * PULSE);
+        assertEquals(2, profiler.getDroppedPulses());
+        assertEquals(102, profiler.getPulses());
+    }
+
+    @Test
+    @DisplayName("Un léger retard de pulse n'est pas une perte")
+    void testJitterIsNotDropped() {
+        profiler.onPulse(0);
+        profiler.onPulse(PULSE * 14 / 10);
+
+        assertEquals(0, profiler.getDroppedPulses());
+    }
+
+    @Test
+    @DisplayName("Pause : la reprise ne compte pas de pulses perdues")
+    void testPauseResetsPulseClock() {
+        profiler.onPulse(0);
+        profiler.resetPulseClock();
+        profiler.onPulse(100 * PULSE);
+
+        assertEquals(0, profiler.getDroppedPulses());
+    }
+
+    @Test
+    @DisplayName("Overlay : une ligne par phase")
+    void testOverlay() {
+        profiler.record(FrameProfiler.Phase.FRAME, 2_500_000);
+
+        String overlay = profiler.formatOverlay();
+
+        assertTrue(overlay.startsWith("FPS"));
+        for (FrameProfiler.Phase phase : FrameProfiler.Phase.values()) {
+            assertTrue(overlay.contains(phase.getLabel()), phase.getLabel());
+        }
+        assertTrue(overlay.contains("2500.0"));
+    }
+
+    @Test
+    @DisplayName("Rapport écrit dans un dossier créé au besoin")
+    void testWriteReport(@TempDir Path dir) throws IOException {
+        profiler.record(FrameProfiler.Phase.ACTIONS, 1_000);
+        Path file = dir.resolve("profiles").resolve("profile.txt");
+
+        profiler.writeReport(file);
+
+        String report = Files.readString(file);
+        assertTrue(report.contains("Profil de la boucle de jeu"));
+        assertTrue(report.contains(FrameProfiler.Phase.ACTIONS.getLabel()));
+        assertTrue(report.contains(FrameProfiler.Phase.FINAL_CHECKS.getLabel()));
+    }
+
+    @Test
+    @DisplayName("Période de pulse invalide refusée")
+    void testInvalidPulse() {
+        assertThrows(IllegalArgumentException.class, () -> new FrameProfiler(0));
+    }
+}
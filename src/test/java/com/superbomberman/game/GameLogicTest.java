@@ -2,13 +2,10 @@ package com.superbomberman.game;
 
 import com.superbomberman.model.*;
 import com.superbomberman.model.powerup.MalusType;
-import javafx.scene.input.KeyCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * Tests unitaires pour GameLogic (parties testables sans GUI)
@@ -153,13 +150,10 @@ class GameLogicTest {
     @Test
     @DisplayName("Calcul de direction de mouvement")
     void testMovementDirectionCalculation() {
-        Set<KeyCode> keys = new HashSet<>();
-        keys.add(KeyCode.UP);
-
         // Test conceptuel - la direction est calculée dans handlePlayerMovement
         // Ici on teste que l'appel ne crash pas
         assertDoesNotThrow(() -> {
-            gameLogic.handlePlayerMovement(testPlayer, 1, System.nanoTime(), keys, null);
+            gameLogic.handlePlayerMovement(testPlayer, 1, System.nanoTime(), PlayerInput.UP);
         });
     }
 
@@ -181,7 +175,7 @@ class GameLogicTest {
         // Ces tests vérifient que les appels ne crashent pas
 
         assertDoesNotThrow(() -> {
-            gameLogic.handlePlayerMovement(testPlayer, 1, currentTime, new HashSet<>(), null);
+            gameLogic.handlePlayerMovement(testPlayer, 1, currentTime, PlayerInput.NONE);
         });
 
         // Augmenter la vitesse
@@ -189,7 +183,7 @@ class GameLogicTest {
         testPlayer.increaseSpeed();
 
         assertDoesNotThrow(() -> {
-            gameLogic.handlePlayerMovement(testPlayer, 1, currentTime + 1000000000L, new HashSet<>(), null);
+            gameLogic.handlePlayerMovement(testPlayer, 1, currentTime + 1000000000L, PlayerInput.NONE);
         });
     }
 
@@ -224,10 +218,10 @@ class GameLogicTest {
     void testInvalidMovementTimes() {
         assertDoesNotThrow(() -> {
             // Temps négatif
-            gameLogic.handlePlayerMovement(testPlayer, 1, -1L, new HashSet<>(), null);
+            gameLogic.handlePlayerMovement(testPlayer, 1, -1L, PlayerInput.NONE);
 
             // Temps très grand
-            gameLogic.handlePlayerMovement(testPlayer, 1, Long.MAX_VALUE, new HashSet<>(), null);
+            gameLogic.handlePlayerMovement(testPlayer, 1, Long.MAX_VALUE, PlayerInput.NONE);
         });
     }
 
@@ -0,0 +1,186 @@
+package com.superbomberman.game;
+
+import com.superbomberman.model.Bomb;
+import com.superbomberman.model.TileType;
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test de pression mémoire de la boucle de jeu
+ *
+ * Politique de tests implémentée :
+ * - Même enchaînement que la boucle du GameViewController : événements clavier,
+ *   relevé des masques par {@link InputHandler#pollInputMask(int)}, tick de la simulation
+ * - Trois joueurs posent, ramassent, lancent et poussent des bombes sans jamais mourir
+ * - Un mur destructible est remis dans le couloir du joueur 1 à chaque cycle : sa
+ *   destruction programme l'apparition différée d'un power-up (tirage sans drop, pour
+ *   ne pas changer les capacités du joueur)
+ * - Après échauffement, 100 000 ticks n'allouent rien (ThreadMXBean du thread courant) : seuls
+ *   quelques octets du compilateur à la volée sont tolérés, bien moins qu'un objet par explosion
+ */
+@DisplayName("Tests d'allocation de la boucle de jeu")
+class GameLoopAllocationTest {
+
+    /** Un couloir fermé par joueur : personne ne peut atteindre les autres. */
+    private static final List<String> MAP = List.of(
+            "#########",
+            "#1      #",
+            "#########",
+            "#2      #",
+            "#########",
+            "#3      #",
+            "#########");
+    private static final int PLAYERS = 3;
+    private static final int CYCLE_TICKS = 240;
+    /** Ticks à laisser passer avant le premier déplacement possible. */
+    private static final int START_TICKS = 12;
+    private static final int WARMUP_TICKS = 20_000;
+    private static final int MEASURED_TICKS = 100_000;
+    /**
+     * Octets tolérés sur la mesure : la JVM en attribue parfois quelques centaines au thread
+     * lors d'une recompilation (jamais en interprété). Un seul objet de 16 octets par
+     * explosion en coûterait près de 20 000.
+     */
+    private static final long JIT_NOISE_BYTES = 8 * 1024;
+    /** Tick du cycle où le mur est remis, joueur 1 déjà plus loin et bombe pas encore explosée. */
+    private static final int WALL_TICK = 60;
+
+    /** Touches par joueur : gauche, droite, bombe, glove. */
+    private static final KeyCode[][] KEYS = {
+            {KeyCode.LEFT, KeyCode.RIGHT, KeyCode.SPACE, KeyCode.SHIFT},
+            {KeyCode.Q, KeyCode.D, KeyCode.ENTER, KeyCode.CONTROL},
+            {KeyCode.NUMPAD4, KeyCode.NUMPAD6, KeyCode.NUMPAD0, KeyCode.NUMPAD7}};
+
+    /** Compte les événements sans rien allouer. */
+    private static final class Counter implements GameListener {
+        int blasts;
+        int bombMoves;
+        int tileChanges;
+
+        @Override
+        public void onBlast(int[] cells, int count, int width) {
+            blasts++;
+        }
+
+        @Override
+        public void onBombMoved(Bomb bomb) {
+            bombMoves++;
+        }
+
+        @Override
+        public void onTileChanged(int x, int y) {
+            tileChanges++;
+        }
+    }
+
+    private GameSimulation simulation;
+    private InputHandler inputHandler;
+    private final Counter counter = new Counter();
+    private final int[] inputs = new int[PlayerSlots.MAX_PLAYERS];
+    private final boolean[][] down = new boolean[PLAYERS][4];
+
+    @BeforeEach
+    void setUp() {
+        MatchSession session = TestMatches.newSession(MAP, false, TestMatches.SEED);
+        session.getPlayers().get(2).getPlayer().setCanKickBombs(true);
+        session.getPlayers().get(3).getPlayer().setCanThrowBombs(true);
+        simulation = TestMatches.newSimulation(session);
+        simulation.setListener(counter);
+        // Aucun drop : un power-up ramassé changerait le parcours des joueurs
+        simulation.getPowerUpManager().setRandom(() -> -1L);
+        inputHandler = new InputHandler();
+        for (int i = 0; i < START_TICKS; i++) {
+            simulation.step(inputs);
+        }
+    }
+
+    /**
+     * Touches du joueur au tick donné de son cycle (un pas toutes les 12 ticks). Le
+     * joueur 1 pose puis s'éloigne ; le joueur 2 pose un pas plus loin, recule et pousse
+     * sa bombe vers le fond du couloir ; le joueur 3 pose, ramasse, relance sur place
+     * puis s'éloigne. Tous reviennent au bout du couloir une fois la bombe explosée.
+     */
+    private static boolean isDown(int player, int key, int t) {
+        boolean left = t >= 120;
+        switch (player) {
+            case 0 -> {
+                return key == 0 ? left : key == 1 ? t > 0 && t < 120 : key == 2 && t == 0;
+            }
+            case 1 -> {
+                if (key == 0) {
+                    return left || (t >= 12 && t <= 17);
+                }
+                return key == 1 ? t <= 5 || (t >= 30 && t <= 35) : key == 2 && t == 8;
+            }
+            default -> {
+                return key == 0 ? left : key == 1 ? t > 5 && t < 120 : key == 2 ? t == 0 : key == 3 && (t == 2 || t == 4);
+            }
+        }
+    }
+
+    /** Un passage de la boucle de jeu : événements clavier, relevé des entrées, tick. */
+    private void frame() {
+        int t = (int) ((simulation.getTick() - START_TICKS) % CYCLE_TICKS);
+        if (t == WALL_TICK) {
+            // Mur à côté de la bombe du joueur 1 : détruit par son explosion
+            simulation.getMap().set(2, 1, TileType.WALL_BREAKABLE);
+        }
+        for (int player = 0; player < PLAYERS; player++) {
+            for (int key = 0; key < 4; key++) {
+                boolean pressed = isDown(player, key, t);
+                if (pressed != down[player][key]) {
+                    down[player][key] = pressed;
+                    if (pressed) {
+                        inputHandler.keyPressed(KEYS[player][key]);
+                    } else {
+                        inputHandler.keyReleased(KEYS[player][key]);
+                    }
+                }
+            }
+        }
+        for (int player = 0; player < PLAYERS; player++) {
+            inputs[player] = inputHandler.pollInputMask(player + 1);
+        }
+        simulation.step(inputs);
+    }
+
+    @Test
+    @DisplayName("100 000 ticks de jeu avec bombes n'allouent rien")
+    void testSteadyStateAllocatesNothing() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            frame();
+        }
+        int blasts = counter.blasts;
+        int bombMoves = counter.bombMoves;
+        int tileChanges = counter.tileChanges;
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            frame();
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        PlayerSlots slots = simulation.getPlayerSlots();
+        for (int i = 0; i < slots.activeCount(); i++) {
+            assertTrue(slots.active(i).getPlayer().isAlive(), "joueur " + slots.active(i).getNumber() + " en vie");
+        }
+        int cycles = MEASURED_TICKS / CYCLE_TICKS;
+        assertTrue(counter.blasts - blasts >= cycles * PLAYERS, "une explosion par joueur et par cycle");
+        assertTrue(counter.bombMoves - bombMoves >= cycles, "une bombe poussée par cycle");
+        assertTrue(counter.tileChanges - tileChanges >= cycles, "un mur détruit par cycle");
+        assertTrue(allocated <= JIT_NOISE_BYTES, allocated + " octets alloués pendant " + MEASURED_TICKS + " ticks");
+    }
+}
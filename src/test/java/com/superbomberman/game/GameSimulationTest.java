@@ -0,0 +1,268 @@
+package com.superbomberman.game;
+
+import com.superbomberman.controller.MenuController;
+import com.superbomberman.model.*;
+import com.superbomberman.model.powerup.PowerUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe GameSimulation
+ *
+ * Politique de tests implémentée :
+ * - Simulation complète sans JavaFX (pas de Platform, pas de Timeline)
+ * - Avancement tick par tick avec des masques PlayerInput
+ * - Vérification du déroulement d'une bombe : pose, mèche, explosion, destruction de mur
+ * - Reproductibilité des tirages aléatoires à graine identique
+ * - Horde d'ennemis : minuteries échelonnées par ennemi
+ * - Huit joueurs : entrées et compteurs de bombes par place, dernier survivant
+ * - Profileur : une mesure par phase et par tick, temps de jeu inchangé
+ */
+@DisplayName("Tests de la classe GameSimulation")
+public class GameSimulationTest {
+
+    private TileGrid testMap;
+    private Player testPlayer;
+    private GameSimulation simulation;
+
+    @BeforeEach
+    void setUp() {
+        // Carte 5x5 : bordure de murs, un mur destructible à droite du joueur
+        testMap = new TileGrid(5, 5);
+        for (int y = 0; y < 5; y++) {
+            for (int x = 0; x < 5; x++) {
+                if (x == 0 || y == 0 || x == 4 || y == 4) {
+                    testMap.set(x, y, TileType.WALL);
+                }
+            }
+        }
+        testMap.set(2, 1, TileType.WALL_BREAKABLE);
+
+        testPlayer = new Player("TestPlayer");
+        testPlayer.setPosition(1, 1);
+        MapLoader.player1 = testPlayer;
+        MapLoader.player2 = null;
+        MapLoader.clearEnemies();
+        MenuController.isOnePlayer = true;
+
+        simulation = new GameSimulation(testMap, new GameStateManager(null, null));
+        simulation.runHeadless();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MapLoader.clearEnemies();
+        MapLoader.clearExtraPlayers();
+        MapLoader.player1 = null;
+        MapLoader.player2 = null;
+        MenuController.isOnePlayer = false;
+    }
+
+    /** Avance la simulation de n ticks avec la même entrée. */
+    private void run(int ticks, int input) {
+        int[] inputs = {input, PlayerInput.NONE};
+        for (int i = 0; i < ticks; i++) {
+            simulation.step(inputs);
+        }
+    }
+
+    @Test
+    @DisplayName("Le temps simulé dérive uniquement du numéro de tick")
+    void testTickTime() {
+        run(GameSimulation.TICKS_PER_SECOND, PlayerInput.NONE);
+
+        assertEquals(60, simulation.getTick());
+        assertEquals(60 * GameSimulation.NANOS_PER_TICK, simulation.getTimeNanos());
+        assertFalse(simulation.isFinished());
+    }
+
+    @Test
+    @DisplayName("Le profileur reçoit une mesure par phase et par tick")
+    void testProfiledPhases() {
+        FrameProfiler profiler = new FrameProfiler();
+        simulation.setProfiler(profiler);
+        run(10, PlayerInput.NONE);
+        simulation.setProfiler(null);
+        run(5, PlayerInput.NONE);
+
+        FrameProfiler.Phase[] tickPhases = {FrameProfiler.Phase.ACTIONS, FrameProfiler.Phase.MOVEMENT,
+                FrameProfiler.Phase.BOMBS, FrameProfiler.Phase.AUTO_BOMB, FrameProfiler.Phase.FINAL_CHECKS};
+        for (FrameProfiler.Phase phase : tickPhases) {
+            assertEquals(10, profiler.getHistogram(phase).getTotalCount(), phase.name());
+        }
+        assertEquals(0, profiler.getHistogram(FrameProfiler.Phase.RENDER).getTotalCount());
+        assertEquals(15 * GameSimulation.NANOS_PER_TICK, simulation.getTimeNanos());
+    }
+
+    @Test
+    @DisplayName("Une bombe posée explose après sa mèche et détruit le mur")
+    void testBombLifecycle() {
+        run(1, PlayerInput.BOMB);
+        assertEquals(1, simulation.getBombManager().getActiveBombs().size());
+
+        // Maintenir BOMB ne repose pas de bombe (front montant uniquement)
+        run(5, PlayerInput.BOMB);
+        assertEquals(1, simulation.getBombManager().getActiveBombs().size());
+
+        // S'éloigner hors de portée
+        run(40, PlayerInput.DOWN);
+        assertEquals(1, testPlayer.getX());
+        assertEquals(3, testPlayer.getY());
+        assertEquals(1, simulation.getBombManager().getActiveBombs().size());
+
+        run(BombManager.FUSE_TICKS, PlayerInput.NONE);
+
+        assertTrue(simulation.getBombManager().getActiveBombs().isEmpty());
+        assertEquals(TileType.FLOOR, testMap.get(2, 1));
+        assertTrue(testPlayer.isAlive());
+        assertFalse(simulation.isFinished());
+    }
+
+    @Test
+    @DisplayName("Un joueur pris dans l'explosion termine la partie")
+    void testPlayerKilledEndsGame() {
+        run(1, PlayerInput.BOMB);
+        run(BombManager.FUSE_TICKS + 1, PlayerInput.NONE);
+
+        assertFalse(testPlayer.isAlive());
+        assertTrue(simulation.isFinished());
+
+        long tick = simulation.getTick();
+        run(10, PlayerInput.NONE);
+        assertEquals(tick, simulation.getTick());
+    }
+
+    /** Tire une série de drops de power-ups et de malus dans une simulation. */
+    private List<String> drawSequence(GameSimulation sim) {
+        List<String> draws = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            PowerUp powerUp = sim.getPowerUpManager().generateRandomPowerUp(i % 5, i / 5);
+            draws.add(powerUp == null ? "-" : powerUp.getType().name());
+        }
+        for (int i = 0; i < 20; i++) {
+            testPlayer.applyRandomMalus();
+            draws.add(testPlayer.getCurrentMalus().name());
+        }
+        return draws;
+    }
+
+    @Test
+    @DisplayName("Même graine : mêmes drops et mêmes malus")
+    void testSeededDeterminism() {
+        GameSimulation first = new GameSimulation(testMap, new GameStateManager(null, null), 42L);
+        List<String> firstDraws = drawSequence(first);
+        GameSimulation second = new GameSimulation(testMap, new GameStateManager(null, null), 42L);
+        List<String> secondDraws = drawSequence(second);
+
+        assertEquals(42L, first.getSeed());
+        assertEquals(firstDraws, secondDraws);
+        assertTrue(firstDraws.stream().anyMatch(draw -> !draw.equals("-")), "Au moins un power-up tiré");
+    }
+
+    @Test
+    @DisplayName("Horde de 300 ennemis : déplacements échelonnés, un par ennemi et par intervalle")
+    void testEnemyHorde() {
+        TileGrid arena = new TileGrid(32, 12);
+        for (int y = 0; y < 12; y++) {
+            for (int x = 0; x < 32; x++) {
+                if (x == 0 || y == 0 || x == 31 || y == 11) {
+                    arena.set(x, y, TileType.WALL);
+                }
+            }
+        }
+        // Joueur isolé dans un coin : les ennemis patrouillent sans l'atteindre
+        arena.set(2, 1, TileType.WALL);
+        arena.set(1, 2, TileType.WALL);
+        testPlayer.setPosition(1, 1);
+        for (int i = 0; i < 300; i++) {
+            Enemy enemy = new Enemy();
+            enemy.setPosition(3 + i % 28, 3 + (i / 28) % 8);
+            MapLoader.enemies.add(enemy);
+        }
+
+        GameSimulation horde = new GameSimulation(arena, new GameStateManager(null, null), 7L);
+        horde.runHeadless();
+        int[] movesThisTick = new int[1];
+        List<Enemy> moved = new ArrayList<>();
+        horde.setListener(new GameListener() {
+            @Override
+            public void onEnemyMoved(Enemy enemy) {
+                movesThisTick[0]++;
+                moved.add(enemy);
+            }
+        });
+
+        int[] inputs = {PlayerInput.NONE, PlayerInput.NONE};
+        int maxPerTick = 0;
+        for (int tick = 1; tick < 2 * GameSimulation.TICKS_PER_SECOND - 1; tick++) {
+            movesThisTick[0] = 0;
+            horde.step(inputs);
+            if (tick < 30) {
+                assertEquals(0, movesThisTick[0], "Aucun ennemi ne bouge avant 500 ms");
+            }
+            maxPerTick = Math.max(maxPerTick, movesThisTick[0]);
+            if (tick == 59) {
+                assertEquals(moved.size(), new HashSet<>(moved).size(), "Un déplacement par ennemi");
+            }
+        }
+
+        assertTrue(maxPerTick <= 300 / 30 + 1, "Déplacements échelonnés : " + maxPerTick + " au plus par tick");
+        assertTrue(moved.size() > 150, "La plupart des ennemis ont bougé : " + moved.size());
+        assertEquals(300, MapLoader.enemies.getAliveCount());
+        assertTrue(testPlayer.isAlive());
+    }
+
+    @Test
+    @DisplayName("Huit joueurs : une place par joueur, victoire du dernier survivant")
+    void testEightPlayers() {
+        TileGrid arena = new TileGrid(19, 5);
+        for (int y = 0; y < 5; y++) {
+            for (int x = 0; x < 19; x++) {
+                if (x == 0 || y == 0 || x == 18 || y == 4) {
+                    arena.set(x, y, TileType.WALL);
+                }
+            }
+        }
+        Player[] players = new Player[PlayerSlots.MAX_PLAYERS];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = new Player("Joueur " + (i + 1));
+            players[i].setPosition(1 + 2 * i, 1);
+            MapLoader.setPlayer(i + 1, players[i]);
+        }
+        MenuController.isOnePlayer = false;
+
+        GameStateManager gameStateManager = new GameStateManager(null, null);
+        GameSimulation match = new GameSimulation(arena, gameStateManager, 3L);
+        match.runHeadless();
+        assertEquals(8, match.getPlayerSlots().activeCount());
+
+        int[] inputs = new int[PlayerSlots.MAX_PLAYERS];
+        Arrays.fill(inputs, PlayerInput.DOWN);
+        inputs[7] |= PlayerInput.BOMB;
+        for (int i = 0; i < 15; i++) {
+            match.step(inputs);
+        }
+
+        for (int i = 0; i < players.length; i++) {
+            assertEquals(2, players[i].getY(), "Joueur " + (i + 1) + " déplacé");
+            assertEquals(i == 7 ? 1 : 0, match.getBombManager().getCurrentBombCount(i + 1));
+        }
+
+        for (int i = 1; i < players.length; i++) {
+            match.getGameLogic().handleExplosionAt(players[i].getX(), players[i].getY());
+            assertEquals(i == 7, gameStateManager.isGameEnded(), "Fin de partie au dernier survivant");
+        }
+        assertTrue(match.getGameLogic().isPlayerDead(8));
+        assertSame(players[0], match.getGameLogic().getWinner());
+        assertTrue(gameStateManager.isGameWon());
+    }
+}
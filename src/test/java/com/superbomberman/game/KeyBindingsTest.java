@@ -0,0 +1,58 @@
+package com.superbomberman.game;
+
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour l'affectation des touches (KeyBindings)
+ *
+ * Politique de tests implémentée :
+ * - Touches par défaut des joueurs 1 et 2 inchangées
+ * - Réaffectation et retrait d'une touche
+ * - Places sans touche (IA, joueurs distants) et numéros invalides
+ */
+@DisplayName("Tests de l'affectation des touches")
+public class KeyBindingsTest {
+
+    @Test
+    @DisplayName("Touches par défaut des joueurs 1 et 2")
+    void testDefaults() {
+        KeyBindings bindings = KeyBindings.defaults();
+
+        assertEquals(PlayerInput.UP | PlayerInput.BOMB,
+                bindings.toInputMask(Set.of(KeyCode.UP, KeyCode.SPACE), 1));
+        assertEquals(PlayerInput.NONE, bindings.toInputMask(Set.of(KeyCode.Z, KeyCode.ENTER), 1));
+        assertEquals(PlayerInput.LEFT | PlayerInput.REMOTE,
+                bindings.toInputMask(Set.of(KeyCode.Q, KeyCode.O), 2));
+        assertEquals(PlayerInput.GLOVE, bindings.toInputMask(Set.of(KeyCode.CONTROL, KeyCode.SHIFT), 2));
+        assertEquals(PlayerInput.DOWN, bindings.toInputMask(Set.of(KeyCode.NUMPAD5), 3));
+        assertEquals(PlayerInput.LINE_BOMB, InputHandler.toInputMask(Set.of(KeyCode.L), 1));
+    }
+
+    @Test
+    @DisplayName("Réaffectation d'une touche")
+    void testRebind() {
+        KeyBindings bindings = KeyBindings.defaults();
+        bindings.unbind(1, KeyCode.SPACE);
+        bindings.bind(1, KeyCode.B, PlayerInput.BOMB);
+
+        assertEquals(PlayerInput.NONE, bindings.toInputMask(Set.of(KeyCode.SPACE), 1));
+        assertEquals(PlayerInput.BOMB, bindings.inputOf(1, KeyCode.B));
+        assertEquals(PlayerInput.NONE, bindings.inputOf(2, KeyCode.B));
+    }
+
+    @Test
+    @DisplayName("Place sans touche et numéro invalide")
+    void testUnboundSlots() {
+        KeyBindings bindings = KeyBindings.defaults();
+        assertEquals(PlayerInput.NONE, bindings.toInputMask(Set.of(KeyCode.UP, KeyCode.Z, KeyCode.NUMPAD8), 8));
+        assertEquals(PlayerInput.NONE, bindings.toInputMask(Set.of(), 1));
+        assertThrows(IllegalArgumentException.class, () -> bindings.toInputMask(Set.of(KeyCode.UP), 9));
+        assertThrows(IllegalArgumentException.class, () -> bindings.bind(0, KeyCode.UP, PlayerInput.UP));
+    }
+}
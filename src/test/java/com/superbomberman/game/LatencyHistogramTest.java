@@ -0,0 +1,110 @@
+package com.superbomberman.game;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe LatencyHistogram
+ *
+ * Politique de tests implémentée :
+ * - Valeurs exactes dans la zone linéaire
+ * - Percentiles à moins de 1/32 d'erreur relative sur plusieurs ordres de grandeur
+ * - Maximum exact, y compris au-delà de la dernière case
+ * - Remise à zéro et bornes des percentiles
+ */
+@DisplayName("Tests de la classe LatencyHistogram")
+public class LatencyHistogramTest {
+
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    @DisplayName("Histogramme vide : percentiles, maximum et moyenne à zéro")
+    void testEmpty() {
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getValueAtPercentile(99.0));
+        assertEquals(0, histogram.getMaxValue());
+        assertEquals(0.0, histogram.getMean());
+    }
+
+    @Test
+    @DisplayName("Petites valeurs enregistrées exactement")
+    void testLinearRange() {
+        for (int value = 1; value <= 50; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(50, histogram.getTotalCount());
+        assertEquals(25, histogram.getValueAtPercentile(50.0));
+        assertEquals(50, histogram.getValueAtPercentile(100.0));
+        assertEquals(1, histogram.getValueAtPercentile(0.0));
+        assertEquals(25.5, histogram.getMean(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Percentiles à moins de 1/32 près de la microseconde à la seconde")
+    void testPercentilePrecision() {
+        // 1 000 valeurs régulièrement réparties de 1 µs à 1 ms, puis une pointe d'une seconde
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000L);
+        }
+        histogram.record(1_000_000_000L);
+
+        assertRelative(500_000L, histogram.getValueAtPercentile(50.0));
+        assertRelative(990_000L, histogram.getValueAtPercentile(99.0));
+        assertRelative(100_000L, histogram.getValueAtPercentile(10.0));
+        assertEquals(1_000_000_000L, histogram.getMaxValue());
+        assertEquals(1_000_000_000L, histogram.getValueAtPercentile(100.0));
+    }
+
+    @Test
+    @DisplayName("Un percentile ne dépasse jamais le maximum enregistré")
+    void testPercentileCappedByMax() {
+        histogram.record(1_000_001L);
+
+        assertEquals(1_000_001L, histogram.getValueAtPercentile(50.0));
+    }
+
+    @Test
+    @DisplayName("Valeurs hors bornes : négatives à zéro, très grandes dans la dernière case")
+    void testOutOfRange() {
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(2, histogram.getTotalCount());
+        assertEquals(0, histogram.getValueAtPercentile(50.0));
+        assertEquals(Long.MAX_VALUE, histogram.getMaxValue());
+        assertEquals(LatencyHistogram.MAX_VALUE, histogram.getValueAtPercentile(100.0));
+    }
+
+    @Test
+    @DisplayName("Remise à zéro")
+    void testReset() {
+        histogram.record(42_000);
+        histogram.reset();
+
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getMaxValue());
+        histogram.record(7);
+        assertEquals(7, histogram.getValueAtPercentile(50.0));
+    }
+
+    @Test
+    @DisplayName("Percentile hors de [0, 100] refusé")
+    void testInvalidPercentile() {
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(100.5));
+    }
+
+    private static void assertRelative(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 32,
+                "attendu ~" + expected + ", obtenu " + actual);
+    }
+}
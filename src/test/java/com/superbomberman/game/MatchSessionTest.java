@@ -0,0 +1,176 @@
+package com.superbomberman.game;
+
+import com.superbomberman.controller.MenuController;
+import com.superbomberman.model.MapLoader;
+import com.superbomberman.model.Player;
+import com.superbomberman.model.TileGrid;
+import com.superbomberman.model.TileType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe MatchSession
+ *
+ * Politique de tests implémentée :
+ * - Création d'une partie à partir des lignes d'une carte, sans toucher à MapLoader
+ * - Gestionnaires de la session câblés sur la même carte, les mêmes entités et le même aléa
+ * - Réglages solo / multijoueur (ennemis et joueurs retenus)
+ * - Isolation : des centaines de parties en parallèle donnent le même résultat qu'en séquentiel
+ */
+@DisplayName("Tests de la classe MatchSession")
+public class MatchSessionTest {
+
+    private static final int MATCHES = 200;
+    private static final int TICKS = 600;
+
+    @BeforeEach
+    void setUp() {
+        MapLoader.player1 = null;
+        MapLoader.player2 = null;
+        MapLoader.clearEnemies();
+        MapLoader.clearExtraPlayers();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MenuController.isOnePlayer = false;
+    }
+
+    /**
+     * Joue une partie multijoueur scriptée (entrées dérivées de la graine) et résume son état final.
+     */
+    private static String play(long seed) {
+        GameSimulation simulation = TestMatches.newSimulation(TestMatches.newSession(TestMatches.FOUR_PLAYERS, false, seed));
+        int[] inputs = new int[PlayerSlots.MAX_PLAYERS];
+        int[] moves = {PlayerInput.RIGHT, PlayerInput.DOWN, PlayerInput.LEFT, PlayerInput.UP};
+        for (int tick = 0; tick < TICKS && !simulation.isFinished(); tick++) {
+            for (int p = 0; p < 4; p++) {
+                int phase = (int) ((tick / 30 + p + seed) % 4);
+                inputs[p] = moves[phase] | (tick % 45 == p ? PlayerInput.BOMB : PlayerInput.NONE);
+            }
+            simulation.step(inputs);
+        }
+        return summarize(simulation);
+    }
+
+    private static String summarize(GameSimulation simulation) {
+        StringBuilder state = new StringBuilder();
+        state.append(simulation.getTick()).append(simulation.isFinished() ? 'F' : '-');
+        PlayerSlots slots = simulation.getPlayerSlots();
+        for (int i = 0; i < slots.activeCount(); i++) {
+            Player player = slots.active(i).getPlayer();
+            state.append('|').append(player.getX()).append(',').append(player.getY())
+                    .append(player.isAlive() ? 'A' : 'D')
+                    .append(simulation.getGameStateManager().getScoreSystem().getPlayerScore(player));
+        }
+        TileGrid map = simulation.getMap();
+        state.append('|');
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int x = 0; x < map.getWidth(); x++) {
+                state.append(map.get(x, y).ordinal());
+            }
+        }
+        return state.toString();
+    }
+
+    @Test
+    @DisplayName("Une session créée depuis des lignes ne modifie pas MapLoader")
+    void testCreateLeavesGlobalsUntouched() {
+        MatchSession session = TestMatches.newSession(TestMatches.FOUR_PLAYERS, false, 1L);
+
+        assertNull(MapLoader.player1);
+        assertNull(MapLoader.player2);
+        assertNull(MapLoader.getPlayer(3));
+        assertTrue(MapLoader.enemies.isEmpty());
+        assertEquals(4, session.getPlayers().activeCount());
+        assertEquals(9, session.getMap().getWidth());
+        assertTrue(session.getMap().is(3, 1, TileType.WALL_BREAKABLE));
+    }
+
+    @Test
+    @DisplayName("Les gestionnaires partagent la carte, les entités et l'aléa de la session")
+    void testManagersWiredToSession() {
+        MatchSession session = TestMatches.newSession(TestMatches.FOUR_PLAYERS, true, 42L);
+
+        assertSame(session, session.getBombManager().getSession());
+        assertSame(session, session.getGameLogic().getSession());
+        assertSame(session.getPlayers(), session.getGameLogic().getPlayerSlots());
+        assertSame(session.getGameStateManager().getScoreSystem(), session.getScoreSystem());
+        assertEquals(42L, session.getSeed());
+
+        GameSimulation simulation = new GameSimulation(session);
+        assertSame(session, simulation.getSession());
+        assertSame(session.getRandom(), simulation.getRandom());
+        assertSame(session.getMap(), simulation.getMap());
+    }
+
+    @Test
+    @DisplayName("Solo : seul le joueur 1 joue, contre les ennemis de la carte")
+    void testOnePlayerSettings() {
+        MatchSession session = TestMatches.newSession(TestMatches.FOUR_PLAYERS, true, 7L);
+
+        assertTrue(session.isOnePlayer());
+        assertEquals(1, session.getPlayers().activeCount());
+        assertEquals(1, session.getEnemies().size());
+    }
+
+    @Test
+    @DisplayName("Multijoueur : tous les joueurs de la carte, aucun ennemi")
+    void testMultiplayerSettings() {
+        MatchSession session = TestMatches.newSession(TestMatches.FOUR_PLAYERS, false, 7L);
+
+        assertFalse(session.isOnePlayer());
+        assertEquals(4, session.getPlayers().activeCount());
+        assertTrue(session.getEnemies().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deux sessions ne partagent ni joueurs ni carte")
+    void testSessionsAreIndependent() {
+        MatchSession first = TestMatches.newSession(TestMatches.FOUR_PLAYERS, false, 3L);
+        MatchSession second = TestMatches.newSession(TestMatches.FOUR_PLAYERS, false, 3L);
+
+        assertNotSame(first.getMap(), second.getMap());
+        for (int number = 1; number <= 4; number++) {
+            assertNotSame(first.getPlayers().get(number).getPlayer(), second.getPlayers().get(number).getPlayer());
+        }
+
+        first.getMap().set(3, 1, TileType.FLOOR);
+        first.getPlayers().get(1).getPlayer().setAlive(false);
+        assertTrue(second.getMap().is(3, 1, TileType.WALL_BREAKABLE));
+        assertTrue(second.getPlayers().get(1).getPlayer().isAlive());
+    }
+
+    @Test
+    @DisplayName("Des centaines de parties en parallèle se déroulent comme en séquentiel")
+    void testConcurrentMatchesMatchSequentialRuns() throws Exception {
+        String[] expected = new String[MATCHES];
+        for (int i = 0; i < MATCHES; i++) {
+            expected[i] = play(i % 10);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < MATCHES; i++) {
+                long seed = i % 10;
+                results.add(pool.submit(() -> play(seed)));
+            }
+            for (int i = 0; i < MATCHES; i++) {
+                assertEquals(expected[i], results.get(i).get(), "Partie " + i);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.superbomberman.game;
+
+import com.superbomberman.model.Player;
+import com.superbomberman.model.powerup.PowerUp;
+import com.superbomberman.model.powerup.PowerUpFactory;
+import com.superbomberman.model.powerup.PowerUpType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour l'index par case de PowerUpManager
+ *
+ * Politique de tests implémentée :
+ * - Recherche par case cohérente avec la liste après ajouts, collectes et suppressions
+ * - Cases partagées : le premier power-up posé reste celui de la case
+ * - Restauration d'un instantané : index reconstruit
+ * - Gestionnaire sans carte : index agrandi au fil des power-ups posés
+ * - Vue en lecture seule, à jour sans copie
+ * - Retrait en temps constant : le dernier power-up prend la place du retiré
+ */
+@DisplayName("Tests de l'index des power-ups")
+class PowerUpManagerTest {
+
+    private static final List<String> MAP = List.of(
+            "#######",
+            "#1   2#",
+            "# # # #",
+            "#     #",
+            "#######");
+
+    private PowerUpManager powerUpManager;
+
+    @BeforeEach
+    void setUp() {
+        powerUpManager = TestMatches.newSession(MAP, false, TestMatches.SEED).getPowerUpManager();
+    }
+
+    private PowerUp place(PowerUpType type, int x, int y) {
+        PowerUp powerUp = PowerUpFactory.create(type, x, y);
+        powerUpManager.addPowerUp(powerUp);
+        return powerUp;
+    }
+
+    @Test
+    @DisplayName("La recherche par case suit les ajouts et les collectes")
+    void testCollectUsesIndex() {
+        PowerUp range = place(PowerUpType.RANGE_UP, 3, 1);
+        place(PowerUpType.BOMB_UP, 1, 3);
+        assertSame(range, powerUpManager.getPowerUpAt(3, 1));
+        assertTrue(powerUpManager.hasPowerUpAt(1, 3));
+        assertFalse(powerUpManager.hasPowerUpAt(2, 1));
+        assertNull(powerUpManager.getPowerUpAt(-1, 40), "hors carte");
+
+        Player player = new Player("Testeur");
+        player.setPosition(3, 1);
+        int range0 = player.getExplosionRange();
+        powerUpManager.checkPlayerCollision(player, 1, null, null);
+        assertEquals(range0 + 1, player.getExplosionRange());
+        assertFalse(powerUpManager.hasPowerUpAt(3, 1));
+        assertEquals(1, powerUpManager.getActivePowerUpCount());
+
+        powerUpManager.removePowerUpsAt(1, 3);
+        assertFalse(powerUpManager.hasPowerUpAt(1, 3));
+        assertEquals(0, powerUpManager.getActivePowerUpCount());
+    }
+
+    @Test
+    @DisplayName("Sur une case partagée, le premier power-up posé est retourné")
+    void testSharedCell() {
+        PowerUp first = place(PowerUpType.KICK, 2, 3);
+        PowerUp second = place(PowerUpType.GLOVE, 2, 3);
+        assertSame(first, powerUpManager.getPowerUpAt(2, 3));
+
+        powerUpManager.removePowerUp(first);
+        assertSame(second, powerUpManager.getPowerUpAt(2, 3));
+
+        place(PowerUpType.SKULL, 2, 3);
+        powerUpManager.removePowerUpsAt(2, 3);
+        assertNull(powerUpManager.getPowerUpAt(2, 3));
+        assertEquals(0, powerUpManager.getActivePowerUpCount());
+    }
+
+    @Test
+    @DisplayName("La restauration d'un instantané reconstruit l'index")
+    void testRestoreRebuildsIndex() {
+        PowerUp kick = place(PowerUpType.KICK, 3, 3);
+        PowerUpManager.State state = new PowerUpManager.State();
+        powerUpManager.save(state);
+
+        powerUpManager.removePowerUp(kick);
+        place(PowerUpType.BOMB_UP, 5, 3);
+        powerUpManager.restore(state);
+
+        assertSame(kick, powerUpManager.getPowerUpAt(3, 3));
+        assertFalse(powerUpManager.hasPowerUpAt(5, 3));
+
+        powerUpManager.clearAllPowerUps();
+        assertFalse(powerUpManager.hasPowerUpAt(3, 3));
+    }
+
+    @Test
+    @DisplayName("Sans carte, l'index s'agrandit jusqu'aux power-ups posés")
+    void testManagerWithoutMap() {
+        powerUpManager = new PowerUpManager();
+        PowerUp near = place(PowerUpType.SPEED_UP, 1, 1);
+        PowerUp far = place(PowerUpType.REMOTE, 12, 9);
+        assertSame(near, powerUpManager.getPowerUpAt(1, 1));
+        assertSame(far, powerUpManager.getPowerUpAt(12, 9));
+        assertNull(powerUpManager.getPowerUpAt(13, 9));
+
+        powerUpManager.removePowerUp(near);
+        assertNull(powerUpManager.getPowerUpAt(1, 1));
+        assertSame(far, powerUpManager.getPowerUpAt(12, 9));
+    }
+
+    @Test
+    @DisplayName("La vue des power-ups est à jour et non modifiable")
+    void testReadOnlyView() {
+        List<PowerUp> view = powerUpManager.getActivePowerUpsView();
+        PowerUp powerUp = place(PowerUpType.WALL_PASS, 1, 2);
+        assertEquals(List.of(powerUp), view);
+        assertThrows(UnsupportedOperationException.class, view::clear);
+        powerUpManager.removePowerUp(powerUp);
+        assertTrue(view.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Le retrait échange avec le dernier power-up de la liste")
+    void testSwapRemove() {
+        PowerUp a = place(PowerUpType.KICK, 1, 1);
+        PowerUp b = place(PowerUpType.GLOVE, 2, 1);
+        PowerUp c = place(PowerUpType.SKULL, 3, 1);
+
+        powerUpManager.removePowerUp(a);
+
+        assertEquals(List.of(c, b), powerUpManager.getActivePowerUpsView());
+        assertEquals(0, c.getListIndex());
+        assertEquals(-1, a.getListIndex());
+        assertSame(c, powerUpManager.getPowerUpAt(3, 1));
+
+        powerUpManager.removePowerUp(a); // Déjà retiré : sans effet
+        powerUpManager.removePowerUp(b);
+        powerUpManager.removePowerUp(c);
+        assertTrue(powerUpManager.getActivePowerUpsView().isEmpty());
+    }
+}
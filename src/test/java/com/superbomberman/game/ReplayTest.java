@@ -0,0 +1,229 @@
+package com.superbomberman.game;
+
+import com.superbomberman.controller.MenuController;
+import com.superbomberman.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour l'enregistrement et la relecture des replays
+ * (ReplayRecorder, Replay, ReplayPlayer)
+ *
+ * Politique de tests implémentée :
+ * - Aller-retour du format binaire (en-tête, changements d'entrée, durée)
+ * - Compacité : une heure de jeu en quelques dizaines de Ko au plus
+ * - Lecture d'un replay tronqué et rejet d'un fichier invalide
+ * - Relecture d'une partie complète à l'identique
+ * - Rejet d'une simulation dont la graine n'est pas celle du replay
+ */
+@DisplayName("Tests des replays")
+public class ReplayTest {
+
+    @AfterEach
+    void tearDown() {
+        MapLoader.player1 = null;
+        MapLoader.player2 = null;
+        MenuController.isOnePlayer = false;
+    }
+
+    private static Replay roundTrip(ByteArrayOutputStream bytes) throws IOException {
+        return Replay.read(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("Aller-retour : graine, carte et entrées")
+    void testRoundTrip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ReplayRecorder recorder = new ReplayRecorder(bytes, -123456789L, 2, "level2.txt");
+
+        recorder.record(new int[]{PlayerInput.NONE, PlayerInput.NONE});
+        recorder.record(new int[]{PlayerInput.UP, PlayerInput.NONE});
+        recorder.record(new int[]{PlayerInput.UP | PlayerInput.BOMB, PlayerInput.LEFT});
+        for (int i = 0; i < 500; i++) {
+            recorder.record(new int[]{PlayerInput.UP | PlayerInput.BOMB, PlayerInput.LEFT});
+        }
+        recorder.record(new int[]{PlayerInput.NONE, PlayerInput.LEFT});
+        recorder.close();
+
+        Replay replay = roundTrip(bytes);
+        assertEquals(-123456789L, replay.getSeed());
+        assertEquals(2, replay.getPlayerCount());
+        assertEquals("level2.txt", replay.getMapName());
+        assertEquals(504, replay.getTotalTicks());
+        assertEquals(4, replay.getEventCount());
+
+        assertEquals(2, replay.getEventTick(0));
+        assertEquals(0, replay.getEventPlayer(0));
+        assertEquals(PlayerInput.UP, replay.getEventMask(0));
+        assertEquals(3, replay.getEventTick(1));
+        assertEquals(PlayerInput.UP | PlayerInput.BOMB, replay.getEventMask(1));
+        assertEquals(1, replay.getEventPlayer(2));
+        assertEquals(PlayerInput.LEFT, replay.getEventMask(2));
+        assertEquals(504, replay.getEventTick(3));
+        assertEquals(PlayerInput.NONE, replay.getEventMask(3));
+    }
+
+    @Test
+    @DisplayName("Une heure de jeu tient en quelques dizaines de Ko")
+    void testCompactEncoding() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ReplayRecorder recorder = new ReplayRecorder(bytes, 1L, 2, "level2.txt");
+        int[] directions = {PlayerInput.UP, PlayerInput.RIGHT, PlayerInput.DOWN, PlayerInput.LEFT};
+        int[] masks = new int[2];
+        long hour = 3600L * GameSimulation.TICKS_PER_SECOND;
+
+        // Chaque joueur change de touche deux fois par seconde
+        for (long tick = 0; tick < hour; tick++) {
+            if (tick % 30 == 0) {
+                masks[0] = directions[(int) (tick / 30) % 4];
+            }
+            if (tick % 30 == 15) {
+                masks[1] = directions[(int) (tick / 30 + 1) % 4] | PlayerInput.BOMB;
+            }
+            recorder.record(masks);
+        }
+        recorder.close();
+
+        assertTrue(recorder.getBytesWritten() < 64 * 1024, "Taille : " + recorder.getBytesWritten());
+        assertEquals(bytes.size(), recorder.getBytesWritten());
+        assertEquals(hour, roundTrip(bytes).getTotalTicks());
+    }
+
+    @Test
+    @DisplayName("Replay tronqué lisible, fichier invalide refusé")
+    void testTruncatedAndInvalid() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ReplayRecorder recorder = new ReplayRecorder(bytes, 7L, 1, "level1.txt");
+        recorder.record(new int[]{PlayerInput.RIGHT});
+        recorder.record(new int[]{PlayerInput.NONE});
+        // Pas de close() : partie interrompue
+
+        Replay replay = roundTrip(bytes);
+        assertEquals(2, replay.getEventCount());
+        assertEquals(2, replay.getTotalTicks());
+
+        byte[] invalid = Arrays.copyOf(bytes.toByteArray(), bytes.size());
+        invalid[0] = 'X';
+        assertThrows(IOException.class, () -> Replay.read(new ByteArrayInputStream(invalid)));
+    }
+
+    @Test
+    @DisplayName("Nombre de joueurs hors limites refusé")
+    void testInvalidPlayerCount() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReplayRecorder(new ByteArrayOutputStream(), 0L, Replay.MAX_PLAYERS + 1, "x"));
+    }
+
+    /** Carte 7x7 bordée de murs, avec quelques murs destructibles. */
+    private static TileGrid createMap() {
+        TileGrid grid = new TileGrid(7, 7);
+        for (int y = 0; y < 7; y++) {
+            for (int x = 0; x < 7; x++) {
+                if (x == 0 || y == 0 || x == 6 || y == 6) {
+                    grid.set(x, y, TileType.WALL);
+                }
+            }
+        }
+        grid.set(3, 1, TileType.WALL_BREAKABLE);
+        grid.set(1, 3, TileType.WALL_BREAKABLE);
+        grid.set(5, 5, TileType.WALL_BREAKABLE);
+        return grid;
+    }
+
+    /** Crée une simulation un joueur fraîche, joueur en (1,1). */
+    private static GameSimulation createSimulation(TileGrid map, long seed) {
+        Player player = new Player("Replay");
+        player.setPosition(1, 1);
+        MapLoader.player1 = player;
+        MapLoader.player2 = null;
+        MapLoader.clearEnemies();
+        MenuController.isOnePlayer = true;
+        GameSimulation simulation = new GameSimulation(map, new GameStateManager(null, null), seed);
+        simulation.runHeadless();
+        return simulation;
+    }
+
+    @Test
+    @DisplayName("La relecture reproduit la partie à l'identique")
+    void testReplayReproducesMatch() throws IOException {
+        int[][] script = {
+                {PlayerInput.BOMB, 2}, {PlayerInput.RIGHT, 40}, {PlayerInput.DOWN, 60},
+                {PlayerInput.NONE, BombManager.FUSE_TICKS}, {PlayerInput.UP, 30}, {PlayerInput.LEFT, 40},
+                {PlayerInput.NONE, 200}
+        };
+
+        TileGrid originalMap = createMap();
+        GameSimulation original = createSimulation(originalMap, 99L);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ReplayRecorder recorder = new ReplayRecorder(bytes, original.getSeed(), 1, "test");
+        original.setRecorder(recorder);
+        int[] inputs = new int[2];
+        for (int[] segment : script) {
+            inputs[0] = segment[0];
+            for (int i = 0; i < segment[1]; i++) {
+                original.step(inputs);
+            }
+        }
+        recorder.close();
+        Player originalPlayer = MapLoader.player1;
+
+        Replay replay = roundTrip(bytes);
+        TileGrid replayMap = createMap();
+        GameSimulation replayed = createSimulation(replayMap, replay.getSeed());
+        ReplayPlayer player = new ReplayPlayer(replay, replayed);
+        player.runToEnd();
+
+        assertTrue(player.isFinished());
+        assertFalse(player.step());
+        assertEquals(original.getTick(), replayed.getTick());
+        assertEquals(originalPlayer.getX(), MapLoader.player1.getX());
+        assertEquals(originalPlayer.getY(), MapLoader.player1.getY());
+        assertEquals(originalPlayer.isAlive(), MapLoader.player1.isAlive());
+        for (int y = 0; y < 7; y++) {
+            for (int x = 0; x < 7; x++) {
+                assertEquals(originalMap.get(x, y), replayMap.get(x, y), "Case (" + x + ", " + y + ")");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Relecture accélérée : 8x rejoue huit fois plus de ticks")
+    void testAdvanceSpeed() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ReplayRecorder recorder = new ReplayRecorder(bytes, 5L, 1, "test");
+        for (int i = 0; i < 600; i++) {
+            recorder.record(new int[]{PlayerInput.NONE});
+        }
+        recorder.close();
+        Replay replay = roundTrip(bytes);
+
+        ReplayPlayer player = new ReplayPlayer(replay, createSimulation(createMap(), replay.getSeed()));
+        assertEquals(1, player.advance(GameSimulation.NANOS_PER_TICK));
+        player.setSpeed(8);
+        assertEquals(8, player.advance(GameSimulation.NANOS_PER_TICK));
+        assertEquals(9, player.getSimulation().getTick());
+        assertThrows(IllegalArgumentException.class, () -> player.setSpeed(0));
+    }
+
+    @Test
+    @DisplayName("Simulation d'une autre graine refusée")
+    void testSeedMismatchRejected() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ReplayRecorder recorder = new ReplayRecorder(bytes, 5L, 1, "test");
+        recorder.record(new int[]{PlayerInput.NONE});
+        recorder.close();
+        Replay replay = roundTrip(bytes);
+
+        GameSimulation simulation = createSimulation(createMap(), replay.getSeed() + 1);
+        assertThrows(IllegalArgumentException.class, () -> new ReplayPlayer(replay, simulation));
+    }
+}
@@ -0,0 +1,190 @@
+package com.superbomberman.game;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests unitaires pour la classe SimulationSnapshot
+ *
+ * Politique de tests implémentée :
+ * - Sauvegarde puis restauration : même empreinte d'état, mêmes ticks resimulés
+ * - Restauration au milieu des bombes, explosions, power-ups et ennemis
+ * - Restauration après la fin de partie (issue annulée puis rejouée)
+ * - Instantané vide ou d'une autre simulation refusé
+ * - Après échauffement, sauvegarde et restauration n'allouent rien (ThreadMXBean du thread
+ *   courant, mesuré autour des seuls appels save/restore) ; classe exécutée dans la JVM
+ *   des tests d'allocation, sans les mocks de Mockito
+ */
+@DisplayName("Tests de la classe SimulationSnapshot")
+public class SimulationSnapshotTest {
+
+
+    private static final int WARMUP_ROUNDS = 5_000;
+    private static final int MEASURED_ROUNDS = 10_000;
+    /** Octets tolérés (recompilation à la volée), bien moins qu'un objet par restauration. */
+    private static final long JIT_NOISE_BYTES = 8 * 1024;
+
+    private GameSimulation simulation;
+    private final int[] inputs = new int[PlayerSlots.MAX_PLAYERS];
+
+    @BeforeEach
+    void setUp() {
+        simulation = TestMatches.newSimulation(TestMatches.DUEL_WITH_ENEMIES);
+    }
+
+    /** Entrée scriptée : va-et-vient, une bombe toutes les 90 ticks. */
+    private static int script(int player, long tick) {
+        int direction = switch ((int) ((tick / 25 + player) % 4)) {
+            case 0 -> PlayerInput.RIGHT;
+            case 1 -> PlayerInput.DOWN;
+            case 2 -> PlayerInput.LEFT;
+            default -> PlayerInput.UP;
+        };
+        return tick % 90 == 20 * player ? direction | PlayerInput.BOMB : direction;
+    }
+
+    /** Avance de n ticks et relève l'empreinte après chacun. */
+    private int[] run(int ticks) {
+        int[] checksums = new int[ticks];
+        for (int i = 0; i < ticks; i++) {
+            long tick = simulation.getTick();
+            inputs[0] = script(1, tick);
+            inputs[1] = script(2, tick);
+            simulation.step(inputs);
+            checksums[i] = StateChecksum.of(simulation);
+        }
+        return checksums;
+    }
+
+    @Test
+    @DisplayName("Les ticks resimulés après restauration sont identiques")
+    void testRestoreReplaysIdentically() {
+        SimulationSnapshot snapshot = new SimulationSnapshot(simulation);
+        for (int round = 0; round < 6; round++) {
+            run(100);
+            long tick = simulation.getTick();
+            int saved = StateChecksum.of(simulation);
+            simulation.save(snapshot);
+            int[] expected = run(150);
+            boolean finished = simulation.isFinished();
+
+            simulation.restore(snapshot);
+            assertEquals(tick, simulation.getTick());
+            assertEquals(saved, StateChecksum.of(simulation));
+            assertArrayEquals(expected, run(150), "ticks resimulés depuis " + tick);
+            assertEquals(finished, simulation.isFinished());
+        }
+    }
+
+    @Test
+    @DisplayName("La restauration annule bombes posées, murs détruits et positions")
+    void testRestoreUndoesChanges() {
+        run(10);
+        SimulationSnapshot snapshot = new SimulationSnapshot(simulation);
+        simulation.save(snapshot);
+        byte[] cells = new byte[simulation.getMap().size()];
+        simulation.getMap().copyCellsTo(cells);
+        int bombs = simulation.getBombManager().getActiveBombs().size();
+        int x = simulation.getPlayerSlots().get(1).getPlayer().getX();
+
+        run(300);
+        simulation.restore(snapshot);
+
+        byte[] restored = new byte[cells.length];
+        simulation.getMap().copyCellsTo(restored);
+        assertArrayEquals(cells, restored);
+        assertEquals(bombs, simulation.getBombManager().getActiveBombs().size());
+        assertEquals(x, simulation.getPlayerSlots().get(1).getPlayer().getX());
+    }
+
+    @Test
+    @DisplayName("Une fin de partie annulée par restauration se rejoue à l'identique")
+    void testRestoreBeforeGameEnd() {
+        SimulationSnapshot snapshot = new SimulationSnapshot(simulation);
+        simulation.save(snapshot);
+        int[] inputs = {PlayerInput.BOMB, PlayerInput.NONE};
+        int ticks = 0;
+        while (!simulation.isFinished() && ticks++ < 60 * 20) {
+            simulation.step(inputs);
+            inputs[0] = PlayerInput.NONE;
+        }
+        assertTrue(simulation.isFinished());
+        long endTick = simulation.getTick();
+
+        simulation.restore(snapshot);
+        assertFalse(simulation.isFinished());
+        assertFalse(simulation.getGameStateManager().isGameEnded());
+
+        inputs[0] = PlayerInput.BOMB;
+        while (!simulation.isFinished() && simulation.getTick() < endTick + 60) {
+            simulation.step(inputs);
+            inputs[0] = PlayerInput.NONE;
+        }
+        assertTrue(simulation.isFinished());
+        assertEquals(endTick, simulation.getTick());
+    }
+
+    /** Avance de n ticks sans relever d'empreinte (pas d'allocation du test lui-même). */
+    private void advance(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            long tick = simulation.getTick();
+            inputs[0] = script(1, tick);
+            inputs[1] = script(2, tick);
+            simulation.step(inputs);
+        }
+    }
+
+    /**
+     * Un tour de rollback : sauvegarde, quelques ticks, retour à l'instantané puis avance.
+     *
+     * @return octets alloués par save et restore seuls
+     */
+    private long rollbackRound(com.sun.management.ThreadMXBean threads, SimulationSnapshot snapshot) {
+        long start = threads.getCurrentThreadAllocatedBytes();
+        simulation.save(snapshot);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - start;
+        advance(8);
+        start = threads.getCurrentThreadAllocatedBytes();
+        simulation.restore(snapshot);
+        allocated += threads.getCurrentThreadAllocatedBytes() - start;
+        advance(12);
+        return allocated;
+    }
+
+    @Test
+    @DisplayName("Sauvegarde et restauration n'allouent rien")
+    void testSaveRestoreAllocatesNothing() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        SimulationSnapshot snapshot = new SimulationSnapshot(simulation);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            rollbackRound(threads, snapshot);
+        }
+        long allocated = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            allocated += rollbackRound(threads, snapshot);
+        }
+        assertTrue(allocated <= JIT_NOISE_BYTES, allocated + " octets alloués par " + MEASURED_ROUNDS + " sauvegardes et restaurations");
+    }
+
+    @Test
+    @DisplayName("Instantané vide ou d'une autre simulation refusé")
+    void testInvalidSnapshots() {
+        SimulationSnapshot empty = new SimulationSnapshot(simulation);
+        assertTrue(empty.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> simulation.restore(empty));
+
+        SimulationSnapshot other = new SimulationSnapshot(TestMatches.newSimulation(TestMatches.DUEL_WITH_ENEMIES));
+        assertThrows(IllegalArgumentException.class, () -> simulation.save(other));
+        assertThrows(IllegalArgumentException.class, () -> simulation.restore(other));
+    }
+}
@@ -0,0 +1,90 @@
+package com.superbomberman.game;
+
+import java.util.List;
+
+/**
+ * Parties de test partagées : cartes de référence et création de simulations headless
+ * sur une {@link MatchSession}, sans passer par MapLoader.
+ *
+ * @author Jules Fuselier
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class TestMatches {
+
+    /** Graine des parties de test. */
+    public static final long SEED = 2026L;
+
+    /** Duel sur une petite carte, sans ennemi. */
+    public static final List<String> SMALL_DUEL = List.of(
+            "#########",
+            "#1 0 0 0#",
+            "# # # # #",
+            "#0 0 0 2#",
+            "#########");
+
+    /** Duel sur une carte moyenne, sans ennemi. */
+    public static final List<String> DUEL = List.of(
+            "###########",
+            "#1 0 0 0  #",
+            "# # # # # #",
+            "#0 0 0 0 0#",
+            "# # # # # #",
+            "#  0 0 0 2#",
+            "###########");
+
+    /** Duel sur une carte moyenne, avec deux ennemis. */
+    public static final List<String> DUEL_WITH_ENEMIES = List.of(
+            "###########",
+            "#1 0 0 0 E#",
+            "# # # # # #",
+            "#0 0 0 0 0#",
+            "# # # # # #",
+            "#E 0 0 0 2#",
+            "###########");
+
+    /** Quatre joueurs et un ennemi. */
+    public static final List<String> FOUR_PLAYERS = List.of(
+            "#########",
+            "#1 0 0 2#",
+            "# # # # #",
+            "#0  E  0#",
+            "# # # # #",
+            "#3 0 0 4#",
+            "#########");
+
+    private TestMatches() {
+    }
+
+    /**
+     * Crée une session de partie sur une carte.
+     * @param map lignes de la carte
+     * @param onePlayer true pour une partie solo
+     * @param seed graine de la partie
+     * @return session de la partie
+     */
+    public static MatchSession newSession(List<String> map, boolean onePlayer, long seed) {
+        return MatchSession.create(map, MatchSettings.of(onePlayer, "test"),
+                new GameStateManager(null, null), seed);
+    }
+
+    /**
+     * Crée la simulation headless d'une session.
+     * @param session session de la partie
+     * @return simulation prête à jouer
+     */
+    public static GameSimulation newSimulation(MatchSession session) {
+        GameSimulation simulation = new GameSimulation(session);
+        simulation.runHeadless();
+        return simulation;
+    }
+
+    /**
+     * Crée la simulation headless d'une partie multijoueur de graine {@link #SEED}.
+     * @param map lignes de la carte
+     * @return simulation prête à jouer
+     */
+    public static GameSimulation newSimulation(List<String> map) {
+        return newSimulation(newSession(map, false, SEED));
+    }
+}
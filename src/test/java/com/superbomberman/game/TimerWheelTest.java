@@ -0,0 +1,139 @@
+package com.superbomberman.game;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe TimerWheel
+ *
+ * Politique de tests implémentée :
+ * - Échéances exactes en ticks, y compris au-delà d'un tour de roue
+ * - Ordre déterministe des tâches de même échéance
+ * - Annulation (avant échéance, pendant l'exécution, identifiant périmé)
+ * - Pause/reprise globale
+ */
+@DisplayName("Tests de la classe TimerWheel")
+public class TimerWheelTest {
+
+    private TimerWheel wheel;
+    private List<String> fired;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new TimerWheel(8);
+        fired = new ArrayList<>();
+    }
+
+    private void advance(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            wheel.advance();
+        }
+    }
+
+    @Test
+    @DisplayName("Taille de roue invalide refusée")
+    void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new TimerWheel(12));
+        assertThrows(IllegalArgumentException.class, () -> new TimerWheel(0));
+    }
+
+    @Test
+    @DisplayName("Une tâche s'exécute exactement à son échéance")
+    void testExactDeadline() {
+        wheel.schedule(3, () -> fired.add("a"));
+
+        advance(2);
+        assertTrue(fired.isEmpty());
+        advance(1);
+        assertEquals(List.of("a"), fired);
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("Échéance plus longue qu'un tour de roue")
+    void testDeadlineBeyondOneRevolution() {
+        wheel.schedule(20, () -> fired.add("long"));
+
+        advance(19);
+        assertTrue(fired.isEmpty());
+        advance(1);
+        assertEquals(List.of("long"), fired);
+    }
+
+    @Test
+    @DisplayName("Même échéance : ordre de programmation respecté")
+    void testDeterministicOrder() {
+        wheel.schedule(2, () -> fired.add("1"));
+        wheel.schedule(10, () -> fired.add("x"));
+        wheel.schedule(2, () -> fired.add("2"));
+        wheel.schedule(2, () -> fired.add("3"));
+
+        advance(2);
+        assertEquals(List.of("1", "2", "3"), fired);
+    }
+
+    @Test
+    @DisplayName("Annulation avant échéance et identifiant périmé")
+    void testCancel() {
+        long id = wheel.schedule(2, () -> fired.add("annulée"));
+        wheel.cancel(id);
+        advance(3);
+        assertTrue(fired.isEmpty());
+
+        // Le nœud est recyclé : l'ancien identifiant ne doit pas annuler la nouvelle tâche
+        wheel.schedule(1, () -> fired.add("nouvelle"));
+        wheel.cancel(id);
+        wheel.cancel(-1);
+        advance(1);
+        assertEquals(List.of("nouvelle"), fired);
+    }
+
+    @Test
+    @DisplayName("Une tâche peut annuler une tâche de même échéance")
+    void testCancelDuringAdvance() {
+        long[] second = new long[1];
+        wheel.schedule(1, () -> {
+            fired.add("premier");
+            wheel.cancel(second[0]);
+        });
+        second[0] = wheel.schedule(1, () -> fired.add("second"));
+
+        advance(1);
+        assertEquals(List.of("premier"), fired);
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("Pause puis reprise décale toutes les échéances")
+    void testPauseResume() {
+        wheel.schedule(2, () -> fired.add("a"));
+        advance(1);
+
+        wheel.setPaused(true);
+        advance(50);
+        assertTrue(fired.isEmpty());
+        assertEquals(1, wheel.getCurrentTick());
+
+        wheel.setPaused(false);
+        advance(1);
+        assertEquals(List.of("a"), fired);
+    }
+
+    @Test
+    @DisplayName("clear supprime toutes les tâches")
+    void testClear() {
+        wheel.schedule(1, () -> fired.add("a"));
+        wheel.schedule(30, () -> fired.add("b"));
+        wheel.clear();
+
+        advance(40);
+        assertTrue(fired.isEmpty());
+        assertEquals(0, wheel.getPendingCount());
+    }
+}
@@ -0,0 +1,144 @@
+package com.superbomberman.jfr;
+
+import com.superbomberman.controller.MenuController;
+import com.superbomberman.game.GameSimulation;
+import com.superbomberman.game.GameStateManager;
+import com.superbomberman.game.PlayerInput;
+import com.superbomberman.model.*;
+import com.superbomberman.model.powerup.PowerUpFactory;
+import com.superbomberman.model.powerup.PowerUpType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe GameEvents et les événements JFR du jeu
+ *
+ * Politique de tests implémentée :
+ * - Indicateur d'enregistrement suivant le démarrage et l'arrêt d'un enregistrement JFR
+ * - Partie headless enregistrée : pose, explosion, ramassage et décision d'ennemi relus dans le fichier
+ */
+@DisplayName("Tests des événements JFR du jeu")
+public class GameEventsTest {
+
+    private static final String[] EVENT_NAMES = {
+            "superbomberman.BombPlaced", "superbomberman.Explosion", "superbomberman.PowerUpPickup",
+            "superbomberman.EnemyDecision", "superbomberman.Frame"};
+
+    private GameSimulation simulation;
+
+    @BeforeEach
+    void setUp() {
+        // Carte 7x5 : joueur en haut à gauche, mur destructible à sa droite, ennemi à l'opposé
+        TileGrid map = new TileGrid(7, 5);
+        for (int y = 0; y < 5; y++) {
+            for (int x = 0; x < 7; x++) {
+                if (x == 0 || y == 0 || x == 6 || y == 4) {
+                    map.set(x, y, TileType.WALL);
+                }
+            }
+        }
+        map.set(2, 1, TileType.WALL_BREAKABLE);
+
+        Player player = new Player("Enregistré");
+        player.setPosition(1, 1);
+        MapLoader.player1 = player;
+        MapLoader.player2 = null;
+        MapLoader.clearEnemies();
+        Enemy enemy = new Enemy();
+        enemy.setPosition(5, 3);
+        MapLoader.enemies.add(enemy);
+        MenuController.isOnePlayer = true;
+
+        simulation = new GameSimulation(map, new GameStateManager(null, null), 11L);
+        simulation.runHeadless();
+        simulation.getPowerUpManager().addPowerUp(PowerUpFactory.create(PowerUpType.RANGE_UP, 1, 1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        MapLoader.clearEnemies();
+        MapLoader.player1 = null;
+        MenuController.isOnePlayer = false;
+    }
+
+    /** Pose une bombe au premier tick puis laisse passer sa mèche. */
+    private void playMatch() {
+        int[] inputs = {PlayerInput.BOMB};
+        simulation.step(inputs);
+        inputs[0] = PlayerInput.NONE;
+        for (int i = 0; i < 2 * GameSimulation.TICKS_PER_SECOND && !simulation.isFinished(); i++) {
+            simulation.step(inputs);
+        }
+    }
+
+    private static Recording newRecording() {
+        Recording recording = new Recording();
+        for (String name : EVENT_NAMES) {
+            recording.enable(name).withoutStackTrace();
+        }
+        return recording;
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+    }
+
+    @Test
+    @DisplayName("L'indicateur suit le démarrage et l'arrêt de l'enregistrement")
+    void testRecordingFlag() {
+        assertFalse(GameEvents.isRecording());
+        try (Recording recording = newRecording()) {
+            recording.start();
+            assertTrue(GameEvents.isRecording());
+            recording.stop();
+            assertFalse(GameEvents.isRecording());
+        }
+    }
+
+    @Test
+    @DisplayName("Partie enregistrée : pose, explosion, ramassage et décisions d'ennemi")
+    void testRecordedMatch(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("partie.jfr");
+        try (Recording recording = newRecording()) {
+            recording.start();
+            playMatch();
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+        List<RecordedEvent> placed = named(events, "superbomberman.BombPlaced");
+        assertEquals(1, placed.size());
+        assertEquals(1, placed.get(0).getInt("playerNumber"));
+        assertEquals(1, placed.get(0).getInt("x"));
+        assertEquals(1, placed.get(0).getInt("y"));
+        assertFalse(placed.get(0).getBoolean("remote"));
+
+        List<RecordedEvent> explosions = named(events, "superbomberman.Explosion");
+        assertEquals(1, explosions.size());
+        assertEquals(1, explosions.get(0).getInt("seeds"));
+        assertEquals(1, explosions.get(0).getInt("chainLength"));
+        assertTrue(explosions.get(0).getInt("cellsTouched") >= 2, "Centre et mur destructible soufflés");
+
+        List<RecordedEvent> pickups = named(events, "superbomberman.PowerUpPickup");
+        assertEquals(1, pickups.size());
+        assertEquals("RANGE_UP", pickups.get(0).getString("powerUpType"));
+
+        List<RecordedEvent> decisions = named(events, "superbomberman.EnemyDecision");
+        assertFalse(decisions.isEmpty());
+        assertTrue(decisions.get(0).getBoolean("flowFieldUpdated"));
+        assertTrue(named(events, "superbomberman.Frame").isEmpty(), "Pas de boucle d'animation en headless");
+    }
+}
@@ -0,0 +1,129 @@
+package com.superbomberman.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la journalisation asynchrone (AsyncLogAppender, LogLevel)
+ *
+ * Politique de tests implémentée :
+ * - Formatage des motifs {} sur le thread d'écriture
+ * - Seuils de niveau
+ * - Tampon plein : abandon sans blocage
+ * - Écriture par le thread dédié et rotation des fichiers
+ */
+@DisplayName("Tests de la journalisation asynchrone")
+public class AsyncLogAppenderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Remplacement des {} dans l'ordre des arguments")
+    void testFormat() {
+        assertEquals("Joueur 1 en (3, 4)", AsyncLogAppender.format("Joueur {} en ({}, {})", 3, 1, 3, 4));
+        assertEquals("sans argument {}", AsyncLogAppender.format("sans argument {}", 0, null, null, null));
+        assertEquals("a=1 b={}", AsyncLogAppender.format("a={} b={}", 1, 1, null, null));
+        assertEquals("x null", AsyncLogAppender.format("x {}", 1, null, null, null));
+    }
+
+    @Test
+    @DisplayName("Seuils de niveau")
+    void testLevels() {
+        assertTrue(LogLevel.ERROR.isEnabledFor(LogLevel.INFO));
+        assertTrue(LogLevel.INFO.isEnabledFor(LogLevel.INFO));
+        assertFalse(LogLevel.DEBUG.isEnabledFor(LogLevel.INFO));
+        assertFalse(LogLevel.ERROR.isEnabledFor(LogLevel.OFF));
+        assertEquals(LogLevel.DEBUG, LogLevel.parse(" debug ", LogLevel.INFO));
+        assertEquals(LogLevel.INFO, LogLevel.parse("inconnu", LogLevel.INFO));
+    }
+
+    @Test
+    @DisplayName("Capacité non puissance de 2 refusée")
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogAppender(null, 100, 1024, 1, false));
+    }
+
+    @Test
+    @DisplayName("Tampon plein : message abandonné sans bloquer")
+    void testDropWhenFull() throws IOException {
+        Path file = tempDir.resolve("plein.log");
+        AsyncLogAppender appender = new AsyncLogAppender(file, 4, 1 << 20, 1, false);
+        appender.openForTest();
+
+        for (int i = 0; i < 6; i++) {
+            appender.append(LogLevel.INFO, "message {}", i, null, null, 1);
+        }
+        assertEquals(2, appender.getDroppedCount());
+
+        assertEquals(4, appender.drain());
+        assertTrue(appender.append(LogLevel.INFO, "après vidage", null, null, null, 0));
+        appender.closeForTest();
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(5, lines.size());
+        assertTrue(lines.get(0).endsWith("message 0"));
+        assertTrue(lines.get(0).contains("[INFO]"));
+        assertTrue(lines.get(4).endsWith("après vidage"));
+    }
+
+    @Test
+    @DisplayName("Écriture par le thread dédié depuis plusieurs threads")
+    void testWriterThread() throws Exception {
+        Path file = tempDir.resolve("jeu.log");
+        AsyncLogAppender appender = new AsyncLogAppender(file, 1024, 1 << 20, 1, false);
+        appender.start();
+
+        Thread[] producers = new Thread[4];
+        for (int t = 0; t < producers.length; t++) {
+            int id = t;
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    while (!appender.append(LogLevel.DEBUG, "thread {} message {}", id, i, null, 2)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            producers[t].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertTrue(appender.flush(5_000));
+        appender.close();
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(400, lines.size());
+        assertTrue(lines.stream().anyMatch(line -> line.endsWith("thread 3 message 99")));
+    }
+
+    @Test
+    @DisplayName("Rotation du fichier au-delà de la taille maximale")
+    void testRotation() throws IOException {
+        Path file = tempDir.resolve("rotation.log");
+        AsyncLogAppender appender = new AsyncLogAppender(file, 256, 400, 2, false);
+        appender.openForTest();
+
+        for (int i = 0; i < 40; i++) {
+            appender.append(LogLevel.INFO, "ligne numéro {}", i, null, null, 1);
+        }
+        appender.closeForTest();
+
+        assertTrue(Files.exists(file));
+        assertTrue(Files.exists(tempDir.resolve("rotation.log.1")));
+        assertTrue(Files.exists(tempDir.resolve("rotation.log.2")));
+        assertFalse(Files.exists(tempDir.resolve("rotation.log.3")));
+        assertTrue(Files.size(file) <= 400);
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertTrue(lines.get(lines.size() - 1).endsWith("ligne numéro 39"));
+    }
+}
@@ -0,0 +1,157 @@
+package com.superbomberman.metrics;
+
+import com.superbomberman.controller.MenuController;
+import com.superbomberman.game.FrameProfiler;
+import com.superbomberman.game.GameSimulation;
+import com.superbomberman.game.GameStateManager;
+import com.superbomberman.game.PlayerInput;
+import com.superbomberman.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour les classes MetricsEndpoint et GameMetrics
+ *
+ * Politique de tests implémentée :
+ * - Partie headless recopiée dans les mesures : ticks par seconde, bombes, scores, temps de frame
+ * - Réponse HTTP au format texte de Prometheus (type de contenu, HELP/TYPE, échantillons)
+ * - Méthodes et chemins refusés
+ * - Endpoint optionnel : propriété absente ou invalide, recopie désactivée à la fermeture
+ */
+@DisplayName("Tests de l'endpoint des mesures Prometheus")
+public class MetricsEndpointTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private GameMetrics metrics;
+    private MetricsEndpoint endpoint;
+    private GameSimulation simulation;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        TileGrid map = new TileGrid(5, 5);
+        for (int y = 0; y < 5; y++) {
+            for (int x = 0; x < 5; x++) {
+                if (x == 0 || y == 0 || x == 4 || y == 4) {
+                    map.set(x, y, TileType.WALL);
+                }
+            }
+        }
+        Player player = new Player("Mesuré");
+        player.setPosition(1, 1);
+        MapLoader.player1 = player;
+        MapLoader.player2 = null;
+        MapLoader.clearEnemies();
+        MenuController.isOnePlayer = true;
+        simulation = new GameSimulation(map, new GameStateManager(null, null), 5L);
+        simulation.runHeadless();
+
+        metrics = new GameMetrics();
+        endpoint = new MetricsEndpoint(0, metrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        endpoint.close();
+        System.clearProperty(MetricsEndpoint.PORT_PROPERTY);
+        MapLoader.player1 = null;
+        MenuController.isOnePlayer = false;
+    }
+
+    /** Envoie une requête et renvoie la connexion, réponse reçue. */
+    private HttpURLConnection send(String method, String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection)
+                URI.create("http://localhost:" + endpoint.getPort() + path).toURL().openConnection();
+        connection.setRequestMethod(method);
+        connection.getResponseCode();
+        return connection;
+    }
+
+    private static String body(HttpURLConnection connection) throws IOException {
+        try (InputStream in = connection.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    @DisplayName("État de la partie publié au format Prometheus")
+    void testScrape() throws IOException {
+        FrameProfiler profiler = new FrameProfiler();
+        metrics.matchStarted();
+        metrics.update(simulation, profiler, 42, 0L);
+        int[] inputs = {PlayerInput.BOMB};
+        for (int i = 0; i < GameSimulation.TICKS_PER_SECOND; i++) {
+            simulation.step(inputs);
+            inputs[0] = PlayerInput.NONE;
+            profiler.record(FrameProfiler.Phase.FRAME, 2_000_000L);
+        }
+        metrics.update(simulation, profiler, 42, SECOND);
+
+        HttpURLConnection response = send("GET", MetricsEndpoint.PATH);
+
+        assertEquals(200, response.getResponseCode());
+        assertEquals(MetricsEndpoint.CONTENT_TYPE, response.getContentType());
+        String body = body(response);
+        assertTrue(body.contains("# TYPE superbomberman_ticks_total counter\n"));
+        assertTrue(body.contains("\nsuperbomberman_matches_started_total 1\n"));
+        assertTrue(body.contains("\nsuperbomberman_ticks_total 60\n"));
+        assertTrue(body.contains("\nsuperbomberman_ticks_per_second 60.0000\n"));
+        assertTrue(body.contains("\nsuperbomberman_active_bombs 1\n"));
+        assertTrue(body.contains("\nsuperbomberman_active_powerups 0\n"));
+        assertTrue(body.contains("\nsuperbomberman_scene_nodes 42\n"));
+        assertTrue(body.contains("# TYPE superbomberman_frame_time_seconds summary\n"));
+        assertTrue(body.contains("\nsuperbomberman_frame_time_seconds_count 60\n"));
+        assertTrue(body.contains("superbomberman_frame_time_seconds{quantile=\"0.99\"} 0.00200"));
+        assertTrue(body.contains("\nsuperbomberman_player_score{player=\"1\"} 0\n"));
+        assertTrue(body.contains("\nsuperbomberman_player_alive{player=\"1\"} 1\n"));
+        assertTrue(body.contains("\nsuperbomberman_heap_used_bytes "));
+    }
+
+    @Test
+    @DisplayName("Les compteurs cumulent les parties successives")
+    void testCountersAcrossMatches() throws IOException {
+        FrameProfiler profiler = new FrameProfiler();
+        metrics.matchStarted();
+        for (int i = 0; i < 30; i++) {
+            simulation.step(new int[]{PlayerInput.NONE});
+        }
+        metrics.update(simulation, profiler, 1, 0L);
+        metrics.matchStarted();
+
+        String body = body(send("GET", MetricsEndpoint.PATH));
+
+        assertTrue(body.contains("\nsuperbomberman_matches_started_total 2\n"));
+        assertTrue(body.contains("\nsuperbomberman_ticks_total 30\n"));
+        assertTrue(body.contains("\nsuperbomberman_match_tick 0\n"));
+    }
+
+    @Test
+    @DisplayName("Méthode autre que GET/HEAD refusée, chemin inconnu introuvable")
+    void testRejectedRequests() throws IOException {
+        assertEquals(405, send("POST", MetricsEndpoint.PATH).getResponseCode());
+        assertEquals(404, send("GET", MetricsEndpoint.PATH + "/autre").getResponseCode());
+        assertEquals(200, send("HEAD", MetricsEndpoint.PATH).getResponseCode());
+    }
+
+    @Test
+    @DisplayName("Endpoint optionnel : propriété absente ou invalide, recopie coupée à la fermeture")
+    void testOptIn() {
+        assertTrue(metrics.isEnabled());
+        assertNull(MetricsEndpoint.startFromProperty(metrics));
+        System.setProperty(MetricsEndpoint.PORT_PROPERTY, "pas-un-port");
+        assertNull(MetricsEndpoint.startFromProperty(metrics));
+
+        endpoint.close();
+        assertFalse(metrics.isEnabled());
+    }
+}
@@ -0,0 +1,123 @@
+package com.superbomberman.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le registre des ennemis (EnemyRegistry)
+ *
+ * Politique de tests implémentée :
+ * - Index spatial : plusieurs ennemis par case, déplacements
+ * - Morts retirées de l'index et compte des vivants
+ * - Rattachement à une carte et résurrection générale
+ */
+@DisplayName("Tests du registre des ennemis")
+public class EnemyRegistryTest {
+
+    private EnemyRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new EnemyRegistry();
+        registry.attach(10, 8);
+    }
+
+    private Enemy enemyAt(int x, int y) {
+        Enemy enemy = new Enemy();
+        enemy.setPosition(x, y);
+        registry.add(enemy);
+        return enemy;
+    }
+
+    @Test
+    @DisplayName("Plusieurs ennemis sur une même case")
+    void testSameCell() {
+        Enemy a = enemyAt(2, 3);
+        Enemy b = enemyAt(2, 3);
+        Enemy c = enemyAt(5, 5);
+
+        Set<Enemy> found = new HashSet<>();
+        for (Enemy e = registry.firstAt(2, 3); e != null; e = registry.nextAt(e)) {
+            found.add(e);
+        }
+        assertEquals(Set.of(a, b), found);
+        assertSame(c, registry.firstAt(5, 5));
+        assertNull(registry.firstAt(0, 0));
+        assertNull(registry.firstAt(-1, 20));
+        assertEquals(3, registry.getAliveCount());
+    }
+
+    @Test
+    @DisplayName("Déplacement : l'index suit l'ennemi")
+    void testMove() {
+        Enemy a = enemyAt(1, 1);
+        Enemy b = enemyAt(1, 1);
+
+        registry.moveTo(a, 2, 1);
+        assertSame(b, registry.firstAt(1, 1));
+        assertNull(registry.nextAt(b));
+        assertSame(a, registry.firstAt(2, 1));
+        assertEquals(1, a.getPreviousX());
+        assertEquals(2, a.getX());
+    }
+
+    @Test
+    @DisplayName("Mort : retiré de l'index, victoire quand tous sont morts")
+    void testKill() {
+        Enemy a = enemyAt(4, 4);
+        Enemy b = enemyAt(6, 4);
+
+        assertTrue(registry.kill(a));
+        assertFalse(registry.kill(a));
+        assertFalse(registry.hasEnemyAt(4, 4));
+        assertTrue(a.isDead());
+        assertEquals(1, registry.getAliveCount());
+        assertFalse(registry.allDefeated());
+
+        registry.kill(b);
+        assertTrue(registry.allDefeated());
+
+        registry.reviveAll();
+        assertEquals(2, registry.getAliveCount());
+        assertTrue(registry.hasEnemyAt(4, 4));
+    }
+
+    @Test
+    @DisplayName("Ennemis ajoutés avant le rattachement, indexés par attach")
+    void testAttachLater() {
+        EnemyRegistry loading = new EnemyRegistry();
+        Enemy enemy = new Enemy();
+        enemy.setPosition(3, 2);
+        loading.add(enemy);
+        assertNull(loading.firstAt(3, 2));
+
+        loading.attach(5, 5);
+        assertSame(enemy, loading.firstAt(3, 2));
+
+        loading.clear();
+        assertTrue(loading.isEmpty());
+        assertFalse(loading.allDefeated());
+        assertNull(loading.firstAt(3, 2));
+    }
+
+    @Test
+    @DisplayName("Horde de plusieurs centaines d'ennemis")
+    void testHorde() {
+        for (int i = 0; i < 500; i++) {
+            enemyAt(i % 10, (i / 10) % 8);
+        }
+        assertEquals(500, registry.getAliveCount());
+
+        int count = 0;
+        for (Enemy e = registry.firstAt(0, 0); e != null; e = registry.nextAt(e)) {
+            count++;
+        }
+        assertEquals(7, count); // i = 0, 80, 160, ..., 480
+    }
+}
@@ -0,0 +1,51 @@
+package com.superbomberman.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe GameRandom
+ *
+ * Politique de tests implémentée :
+ * - Même suite que SplittableRandom pour une même graine (replays existants inchangés)
+ * - Retour à un état lu : la suite des tirages est rejouée à l'identique
+ */
+@DisplayName("Tests de la classe GameRandom")
+public class GameRandomTest {
+
+    @Test
+    @DisplayName("Même suite que SplittableRandom à graine identique")
+    void testMatchesSplittableRandom() {
+        for (long seed : new long[]{0L, 42L, 2026L, -7L}) {
+            GameRandom random = new GameRandom(seed);
+            SplittableRandom reference = new SplittableRandom(seed);
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(reference.nextInt(17), random.nextInt(17));
+                assertEquals(reference.nextDouble(), random.nextDouble());
+                assertEquals(reference.nextLong(), random.nextLong());
+                assertEquals(reference.nextInt(), random.nextInt());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Un état restauré rejoue les mêmes tirages")
+    void testStateRestore() {
+        GameRandom random = new GameRandom(2026L);
+        random.nextInt(10);
+        long state = random.getState();
+        int[] first = new int[50];
+        for (int i = 0; i < first.length; i++) {
+            first[i] = random.nextInt(100);
+        }
+
+        random.setState(state);
+        for (int value : first) {
+            assertEquals(value, random.nextInt(100));
+        }
+    }
+}
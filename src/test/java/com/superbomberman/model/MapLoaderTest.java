@@ -26,7 +26,8 @@ class MapLoaderTest {
         // Réinitialiser les entités globales avant chaque test
         MapLoader.player1 = null;
         MapLoader.player2 = null;
-        MapLoader.enemy = null;
+        MapLoader.clearExtraPlayers();
+        MapLoader.clearEnemies();
     }
 
     @Test
@@ -138,6 +139,33 @@ class MapLoaderTest {
         assertTrue(MapLoader.enemy.isAlive());
     }
 
+    @Test
+    @DisplayName("Chargement carte à huit joueurs")
+    void testLoadEightPlayers() throws IOException {
+        String mapContent = """
+                ##########
+                #12345678#
+                ##########""";
+
+        MapLoader.loadGrid(createTempMapFile(mapContent).toString());
+
+        for (int number = 1; number <= MapLoader.MAX_PLAYERS; number++) {
+            Player player = MapLoader.getPlayer(number);
+            assertNotNull(player, "Joueur " + number);
+            assertEquals(number, player.getX());
+            assertEquals("Joueur " + number, player.getName());
+        }
+        assertSame(MapLoader.player2, MapLoader.getPlayer(2));
+
+        // Une carte à deux joueurs libère les places 3 à 8
+        MapLoader.loadGrid(createTempMapFile("""
+                ####
+                #12#
+                ####""").toString());
+        assertNull(MapLoader.getPlayer(3));
+        assertNull(MapLoader.getPlayer(9));
+    }
+
     @Test
     @DisplayName("Chargement carte complète - tous les éléments")
     void testLoadCompleteMap() throws IOException {
@@ -258,7 +286,7 @@ class MapLoaderTest {
     }
 
     @Test
-    @DisplayName("Plusieurs joueurs du même type - dernière position gagne")
+    @DisplayName("Plusieurs entités du même type - dernier joueur, un ennemi par 'E'")
     void testLoadMapWithMultipleSameEntities() throws IOException {
         String mapContent = """
                 #####
@@ -275,10 +303,12 @@ class MapLoaderTest {
         assertEquals(3, MapLoader.player1.getX()); // Dernière position '1'
         assertEquals(1, MapLoader.player1.getY());
 
-        // Vérifier que enemy est à la dernière position trouvée
-        assertNotNull(MapLoader.enemy);
-        assertEquals(3, MapLoader.enemy.getX()); // Dernière position 'E'
-        assertEquals(3, MapLoader.enemy.getY());
+        // Vérifier qu'un ennemi est créé pour chaque 'E'
+        assertEquals(2, MapLoader.enemies.size());
+        assertEquals(1, MapLoader.enemies.getEnemies().get(0).getX());
+        assertEquals(3, MapLoader.enemies.getEnemies().get(1).getX()); // Dernière position 'E'
+        assertEquals(3, MapLoader.enemies.getEnemies().get(1).getY());
+        assertSame(MapLoader.enemies.getEnemies().get(0), MapLoader.enemy);
     }
 
     @Test
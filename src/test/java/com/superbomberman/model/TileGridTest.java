@@ -0,0 +1,105 @@
+package com.superbomberman.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe TileGrid
+ *
+ * Politique de tests implémentée :
+ * - Initialisation (sol par défaut) et dimensions
+ * - Lecture/écriture par type et tuiles partagées
+ * - Conversion depuis/vers Tile[][]
+ * - Empreinte mémoire d'une grande arène
+ */
+@DisplayName("Tests de la classe TileGrid")
+public class TileGridTest {
+
+    @Test
+    @DisplayName("Nouvelle carte remplie de sol")
+    void testDefaultFloor() {
+        TileGrid grid = new TileGrid(4, 3);
+
+        assertEquals(4, grid.getWidth());
+        assertEquals(3, grid.getHeight());
+        assertEquals(12, grid.size());
+        for (int y = 0; y < 3; y++) {
+            for (int x = 0; x < 4; x++) {
+                assertEquals(TileType.FLOOR, grid.get(x, y));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Dimensions invalides refusées")
+    void testInvalidDimensions() {
+        assertThrows(IllegalArgumentException.class, () -> new TileGrid(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> new TileGrid(5, -1));
+    }
+
+    @Test
+    @DisplayName("Écriture et lecture de tous les types")
+    void testSetGetAllTypes() {
+        TileGrid grid = new TileGrid(TileType.values().length, 1);
+        for (TileType type : TileType.values()) {
+            grid.set(type.ordinal(), 0, type);
+        }
+        for (TileType type : TileType.values()) {
+            assertEquals(type, grid.get(type.ordinal(), 0));
+            assertTrue(grid.is(type.ordinal(), 0, type));
+        }
+    }
+
+    @Test
+    @DisplayName("Les tuiles retournées sont partagées")
+    void testFlyweightTiles() {
+        TileGrid grid = new TileGrid(2, 1);
+        grid.set(0, 0, TileType.WALL);
+        grid.set(1, 0, TileType.WALL);
+
+        assertSame(grid.tileAt(0, 0), grid.tileAt(1, 0));
+        assertSame(Tile.of(TileType.WALL), grid.tileAt(0, 0));
+    }
+
+    @Test
+    @DisplayName("Conversion aller-retour avec Tile[][]")
+    void testTilesRoundTrip() {
+        Tile[][] tiles = {
+                {new Tile(TileType.WALL), new Tile(TileType.FLOOR), null},
+                {new Tile(TileType.WALL_BREAKABLE), new Tile(TileType.WALL), new Tile(TileType.FLOOR)}
+        };
+
+        TileGrid grid = TileGrid.fromTiles(tiles);
+        Tile[][] back = grid.toTiles();
+
+        assertEquals(3, grid.getWidth());
+        assertEquals(2, grid.getHeight());
+        assertEquals(TileType.FLOOR, grid.get(2, 0), "Une case nulle devient du sol");
+        assertEquals(TileType.WALL_BREAKABLE, back[1][0].getType());
+        assertEquals(TileType.WALL, back[1][1].getType());
+    }
+
+    @Test
+    @DisplayName("Limites de la carte")
+    void testBounds() {
+        TileGrid grid = new TileGrid(3, 2);
+
+        assertTrue(grid.isInBounds(0, 0));
+        assertTrue(grid.isInBounds(2, 1));
+        assertFalse(grid.isInBounds(3, 1));
+        assertFalse(grid.isInBounds(0, 2));
+        assertFalse(grid.isInBounds(-1, 0));
+    }
+
+    @Test
+    @DisplayName("Arène 512x512 : un octet par case")
+    void testLargeArenaFootprint() {
+        TileGrid grid = new TileGrid(512, 512);
+        assertEquals(512 * 512, grid.size());
+
+        grid.set(511, 511, TileType.WALL);
+        assertEquals(TileType.WALL, grid.get(511, 511));
+    }
+}
@@ -0,0 +1,204 @@
+package com.superbomberman.net;
+
+import com.superbomberman.game.GameSimulation;
+import com.superbomberman.game.PlayerInput;
+import com.superbomberman.game.StateChecksum;
+import com.superbomberman.game.TestMatches;
+import com.superbomberman.model.TileType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe LockstepSession
+ *
+ * Politique de tests implémentée :
+ * - Deux pairs reliés en mémoire : même graine, entrées scriptées différentes
+ * - Avancement uniquement quand les entrées de tous les joueurs sont connues
+ * - Empreintes d'état identiques, désynchronisation détectée après altération d'un pair
+ * - Débit émis de l'ordre de quelques dizaines d'octets par seconde et par joueur
+ * - Partie réelle sur la boucle locale via LockstepLink
+ */
+@DisplayName("Tests de la classe LockstepSession")
+public class LockstepSessionTest {
+
+
+    /** Transport en mémoire : les trames sont gardées jusqu'à la livraison. */
+    private static final class Pipe implements LockstepTransport {
+        final List<byte[]> frames = new ArrayList<>();
+        long bytes = 0;
+
+        @Override
+        public void send(byte[] frame, int length) {
+            frames.add(Arrays.copyOf(frame, length));
+            bytes += length;
+        }
+
+        void deliverTo(LockstepSession peer) {
+            for (byte[] frame : frames) {
+                peer.receive(frame, 1, frame.length - 1);
+            }
+            frames.clear();
+        }
+    }
+
+    private Pipe fromA;
+    private Pipe fromB;
+    private LockstepSession a;
+    private LockstepSession b;
+
+    /** Entrée scriptée : va-et-vient horizontal, une bombe toutes les 2 secondes. */
+    private static int script(int player, long frame) {
+        int direction = (frame / 40 + player) % 2 == 0 ? PlayerInput.RIGHT : PlayerInput.LEFT;
+        return frame % 120 == 30 * player ? direction | PlayerInput.BOMB : direction;
+    }
+
+    @BeforeEach
+    void setUp() {
+        fromA = new Pipe();
+        fromB = new Pipe();
+        a = new LockstepSession(TestMatches.newSimulation(TestMatches.SMALL_DUEL), 1, fromA);
+        b = new LockstepSession(TestMatches.newSimulation(TestMatches.SMALL_DUEL), 2, fromB);
+    }
+
+    private void run(int frames) {
+        for (long frame = 0; frame < frames; frame++) {
+            a.submitLocalInput(script(1, frame));
+            b.submitLocalInput(script(2, frame));
+            fromA.deliverTo(b);
+            fromB.deliverTo(a);
+            a.tryStep();
+            b.tryStep();
+        }
+    }
+
+    @Test
+    @DisplayName("Les deux pairs avancent au même rythme avec des états identiques")
+    void testPeersStayInSync() {
+        run(600);
+
+        GameSimulation simA = a.getSimulation();
+        GameSimulation simB = b.getSimulation();
+        assertTrue(simA.getTick() >= 600 - LockstepSession.DEFAULT_INPUT_DELAY || simA.isFinished());
+        assertEquals(simA.getTick(), simB.getTick());
+        assertEquals(StateChecksum.of(simA), StateChecksum.of(simB));
+        assertFalse(a.isDesynced());
+        assertFalse(b.isDesynced());
+    }
+
+    @Test
+    @DisplayName("Sans les entrées du pair, la simulation s'arrête au délai d'entrée")
+    void testStallsWithoutPeerInput() {
+        for (int frame = 0; frame < 100; frame++) {
+            a.submitLocalInput(PlayerInput.RIGHT);
+            a.tryStep();
+        }
+        assertEquals(LockstepSession.DEFAULT_INPUT_DELAY, a.getSimulation().getTick());
+
+        // Le pair avance à son tour et envoie ses premiers lots
+        fromA.deliverTo(b);
+        for (int frame = 0; frame < LockstepSession.DEFAULT_BATCH_TICKS; frame++) {
+            b.submitLocalInput(PlayerInput.NONE);
+            assertTrue(b.tryStep());
+        }
+        b.submitLocalInput(PlayerInput.NONE);
+        fromB.deliverTo(a);
+        assertTrue(a.tryStep());
+    }
+
+    @Test
+    @DisplayName("Une altération de l'état d'un pair est détectée à l'empreinte suivante")
+    void testDesyncDetected() {
+        long[] reported = {-1};
+        a.setDesyncListener((tick, player, local, remote) -> reported[0] = tick);
+        run(100);
+        assertFalse(a.isDesynced());
+
+        b.getSimulation().getMap().set(3, 1, TileType.FLOOR);
+        run(LockstepSession.CHECKSUM_INTERVAL + 10);
+
+        assertTrue(a.isDesynced());
+        assertTrue(b.isDesynced());
+        assertEquals(a.getDesyncTick(), reported[0]);
+        assertEquals(0, a.getDesyncTick() % LockstepSession.CHECKSUM_INTERVAL);
+    }
+
+    @Test
+    @DisplayName("Débit émis : quelques dizaines d'octets par seconde et par joueur")
+    void testBandwidth() {
+        run(60 * 10);
+
+        double seconds = a.getSimulation().getTick() / (double) GameSimulation.TICKS_PER_SECOND;
+        assertEquals(fromA.bytes, a.getBytesSent());
+        assertTrue(a.getBytesSent() / seconds < 100, "octets/s : " + a.getBytesSent() / seconds);
+        assertTrue(b.getBytesSent() / seconds < 100, "octets/s : " + b.getBytesSent() / seconds);
+    }
+
+    @Test
+    @DisplayName("Réglages invalides refusés")
+    void testInvalidSettings() {
+        GameSimulation simulation = TestMatches.newSimulation(TestMatches.SMALL_DUEL);
+        assertThrows(IllegalArgumentException.class, () -> new LockstepSession(simulation, 3, fromA));
+        assertThrows(IllegalArgumentException.class, () -> new LockstepSession(simulation, 1, 4, 6, fromA));
+        assertThrows(IllegalArgumentException.class, () -> new LockstepSession(simulation, 1, 0, 0, fromA));
+    }
+
+    @Test
+    @DisplayName("Partie sur la boucle locale : mêmes ticks et même état chez les deux pairs")
+    void testLoopbackLink() throws Exception {
+        try (ServerSocket server = LockstepLink.listen(0)) {
+            CompletableFuture<LockstepLink> hosting = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return LockstepLink.accept(server, 2, "test", TestMatches.SEED, LockstepSession.DEFAULT_INPUT_DELAY, 10_000);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            LockstepLink joined = LockstepLink.join("127.0.0.1", server.getLocalPort(), 10_000);
+            LockstepLink host = hosting.get(10, TimeUnit.SECONDS);
+            try {
+                assertEquals(2, joined.getLocalNumber());
+                assertEquals(TestMatches.SEED, joined.getSeed());
+                assertEquals("test", joined.getMapName());
+
+                LockstepSession hostSession = new LockstepSession(TestMatches.newSimulation(TestMatches.SMALL_DUEL), 1, host);
+                LockstepSession joinSession = new LockstepSession(TestMatches.newSimulation(TestMatches.SMALL_DUEL), 2, joined);
+                host.start(hostSession);
+                joined.start(joinSession);
+
+                CompletableFuture<Void> peer = CompletableFuture.runAsync(() -> drive(joinSession, 2, 300));
+                drive(hostSession, 1, 300);
+                peer.get(20, TimeUnit.SECONDS);
+
+                GameSimulation hostSimulation = hostSession.getSimulation();
+                assertTrue(hostSimulation.getTick() == 300 || hostSimulation.isFinished());
+                assertEquals(hostSimulation.getTick(), joinSession.getSimulation().getTick());
+                assertEquals(StateChecksum.of(hostSession.getSimulation()), StateChecksum.of(joinSession.getSimulation()));
+                assertFalse(hostSession.isDesynced());
+            } finally {
+                host.close();
+                joined.close();
+            }
+        }
+    }
+
+    private static void drive(LockstepSession session, int player, long ticks) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+        GameSimulation simulation = session.getSimulation();
+        while (simulation.getTick() < ticks && !simulation.isFinished() && System.nanoTime() < deadline) {
+            session.submitLocalInput(script(player, simulation.getTick()));
+            if (!session.tryStep()) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
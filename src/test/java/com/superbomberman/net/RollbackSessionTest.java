@@ -0,0 +1,276 @@
+package com.superbomberman.net;
+
+import com.superbomberman.game.GameSimulation;
+import com.superbomberman.game.PlayerInput;
+import com.superbomberman.game.StateChecksum;
+import com.superbomberman.game.TestMatches;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.ServerSocket;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe RollbackSession
+ *
+ * Politique de tests implémentée :
+ * - Deux pairs reliés en mémoire avec latence variable (pics au-delà de la fenêtre de prédiction)
+ * - États confirmés identiques à ceux d'un lockstep aux mêmes entrées (empreintes publiées)
+ * - Retours en arrière effectifs et bornés par la prédiction maximale
+ * - Prédiction bornée sans entrées du pair, correction à leur arrivée
+ * - Partie réelle sur la boucle locale via LockstepLink
+ */
+@DisplayName("Tests de la classe RollbackSession")
+public class RollbackSessionTest {
+
+    private static final long CHECKED_TICKS = 900;
+
+    /**
+     * Transport en mémoire avec latence : chaque trame est livrée après un nombre de
+     * passes de boucle donné, dans l'ordre d'envoi (comme sur TCP). Les empreintes
+     * publiées sont relevées au passage.
+     */
+    private static final class Pipe implements LockstepTransport {
+        final ArrayDeque<byte[]> frames = new ArrayDeque<>();
+        final ArrayDeque<Long> deliverAt = new ArrayDeque<>();
+        final Map<Long, Integer> checksums = new TreeMap<>();
+        long now = 0;
+        int latency = 0;
+
+        @Override
+        public void send(byte[] frame, int length) {
+            frames.add(Arrays.copyOf(frame, length));
+            long last = deliverAt.isEmpty() ? 0 : deliverAt.peekLast();
+            deliverAt.add(Math.max(last, now + latency));
+            if (frame[1] == LockstepProtocol.CHECKSUM) {
+                int[] cursor = {3};
+                long tick = LockstepProtocol.readVarint(frame, cursor, length);
+                int p = cursor[0];
+                checksums.put(tick, (frame[p] & 0xFF) << 24 | (frame[p + 1] & 0xFF) << 16
+                        | (frame[p + 2] & 0xFF) << 8 | (frame[p + 3] & 0xFF));
+            }
+        }
+
+        void deliverTo(PeerSession peer) {
+            while (!frames.isEmpty() && deliverAt.peekFirst() <= now) {
+                byte[] frame = frames.poll();
+                deliverAt.poll();
+                peer.receive(frame, 1, frame.length - 1);
+            }
+        }
+    }
+
+    /** Résultat d'une partie jouée en lockstep puis en rollback. */
+    private static final class Match {
+        final RollbackSession a;
+        final RollbackSession b;
+        final LockstepSession reference;
+        final int checksums;
+
+        Match(RollbackSession a, RollbackSession b, LockstepSession reference, int checksums) {
+            this.a = a;
+            this.b = b;
+            this.reference = reference;
+            this.checksums = checksums;
+        }
+    }
+
+    /**
+     * Entrée scriptée : changements de direction fréquents pour démentir les prédictions,
+     * bombes éventuelles (les joueurs finissent alors pris dans leurs explosions).
+     */
+    private static int script(int player, long tick, boolean bombs) {
+        int direction = switch ((int) ((tick / 13 + player) % 4)) {
+            case 0 -> PlayerInput.RIGHT;
+            case 1 -> PlayerInput.DOWN;
+            case 2 -> PlayerInput.LEFT;
+            default -> PlayerInput.UP;
+        };
+        return bombs && tick % 120 == 30 * player ? direction | PlayerInput.BOMB : direction;
+    }
+
+    /** Latence variable : 3 passes en temps normal, pics de 14 passes. */
+    private static int latency(long frame) {
+        return frame % 150 < 20 ? 14 : 3;
+    }
+
+    private static void run(PeerSession a, Pipe fromA, PeerSession b, Pipe fromB, boolean lagging, boolean bombs) {
+        for (long frame = 0; frame < 5000; frame++) {
+            if (done(a) && done(b)) {
+                return;
+            }
+            fromA.now = frame;
+            fromB.now = frame;
+            fromA.latency = lagging ? latency(frame) : 0;
+            fromB.latency = lagging ? latency(frame + 75) : 0;
+            a.submitLocalInput(script(1, a.getSimulation().getTick(), bombs));
+            b.submitLocalInput(script(2, b.getSimulation().getTick(), bombs));
+            fromA.deliverTo(b);
+            fromB.deliverTo(a);
+            a.tryStep();
+            b.tryStep();
+        }
+    }
+
+    private static boolean done(PeerSession session) {
+        if (session instanceof RollbackSession rollback) {
+            return rollback.isEndConfirmed() || rollback.getConfirmedTick() > CHECKED_TICKS + 10;
+        }
+        return session.getSimulation().isFinished() || session.getSimulation().getTick() > CHECKED_TICKS;
+    }
+
+    /**
+     * Joue la même partie en lockstep sans latence puis en rollback sous latence variable,
+     * et vérifie que les empreintes publiées (ticks confirmés) sont identiques.
+     *
+     * @return les deux sessions rollback et la référence lockstep du joueur 1
+     */
+    private static Match compareWithLockstep(boolean bombs) {
+        Pipe lockA = new Pipe();
+        Pipe lockB = new Pipe();
+        LockstepSession reference = new LockstepSession(TestMatches.newSimulation(TestMatches.DUEL), 1,
+                RollbackSession.DEFAULT_INPUT_DELAY, RollbackSession.DEFAULT_BATCH_TICKS, lockA);
+        LockstepSession referenceB = new LockstepSession(TestMatches.newSimulation(TestMatches.DUEL), 2,
+                RollbackSession.DEFAULT_INPUT_DELAY, RollbackSession.DEFAULT_BATCH_TICKS, lockB);
+        run(reference, lockA, referenceB, lockB, false, bombs);
+
+        Pipe fromA = new Pipe();
+        Pipe fromB = new Pipe();
+        RollbackSession a = new RollbackSession(TestMatches.newSimulation(TestMatches.DUEL), 1, fromA);
+        RollbackSession b = new RollbackSession(TestMatches.newSimulation(TestMatches.DUEL), 2, fromB);
+        run(a, fromA, b, fromB, true, bombs);
+
+        for (Map.Entry<Long, Integer> expected : lockA.checksums.entrySet()) {
+            if (expected.getKey() <= CHECKED_TICKS) {
+                assertEquals(expected.getValue(), fromA.checksums.get(expected.getKey()), "tick " + expected.getKey());
+                assertEquals(expected.getValue(), fromB.checksums.get(expected.getKey()), "tick " + expected.getKey());
+            }
+        }
+        assertFalse(a.isDesynced());
+        assertFalse(b.isDesynced());
+        return new Match(a, b, reference, lockA.checksums.size());
+    }
+
+    @Test
+    @DisplayName("Sous latence variable, les états confirmés sont ceux du lockstep")
+    void testMatchesLockstepUnderLatency() {
+        Match match = compareWithLockstep(false);
+        RollbackSession a = match.a;
+        RollbackSession b = match.b;
+
+        assertTrue(match.checksums >= CHECKED_TICKS / LockstepSession.CHECKSUM_INTERVAL);
+        assertTrue(a.getRollbackCount() > 0);
+        assertTrue(b.getRollbackCount() > 0);
+        assertTrue(a.getDeepestRollback() <= RollbackSession.DEFAULT_MAX_ROLLBACK);
+        assertTrue(b.getDeepestRollback() <= RollbackSession.DEFAULT_MAX_ROLLBACK);
+    }
+
+    @Test
+    @DisplayName("Une fin de partie prédite n'est confirmée qu'au tick du lockstep")
+    void testGameEndConfirmed() {
+        Match match = compareWithLockstep(true);
+        RollbackSession a = match.a;
+        RollbackSession b = match.b;
+        GameSimulation reference = match.reference.getSimulation();
+
+        assertTrue(reference.isFinished());
+        assertTrue(a.isEndConfirmed());
+        assertTrue(b.isEndConfirmed());
+        assertEquals(reference.getTick(), a.getSimulation().getTick());
+        assertEquals(reference.getTick(), b.getSimulation().getTick());
+        assertEquals(StateChecksum.of(reference), StateChecksum.of(a.getSimulation()));
+    }
+
+    @Test
+    @DisplayName("Sans les entrées du pair, la prédiction s'arrête à la fenêtre permise")
+    void testPredictionWindow() {
+        Pipe fromA = new Pipe();
+        Pipe fromB = new Pipe();
+        RollbackSession a = new RollbackSession(TestMatches.newSimulation(TestMatches.DUEL), 1, fromA);
+        RollbackSession b = new RollbackSession(TestMatches.newSimulation(TestMatches.DUEL), 2, fromB);
+        for (int frame = 0; frame < 100; frame++) {
+            a.submitLocalInput(PlayerInput.RIGHT);
+            a.tryStep();
+        }
+        assertEquals(RollbackSession.DEFAULT_INPUT_DELAY + RollbackSession.DEFAULT_MAX_ROLLBACK,
+                a.getSimulation().getTick());
+        assertEquals(0, a.getRollbackCount());
+
+        // Le pair avance à son tour : ses entrées démentent la prédiction « aucune entrée »
+        fromA.deliverTo(b);
+        for (int frame = 0; frame < 5; frame++) {
+            b.submitLocalInput(PlayerInput.LEFT);
+            assertTrue(b.tryStep());
+        }
+        b.submitLocalInput(PlayerInput.LEFT);
+        fromB.deliverTo(a);
+        assertTrue(a.tryStep());
+        assertEquals(1, a.getRollbackCount());
+        assertTrue(a.getResimulatedTicks() > 0);
+    }
+
+    @Test
+    @DisplayName("Réglages invalides refusés")
+    void testInvalidSettings() {
+        GameSimulation simulation = TestMatches.newSimulation(TestMatches.DUEL);
+        Pipe pipe = new Pipe();
+        assertThrows(IllegalArgumentException.class, () -> new RollbackSession(simulation, 3, pipe));
+        assertThrows(IllegalArgumentException.class, () -> new RollbackSession(simulation, 1, 0, 1, 8, pipe));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RollbackSession(simulation, 1, 2, 2, RollbackSession.SNAPSHOTS, pipe));
+        assertThrows(IllegalArgumentException.class, () -> new RollbackSession(simulation, 1, 2, 11, 8, pipe));
+    }
+
+    @Test
+    @DisplayName("Partie sur la boucle locale : ticks confirmés et empreintes identiques")
+    void testLoopbackLink() throws Exception {
+        try (ServerSocket server = LockstepLink.listen(0)) {
+            CompletableFuture<LockstepLink> hosting = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return LockstepLink.accept(server, 2, "test", TestMatches.SEED, RollbackSession.DEFAULT_INPUT_DELAY, 10_000);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            LockstepLink joined = LockstepLink.join("127.0.0.1", server.getLocalPort(), 10_000);
+            LockstepLink host = hosting.get(10, TimeUnit.SECONDS);
+            try {
+                RollbackSession hostSession = new RollbackSession(TestMatches.newSimulation(TestMatches.DUEL), 1, host);
+                RollbackSession joinSession = new RollbackSession(TestMatches.newSimulation(TestMatches.DUEL), 2, joined);
+                host.start(hostSession);
+                joined.start(joinSession);
+
+                CompletableFuture<Void> peer = CompletableFuture.runAsync(() -> drive(joinSession, 2, 300));
+                drive(hostSession, 1, 300);
+                peer.get(20, TimeUnit.SECONDS);
+
+                assertTrue(hostSession.getConfirmedTick() >= 300 || hostSession.isEndConfirmed());
+                assertTrue(joinSession.getConfirmedTick() >= 300 || joinSession.isEndConfirmed());
+                assertFalse(hostSession.isDesynced());
+                assertFalse(joinSession.isDesynced());
+            } finally {
+                host.close();
+                joined.close();
+            }
+        }
+    }
+
+    private static void drive(RollbackSession session, int player, long ticks) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+        GameSimulation simulation = session.getSimulation();
+        // Un peu au-delà du seuil : le pair reçoit ainsi nos entrées jusqu'au seuil
+        while (simulation.getTick() < ticks + 20 && !session.isEndConfirmed() && System.nanoTime() < deadline) {
+            session.submitLocalInput(script(player, simulation.getTick(), false));
+            if (!session.tryStep()) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
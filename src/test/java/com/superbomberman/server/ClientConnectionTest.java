@@ -0,0 +1,115 @@
+package com.superbomberman.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe ClientConnection
+ *
+ * Politique de tests implémentée :
+ * - Connexion réelle sur la boucle locale, thread d'écriture virtuel comme sur le serveur
+ * - Messages reçus dans l'ordre : bienvenue, état, puis fin de partie avant la fermeture
+ * - Un client qui ne lit plus ne bloque jamais l'appelant de send() et finit déconnecté
+ */
+@DisplayName("Tests de la classe ClientConnection")
+public class ClientConnectionTest {
+
+    private static final long STALL_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private ServerSocket serverSocket;
+    private Socket peer;
+    private ClientConnection connection;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (connection != null) {
+            connection.close();
+        }
+        if (peer != null) {
+            peer.close();
+        }
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+    }
+
+    /** Ouvre une connexion serveur et son pair client, thread d'écriture démarré. */
+    private void connect(int peerReceiveBuffer) throws Exception {
+        serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        peer = new Socket();
+        peer.setReceiveBufferSize(peerReceiveBuffer);
+        peer.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort()));
+        Socket accepted = serverSocket.accept();
+        accepted.setSendBufferSize(peerReceiveBuffer);
+        connection = new ClientConnection(accepted, STALL_NANOS);
+        Thread.ofVirtual().start(connection::writeFrames);
+    }
+
+    @Test
+    @DisplayName("Bienvenue, état et fin de partie arrivent dans l'ordre")
+    void testFramesDelivered() throws Exception {
+        connect(64 * 1024);
+        byte[] state = {Protocol.STATE, 0, 0, 0, 7, 0, 0, 0};
+        byte[] end = {Protocol.END, 0, 0, 0, 9, 2};
+
+        assertTrue(connection.sendWelcome(3, 2, 4, 15, 13));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!connection.canSend() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertTrue(connection.send(state, state.length));
+        assertTrue(connection.sendLastAndClose(end, end.length, System.nanoTime() + TimeUnit.SECONDS.toNanos(5)));
+
+        DataInputStream in = new DataInputStream(peer.getInputStream());
+        assertEquals(Protocol.WELCOME, in.readByte());
+        assertEquals(3, in.readInt());
+        assertEquals(2, in.readByte());
+        assertEquals(4, in.readByte());
+        assertEquals(15, in.readShort());
+        assertEquals(13, in.readShort());
+        byte[] received = new byte[state.length];
+        in.readFully(received);
+        assertArrayEquals(state, received);
+        received = new byte[end.length];
+        in.readFully(received);
+        assertArrayEquals(end, received);
+        assertThrows(EOFException.class, in::readByte);
+        assertTrue(connection.isClosed());
+    }
+
+    @Test
+    @DisplayName("Un client qui ne lit plus ne bloque pas l'envoi et finit déconnecté")
+    void testStalledClientDropped() throws Exception {
+        connect(4 * 1024);
+        byte[] frame = new byte[64 * 1024];
+        frame[0] = Protocol.STATE;
+
+        long slowestSend = 0;
+        int accepted = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!connection.isClosed() && System.nanoTime() < deadline) {
+            long start = System.nanoTime();
+            if (connection.send(frame, frame.length)) {
+                accepted++;
+            }
+            slowestSend = Math.max(slowestSend, System.nanoTime() - start);
+            Thread.sleep(1);
+        }
+
+        assertTrue(connection.isClosed(), "client déconnecté");
+        assertTrue(accepted >= 1);
+        assertTrue(slowestSend < TimeUnit.MILLISECONDS.toNanos(100), "send() a bloqué " + slowestSend + " ns");
+        assertFalse(connection.send(frame, frame.length));
+    }
+}
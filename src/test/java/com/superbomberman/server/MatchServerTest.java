@@ -0,0 +1,129 @@
+package com.superbomberman.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe MatchServer
+ *
+ * Politique de tests implémentée :
+ * - Serveur réel sur la boucle locale (port libre), bots scriptés du LoadGenerator
+ * - Regroupement des clients par partie et numéros de joueur attribués
+ * - Diffusion de l'état puis fin de partie reçue par chaque client
+ * - Places de la carte sans client libérées
+ * - Spectateurs : flux reçu jusqu'à la fin, un seul encodage par tick partagé entre spectateurs
+ * - Lecture des options de la ligne de commande
+ */
+@DisplayName("Tests de la classe MatchServer")
+public class MatchServerTest {
+
+    private MatchServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    private int startServer(int players, long maxTicks) throws Exception {
+        MatchServer.Options options = new MatchServer.Options();
+        options.setPort(0);
+        options.setPlayersPerMatch(players);
+        options.setMaxTicks(maxTicks);
+        server = new MatchServer(options);
+        server.start();
+        return server.getPort();
+    }
+
+    @Test
+    @DisplayName("Les clients sont regroupés par 4 et reçoivent l'état puis la fin de partie")
+    void testMatchesRunToEnd() throws Exception {
+        int port = startServer(4, 120);
+
+        LoadGenerator.Report report = LoadGenerator.run(port, 3, 4, 0.0, 20_000);
+
+        assertEquals(0, report.getFailedBots());
+        assertEquals(12, report.getEndedBots());
+        Map<Integer, Set<Integer>> numbersByMatch = new HashMap<>();
+        for (BotClient bot : report.getBots()) {
+            assertEquals(4, bot.getPlayerCount());
+            assertTrue(bot.getStatesReceived() > 0);
+            assertTrue(bot.getLastTick() <= 120);
+            numbersByMatch.computeIfAbsent(bot.getMatchId(), id -> new HashSet<>()).add(bot.getPlayerNumber());
+        }
+        assertEquals(3, numbersByMatch.size());
+        for (Set<Integer> numbers : numbersByMatch.values()) {
+            assertEquals(Set.of(1, 2, 3, 4), numbers);
+        }
+        assertEquals(3, server.getStats().getFinishedMatches());
+        assertTrue(server.getStats().getTicks() > 0);
+    }
+
+    @Test
+    @DisplayName("Les places de la carte sans client sont libérées")
+    void testUnusedSpawnsAreFreed() throws Exception {
+        int port = startServer(2, 30);
+
+        LoadGenerator.Report report = LoadGenerator.run(port, 1, 2, 0.0, 20_000);
+
+        assertEquals(2, report.getEndedBots());
+        for (BotClient bot : report.getBots()) {
+            assertEquals(2, bot.getPlayerCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Les spectateurs suivent la partie sur un encodage partagé")
+    void testSpectators() throws Exception {
+        int port = startServer(2, 180);
+
+        LoadGenerator.Report report = LoadGenerator.run(port, 2, 2, 0.2, 3, 20_000);
+
+        assertEquals(4, report.getEndedBots());
+        assertEquals(6, report.getSpectators().size());
+        Map<Integer, Integer> endTicks = new HashMap<>();
+        for (BotClient bot : report.getBots()) {
+            endTicks.put(bot.getMatchId(), bot.getLastTick());
+        }
+        for (SpectatorClient spectator : report.getSpectators()) {
+            assertNull(spectator.getFailure());
+            assertTrue(spectator.isEnded());
+            assertTrue(spectator.getKeyframes() >= 1);
+            assertTrue(spectator.getDeltas() > 0);
+            assertTrue(spectator.getView().isSynced());
+            assertEquals(endTicks.get(spectator.getMatchId()), spectator.getLastTick());
+        }
+
+        ServerStats stats = server.getStats();
+        assertTrue(stats.getSpectatorFramesEncoded() > 0);
+        assertTrue(stats.getSpectatorFramesEncoded() <= stats.getTicks());
+        // Trois spectateurs par partie : un même message encodé part à chacun d'eux
+        assertTrue(stats.getSpectatorFramesSent() >= 2 * stats.getSpectatorFramesEncoded());
+        assertEquals(0, stats.getSpectators());
+    }
+
+    @Test
+    @DisplayName("Les options de la ligne de commande sont lues et validées")
+    void testOptionsParsing() throws Exception {
+        MatchServer.Options options = MatchServer.Options.parse(
+                new String[]{"--port", "9000", "--players", "2", "--broadcast-every", "3", "--max-ticks", "600",
+                        "--keyframe-every", "30"});
+
+        assertEquals(9000, options.getPort());
+        assertEquals(2, options.getPlayersPerMatch());
+        assertEquals(3, options.getBroadcastEvery());
+        assertEquals(600, options.getMaxTicks());
+        assertEquals(30, options.getKeyframeEvery());
+        assertThrows(IllegalArgumentException.class, () -> MatchServer.Options.parse(new String[]{"--bogus", "1"}));
+        assertThrows(IllegalArgumentException.class, () -> MatchServer.Options.parse(new String[]{"--players", "9"}));
+    }
+}
@@ -0,0 +1,148 @@
+package com.superbomberman.server;
+
+import com.superbomberman.game.GameSimulation;
+import com.superbomberman.game.PlayerInput;
+import com.superbomberman.game.PlayerSlot;
+import com.superbomberman.game.PlayerSlots;
+import com.superbomberman.game.TestMatches;
+import com.superbomberman.model.Player;
+import com.superbomberman.model.TileGrid;
+import com.superbomberman.model.TileType;
+import com.superbomberman.model.powerup.PowerUp;
+import com.superbomberman.model.powerup.PowerUpType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour les classes SpectatorFeed et SpectatorView
+ *
+ * Politique de tests implémentée :
+ * - Plateau reconstitué identique à la simulation à chaque tick (cases, bombes, power-ups, joueurs)
+ * - Tick sans changement : delta minimal de 10 octets
+ * - Deltas reçus avant la première image clé ignorés, synchronisation à l'image clé suivante
+ */
+@DisplayName("Tests du flux des spectateurs")
+public class SpectatorFeedTest {
+
+    private GameSimulation simulation;
+    private SpectatorFeed feed;
+    private SpectatorView view;
+    private final int[] inputs = new int[PlayerSlots.MAX_PLAYERS];
+
+    @BeforeEach
+    void setUp() {
+        simulation = TestMatches.newSimulation(MatchServer.DEFAULT_ARENA);
+        feed = new SpectatorFeed(simulation);
+        view = new SpectatorView();
+    }
+
+    /** Entrées scriptées : déplacements et bombes réguliers pour les quatre joueurs. */
+    private void step() {
+        long tick = simulation.getTick();
+        for (int player = 0; player < 4; player++) {
+            int direction = (tick / 20 + player) % 4 < 2 ? PlayerInput.RIGHT : PlayerInput.DOWN;
+            inputs[player] = tick % 100 == 10L * player ? direction | PlayerInput.BOMB : direction;
+        }
+        simulation.step(inputs);
+    }
+
+    /** Encode l'état courant puis le décode dans la vue du spectateur. */
+    private int publish(boolean keyframe) throws IOException {
+        int length = feed.encode(keyframe);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(feed.getFrame(), 0, length));
+        byte type = Protocol.readType(in);
+        int read = type == Protocol.KEYFRAME ? view.readKeyframe(in) : view.readDelta(in);
+        assertEquals(length, read);
+        assertEquals(0, in.available());
+        return length;
+    }
+
+    private void assertViewMatchesSimulation() {
+        TileGrid map = simulation.getMap();
+        assertEquals(simulation.getTick(), view.getTick());
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int x = 0; x < map.getWidth(); x++) {
+                assertEquals(map.get(x, y), view.getTile(x, y), "case " + x + "," + y);
+                assertEquals(simulation.getBombManager().hasBombAt(x, y), view.hasBomb(x, y), "bombe " + x + "," + y);
+                PowerUp powerUp = simulation.getPowerUpManager().getPowerUpAt(x, y);
+                PowerUpType expected = powerUp != null ? powerUp.getType() : null;
+                assertEquals(expected, view.getPowerUp(x, y), "power-up " + x + "," + y);
+            }
+        }
+        PlayerSlots slots = simulation.getPlayerSlots();
+        for (int i = 0; i < slots.activeCount(); i++) {
+            PlayerSlot slot = slots.active(i);
+            Player player = slot.getPlayer();
+            assertTrue(view.isPlayerPresent(slot.getNumber()));
+            assertEquals(player.getX(), view.getPlayerX(slot.getNumber()));
+            assertEquals(player.getY(), view.getPlayerY(slot.getNumber()));
+            assertEquals(player.isAlive(), view.isPlayerAlive(slot.getNumber()));
+        }
+    }
+
+    @Test
+    @DisplayName("Le plateau reconstitué suit la simulation tick après tick")
+    void testViewFollowsSimulation() throws IOException {
+        publish(false);
+        assertViewMatchesSimulation();
+        int destroyed = 0;
+        int bombTicks = 0;
+        while (simulation.getTick() < 900 && !simulation.isFinished()) {
+            step();
+            publish(simulation.getTick() % 60 == 0);
+            assertViewMatchesSimulation();
+            if (!simulation.getBombManager().getActiveBombsView().isEmpty()) {
+                bombTicks++;
+            }
+        }
+        for (int y = 0; y < simulation.getMap().getHeight(); y++) {
+            for (int x = 0; x < simulation.getMap().getWidth(); x++) {
+                if (MatchServer.DEFAULT_ARENA.get(y).charAt(x) == '0' && view.getTile(x, y) != TileType.WALL_BREAKABLE) {
+                    destroyed++;
+                }
+            }
+        }
+        assertTrue(bombTicks > 0);
+        assertTrue(destroyed > 0, "au moins un mur détruit pendant la partie");
+    }
+
+    @Test
+    @DisplayName("Un tick sans changement coûte un delta de 10 octets")
+    void testEmptyDelta() throws IOException {
+        int keyframe = publish(false);
+        assertTrue(keyframe > simulation.getMap().size());
+        // Personne ne bouge : seul le tick change
+        simulation.step(new int[PlayerSlots.MAX_PLAYERS]);
+        assertEquals(10, publish(false));
+        assertViewMatchesSimulation();
+    }
+
+    @Test
+    @DisplayName("Les deltas précédant la première image clé sont ignorés")
+    void testJoinMidStream() throws IOException {
+        SpectatorView late = new SpectatorView();
+        view = late;
+        feed.encode(true); // Image clé manquée par ce spectateur
+        for (int i = 0; i < 30; i++) {
+            step();
+            publish(false);
+            assertFalse(late.isSynced());
+        }
+        step();
+        publish(true);
+        assertTrue(late.isSynced());
+        assertViewMatchesSimulation();
+        for (int i = 0; i < 30; i++) {
+            step();
+            publish(false);
+            assertViewMatchesSimulation();
+        }
+    }
+}
@@ -19,6 +19,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * - Tests de logique métier (authentification, inscription)
  * - Tests de persistance (fichiers utilisateurs)
  * - Tests de gestion des sessions
+ * - Tests d'import des anciens fichiers (tout ou rien, repris après interruption)
  * - Tests de cas limites et erreurs
  *
  * COUVERTURE : Vise 90%+ des lignes de code de AuthService
@@ -256,4 +257,60 @@ class AuthServiceTest {
         assertFalse(restored);
         assertFalse(authService.isLoggedIn());
     }
+
+    // ================== TESTS D'IMPORT DES ANCIENS FICHIERS ==================
+
+    private static void writeLegacyUser(Path legacyDir, String username) throws IOException {
+        Files.writeString(legacyDir.resolve(username + ".properties"),
+                "username=" + username + "\npassword=secret\ngamesWon=3\n");
+    }
+
+    @Test
+    @DisplayName("Import - Un import interrompu est repris en entier")
+    void testImportResumesAfterInterruption(@TempDir Path dir) throws IOException {
+        Path legacyDir = Files.createDirectory(dir.resolve("users"));
+        writeLegacyUser(legacyDir, "alice");
+        writeLegacyUser(legacyDir, "bob");
+        writeLegacyUser(legacyDir, "carol");
+        Path usersFile = dir.resolve("users.db");
+
+        // Import précédent interrompu après un seul utilisateur
+        UserStore partial = UserStore.open(dir.resolve("users.db.import"));
+        User alice = new User();
+        alice.setUsername("alice");
+        alice.setPassword("secret");
+        partial.put(alice);
+        partial.close();
+
+        assertEquals(3, AuthService.importLegacyUsers(legacyDir, usersFile));
+
+        assertFalse(Files.exists(dir.resolve("users.db.import")));
+        UserStore store = UserStore.open(usersFile);
+        try {
+            assertEquals(3, store.size());
+            assertEquals(3, store.get("carol").getGamesWon());
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Import - Pas de nouvel import une fois le fichier des utilisateurs créé")
+    void testImportRunsOnce(@TempDir Path dir) throws IOException {
+        Path legacyDir = Files.createDirectory(dir.resolve("users"));
+        writeLegacyUser(legacyDir, "alice");
+        Path usersFile = dir.resolve("users.db");
+
+        assertEquals(1, AuthService.importLegacyUsers(legacyDir, usersFile));
+        writeLegacyUser(legacyDir, "bob");
+        assertEquals(0, AuthService.importLegacyUsers(legacyDir, usersFile));
+
+        UserStore store = UserStore.open(usersFile);
+        try {
+            assertEquals(1, store.size());
+            assertFalse(store.contains("bob"));
+        } finally {
+            store.close();
+        }
+    }
 }
\ No newline at end of file
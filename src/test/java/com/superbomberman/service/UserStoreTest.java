@@ -0,0 +1,267 @@
+package com.superbomberman.service;
+
+import com.superbomberman.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe UserStore
+ *
+ * Politique de tests implémentée :
+ * - Aller-retour d'un utilisateur et index reconstruit à la réouverture (dernier enregistrement gagnant)
+ * - Un seul stockage partagé par fichier
+ * - Reprise après incident : fin de fichier incomplète ou corrompue tronquée, enregistrement
+ *   corrompu au milieu du fichier sauté sans perdre les suivants
+ * - Synchronisation par lots, compactage en arrière-plan sans perte, échec de compactage sans effet
+ * - Ouverture rapide d'un fichier de 100 000 comptes
+ */
+@DisplayName("Tests du stockage indexé des utilisateurs")
+public class UserStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private UserStore store;
+
+    @AfterEach
+    void tearDown() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    private Path file() {
+        return dir.resolve("users.db");
+    }
+
+    private UserStore reopen() throws IOException {
+        store.close();
+        store = UserStore.open(file());
+        return store;
+    }
+
+    private static User user(String name, int gamesPlayed) {
+        User user = new User(name, "secret-" + name, name + "@example.com");
+        user.setGamesPlayed(gamesPlayed);
+        return user;
+    }
+
+    @Test
+    @DisplayName("Utilisateur relu à l'identique après réouverture")
+    void testRoundTrip() throws IOException {
+        store = UserStore.open(file());
+        User user = user("Jules", 3);
+        user.setGamesWon(2);
+        user.setHighScore(4200);
+        user.setFavoriteCharacter("Bomberman Noir");
+        user.setLastLoginAt(LocalDateTime.of(2026, 10, 17, 12, 30));
+        store.put(user);
+
+        User read = reopen().get("Jules");
+
+        assertNotNull(read);
+        assertNotSame(user, read);
+        assertEquals("secret-Jules", read.getPassword());
+        assertEquals("Jules@example.com", read.getEmail());
+        assertEquals(3, read.getGamesPlayed());
+        assertEquals(2, read.getGamesWon());
+        assertEquals(4200, read.getHighScore());
+        assertEquals("Bomberman Noir", read.getFavoriteCharacter());
+        assertEquals(user.getCreatedAt(), read.getCreatedAt());
+        assertEquals(user.getLastLoginAt(), read.getLastLoginAt());
+        assertNull(store.get("Inconnu"));
+        assertFalse(store.contains("Inconnu"));
+    }
+
+    @Test
+    @DisplayName("Le dernier enregistrement d'un utilisateur l'emporte")
+    void testLatestRecordWins() throws IOException {
+        store = UserStore.open(file());
+        for (int i = 1; i <= 5; i++) {
+            store.put(user("Hugo", i));
+        }
+
+        reopen();
+
+        assertEquals(1, store.size());
+        assertEquals(5, store.getRecordCount());
+        assertEquals(5, store.get("Hugo").getGamesPlayed());
+    }
+
+    @Test
+    @DisplayName("Un seul stockage ouvert par fichier")
+    void testSharedPerFile() throws IOException {
+        store = UserStore.open(file());
+        assertSame(store, UserStore.open(dir.resolve(".").resolve("users.db")));
+    }
+
+    @Test
+    @DisplayName("Fin de fichier incomplète tronquée à l'ouverture")
+    void testTornTail() throws IOException {
+        store = UserStore.open(file());
+        store.put(user("Jules", 1));
+        store.put(user("Hugo", 1));
+        long sizeWithTwo = store.getFileSize();
+        store.put(user("Jufu", 1));
+        store.close();
+        try (FileChannel channel = FileChannel.open(file(), StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5); // Écriture interrompue au milieu
+        }
+
+        store = UserStore.open(file());
+
+        assertEquals(2, store.size());
+        assertFalse(store.contains("Jufu"));
+        assertEquals(sizeWithTwo, Files.size(file()));
+        store.put(user("Jufu", 2));
+        assertEquals(2, reopen().get("Jufu").getGamesPlayed());
+    }
+
+    @Test
+    @DisplayName("Enregistrement final corrompu détecté par sa somme de contrôle")
+    void testCorruptedTail() throws IOException {
+        store = UserStore.open(file());
+        store.put(user("Jules", 1));
+        store.put(user("Jules", 2));
+        store.close();
+        byte[] bytes = Files.readAllBytes(file());
+        bytes[bytes.length - 3] ^= 0x5A;
+        Files.write(file(), bytes);
+
+        store = UserStore.open(file());
+
+        assertEquals(1, store.getRecordCount());
+        assertEquals(1, store.get("Jules").getGamesPlayed());
+    }
+
+    @Test
+    @DisplayName("Enregistrement corrompu au milieu du fichier sauté, suivants conservés")
+    void testCorruptedMiddleRecord() throws IOException {
+        store = UserStore.open(file());
+        store.put(user("Jules", 1));
+        long hugoOffset = store.getFileSize();
+        store.put(user("Hugo", 1));
+        store.put(user("Jufu", 1));
+        store.put(user("Jules", 2));
+        long size = store.getFileSize();
+        store.close();
+        byte[] bytes = Files.readAllBytes(file());
+        bytes[(int) hugoOffset + 12] ^= 0x5A;
+        Files.write(file(), bytes);
+
+        store = UserStore.open(file());
+
+        assertEquals(size, Files.size(file()), "aucune donnée valide tronquée");
+        assertFalse(store.contains("Hugo"));
+        assertEquals(1, store.get("Jufu").getGamesPlayed());
+        assertEquals(2, store.get("Jules").getGamesPlayed());
+        assertEquals(3, store.getRecordCount());
+        store.put(user("Hugo", 3));
+        assertEquals(3, reopen().get("Hugo").getGamesPlayed());
+        assertEquals(1, store.get("Jufu").getGamesPlayed());
+    }
+
+    @Test
+    @DisplayName("Fichier étranger refusé")
+    void testForeignFile() throws IOException {
+        Files.writeString(file(), "username=Jules\npassword=x\n");
+        assertThrows(IOException.class, () -> UserStore.open(file()));
+    }
+
+    @Test
+    @DisplayName("Synchronisation sur disque par lots d'ajouts")
+    void testSyncBatching() throws IOException {
+        store = UserStore.open(file());
+        for (int i = 0; i < UserStore.SYNC_BATCH_RECORDS - 1; i++) {
+            store.put(user("Joueur" + i, i));
+        }
+        assertEquals(UserStore.SYNC_BATCH_RECORDS - 1, store.getPendingSync());
+
+        store.put(user("Dernier", 0));
+        assertEquals(0, store.getPendingSync());
+
+        store.put(user("Suivant", 0));
+        store.sync();
+        assertEquals(0, store.getPendingSync());
+    }
+
+    @Test
+    @DisplayName("Compactage automatique en arrière-plan : fichier réduit, dernières valeurs conservées")
+    void testCompaction() throws IOException {
+        store = UserStore.open(file());
+        for (int i = 0; i < UserStore.COMPACTION_MIN_RECORDS - 1; i++) {
+            store.put(user("Joueur" + (i % 10), i));
+        }
+        long before = store.getFileSize();
+        assertEquals(UserStore.COMPACTION_MIN_RECORDS - 1, store.getRecordCount());
+
+        store.put(user("Joueur0", 9999));
+        awaitRecordCount(10);
+
+        assertTrue(store.getFileSize() < before / 50);
+        assertEquals(store.getFileSize(), Files.size(file()));
+        assertFalse(Files.exists(dir.resolve("users.db.compact")));
+        assertEquals(9999, store.get("Joueur0").getGamesPlayed());
+        assertEquals(UserStore.COMPACTION_MIN_RECORDS - 2, store.get("Joueur2").getGamesPlayed());
+
+        store.put(user("Joueur1", 1));
+        reopen();
+        assertEquals(10, store.size());
+        assertEquals(1, store.get("Joueur1").getGamesPlayed());
+    }
+
+    /** Attend la fin du compactage lancé sur le thread de synchronisation. */
+    private void awaitRecordCount(int expected) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (store.getRecordCount() != expected && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(expected, store.getRecordCount());
+    }
+
+    @Test
+    @DisplayName("Compactage en échec : fichier d'origine intact et toujours utilisable")
+    void testFailedCompaction() throws IOException {
+        store = UserStore.open(file());
+        store.put(user("Jules", 1));
+        store.put(user("Jules", 2));
+        // Le fichier temporaire ne peut être créé : un répertoire occupe sa place
+        Path blocker = Files.createDirectories(dir.resolve("users.db.compact"));
+        Files.writeString(blocker.resolve("bloque"), "x");
+
+        assertThrows(IOException.class, () -> store.compact());
+
+        assertEquals(2, store.getRecordCount());
+        store.put(user("Hugo", 3));
+        assertEquals(2, store.get("Jules").getGamesPlayed());
+        assertEquals(3, reopen().get("Hugo").getGamesPlayed());
+    }
+
+    @Test
+    @DisplayName("Ouverture rapide avec 100 000 comptes")
+    void testLargeStore() throws IOException {
+        store = UserStore.open(file());
+        for (int i = 0; i < 100_000; i++) {
+            store.put(user("Joueur" + i, i));
+        }
+
+        long start = System.nanoTime();
+        reopen();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(100_000, store.size());
+        assertEquals(54_321, store.get("Joueur54321").getGamesPlayed());
+        assertTrue(elapsedMillis < 5_000, "Ouverture en " + elapsedMillis + " ms");
+    }
+}